@@ -0,0 +1,28 @@
+package sep490g65.fvcapi.config;
+
+import java.util.List;
+
+/**
+ * Which assessors are connected to which match.
+ * With the in-memory broker a single node sees every session (LocalAssessorConnectionStore);
+ * with the broker relay, sessions are spread over nodes and the view is shared through the
+ * database (SharedAssessorConnectionStore).
+ */
+public interface AssessorConnectionStore {
+
+    /**
+     * Record that an assessor of a match is connected through the given session
+     */
+    void put(String matchId, String assessorId, String sessionId);
+
+    /**
+     * Remove an assessor connection if it still belongs to the given session (an assessor that
+     * reconnected on a new session is kept). Returns true if it was removed.
+     */
+    boolean remove(String matchId, String assessorId, String sessionId);
+
+    /**
+     * Ids of the assessors currently connected to a match (on any node)
+     */
+    List<String> connectedAssessors(String matchId);
+}
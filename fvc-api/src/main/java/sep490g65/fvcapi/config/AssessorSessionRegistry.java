@@ -0,0 +1,81 @@
+package sep490g65.fvcapi.config;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index of the assessor registrations of each WebSocket session on this node.
+ * Disconnects remove a session's registrations in O(1) instead of scanning every match, and every
+ * inbound frame of a registered session (including STOMP heartbeats) refreshes its last-seen time so
+ * sessions whose transport died silently can be evicted.
+ * Registered as an interceptor on the client inbound channel (see WebSocketConfig).
+ */
+@Component
+public class AssessorSessionRegistry implements ChannelInterceptor {
+
+    // Key: sessionId, Value: registrations and activity of the session
+    private final Map<String, SessionEntry> sessions = new ConcurrentHashMap<>();
+
+    public void register(String sessionId, String matchId, String assessorId) {
+        sessions.computeIfAbsent(sessionId, k -> new SessionEntry())
+                .registrations.add(new Registration(matchId, assessorId));
+    }
+
+    public void unregister(String sessionId, String matchId, String assessorId) {
+        sessions.computeIfPresent(sessionId, (k, entry) -> {
+            entry.registrations.remove(new Registration(matchId, assessorId));
+            return entry.registrations.isEmpty() ? null : entry;
+        });
+    }
+
+    /**
+     * Drop a session and return what it had registered
+     */
+    public Set<Registration> removeSession(String sessionId) {
+        SessionEntry entry = sessions.remove(sessionId);
+        return entry != null ? entry.registrations : Collections.emptySet();
+    }
+
+    /**
+     * Sessions with registrations that sent nothing since the cutoff
+     */
+    public List<String> staleSessions(long cutoffMillis) {
+        List<String> stale = new ArrayList<>();
+        sessions.forEach((sessionId, entry) -> {
+            if (entry.lastSeenAt < cutoffMillis) {
+                stale.add(sessionId);
+            }
+        });
+        return stale;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        if (sessionId != null) {
+            SessionEntry entry = sessions.get(sessionId);
+            if (entry != null) {
+                entry.lastSeenAt = System.currentTimeMillis();
+            }
+        }
+        return message;
+    }
+
+    public record Registration(String matchId, String assessorId) {
+    }
+
+    private static final class SessionEntry {
+        private final Set<Registration> registrations = ConcurrentHashMap.newKeySet();
+        private volatile long lastSeenAt = System.currentTimeMillis();
+    }
+}
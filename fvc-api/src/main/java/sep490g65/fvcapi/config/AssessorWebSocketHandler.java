@@ -12,7 +12,9 @@ import org.springframework.stereotype.Controller;
 import sep490g65.fvcapi.dto.request.AssessorVoteRequest;
 import sep490g65.fvcapi.dto.request.RecordScoreEventRequest;
 import sep490g65.fvcapi.dto.response.AssessorVoteResponse;
+import sep490g65.fvcapi.enums.ErrorCode;
 import sep490g65.fvcapi.enums.MatchEventType;
+import sep490g65.fvcapi.exception.custom.BusinessException;
 import sep490g65.fvcapi.service.AssessorVotingService;
 import sep490g65.fvcapi.service.MatchService;
 
@@ -25,9 +27,10 @@ import sep490g65.fvcapi.service.MatchService;
 @Slf4j
 public class AssessorWebSocketHandler {
 
+    private static final String CONSENSUS_KEY_PREFIX = "consensus:";
+
     private final AssessorVotingService assessorVotingService;
     private final MatchService matchService;
-    private final MatchWebSocketHandler matchWebSocketHandler;
     private final SimpMessagingTemplate messagingTemplate;
     private final WebSocketConnectionEventListener connectionEventListener;
 
@@ -49,6 +52,11 @@ public class AssessorWebSocketHandler {
                     "/topic/match/" + request.getMatchId() + "/assessor-votes", 
                     response);
 
+            // Another vote already closed this consensus window and applied its score
+            if (response.isDuplicateRejected()) {
+                return;
+            }
+
             // If 3/5 consensus reached, automatically apply the score
             if (response.isScoreAccepted()) {
                 log.info("✅ Consensus reached! Applying score: {} {} points (votes: {}/{})", 
@@ -60,9 +68,8 @@ public class AssessorWebSocketHandler {
                 
                 // Get current round and time from match
                 var scoreboard = matchService.getScoreboard(request.getMatchId());
-                // Calculate timestamp based on when the vote was received
-                // Since time is tracked on frontend, we use 0 as default timestamp
-                // The actual timestamp will be managed by the frontend timer
+                // The time in round is stamped by the server MatchClock in recordScoreEvent;
+                // 0 is only kept when no clock is tracked for the round
                 int timestampInRoundSeconds = 0;
 
                 // Get all assessor IDs who voted for this score (consensus)
@@ -84,14 +91,24 @@ public class AssessorWebSocketHandler {
                 scoreEventRequest.setEventType(MatchEventType.valueOf(eventType));
                 scoreEventRequest.setJudgeId(request.getAssessorId());
                 scoreEventRequest.setAssessorIds(assessorIdsFromResponse); // All assessors who voted
-                
-                matchService.recordScoreEvent(scoreEventRequest);
-
-                // Reset votes after applying score
-                assessorVotingService.resetVotes(request.getMatchId());
-
-                // Broadcast updated scoreboard to all subscribers
-                matchWebSocketHandler.broadcastScoreboardUpdate(request.getMatchId());
+                // One score event per consensus window, even if the request is retried
+                scoreEventRequest.setIdempotencyKey(CONSENSUS_KEY_PREFIX + response.getConsensusEpoch());
+
+                try {
+                    matchService.recordScoreEvent(scoreEventRequest);
+                } catch (BusinessException e) {
+                    if (!ErrorCode.MATCH_EVENT_DUPLICATE.getCode().equals(e.getErrorCode())) {
+                        throw e;
+                    }
+                    response.setScoreAccepted(false);
+                    response.setDuplicateRejected(true);
+                    messagingTemplate.convertAndSend(
+                            "/topic/match/" + request.getMatchId() + "/assessor-votes",
+                            response);
+                    return;
+                }
+
+                // Votes were already cleared when this vote closed the consensus window
 
                 // Broadcast success message
                 messagingTemplate.convertAndSend(
@@ -104,6 +121,7 @@ public class AssessorWebSocketHandler {
                                 .totalAssessors(response.getTotalAssessors())
                                 .scoreAccepted(true)
                                 .votes(response.getVotes())
+                                .consensusEpoch(response.getConsensusEpoch())
                                 .build());
             } else {
                 // Broadcast current vote status
@@ -147,7 +165,7 @@ public class AssessorWebSocketHandler {
         String assessorId = request.get("assessorId");
         log.info("Unregistering assessor {} connection for match {} with session {}", assessorId, matchId, sessionId);
         
-        connectionEventListener.unregisterAssessorConnection(matchId, assessorId);
+        connectionEventListener.unregisterAssessorConnection(matchId, assessorId, sessionId);
     }
 
     /**
@@ -0,0 +1,41 @@
+package sep490g65.fvcapi.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory assessor connections, used with the simple broker (single node)
+ */
+@Component
+@ConditionalOnProperty(name = WebSocketConfig.BROKER_MODE_PROPERTY, havingValue = WebSocketConfig.BROKER_MODE_SIMPLE, matchIfMissing = true)
+public class LocalAssessorConnectionStore implements AssessorConnectionStore {
+
+    // Key: matchId, Value: Map<assessorId, sessionId>
+    private final Map<String, Map<String, String>> matchConnections = new ConcurrentHashMap<>();
+
+    @Override
+    public void put(String matchId, String assessorId, String sessionId) {
+        matchConnections.computeIfAbsent(matchId, k -> new ConcurrentHashMap<>()).put(assessorId, sessionId);
+    }
+
+    @Override
+    public boolean remove(String matchId, String assessorId, String sessionId) {
+        boolean[] removed = {false};
+        matchConnections.computeIfPresent(matchId, (k, v) -> {
+            removed[0] = v.remove(assessorId, sessionId);
+            return v.isEmpty() ? null : v;
+        });
+        return removed[0];
+    }
+
+    @Override
+    public List<String> connectedAssessors(String matchId) {
+        Map<String, String> connected = matchConnections.get(matchId);
+        return connected != null ? new ArrayList<>(connected.keySet()) : new ArrayList<>();
+    }
+}
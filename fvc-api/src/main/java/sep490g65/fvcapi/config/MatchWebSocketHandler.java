@@ -2,15 +2,18 @@ package sep490g65.fvcapi.config;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
-import org.springframework.messaging.handler.annotation.SendTo;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.annotation.SendToUser;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
 import org.springframework.stereotype.Controller;
-import sep490g65.fvcapi.dto.response.MatchScoreboardDto;
+import sep490g65.fvcapi.dto.response.ScoreboardStreamMessage;
 import sep490g65.fvcapi.service.MatchService;
 
 /**
- * WebSocket handler for real-time match scoring updates
+ * WebSocket handler for real-time match scoring updates.
+ * Updates are streamed on /topic/match/{matchId}/scoreboard as sequence-numbered FULL/DELTA messages
+ * (see ScoreboardStreamBroadcaster); this handler serves the initial snapshot and resyncs.
  */
 @Controller
 @RequiredArgsConstructor
@@ -18,34 +21,44 @@ import sep490g65.fvcapi.service.MatchService;
 public class MatchWebSocketHandler {
 
     private final MatchService matchService;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final ScoreboardStreamBroadcaster scoreboardStreamBroadcaster;
 
     /**
-     * Broadcast scoreboard update to all subscribers of a match
+     * Broadcast full scoreboard to all subscribers of a match
      */
     public void broadcastScoreboardUpdate(String matchId) {
         try {
-            MatchScoreboardDto scoreboard = matchService.getScoreboard(matchId);
-            messagingTemplate.convertAndSend("/topic/match/" + matchId + "/scoreboard", scoreboard);
-            log.debug("Broadcasted scoreboard update for match {}", matchId);
+            scoreboardStreamBroadcaster.publishFull(matchId, () -> matchService.getScoreboard(matchId));
         } catch (Exception e) {
             log.error("Error broadcasting scoreboard update for match {}", matchId, e);
         }
     }
 
     /**
-     * Handle client subscription to match updates
+     * Full snapshot returned directly to a client subscribing to /app/match/{matchId}/scoreboard
      */
-    @MessageMapping("/match/{matchId}/subscribe")
-    @SendTo("/topic/match/{matchId}/scoreboard")
-    public MatchScoreboardDto subscribeToMatch(String matchId) {
+    @SubscribeMapping("/match/{matchId}/scoreboard")
+    public ScoreboardStreamMessage subscribeToScoreboard(@DestinationVariable String matchId) {
+        log.info("Client subscribed to scoreboard stream of match {}", matchId);
+        return snapshot(matchId);
+    }
+
+    /**
+     * Resync after a sequence gap: full snapshot sent only to the requesting session
+     */
+    @MessageMapping({"/match/{matchId}/subscribe", "/match/{matchId}/resync"})
+    @SendToUser(destinations = "/queue/match/{matchId}/scoreboard", broadcast = false)
+    public ScoreboardStreamMessage resyncScoreboard(@DestinationVariable String matchId) {
+        log.info("Client requested scoreboard resync for match {}", matchId);
+        return snapshot(matchId);
+    }
+
+    private ScoreboardStreamMessage snapshot(String matchId) {
         try {
-            log.info("Client subscribed to match {}", matchId);
-            return matchService.getScoreboard(matchId);
+            return scoreboardStreamBroadcaster.snapshotFor(matchId, () -> matchService.getScoreboard(matchId));
         } catch (Exception e) {
-            log.error("Error handling subscription for match {}", matchId, e);
+            log.error("Error building scoreboard snapshot for match {}", matchId, e);
             return null;
         }
     }
 }
-
@@ -0,0 +1,158 @@
+package sep490g65.fvcapi.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import sep490g65.fvcapi.dto.response.MatchAthleteInfoDto;
+import sep490g65.fvcapi.dto.response.MatchScoreboardDto;
+import sep490g65.fvcapi.dto.response.ScoreboardDeltaDto;
+import sep490g65.fvcapi.dto.response.ScoreboardStreamMessage;
+import sep490g65.fvcapi.entity.MatchScoreboardSnapshot;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Versioned scoreboard stream per match.
+ * Structural changes (control actions, match updates) are published as FULL messages;
+ * score events only publish a DELTA with the counters that changed, built from the live
+ * scoreboard without re-reading the match. Every message carries a per-match sequence number.
+ * Published state is read under the stream lock, so a message never carries older values than a
+ * message with a lower sequence number.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ScoreboardStreamBroadcaster {
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    // Key: matchId, Value: last published state and sequence number
+    private final Map<String, StreamState> streams = new ConcurrentHashMap<>();
+
+    /**
+     * Publish the whole scoreboard (after control actions and match updates).
+     * The scoreboard is loaded under the stream lock, so no delta can be published in between.
+     */
+    public void publishFull(String matchId, Supplier<MatchScoreboardDto> loader) {
+        StreamState state = streams.computeIfAbsent(matchId, k -> new StreamState());
+        synchronized (state) {
+            MatchScoreboardDto scoreboard = loader.get();
+            state.last = toFields(scoreboard);
+            send(ScoreboardStreamMessage.builder()
+                    .matchId(matchId)
+                    .seq(++state.seq)
+                    .type(ScoreboardStreamMessage.Type.FULL)
+                    .scoreboard(scoreboard)
+                    .timestamp(System.currentTimeMillis())
+                    .build());
+        }
+    }
+
+    /**
+     * Publish only the counters that changed since the last message (after score events and undo).
+     * The counters are read under the stream lock, so concurrent events are published in order.
+     */
+    public void publishScores(String matchId, Supplier<MatchScoreboardSnapshot> loader) {
+        StreamState state = streams.computeIfAbsent(matchId, k -> new StreamState());
+        synchronized (state) {
+            MatchScoreboardSnapshot counters = loader.get();
+            ScoreboardDeltaDto current = state.last.toBuilder()
+                    .redScore(counters.getRedScore())
+                    .blueScore(counters.getBlueScore())
+                    .redWarningCount(counters.getRedWarningCount())
+                    .blueWarningCount(counters.getBlueWarningCount())
+                    .redMedicalTimeoutCount(counters.getRedMedicalTimeoutCount())
+                    .blueMedicalTimeoutCount(counters.getBlueMedicalTimeoutCount())
+                    .build();
+            ScoreboardDeltaDto changes = diff(state.last, current);
+            if (changes == null) {
+                return;
+            }
+            state.last = current;
+            send(ScoreboardStreamMessage.builder()
+                    .matchId(matchId)
+                    .seq(++state.seq)
+                    .type(ScoreboardStreamMessage.Type.DELTA)
+                    .changes(changes)
+                    .timestamp(System.currentTimeMillis())
+                    .build());
+        }
+    }
+
+    /**
+     * FULL message for a single client (subscribe / resync) without advancing the sequence number.
+     * It is stamped with the sequence number read before loading: the scoreboard contains every message
+     * up to it, and a message published while loading has a higher number, so the client still applies
+     * it (messages carry absolute values).
+     */
+    public ScoreboardStreamMessage snapshotFor(String matchId, Supplier<MatchScoreboardDto> loader) {
+        StreamState state = streams.computeIfAbsent(matchId, k -> new StreamState());
+        long seq;
+        synchronized (state) {
+            seq = state.seq;
+        }
+        return ScoreboardStreamMessage.builder()
+                .matchId(matchId)
+                .seq(seq)
+                .type(ScoreboardStreamMessage.Type.FULL)
+                .scoreboard(loader.get())
+                .timestamp(System.currentTimeMillis())
+                .build();
+    }
+
+    private void send(ScoreboardStreamMessage message) {
+        try {
+            messagingTemplate.convertAndSend("/topic/match/" + message.getMatchId() + "/scoreboard", message);
+            log.debug("Broadcasted scoreboard {} #{} for match {}", message.getType(), message.getSeq(), message.getMatchId());
+        } catch (Exception e) {
+            log.error("Error broadcasting scoreboard update for match {}", message.getMatchId(), e);
+        }
+    }
+
+    private ScoreboardDeltaDto toFields(MatchScoreboardDto scoreboard) {
+        MatchAthleteInfoDto red = scoreboard.getRedAthlete();
+        MatchAthleteInfoDto blue = scoreboard.getBlueAthlete();
+        return ScoreboardDeltaDto.builder()
+                .redScore(red != null ? red.getScore() : null)
+                .blueScore(blue != null ? blue.getScore() : null)
+                .redWarningCount(red != null ? red.getWarningCount() : null)
+                .blueWarningCount(blue != null ? blue.getWarningCount() : null)
+                .redMedicalTimeoutCount(red != null ? red.getMedicalTimeoutCount() : null)
+                .blueMedicalTimeoutCount(blue != null ? blue.getMedicalTimeoutCount() : null)
+                .status(scoreboard.getStatus())
+                .currentRound(scoreboard.getCurrentRound())
+                .roundDurationSeconds(scoreboard.getRoundDurationSeconds())
+                .build();
+    }
+
+    /**
+     * Fields of current that differ from previous, or null when nothing changed
+     */
+    private ScoreboardDeltaDto diff(ScoreboardDeltaDto previous, ScoreboardDeltaDto current) {
+        ScoreboardDeltaDto changes = ScoreboardDeltaDto.builder()
+                .redScore(changed(previous.getRedScore(), current.getRedScore()))
+                .blueScore(changed(previous.getBlueScore(), current.getBlueScore()))
+                .redWarningCount(changed(previous.getRedWarningCount(), current.getRedWarningCount()))
+                .blueWarningCount(changed(previous.getBlueWarningCount(), current.getBlueWarningCount()))
+                .redMedicalTimeoutCount(changed(previous.getRedMedicalTimeoutCount(), current.getRedMedicalTimeoutCount()))
+                .blueMedicalTimeoutCount(changed(previous.getBlueMedicalTimeoutCount(), current.getBlueMedicalTimeoutCount()))
+                .status(changed(previous.getStatus(), current.getStatus()))
+                .currentRound(changed(previous.getCurrentRound(), current.getCurrentRound()))
+                .roundDurationSeconds(changed(previous.getRoundDurationSeconds(), current.getRoundDurationSeconds()))
+                .build();
+        return changes.equals(new ScoreboardDeltaDto()) ? null : changes;
+    }
+
+    private static <T> T changed(T previous, T current) {
+        return Objects.equals(previous, current) ? null : current;
+    }
+
+    private static class StreamState {
+        private long seq;
+        private ScoreboardDeltaDto last = new ScoreboardDeltaDto();
+    }
+}
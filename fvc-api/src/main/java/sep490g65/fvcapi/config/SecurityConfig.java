@@ -1,8 +1,12 @@
 package sep490g65.fvcapi.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
@@ -20,6 +24,7 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import sep490g65.fvcapi.security.JwtAuthenticationFilter;
+import sep490g65.fvcapi.security.OffloadingPasswordEncoder;
 import sep490g65.fvcapi.service.UserDetailsServiceImpl;
 
 import java.util.Arrays;
@@ -34,16 +39,32 @@ public class SecurityConfig {
     private final UserDetailsServiceImpl userDetailsService;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    /**
+     * Plain BCrypt for every caller; the configured strength only applies once upgrade-enabled is set
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    @Primary
+    public PasswordEncoder passwordEncoder(@Value("${app.security.password-encoder.upgrade-enabled:false}") boolean upgradeEnabled,
+                                           @Value("${app.security.password-encoder.strength:12}") int strength) {
+        return upgradeEnabled ? new BCryptPasswordEncoder(strength) : new BCryptPasswordEncoder();
     }
 
+    /**
+     * Login only: the shared encoder run on a bounded pool that sheds load with 429 when full
+     */
     @Bean
-    public DaoAuthenticationProvider authenticationProvider() {
+    public OffloadingPasswordEncoder loginPasswordEncoder(PasswordEncoder passwordEncoder,
+                                                          @Value("${app.security.password-hashing.workers:2}") int workers,
+                                                          @Value("${app.security.password-hashing.queue-capacity:32}") int queueCapacity,
+                                                          MeterRegistry meterRegistry) {
+        return new OffloadingPasswordEncoder(passwordEncoder, workers, queueCapacity, meterRegistry);
+    }
+
+    @Bean
+    public DaoAuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService);
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
         return authProvider;
     }
 
@@ -53,12 +74,14 @@ public class SecurityConfig {
     }
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, DaoAuthenticationProvider authenticationProvider) throws Exception {
         http
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .csrf(AbstractHttpConfigurer::disable)
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
+                // Completion of streamed responses (CSV exports); the original request was already authorized
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 .requestMatchers("/api/v1/auth/**").permitAll()
                 .requestMatchers("/api/v1/health").permitAll()
                 .requestMatchers("/api/v1/application-forms/public").permitAll()
@@ -67,9 +90,10 @@ public class SecurityConfig {
                 .requestMatchers("/api/v1/competitions/public/**").permitAll()
                 .requestMatchers("/api/v1/tournament-forms/*/submissions").permitAll()
                 .requestMatchers("/api/v1/submitted-forms").permitAll()
+                .requestMatchers("/api/v1/submission-intakes/*").permitAll()
                 .anyRequest().authenticated()
             )
-            .authenticationProvider(authenticationProvider())
+            .authenticationProvider(authenticationProvider)
             .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
@@ -0,0 +1,83 @@
+package sep490g65.fvcapi.config;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import sep490g65.fvcapi.repository.AssessorConnectionRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Assessor connections shared by all nodes through the assessor_connections table, used with the broker relay.
+ * Each node owns the rows of its own sessions and refreshes them on a heartbeat; rows of a node that stopped
+ * without cleaning up expire after the TTL, so a crashed node never keeps assessors "connected".
+ * Only connection status is shared; scoring state stays per node (see WebSocketConfig).
+ */
+@Component
+@ConditionalOnProperty(name = WebSocketConfig.BROKER_MODE_PROPERTY, havingValue = WebSocketConfig.BROKER_MODE_RELAY)
+@Slf4j
+public class SharedAssessorConnectionStore implements AssessorConnectionStore {
+
+    private final AssessorConnectionRepository assessorConnectionRepository;
+    private final String nodeId;
+    private final long connectionTtlMs;
+
+    public SharedAssessorConnectionStore(
+            AssessorConnectionRepository assessorConnectionRepository,
+            @Value("${app.websocket.node-id:}") String nodeId,
+            @Value("${app.websocket.connection-ttl-ms:30000}") long connectionTtlMs) {
+        this.assessorConnectionRepository = assessorConnectionRepository;
+        this.nodeId = nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId;
+        this.connectionTtlMs = connectionTtlMs;
+        log.info("Sharing assessor connections as node {}", this.nodeId);
+        log.warn("Broker relay shares broadcasts and assessor status only: route all scoring of a match to one node");
+    }
+
+    @Override
+    @Transactional
+    public void put(String matchId, String assessorId, String sessionId) {
+        // One statement, so concurrent connects of the same assessor cannot both insert;
+        // an assessor reconnecting through another node takes the row over
+        assessorConnectionRepository.upsert(UUID.randomUUID().toString(), matchId, assessorId, sessionId, nodeId,
+                LocalDateTime.now());
+    }
+
+    @Override
+    @Transactional
+    public boolean remove(String matchId, String assessorId, String sessionId) {
+        return assessorConnectionRepository.deleteConnection(matchId, assessorId, sessionId) > 0;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<String> connectedAssessors(String matchId) {
+        return assessorConnectionRepository.findLiveAssessorIds(
+                matchId, LocalDateTime.now().minus(Duration.ofMillis(connectionTtlMs)));
+    }
+
+    /**
+     * Refresh the rows of this node and drop rows that no node refreshed within the TTL
+     */
+    @Scheduled(fixedDelayString = "${app.websocket.connection-heartbeat-ms:10000}")
+    @Transactional
+    public void heartbeat() {
+        LocalDateTime now = LocalDateTime.now();
+        assessorConnectionRepository.touchNode(nodeId, now);
+        int expired = assessorConnectionRepository.deleteStale(now.minus(Duration.ofMillis(connectionTtlMs)));
+        if (expired > 0) {
+            log.info("Removed {} expired assessor connections", expired);
+        }
+    }
+
+    @PreDestroy
+    public void releaseNode() {
+        assessorConnectionRepository.deleteByNodeId(nodeId);
+    }
+}
@@ -0,0 +1,157 @@
+package sep490g65.fvcapi.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import sep490g65.fvcapi.entity.SubmittedApplicationForm;
+import sep490g65.fvcapi.enums.ApplicationFormType;
+import sep490g65.fvcapi.repository.SubmittedApplicationFormRepository;
+import sep490g65.fvcapi.utils.RegistrationKeyUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+/**
+ * Fills registration_email / registration_student_id of tournament submissions created before these
+ * columns existed, reading them from formData like the old duplicate check did.
+ * Runs once per startup in batches of app.submissions.registration-key-backfill.batch-size, each in its own
+ * transaction. The first submission of a form keeps a key; later duplicates that slipped through the old
+ * check are left without it (and logged), so the unique indexes can hold.
+ * Keys already taken are looked up with one query per key kind and batch. Every scanned row is marked
+ * registration_keys_checked, so rows that cannot be keyed are not scanned again on the next startup.
+ */
+@Component
+@Slf4j
+public class SubmissionRegistrationKeyBackfill {
+
+    private final SubmittedApplicationFormRepository submittedRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+
+    public SubmissionRegistrationKeyBackfill(
+            SubmittedApplicationFormRepository submittedRepository,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.submissions.registration-key-backfill.enabled:true}") boolean enabled,
+            @Value("${app.submissions.registration-key-backfill.batch-size:500}") int batchSize) {
+        this.submittedRepository = submittedRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (!enabled) {
+            return;
+        }
+        long afterId = 0L;
+        int filled = 0;
+        int duplicates = 0;
+        while (true) {
+            long from = afterId;
+            BatchResult result = transactionTemplate.execute(status -> backfillBatch(from));
+            if (result == null || result.lastId() == null) {
+                break;
+            }
+            afterId = result.lastId();
+            filled += result.filled();
+            duplicates += result.duplicates();
+        }
+        if (filled > 0 || duplicates > 0) {
+            log.info("Registration key backfill: {} submissions keyed, {} pre-existing duplicates left unkeyed",
+                    filled, duplicates);
+        }
+    }
+
+    private BatchResult backfillBatch(long afterId) {
+        List<SubmittedApplicationForm> batch = submittedRepository.findWithoutRegistrationKeys(
+                ApplicationFormType.COMPETITION_REGISTRATION, afterId, PageRequest.of(0, batchSize));
+        if (batch.isEmpty()) {
+            return new BatchResult(null, 0, 0);
+        }
+        List<String> emails = new ArrayList<>(batch.size());
+        List<String> studentIds = new ArrayList<>(batch.size());
+        Set<String> formIds = new HashSet<>();
+        for (SubmittedApplicationForm submission : batch) {
+            JsonNode formData = readFormData(submission);
+            emails.add(RegistrationKeyUtils.normalizeEmail(text(formData, "email")));
+            studentIds.add(RegistrationKeyUtils.normalizeStudentId(text(formData, "studentId")));
+            formIds.add(submission.getApplicationFormConfig().getId());
+        }
+        // Keys taken by other submissions; keys given out below are added, so duplicates within the batch are caught too
+        Set<String> takenEmails = taken(formIds, emails, submittedRepository::findRegistrationEmails);
+        Set<String> takenStudentIds = taken(formIds, studentIds, submittedRepository::findRegistrationStudentIds);
+
+        int filled = 0;
+        int duplicates = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            SubmittedApplicationForm submission = batch.get(i);
+            String formId = submission.getApplicationFormConfig().getId();
+            String email = emails.get(i);
+            String studentId = studentIds.get(i);
+            submission.setRegistrationKeysChecked(true);
+            if (email != null && takenEmails.add(pair(formId, email))) {
+                submission.setRegistrationEmail(email);
+            }
+            if (studentId != null && takenStudentIds.add(pair(formId, studentId))) {
+                submission.setRegistrationStudentId(studentId);
+            }
+            if (submission.getRegistrationEmail() != null || submission.getRegistrationStudentId() != null) {
+                filled++;
+            }
+            if ((email != null && submission.getRegistrationEmail() == null)
+                    || (studentId != null && submission.getRegistrationStudentId() == null)) {
+                duplicates++;
+                log.warn("Submission {} duplicates an earlier registration of form {}", submission.getId(), formId);
+            }
+        }
+        return new BatchResult(batch.get(batch.size() - 1).getId(), filled, duplicates);
+    }
+
+    private static Set<String> taken(Set<String> formIds, List<String> keys,
+                                     BiFunction<Collection<String>, Collection<String>, List<Object[]>> query) {
+        Set<String> distinctKeys = new HashSet<>(keys);
+        distinctKeys.remove(null);
+        Set<String> taken = new HashSet<>();
+        if (!distinctKeys.isEmpty()) {
+            for (Object[] row : query.apply(formIds, distinctKeys)) {
+                taken.add(pair((String) row[0], (String) row[1]));
+            }
+        }
+        return taken;
+    }
+
+    private static String pair(String formId, String key) {
+        return formId + '\n' + key;
+    }
+
+    private JsonNode readFormData(SubmittedApplicationForm submission) {
+        try {
+            return submission.getFormData() != null ? objectMapper.readTree(submission.getFormData()) : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static String text(JsonNode node, String field) {
+        return node != null && node.hasNonNull(field) ? node.get(field).asText("") : null;
+    }
+
+    private record BatchResult(Long lastId, int filled, int duplicates) {
+    }
+}
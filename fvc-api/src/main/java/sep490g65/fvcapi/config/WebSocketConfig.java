@@ -1,24 +1,109 @@
 package sep490g65.fvcapi.config;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.config.StompBrokerRelayRegistration;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
 
+/**
+ * STOMP over WebSocket configuration.
+ * app.websocket.broker.mode selects the broker:
+ *  - simple: in-memory broker, all subscriptions live in this JVM (single node)
+ *  - relay: /topic and /queue are relayed to an external STOMP broker, so several fvc-api nodes
+ *    behind a load balancer share the same subscriptions (see docker-compose profile "relay")
+ * Relay mode only shares broadcasts and assessor connection status (SharedAssessorConnectionStore).
+ * Live scoring state (scoreboard cache, vote boards, idempotency keys, match clock, sequence numbers)
+ * stays in the node that handles the match, so every scoring request and assessor socket of a match
+ * must be routed to the same node (sticky per match); otherwise run a single node.
+ */
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    public static final String BROKER_MODE_PROPERTY = "app.websocket.broker.mode";
+    public static final String BROKER_MODE_SIMPLE = "simple";
+    public static final String BROKER_MODE_RELAY = "relay";
+
+    @Value("${" + BROKER_MODE_PROPERTY + ":" + BROKER_MODE_SIMPLE + "}")
+    private String brokerMode;
+
+    @Value("${app.websocket.broker.relay-host:localhost}")
+    private String relayHost;
+
+    @Value("${app.websocket.broker.relay-port:61613}")
+    private int relayPort;
+
+    @Value("${app.websocket.broker.client-login:guest}")
+    private String clientLogin;
+
+    @Value("${app.websocket.broker.client-passcode:guest}")
+    private String clientPasscode;
+
+    @Value("${app.websocket.broker.system-login:guest}")
+    private String systemLogin;
+
+    @Value("${app.websocket.broker.system-passcode:guest}")
+    private String systemPasscode;
+
+    @Value("${app.websocket.broker.virtual-host:}")
+    private String virtualHost;
+
+    // STOMP heartbeat interval of the simple broker (the relay negotiates heartbeats with the external broker)
+    @Value("${app.websocket.heartbeat-ms:10000}")
+    private long heartbeatMs;
+
+    @Autowired
+    private AssessorSessionRegistry assessorSessionRegistry;
+
+    private TaskScheduler messageBrokerTaskScheduler;
+
+    @Autowired
+    public void setMessageBrokerTaskScheduler(@Lazy TaskScheduler messageBrokerTaskScheduler) {
+        this.messageBrokerTaskScheduler = messageBrokerTaskScheduler;
+    }
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        // Enable a simple in-memory message broker to send messages to clients
-        config.enableSimpleBroker("/topic", "/queue");
-        
+        if (BROKER_MODE_RELAY.equalsIgnoreCase(brokerMode)) {
+            // Relay to an external STOMP broker shared by all nodes
+            StompBrokerRelayRegistration relay = config.enableStompBrokerRelay("/topic", "/queue")
+                    .setRelayHost(relayHost)
+                    .setRelayPort(relayPort)
+                    .setClientLogin(clientLogin)
+                    .setClientPasscode(clientPasscode)
+                    .setSystemLogin(systemLogin)
+                    .setSystemPasscode(systemPasscode)
+                    // Resolve /user destinations of sessions connected to another node
+                    .setUserDestinationBroadcast("/topic/unresolved-user-destination")
+                    .setUserRegistryBroadcast("/topic/simp-user-registry");
+            if (!virtualHost.isBlank()) {
+                relay.setVirtualHost(virtualHost);
+            }
+        } else {
+            // Enable a simple in-memory message broker to send messages to clients
+            // Heartbeats keep idle assessor sessions visibly alive, see AssessorSessionRegistry
+            config.enableSimpleBroker("/topic", "/queue")
+                    .setHeartbeatValue(new long[]{heartbeatMs, heartbeatMs})
+                    .setTaskScheduler(messageBrokerTaskScheduler);
+        }
+
         // Prefix for messages from client to server
         config.setApplicationDestinationPrefixes("/app");
     }
 
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        // Track the last activity of assessor sessions for stale-session eviction
+        registration.interceptors(assessorSessionRegistry);
+    }
+
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         // Register the /ws endpoint for WebSocket connections
@@ -27,4 +112,3 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 .withSockJS(); // Enable SockJS fallback options
     }
 }
-
@@ -1,17 +1,23 @@
 package sep490g65.fvcapi.config;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.event.EventListener;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.messaging.SessionConnectedEvent;
 import org.springframework.web.socket.messaging.SessionDisconnectEvent;
 import org.springframework.web.socket.messaging.SessionSubscribeEvent;
 
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * Listener for WebSocket connection events to track assessor connections
@@ -20,66 +26,64 @@ import java.util.stream.Collectors;
 @Slf4j
 public class WebSocketConnectionEventListener {
 
+    // e.g. /topic/match/{matchId}/assessor/{assessorId}
+    private static final Pattern ASSESSOR_DESTINATION = Pattern.compile("/match/([^/]+)/(?:[^/]+/)*?assessor/([^/]+)");
+
     private final SimpMessagingTemplate messagingTemplate;
     
-    // Store connected assessors by matchId and assessorId
-    // Key: matchId, Value: Map<assessorId, ConnectionInfo>
-    private final Map<String, Map<String, ConnectionInfo>> matchConnections = new ConcurrentHashMap<>();
+    // Connected assessors by matchId and assessorId (local or shared between nodes, see WebSocketConfig)
+    private final AssessorConnectionStore connectionStore;
+
+    // Registrations of the sessions of this node, by sessionId
+    private final AssessorSessionRegistry sessionRegistry;
+
+    // Matches whose connection status changed since the last broadcast
+    private final Set<String> pendingStatusBroadcasts = ConcurrentHashMap.newKeySet();
+
+    private final long sessionStaleMs;
     
-    public WebSocketConnectionEventListener(SimpMessagingTemplate messagingTemplate) {
+    public WebSocketConnectionEventListener(
+            SimpMessagingTemplate messagingTemplate,
+            AssessorConnectionStore connectionStore,
+            AssessorSessionRegistry sessionRegistry,
+            @Value("${app.websocket.session-stale-ms:30000}") long sessionStaleMs) {
         this.messagingTemplate = messagingTemplate;
+        this.connectionStore = connectionStore;
+        this.sessionRegistry = sessionRegistry;
+        this.sessionStaleMs = sessionStaleMs;
     }
 
     @EventListener
     public void handleWebSocketConnectListener(SessionConnectedEvent event) {
         StompHeaderAccessor headerAccessor = StompHeaderAccessor.wrap(event.getMessage());
         String sessionId = headerAccessor.getSessionId();
-        log.info("WebSocket connection established: sessionId={}", sessionId);
+        log.debug("WebSocket connection established: sessionId={}", sessionId);
     }
 
     @EventListener
     public void handleWebSocketDisconnectListener(SessionDisconnectEvent event) {
         StompHeaderAccessor headerAccessor = StompHeaderAccessor.wrap(event.getMessage());
         String sessionId = headerAccessor.getSessionId();
-        log.info("WebSocket connection disconnected: sessionId={}", sessionId);
-        
-        // Remove from all matches based on session ID
-        matchConnections.forEach((matchId, assessorMap) -> {
-            boolean removed = assessorMap.entrySet().removeIf(entry -> entry.getValue().getSessionId().equals(sessionId));
-            if (removed) {
-                log.info("Removed assessor connection from match {} due to disconnect", matchId);
-                broadcastConnectionStatus(matchId);
-            }
-        });
+        log.debug("WebSocket connection disconnected: sessionId={}", sessionId);
+        removeSession(sessionId);
     }
 
     @EventListener
     public void handleSubscribeEvent(SessionSubscribeEvent event) {
         StompHeaderAccessor headerAccessor = StompHeaderAccessor.wrap(event.getMessage());
         String destination = headerAccessor.getDestination();
-        String sessionId = headerAccessor.getSessionId();
         
-        if (destination != null && destination.contains("/match/") && destination.contains("/assessor")) {
-            // Extract matchId and assessorId from subscription
-            // Format: /topic/match/{matchId}/assessor/{assessorId} or similar
-            String[] parts = destination.split("/");
-            String matchId = null;
-            String assessorId = null;
-            
-            for (int i = 0; i < parts.length; i++) {
-                if ("match".equals(parts[i]) && i + 1 < parts.length) {
-                    matchId = parts[i + 1];
-                }
-                if ("assessor".equals(parts[i]) && i + 1 < parts.length) {
-                    assessorId = parts[i + 1];
-                }
-            }
-            
-            if (matchId != null && assessorId != null) {
-                log.info("Assessor {} subscribed to match {}: sessionId={}", assessorId, matchId, sessionId);
-                addAssessorConnection(matchId, assessorId, sessionId);
-                broadcastConnectionStatus(matchId);
-            }
+        // Most subscriptions are scoreboard/clock topics, skip them before running the pattern
+        if (destination == null || !destination.contains("/assessor/")) {
+            return;
+        }
+        Matcher matcher = ASSESSOR_DESTINATION.matcher(destination);
+        if (matcher.find()) {
+            String matchId = matcher.group(1);
+            String assessorId = matcher.group(2);
+            String sessionId = headerAccessor.getSessionId();
+            log.info("Assessor {} subscribed to match {}: sessionId={}", assessorId, matchId, sessionId);
+            addAssessorConnection(matchId, assessorId, sessionId);
         }
     }
 
@@ -89,58 +93,85 @@ public class WebSocketConnectionEventListener {
     public void registerAssessorConnection(String matchId, String assessorId, String sessionId) {
         log.info("Registering assessor connection: matchId={}, assessorId={}, sessionId={}", matchId, assessorId, sessionId);
         addAssessorConnection(matchId, assessorId, sessionId);
-        log.info("Assessor registered. Broadcasting connection status for match {}", matchId);
-        broadcastConnectionStatus(matchId);
-        log.info("Connection status broadcasted. Current connected count: {}", 
-                matchConnections.getOrDefault(matchId, new ConcurrentHashMap<>()).size());
     }
 
     /**
      * Manually unregister assessor connection
      */
-    public void unregisterAssessorConnection(String matchId, String assessorId) {
-        matchConnections.computeIfPresent(matchId, (k, v) -> {
-            v.remove(assessorId);
-            return v.isEmpty() ? null : v;
-        });
-        broadcastConnectionStatus(matchId);
+    public void unregisterAssessorConnection(String matchId, String assessorId, String sessionId) {
+        sessionRegistry.unregister(sessionId, matchId, assessorId);
+        if (connectionStore.remove(matchId, assessorId, sessionId)) {
+            pendingStatusBroadcasts.add(matchId);
+        }
     }
 
     private void addAssessorConnection(String matchId, String assessorId, String sessionId) {
-        matchConnections.computeIfAbsent(matchId, k -> new ConcurrentHashMap<>())
-                .put(assessorId, new ConnectionInfo(assessorId, sessionId, System.currentTimeMillis()));
+        sessionRegistry.register(sessionId, matchId, assessorId);
+        connectionStore.put(matchId, assessorId, sessionId);
+        pendingStatusBroadcasts.add(matchId);
+    }
+
+    private void removeSession(String sessionId) {
+        for (AssessorSessionRegistry.Registration registration : sessionRegistry.removeSession(sessionId)) {
+            if (connectionStore.remove(registration.matchId(), registration.assessorId(), sessionId)) {
+                log.info("Removed assessor {} connection from match {}: sessionId={}",
+                        registration.assessorId(), registration.matchId(), sessionId);
+                pendingStatusBroadcasts.add(registration.matchId());
+            }
+        }
+    }
+
+    /**
+     * Send one connection status per changed match, so a burst of (re)connects
+     * results in a single broadcast instead of one per event
+     */
+    @Scheduled(fixedDelayString = "${app.websocket.status-debounce-ms:250}")
+    public void flushStatusBroadcasts() {
+        Iterator<String> pending = pendingStatusBroadcasts.iterator();
+        while (pending.hasNext()) {
+            String matchId = pending.next();
+            pending.remove();
+            broadcastConnectionStatus(matchId);
+        }
+    }
+
+    /**
+     * Evict assessor sessions that sent neither frames nor heartbeats within app.websocket.session-stale-ms
+     * (the transport died without a disconnect event)
+     */
+    @Scheduled(fixedDelayString = "${app.websocket.session-sweep-ms:10000}")
+    public void evictStaleSessions() {
+        if (sessionStaleMs <= 0) {
+            return;
+        }
+        for (String sessionId : sessionRegistry.staleSessions(System.currentTimeMillis() - sessionStaleMs)) {
+            log.warn("Evicting stale assessor session {}", sessionId);
+            removeSession(sessionId);
+        }
     }
 
     /**
      * Broadcast connection status to all subscribers (judge screen)
      */
     private void broadcastConnectionStatus(String matchId) {
-        Map<String, ConnectionInfo> connectedAssessors = matchConnections.getOrDefault(matchId, new ConcurrentHashMap<>());
-        
-        AssessorConnectionStatus status = AssessorConnectionStatus.builder()
-                .matchId(matchId)
-                .connectedCount(connectedAssessors.size())
-                .connectedAssessors(connectedAssessors.keySet().stream().collect(Collectors.toList()))
-                .timestamp(System.currentTimeMillis())
-                .build();
+        AssessorConnectionStatus status = getConnectionStatus(matchId);
         
         log.info("Broadcasting connection status for match {}: {} assessors connected (IDs: {})", 
-                matchId, connectedAssessors.size(), connectedAssessors.keySet());
+                matchId, status.getConnectedCount(), status.getConnectedAssessors());
         
         messagingTemplate.convertAndSend("/topic/match/" + matchId + "/assessor-connections", status);
-        log.info("Connection status message sent to /topic/match/{}/assessor-connections", matchId);
     }
 
     /**
      * Get current connection status for a match
      */
     public AssessorConnectionStatus getConnectionStatus(String matchId) {
-        Map<String, ConnectionInfo> connectedAssessors = matchConnections.getOrDefault(matchId, new ConcurrentHashMap<>());
+        List<String> connectedAssessors = connectionStore.connectedAssessors(matchId);
         
         return AssessorConnectionStatus.builder()
                 .matchId(matchId)
                 .connectedCount(connectedAssessors.size())
-                .connectedAssessors(connectedAssessors.keySet().stream().collect(Collectors.toList()))
+                .connectedAssessors(connectedAssessors)
                 .timestamp(System.currentTimeMillis())
                 .build();
     }
@@ -149,7 +180,7 @@ public class WebSocketConnectionEventListener {
      * Notify all connected assessors that the match has ended and disconnect them
      */
     public void notifyMatchEndedAndDisconnect(String matchId, String redScore, String blueScore, String winner) {
-        Map<String, ConnectionInfo> connectedAssessors = matchConnections.getOrDefault(matchId, new ConcurrentHashMap<>());
+        List<String> connectedAssessors = connectionStore.connectedAssessors(matchId);
         
         if (connectedAssessors.isEmpty()) {
             log.info("No connected assessors for match {}, skipping notification", matchId);
@@ -175,17 +206,7 @@ public class WebSocketConnectionEventListener {
         
         // Clear connections for this match (they will disconnect on client side)
         // Don't remove immediately, let clients disconnect naturally after receiving message
-        // matchConnections.remove(matchId);
-    }
-
-    @lombok.Data
-    @lombok.Builder
-    @lombok.NoArgsConstructor
-    @lombok.AllArgsConstructor
-    public static class ConnectionInfo {
-        private String assessorId;
-        private String sessionId;
-        private long connectedAt;
+        // connectionStore entries are removed when the sessions close
     }
 
     @lombok.Data
@@ -124,8 +124,18 @@ public final class MessageConstants {
     public static final String MATCH_NOT_IN_PROGRESS = "Match is not in progress";
     public static final String MATCH_CANNOT_UNDO = "Cannot undo: no events to undo";
     public static final String INVALID_MATCH_STATUS = "Invalid match status for this operation";
+    public static final String MATCH_EVENT_DUPLICATE = "Match event with idempotency key %s has already been recorded";
     public static final String INVALID_EVENT_TYPE = "Invalid event type for this operation";
 
+    public static final String MATCH_ATHLETES_NOT_DECIDED = "Trận đấu chưa xác định đủ vận động viên (chờ kết quả vòng trước)";
+    public static final String MATCH_WINNER_REQUIRED = "Trận đấu hòa: cần chọn vận động viên thắng để đi tiếp vào trận sau";
+    public static final String MATCH_WINNER_ALREADY_DECIDED = "Trận đấu đã có người thắng";
+
+    // Bracket Messages
+    public static final String BRACKET_ALREADY_GENERATED = "Nhánh đấu của lượt bốc thăm %s đã được tạo";
+    public static final String BRACKET_NOT_ENOUGH_ATHLETES = "Cần ít nhất 2 vận động viên để tạo nhánh đấu";
+    public static final String BRACKET_DRAW_NOT_FINAL = "Lượt bốc thăm %s chưa được chốt";
+
     // Field Messages
     public static final String FIELDS_RETRIEVED = "Fields retrieved";
     public static final String FIELD_RETRIEVED = "Field retrieved";
@@ -136,4 +146,16 @@ public final class MessageConstants {
     // Field Error Messages
     public static final String FIELD_NOT_FOUND = "Field not found with id: %s";
 
-}
\ No newline at end of file
+    // Submission Intake Messages
+    public static final String SUBMISSION_QUEUED = "Đã tiếp nhận đăng ký, đang xử lý";
+    public static final String SUBMISSION_INTAKE_NOT_FOUND = "Không tìm thấy biên nhận đăng ký: %s";
+    public static final String SUBMISSION_RATE_LIMITED = "Có quá nhiều lượt đăng ký cho form này, vui lòng thử lại sau ít giây";
+    public static final String SUBMISSION_BACKLOG_FULL = "Hệ thống đang quá tải, vui lòng thử lại sau";
+    public static final String SUBMISSION_PROCESSING_FAILED = "Không thể xử lý đăng ký, vui lòng thử lại";
+    public static final String SUBMISSION_FORM_FULL = "Form đã đủ số lượng đăng ký";
+
+    // Login Throttling Messages
+    public static final String LOGIN_RATE_LIMITED = "Bạn đã đăng nhập quá nhiều lần, vui lòng thử lại sau";
+    public static final String PASSWORD_HASHING_BUSY = "Hệ thống đang xử lý nhiều lượt đăng nhập, vui lòng thử lại sau ít giây";
+
+}
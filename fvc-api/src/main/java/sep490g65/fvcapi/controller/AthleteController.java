@@ -5,10 +5,13 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import sep490g65.fvcapi.entity.Athlete;
 import sep490g65.fvcapi.service.AthleteService;
+import sep490g65.fvcapi.service.ExportService;
 import sep490g65.fvcapi.constants.ApiConstants;
 import sep490g65.fvcapi.dto.response.BaseResponse;
 import sep490g65.fvcapi.dto.response.PaginationResponse;
@@ -27,6 +30,7 @@ import java.util.List;
 @Slf4j
 public class AthleteController {
     private final AthleteService athleteService;
+    private final ExportService exportService;
 
     @GetMapping
     public ResponseEntity<BaseResponse<PaginationResponse<sep490g65.fvcapi.dto.response.AthleteResolvedResponse>>> list(@RequestParam(defaultValue = "0") int page,
@@ -40,13 +44,15 @@ public class AthleteController {
                                                                          @RequestParam(required = false) Athlete.AthleteStatus status) {
         Pageable pageable = PageRequest.of(page, size);
         Page<Athlete> result = athleteService.list(competitionId, competitionType, subCompetitionType, detailSubCompetitionType, name, gender, status, pageable);
+        // Team info of the whole page in one batch (performance links + submissions)
+        java.util.Map<java.util.UUID, AthleteService.TeamInfo> teamInfos = athleteService.resolveTeamInfos(result.getContent());
         // Map to resolved label DTO with backend label resolution
         Page<sep490g65.fvcapi.dto.response.AthleteResolvedResponse> mapped = result.map(a -> {
             String label = athleteService.resolveDetailLabel(a);
             sep490g65.fvcapi.dto.response.AthleteResolvedResponse dto = sep490g65.fvcapi.dto.response.AthleteResolvedResponse.from(a);
             dto.setDetailSubLabel(label);
             // Enrich with team info via performance link and submission
-            sep490g65.fvcapi.service.AthleteService.TeamInfo t = athleteService.resolveTeamInfo(a);
+            AthleteService.TeamInfo t = teamInfos.get(a.getId());
             if (t != null) {
                 dto.setPerformanceId(t.getPerformanceId());
                 if (t.getTeamName() != null) dto.setTeamName(t.getTeamName());
@@ -58,6 +64,22 @@ public class AthleteController {
         return ResponseEntity.ok(ResponseUtils.success("Athletes retrieved", payload));
     }
 
+    /**
+     * CSV of all athletes matching the list filters, streamed row by row
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(required = false, name = "competitionId") String competitionId,
+                                                        @RequestParam(required = false) Athlete.CompetitionType competitionType,
+                                                        @RequestParam(required = false) String subCompetitionType,
+                                                        @RequestParam(required = false) String detailSubCompetitionType,
+                                                        @RequestParam(required = false) String name,
+                                                        @RequestParam(required = false) Athlete.Gender gender,
+                                                        @RequestParam(required = false) Athlete.AthleteStatus status) {
+        Specification<Athlete> spec = athleteService.filterSpec(competitionId, competitionType, subCompetitionType,
+                detailSubCompetitionType, name, gender, status);
+        return ResponseUtils.csvAttachment("athletes.csv", out -> exportService.writeAthletesCsv(spec, out));
+    }
+
     @GetMapping("/by-competition-weight-class")
     public ResponseEntity<BaseResponse<List<sep490g65.fvcapi.dto.response.AthleteResolvedResponse>>> getByCompetitionAndWeightClass(
             @RequestParam String competitionId,
@@ -16,6 +16,7 @@ import sep490g65.fvcapi.dto.response.BaseResponse;
 import sep490g65.fvcapi.dto.response.LoginResponse;
 import sep490g65.fvcapi.dto.response.RegisterResponse;
 import sep490g65.fvcapi.service.AuthService;
+import sep490g65.fvcapi.security.TokenVersionTable;
 import sep490g65.fvcapi.utils.JwtUtils;
 import sep490g65.fvcapi.utils.ResponseUtils;
 import org.springframework.security.core.Authentication;
@@ -33,6 +34,7 @@ public class AuthController {
     private final AuthService authService;
     private final JwtUtils jwtUtils;
     private final UserRepository userRepository;
+    private final TokenVersionTable tokenVersions;
     
     @Value("${spring.security.jwt.expiration}")
     private int tokenValidityInMs;
@@ -48,8 +50,11 @@ public class AuthController {
             LoginResponse loginResponse = authService.login(request);
             log.info("Login succeeded for: {}", request.getEmail());
             
-            // Generate JWT token
-            String token = jwtUtils.generateTokenFromEmail(request.getEmail());
+            // Generate JWT token (with role claims when stateless tokens are enabled)
+            String token = jwtUtils.isStatelessClaims()
+                    ? jwtUtils.generateStatelessToken(request.getEmail(), loginResponse.getId(),
+                            loginResponse.getSystemRole(), tokenVersions.versionOf(loginResponse.getId()))
+                    : jwtUtils.generateTokenFromEmail(request.getEmail());
             log.info("Token generated successfully");
             
             // Create HttpOnly cookie
@@ -1,5 +1,6 @@
 package sep490g65.fvcapi.controller;
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -7,6 +8,9 @@ import org.springframework.web.bind.annotation.*;
 import sep490g65.fvcapi.constants.ApiConstants;
 import sep490g65.fvcapi.dto.DrawRequest;
 import sep490g65.fvcapi.dto.DrawResponse;
+import sep490g65.fvcapi.dto.request.GenerateBracketRequest;
+import sep490g65.fvcapi.dto.response.BracketResponse;
+import sep490g65.fvcapi.service.BracketService;
 import sep490g65.fvcapi.service.DrawService;
 
 import java.util.List;
@@ -18,6 +22,7 @@ import java.util.Optional;
 public class DrawController {
 
     private final DrawService drawService;
+    private final BracketService bracketService;
 
     @PostMapping("/perform")
     public ResponseEntity<DrawResponse> performDraw(@RequestBody DrawRequest request, Authentication authentication) {
@@ -48,4 +53,22 @@ public class DrawController {
         drawService.finalizeDraw(drawSessionId, userId);
         return ResponseEntity.ok().build();
     }
+
+    @PostMapping("/{drawSessionId}/bracket")
+    public ResponseEntity<BracketResponse> generateBracket(
+            @PathVariable String drawSessionId,
+            @Valid @RequestBody(required = false) GenerateBracketRequest request,
+            Authentication authentication) {
+        String userId = authentication.getName();
+        return ResponseEntity.ok(bracketService.generateBracket(drawSessionId, request, userId));
+    }
+
+    @PostMapping("/brackets/{competitionId}")
+    public ResponseEntity<List<BracketResponse>> generateCompetitionBrackets(
+            @PathVariable String competitionId,
+            @Valid @RequestBody(required = false) GenerateBracketRequest request,
+            Authentication authentication) {
+        String userId = authentication.getName();
+        return ResponseEntity.ok(bracketService.generateCompetitionBrackets(competitionId, request, userId));
+    }
 }
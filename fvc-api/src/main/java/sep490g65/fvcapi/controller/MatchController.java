@@ -13,6 +13,7 @@ import sep490g65.fvcapi.dto.request.ControlMatchRequest;
 import sep490g65.fvcapi.dto.request.CreateMatchRequest;
 import sep490g65.fvcapi.dto.request.RecordScoreEventRequest;
 import sep490g65.fvcapi.dto.response.BaseResponse;
+import sep490g65.fvcapi.dto.response.BulkCreateMatchesResponse;
 import sep490g65.fvcapi.dto.response.MatchEventDto;
 import sep490g65.fvcapi.dto.response.MatchListItemDto;
 import sep490g65.fvcapi.dto.response.MatchRoundDto;
@@ -61,7 +62,7 @@ public class MatchController {
     }
 
     @PostMapping("/bulk-create")
-    public ResponseEntity<BaseResponse<List<MatchScoreboardDto>>> bulkCreateMatches(
+    public ResponseEntity<BaseResponse<BulkCreateMatchesResponse>> bulkCreateMatches(
             @Valid @RequestBody BulkCreateMatchesRequest request,
             Authentication authentication) {
         log.info("🎯 [MatchController] Received bulk create matches request with {} matches", 
@@ -69,12 +70,14 @@ public class MatchController {
         try {
             String userId = authentication.getName();
             log.info("🎯 [MatchController] User ID: {}", userId);
-            List<MatchScoreboardDto> matches = matchService.bulkCreateMatches(request.getMatches(), userId);
-            log.info("✅ [MatchController] Successfully created {} matches", matches.size());
+            BulkCreateMatchesResponse result = matchService.bulkCreateMatches(request.getMatches(), userId);
+            log.info("✅ [MatchController] Successfully created {} matches, {} rejected",
+                    result.getCreatedCount(), result.getFailedCount());
             return ResponseEntity.status(org.springframework.http.HttpStatus.CREATED)
                     .body(ResponseUtils.success(
-                            String.format("Successfully created %d matches", matches.size()), 
-                            matches));
+                            String.format("Successfully created %d of %d matches",
+                                    result.getCreatedCount(), result.getRequestedCount()),
+                            result));
         } catch (Exception e) {
             log.error("❌ [MatchController] Error bulk creating matches", e);
             return ResponseEntity.ok(ResponseUtils.error(
@@ -144,6 +147,18 @@ public class MatchController {
         }
     }
 
+    @PostMapping("/{matchId}/scoreboard/rebuild")
+    public ResponseEntity<BaseResponse<MatchScoreboardDto>> rebuildScoreboard(@PathVariable String matchId) {
+        try {
+            MatchScoreboardDto scoreboard = matchService.rebuildScoreboard(matchId);
+            return ResponseEntity.ok(ResponseUtils.success("Scoreboard rebuilt successfully", scoreboard));
+        } catch (Exception e) {
+            log.error("Error rebuilding scoreboard for match {}", matchId, e);
+            return ResponseEntity.ok(ResponseUtils.error(
+                    e.getMessage(), "MATCH_SCOREBOARD_REBUILD_ERROR"));
+        }
+    }
+
     @PatchMapping("/{matchId}/round-duration")
     public ResponseEntity<BaseResponse<Void>> updateRoundDuration(
             @PathVariable String matchId,
@@ -0,0 +1,28 @@
+package sep490g65.fvcapi.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import sep490g65.fvcapi.constants.ApiConstants;
+import sep490g65.fvcapi.constants.MessageConstants;
+import sep490g65.fvcapi.dto.response.BaseResponse;
+import sep490g65.fvcapi.dto.response.SubmissionReceiptResponse;
+import sep490g65.fvcapi.service.SubmissionIntakeService;
+import sep490g65.fvcapi.utils.ResponseUtils;
+
+@RestController
+@RequestMapping(ApiConstants.API_BASE_PATH + "/submission-intakes")
+@RequiredArgsConstructor
+public class SubmissionIntakeController {
+
+    private final SubmissionIntakeService submissionIntakeService;
+
+    @GetMapping("/{id}")
+    public ResponseEntity<BaseResponse<SubmissionReceiptResponse>> getReceipt(@PathVariable String id) {
+        SubmissionReceiptResponse data = submissionIntakeService.getReceipt(id);
+        return ResponseEntity.ok(ResponseUtils.success(MessageConstants.OPERATION_SUCCESS, data));
+    }
+}
@@ -2,18 +2,29 @@ package sep490g65.fvcapi.controller;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import sep490g65.fvcapi.constants.ApiConstants;
 import sep490g65.fvcapi.constants.MessageConstants;
 import sep490g65.fvcapi.dto.request.BulkUpdateStatusRequest;
 // use fully qualified name in method signature to avoid naming conflict
+import sep490g65.fvcapi.dto.request.SubmissionCursorRequest;
 import sep490g65.fvcapi.dto.request.SubmitApplicationFormRequest;
 import sep490g65.fvcapi.dto.request.UpdateSubmissionStatusRequest;
 import sep490g65.fvcapi.dto.response.BaseResponse;
+import sep490g65.fvcapi.dto.response.BulkUpdateStatusResponse;
+import sep490g65.fvcapi.dto.response.CursorPageResponse;
 import sep490g65.fvcapi.dto.response.PaginationResponse;
+import sep490g65.fvcapi.dto.response.SubmissionReceiptResponse;
+import sep490g65.fvcapi.dto.response.SubmissionSummaryResponse;
 import sep490g65.fvcapi.dto.response.SubmittedApplicationFormResponse;
+import sep490g65.fvcapi.enums.ApplicationFormStatus;
 import sep490g65.fvcapi.enums.ApplicationFormType;
+import sep490g65.fvcapi.service.ExportService;
+import sep490g65.fvcapi.service.SubmissionIntakeService;
 import sep490g65.fvcapi.service.SubmittedApplicationFormService;
 import sep490g65.fvcapi.utils.ResponseUtils;
 
@@ -23,6 +34,11 @@ import sep490g65.fvcapi.utils.ResponseUtils;
 public class SubmittedApplicationFormController {
 
     private final SubmittedApplicationFormService service;
+    private final SubmissionIntakeService submissionIntakeService;
+    private final ExportService exportService;
+
+    @Value("${app.submissions.intake.enabled:true}")
+    private boolean intakeEnabled;
 
     @GetMapping
     public ResponseEntity<BaseResponse<PaginationResponse<SubmittedApplicationFormResponse>>> list(
@@ -33,10 +49,44 @@ public class SubmittedApplicationFormController {
         return ResponseEntity.ok(ResponseUtils.success(MessageConstants.OPERATION_SUCCESS, data));
     }
     
+    /**
+     * CSV of submissions (optionally of one form), one column per form_data key, streamed row by row
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(value = "formId", required = false) String formId,
+            @RequestParam(value = "type", required = false) ApplicationFormType type,
+            @RequestParam(value = "status", required = false) ApplicationFormStatus status
+    ) {
+        return ResponseUtils.csvAttachment("submissions.csv",
+                out -> exportService.writeSubmissionsCsv(formId, type, status, out));
+    }
+
+    /**
+     * Keyset page of submissions as list rows (see SubmissionCursorRequest)
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<BaseResponse<CursorPageResponse<SubmissionSummaryResponse>>> listByCursor(
+            @Valid @ModelAttribute SubmissionCursorRequest request,
+            @RequestParam(value = "type", required = false) ApplicationFormType type
+    ) {
+        CursorPageResponse<SubmissionSummaryResponse> data = service.listByCursor(request, type);
+        return ResponseEntity.ok(ResponseUtils.success(MessageConstants.OPERATION_SUCCESS, data));
+    }
+
+    /**
+     * Queued by default (202 + receipt to poll at /submission-intakes/{id});
+     * synchronous when app.submissions.intake.enabled is false
+     */
     @PostMapping
-    public ResponseEntity<BaseResponse<SubmittedApplicationFormResponse>> submit(
+    public ResponseEntity<BaseResponse<?>> submit(
             @Valid @RequestBody SubmitApplicationFormRequest request
     ) {
+        if (intakeEnabled) {
+            SubmissionReceiptResponse receipt = submissionIntakeService.acceptApplicationSubmission(request);
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(ResponseUtils.success(MessageConstants.SUBMISSION_QUEUED, receipt));
+        }
         try {
             // Submit the form (this would need to be implemented in the service)
             SubmittedApplicationFormResponse response = service.submit(request);
@@ -57,11 +107,11 @@ public class SubmittedApplicationFormController {
     }
     
     @PatchMapping("/bulk-status")
-    public ResponseEntity<BaseResponse<Void>> bulkUpdateStatus(
+    public ResponseEntity<BaseResponse<BulkUpdateStatusResponse>> bulkUpdateStatus(
             @Valid @RequestBody BulkUpdateStatusRequest request
     ) {
-        service.bulkUpdateStatus(request.getIds(), request.getStatus());
-        return ResponseEntity.ok(ResponseUtils.success("Bulk update completed successfully"));
+        BulkUpdateStatusResponse result = service.bulkUpdateStatus(request.getIds(), request.getStatus());
+        return ResponseEntity.ok(ResponseUtils.success("Bulk update completed successfully", result));
     }
     
 }
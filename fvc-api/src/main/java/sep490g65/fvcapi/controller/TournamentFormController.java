@@ -3,6 +3,7 @@ package sep490g65.fvcapi.controller;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -19,12 +20,19 @@ import sep490g65.fvcapi.dto.request.RequestParam;
 import sep490g65.fvcapi.dto.response.BaseResponse;
 import sep490g65.fvcapi.dto.response.PaginationResponse;
 import sep490g65.fvcapi.dto.response.TournamentFormResponse;
+import sep490g65.fvcapi.service.SubmissionIntakeService;
 import sep490g65.fvcapi.service.TournamentFormService;
 import sep490g65.fvcapi.utils.ResponseUtils;
 import sep490g65.fvcapi.enums.FormStatus;
 import sep490g65.fvcapi.dto.response.SubmittedFormResponse;
+import sep490g65.fvcapi.dto.response.SubmissionReceiptResponse;
+import sep490g65.fvcapi.dto.request.SubmissionCursorRequest;
+import sep490g65.fvcapi.dto.response.CursorPageResponse;
+import sep490g65.fvcapi.dto.response.SubmissionSummaryResponse;
 import sep490g65.fvcapi.dto.request.UpdateFormStatusRequest;
 import sep490g65.fvcapi.dto.request.UpdateSubmissionStatusRequest;
+import sep490g65.fvcapi.dto.request.BulkUpdateStatusRequest;
+import sep490g65.fvcapi.dto.response.BulkUpdateStatusResponse;
 import sep490g65.fvcapi.dto.request.CreateSubmissionRequest;
 import sep490g65.fvcapi.dto.request.CreateFormRequest;
 import sep490g65.fvcapi.dto.response.CompetitionOptionResponse;
@@ -34,6 +42,10 @@ import sep490g65.fvcapi.dto.request.UpdateFormRequest;
 import sep490g65.fvcapi.dto.response.FormDetailResponse;
 import sep490g65.fvcapi.entity.ApplicationFormConfig;
 import sep490g65.fvcapi.repository.ApplicationFormConfigRepository;
+import sep490g65.fvcapi.enums.ApplicationFormStatus;
+import sep490g65.fvcapi.service.ExportService;
+import sep490g65.fvcapi.exception.custom.ResourceNotFoundException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping(ApiConstants.API_BASE_PATH + ApiConstants.TOURNAMENT_FORMS_PATH)
@@ -42,8 +54,13 @@ import sep490g65.fvcapi.repository.ApplicationFormConfigRepository;
 public class TournamentFormController {
 
     private final TournamentFormService tournamentFormService;
+    private final SubmissionIntakeService submissionIntakeService;
     private final CompetitionRepository competitionRepository;
     private final ApplicationFormConfigRepository applicationFormConfigRepository;
+    private final ExportService exportService;
+
+    @Value("${app.submissions.intake.enabled:true}")
+    private boolean intakeEnabled;
 
     @GetMapping
     public ResponseEntity<BaseResponse<PaginationResponse<TournamentFormResponse>>> list(@Valid @org.springframework.web.bind.annotation.ModelAttribute RequestParam params) {
@@ -111,6 +128,33 @@ public class TournamentFormController {
         return ResponseEntity.ok(ResponseUtils.success(MessageConstants.OPERATION_SUCCESS, data));
     }
 
+    /**
+     * Keyset page of a form's submissions as list rows (see SubmissionCursorRequest)
+     */
+    @GetMapping("/{id}/submissions/cursor")
+    public ResponseEntity<BaseResponse<CursorPageResponse<SubmissionSummaryResponse>>> listSubmissionsByCursor(
+            @PathVariable String id,
+            @Valid @org.springframework.web.bind.annotation.ModelAttribute SubmissionCursorRequest request
+    ) {
+        CursorPageResponse<SubmissionSummaryResponse> data = tournamentFormService.listSubmissionsByCursor(id, request);
+        return ResponseEntity.ok(ResponseUtils.success(MessageConstants.OPERATION_SUCCESS, data));
+    }
+
+    /**
+     * CSV of a form's submissions, one column per form_data key, streamed row by row
+     */
+    @GetMapping("/{id}/submissions/export")
+    public ResponseEntity<StreamingResponseBody> exportSubmissions(
+            @PathVariable String id,
+            @org.springframework.web.bind.annotation.RequestParam(required = false) ApplicationFormStatus status
+    ) {
+        if (!applicationFormConfigRepository.existsById(id)) {
+            throw new ResourceNotFoundException("ApplicationFormConfig", "id", id);
+        }
+        return ResponseUtils.csvAttachment("submissions-" + id + ".csv",
+                out -> exportService.writeSubmissionsCsv(id, null, status, out));
+    }
+
     @PatchMapping("/submissions/{submissionId}/status")
     public ResponseEntity<BaseResponse<Void>> changeSubmissionStatus(@PathVariable Long submissionId,
                                                                      @RequestBody UpdateSubmissionStatusRequest req) {
@@ -118,9 +162,25 @@ public class TournamentFormController {
         return ResponseEntity.ok(ResponseUtils.success(MessageConstants.OPERATION_SUCCESS));
     }
 
+    @PatchMapping("/submissions/bulk-status")
+    public ResponseEntity<BaseResponse<BulkUpdateStatusResponse>> bulkChangeSubmissionStatus(
+            @Valid @RequestBody BulkUpdateStatusRequest req) {
+        BulkUpdateStatusResponse result = tournamentFormService.bulkUpdateSubmissionStatus(req.getIds(), req.getStatus());
+        return ResponseEntity.ok(ResponseUtils.success(MessageConstants.OPERATION_SUCCESS, result));
+    }
+
+    /**
+     * Queued by default (202 + receipt to poll at /submission-intakes/{id});
+     * synchronous (201) when app.submissions.intake.enabled is false
+     */
     @PostMapping("/{id}/submissions")
-    public ResponseEntity<BaseResponse<Void>> submit(@PathVariable String id,
-                                                     @Valid @RequestBody CreateSubmissionRequest req) {
+    public ResponseEntity<BaseResponse<SubmissionReceiptResponse>> submit(@PathVariable String id,
+                                                                          @Valid @RequestBody CreateSubmissionRequest req) {
+        if (intakeEnabled) {
+            SubmissionReceiptResponse receipt = submissionIntakeService.acceptTournamentSubmission(id, req);
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(ResponseUtils.success(MessageConstants.SUBMISSION_QUEUED, receipt));
+        }
         tournamentFormService.submit(id, req);
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ResponseUtils.success(MessageConstants.OPERATION_SUCCESS));
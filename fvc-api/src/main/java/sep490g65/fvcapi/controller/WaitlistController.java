@@ -3,11 +3,13 @@ package sep490g65.fvcapi.controller;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import sep490g65.fvcapi.constants.ApiConstants;
 import sep490g65.fvcapi.dto.request.AddToWaitlistRequest;
 import sep490g65.fvcapi.dto.response.BaseResponse;
+import sep490g65.fvcapi.dto.response.WaitlistPromotionResponse;
 import sep490g65.fvcapi.service.WaitlistService;
 import sep490g65.fvcapi.utils.ResponseUtils;
 
@@ -34,5 +36,18 @@ public class WaitlistController {
                     "WAITLIST_ERROR"));
         }
     }
+
+    @PostMapping("/forms/{formId}/promote")
+    public ResponseEntity<BaseResponse<WaitlistPromotionResponse>> promote(@PathVariable String formId) {
+        WaitlistPromotionResponse data = waitlistService.startPromotion(formId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ResponseUtils.success("Đang xử lý danh sách chờ", data));
+    }
+
+    @GetMapping("/forms/{formId}/promotion")
+    public ResponseEntity<BaseResponse<WaitlistPromotionResponse>> getPromotion(@PathVariable String formId) {
+        WaitlistPromotionResponse data = waitlistService.getPromotion(formId);
+        return ResponseEntity.ok(ResponseUtils.success("Tiến độ xử lý danh sách chờ", data));
+    }
 }
 
@@ -6,6 +6,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import sep490g65.fvcapi.enums.Corner;
 import sep490g65.fvcapi.enums.MatchControlAction;
 
 @Data
@@ -21,5 +22,8 @@ public class ControlMatchRequest {
     private MatchControlAction action;
     
     private Integer currentRound;
+
+    // Referee decision when the scores are tied: END / last NEXT_ROUND of a bracket match, DECIDE_WINNER
+    private Corner winnerCorner;
 }
 
@@ -1,6 +1,7 @@
 package sep490g65.fvcapi.dto.request;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
@@ -32,6 +33,9 @@ public class CreateApplicationFormConfigRequest {
 
     private LocalDateTime endDate;
 
+    @Min(value = 1, message = "Max submissions must be >= 1")
+    private Integer maxSubmissions;
+
     @Valid
     private List<ApplicationFormFieldRequest> fields;
 
@@ -0,0 +1,33 @@
+package sep490g65.fvcapi.dto.request;
+
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import sep490g65.fvcapi.enums.BracketSeeding;
+
+/**
+ * Options of a generated bracket; match settings default like CreateMatchRequest
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GenerateBracketRequest {
+
+    @Builder.Default
+    private BracketSeeding seeding = BracketSeeding.STANDARD;
+
+    // Keep athletes of the same club apart until the latest possible round
+    @Builder.Default
+    private Boolean separateClubs = true;
+
+    @Builder.Default
+    @Min(value = 1, message = "Total rounds must be at least 1")
+    private Integer totalRounds = 3;
+
+    @Builder.Default
+    @Min(value = 1, message = "Round duration must be at least 1 second")
+    private Integer roundDurationSeconds = 120;
+}
@@ -3,6 +3,7 @@ package sep490g65.fvcapi.dto.request;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -40,5 +41,12 @@ public class RecordScoreEventRequest {
      * For consensus scoring, contains all assessors who voted for the same score
      */
     private String assessorIds;
+
+    /**
+     * Optional key identifying this event; a request with a key that was already recorded for the match is rejected
+     * (consensus scoring uses one key per voting window)
+     */
+    @Size(max = 100, message = "Idempotency key must not exceed 100 characters")
+    private String idempotencyKey;
 }
 
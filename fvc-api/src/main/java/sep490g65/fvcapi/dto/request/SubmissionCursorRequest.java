@@ -0,0 +1,56 @@
+package sep490g65.fvcapi.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import sep490g65.fvcapi.constants.ApiConstants;
+import sep490g65.fvcapi.enums.SubmissionCountMode;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keyset page of submissions. Pass the nextCursor of the previous page to get the next one.
+ * Submissions are ordered by id (newest first by default).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SubmissionCursorRequest {
+
+    @Pattern(regexp = "^\\d{1,19}$", message = "Invalid cursor")
+    private String cursor;
+
+    @Min(value = 1, message = "Page size must be at least 1")
+    @Max(value = ApiConstants.MAX_PAGE_SIZE, message = "Page size cannot exceed " + ApiConstants.MAX_PAGE_SIZE)
+    @Builder.Default
+    private Integer size = ApiConstants.DEFAULT_PAGE_SIZE;
+
+    @Builder.Default
+    @Pattern(regexp = "(?i)asc|desc", message = "Sort direction must be 'asc' or 'desc'")
+    private String sortDirection = "desc";
+
+    private String status;
+
+    // Matches name, email or student id
+    @Size(max = 100, message = "Search term too long (max 100)")
+    private String search;
+
+    // formData fields that must equal the value, as key:value (e.g. filter=club:FPT&filter=gender:MALE)
+    @Builder.Default
+    @Size(max = 10, message = "Too many filters (max 10)")
+    private List<@Pattern(regexp = "^[A-Za-z0-9_]{1,50}:.{0,200}$", message = "Filter must be key:value") String> filter = new ArrayList<>();
+
+    @Builder.Default
+    private SubmissionCountMode count = SubmissionCountMode.NONE;
+
+    public boolean isAscending() {
+        return "asc".equalsIgnoreCase(sortDirection);
+    }
+}
@@ -22,6 +22,7 @@ public class ApplicationFormConfigResponse {
     private ApplicationFormType formType;
     private List<ApplicationFormFieldResponse> fields;
     private LocalDateTime endDate;
+    private Integer maxSubmissions;
     private FormStatus status;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
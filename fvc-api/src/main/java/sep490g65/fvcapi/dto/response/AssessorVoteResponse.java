@@ -20,5 +20,7 @@ public class AssessorVoteResponse {
     private Integer totalAssessors; // Tổng số giám định
     private boolean scoreAccepted; // true nếu >= 3/5 giám định đồng ý
     private Map<String, Integer> votes; // Map assessorId -> score (1 or 2) đã vote
+    private Long consensusEpoch; // Cửa sổ bỏ phiếu mà vote này thuộc về
+    private boolean duplicateRejected; // true nếu đồng thuận đã được áp dụng cho cửa sổ này (không ghi điểm lần nữa)
 }
 
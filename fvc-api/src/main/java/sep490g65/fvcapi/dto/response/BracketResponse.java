@@ -0,0 +1,48 @@
+package sep490g65.fvcapi.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import sep490g65.fvcapi.enums.Corner;
+
+import java.util.List;
+
+/**
+ * Single-elimination bracket of a draw session. size is the number of bracket positions (power of two),
+ * byes the positions without an athlete; first-round pairs with a bye have no match, their athlete
+ * starts in round 2. Matches are ordered by round, then position.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BracketResponse {
+    private String drawSessionId;
+    private String competitionId;
+    private String weightClassId;
+    private int athleteCount;
+    private int size;
+    private int rounds;
+    private int byes;
+    private List<BracketMatch> matches;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BracketMatch {
+        private String matchId;
+        private int bracketRound;
+        private int bracketPosition;
+        private String roundType;
+        private String redAthleteId;
+        private String redAthleteName;
+        private String redAthleteUnit;
+        private String blueAthleteId;
+        private String blueAthleteName;
+        private String blueAthleteUnit;
+        private String nextMatchId;
+        private Corner nextMatchCorner;
+    }
+}
@@ -0,0 +1,48 @@
+package sep490g65.fvcapi.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Result of a bulk match creation: a summary per created match and the error of each rejected row.
+ * index is the position of the row in the request.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCreateMatchesResponse {
+    private int requestedCount;
+    private int createdCount;
+    private int failedCount;
+    private List<CreatedMatch> created;
+    private List<FailedMatch> errors;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CreatedMatch {
+        private int index;
+        private String matchId;
+        private String redAthleteId;
+        private String redAthleteName;
+        private String blueAthleteId;
+        private String blueAthleteName;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FailedMatch {
+        private int index;
+        private String redAthleteId;
+        private String blueAthleteId;
+        private String message;
+    }
+}
@@ -0,0 +1,33 @@
+package sep490g65.fvcapi.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Result of a bulk status update: ids that were updated and the error of each id that was not.
+ * A failed id keeps its previous status.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkUpdateStatusResponse {
+    private int requestedCount;
+    private int updatedCount;
+    private int failedCount;
+    private List<Long> updatedIds;
+    private List<FailedUpdate> errors;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FailedUpdate {
+        private Long id;
+        private String message;
+    }
+}
@@ -0,0 +1,25 @@
+package sep490g65.fvcapi.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One keyset page. nextCursor is null on the last page.
+ * total is only set when requested; totalIsLowerBound means more rows match than were counted.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+    private Long total;
+    private boolean totalIsLowerBound;
+}
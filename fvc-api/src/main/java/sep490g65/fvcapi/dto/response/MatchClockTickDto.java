@@ -0,0 +1,19 @@
+package sep490g65.fvcapi.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatchClockTickDto {
+    private String matchId;
+    private Integer round;
+    private Integer elapsedSeconds;
+    private Integer remainingSeconds; // null nếu vòng không có thời lượng
+    private boolean running;
+    private long timestamp;
+}
@@ -0,0 +1,27 @@
+package sep490g65.fvcapi.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Changed scoreboard fields of a match. Fields that did not change are null and omitted from JSON.
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ScoreboardDeltaDto {
+    private Integer redScore;
+    private Integer blueScore;
+    private Integer redWarningCount;
+    private Integer blueWarningCount;
+    private Integer redMedicalTimeoutCount;
+    private Integer blueMedicalTimeoutCount;
+    private String status;
+    private Integer currentRound;
+    private Integer roundDurationSeconds;
+}
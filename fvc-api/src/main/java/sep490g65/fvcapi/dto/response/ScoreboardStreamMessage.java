@@ -0,0 +1,32 @@
+package sep490g65.fvcapi.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Versioned message on /topic/match/{matchId}/scoreboard.
+ * FULL carries the whole scoreboard, DELTA only the changed fields.
+ * seq increases by exactly 1 per message; on any other value the client must resync.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ScoreboardStreamMessage {
+
+    public enum Type {
+        FULL,
+        DELTA
+    }
+
+    private String matchId;
+    private long seq;
+    private Type type;
+    private MatchScoreboardDto scoreboard; // FULL only
+    private ScoreboardDeltaDto changes; // DELTA only
+    private long timestamp;
+}
@@ -0,0 +1,27 @@
+package sep490g65.fvcapi.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import sep490g65.fvcapi.enums.SubmissionIntakeStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Receipt of a queued public submission, polled until COMPLETED or REJECTED.
+ * For a rejection, errorStatus/message are what the submit endpoint would have returned.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SubmissionReceiptResponse {
+    private String intakeId;
+    private SubmissionIntakeStatus status;
+    private Long submissionId;
+    private Integer errorStatus;
+    private String message;
+    private LocalDateTime createdAt;
+    private LocalDateTime processedAt;
+}
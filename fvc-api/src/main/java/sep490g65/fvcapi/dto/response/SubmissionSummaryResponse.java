@@ -0,0 +1,29 @@
+package sep490g65.fvcapi.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import sep490g65.fvcapi.enums.ApplicationFormStatus;
+import sep490g65.fvcapi.enums.ApplicationFormType;
+
+import java.time.LocalDateTime;
+
+/**
+ * List row of a submission: the columns admin lists show, read from formData in SQL
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SubmissionSummaryResponse {
+    private Long id;
+    private String formId;
+    private ApplicationFormType formType;
+    private ApplicationFormStatus status;
+    private String fullName;
+    private String email;
+    private String studentId;
+    private String club;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,31 @@
+package sep490g65.fvcapi.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import sep490g65.fvcapi.enums.WaitlistPromotionState;
+
+import java.time.LocalDateTime;
+
+/**
+ * Progress of the waitlist promotion of a form.
+ * total is the number of unprocessed entries when the run started; entries left after the run
+ * (capacity reached or unreadable form data) stay on the waitlist.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WaitlistPromotionResponse {
+    private String formId;
+    private WaitlistPromotionState state;
+    private long total;
+    private int promoted;
+    private int duplicates;
+    private int failed;
+    private boolean capacityReached;
+    private String error;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
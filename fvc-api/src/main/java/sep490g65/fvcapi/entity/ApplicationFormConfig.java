@@ -54,5 +54,9 @@ public class ApplicationFormConfig extends BaseEntity {
     @Column(name = "public_slug", length = 120, unique = true)
     private String publicSlug;
 
+    // Maximum number of submissions, null = unlimited; waitlist promotion stops when it is reached
+    @Column(name = "max_submissions")
+    private Integer maxSubmissions;
+
 }
 
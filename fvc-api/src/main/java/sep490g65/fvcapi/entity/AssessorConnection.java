@@ -0,0 +1,44 @@
+package sep490g65.fvcapi.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Live assessor WebSocket connection, shared between fvc-api nodes when the broker relay is used.
+ * Rows are refreshed by the owning node and considered gone once last_seen_at is older than the TTL.
+ */
+@Entity
+@Table(name = "assessor_connections", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_assessor_connections_match_assessor", columnNames = {"match_id", "assessor_id"})
+}, indexes = {
+        @Index(name = "idx_assessor_connections_session", columnList = "session_id"),
+        @Index(name = "idx_assessor_connections_node", columnList = "node_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AssessorConnection extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private String id;
+
+    @Column(name = "match_id", nullable = false, length = 36)
+    private String matchId;
+
+    @Column(name = "assessor_id", nullable = false, length = 36)
+    private String assessorId;
+
+    @Column(name = "session_id", nullable = false, length = 100)
+    private String sessionId;
+
+    @Column(name = "node_id", nullable = false, length = 100)
+    private String nodeId;
+
+    @Column(name = "last_seen_at", nullable = false)
+    private LocalDateTime lastSeenAt;
+}
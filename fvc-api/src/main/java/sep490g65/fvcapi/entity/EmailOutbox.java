@@ -0,0 +1,60 @@
+package sep490g65.fvcapi.entity;
+
+import com.vladmihalcea.hibernate.type.json.JsonType;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Type;
+import sep490g65.fvcapi.enums.EmailOutboxStatus;
+import sep490g65.fvcapi.enums.EmailTemplate;
+
+import java.time.LocalDateTime;
+
+/**
+ * Email waiting to be sent by EmailOutboxDispatcher.
+ * Written in the transaction of the change that triggers it, so an email exists if and only if that
+ * change committed. Template variables may hold a temporary password: it is stored encrypted (SecretCipher)
+ * and the variables are cleared once sent.
+ */
+@Entity
+@Table(name = "email_outbox", indexes = {
+        @Index(name = "idx_email_outbox_status_next_attempt", columnList = "status,next_attempt_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmailOutbox extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private String id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 40)
+    private EmailTemplate template;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Type(JsonType.class)
+    @Column(columnDefinition = "jsonb", nullable = false)
+    private String variables;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private EmailOutboxStatus status;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private int attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+}
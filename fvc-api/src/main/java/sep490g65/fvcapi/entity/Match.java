@@ -13,7 +13,8 @@ import java.util.List;
 @Table(name = "matches", indexes = {
         @Index(name = "idx_matches_competition", columnList = "competition_id"),
         @Index(name = "idx_matches_status", columnList = "status"),
-        @Index(name = "idx_matches_weight_class", columnList = "weight_class_id")
+        @Index(name = "idx_matches_weight_class", columnList = "weight_class_id"),
+        @Index(name = "idx_matches_draw_session", columnList = "draw_session_id")
 })
 @Getter
 @Setter
@@ -38,16 +39,16 @@ public class Match extends BaseEntity {
     @Column(name = "round_type", nullable = false, length = 50)
     private String roundType;
 
-    @Column(name = "red_athlete_id", nullable = false)
+    @Column(name = "red_athlete_id")
     private String redAthleteId;
 
-    @Column(name = "blue_athlete_id", nullable = false)
+    @Column(name = "blue_athlete_id")
     private String blueAthleteId;
 
-    @Column(name = "red_athlete_name", nullable = false, length = 200)
+    @Column(name = "red_athlete_name", length = 200)
     private String redAthleteName;
 
-    @Column(name = "blue_athlete_name", nullable = false, length = 200)
+    @Column(name = "blue_athlete_name", length = 200)
     private String blueAthleteName;
 
     @Column(name = "red_athlete_unit", length = 200)
@@ -108,6 +109,23 @@ public class Match extends BaseEntity {
     @Column(name = "winner_corner", length = 10)
     private Corner winnerCorner;
 
+    // Bracket position (matches generated from a draw session); athletes of later rounds are filled by advancement
+    @Column(name = "draw_session_id")
+    private String drawSessionId;
+
+    @Column(name = "bracket_round")
+    private Integer bracketRound; // 1 = first round, the final is the last round
+
+    @Column(name = "bracket_position")
+    private Integer bracketPosition; // 0-based index within the round
+
+    @Column(name = "next_match_id")
+    private String nextMatchId; // Match the winner advances to
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "next_match_corner", length = 10)
+    private Corner nextMatchCorner; // Corner of the winner in the next match
+
     @Column(name = "created_by", nullable = false)
     private String createdBy;
 
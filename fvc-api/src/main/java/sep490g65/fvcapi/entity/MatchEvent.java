@@ -55,5 +55,11 @@ public class MatchEvent extends BaseEntity {
     @Column(columnDefinition = "TEXT")
     private String description;
 
+    /**
+     * Client/consensus supplied key, unique per match when present (see RecordScoreEventRequest)
+     */
+    @Column(name = "idempotency_key", length = 100)
+    private String idempotencyKey;
+
 }
 
@@ -0,0 +1,63 @@
+package sep490g65.fvcapi.entity;
+
+import com.vladmihalcea.hibernate.type.json.JsonType;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Type;
+import sep490g65.fvcapi.enums.SubmissionIntakeStatus;
+import sep490g65.fvcapi.enums.SubmissionIntakeType;
+
+import java.time.LocalDateTime;
+
+/**
+ * Public form submission accepted but not processed yet.
+ * The request is stored as received; SubmissionIntakeWorker validates and persists it later and
+ * records the outcome here, which the submitter polls with the intake id (receipt).
+ */
+@Entity
+@Table(name = "submission_intakes", indexes = {
+        @Index(name = "idx_submission_intakes_status_created", columnList = "status,created_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SubmissionIntake extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private String id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private SubmissionIntakeType type;
+
+    @Column(name = "form_id", length = 36)
+    private String formId;
+
+    @Type(JsonType.class)
+    @Column(columnDefinition = "jsonb", nullable = false)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private SubmissionIntakeStatus status;
+
+    @Column(name = "submission_id")
+    private Long submissionId;
+
+    // HTTP status and message the synchronous endpoint would have answered with
+    @Column(name = "error_status")
+    private Integer errorStatus;
+
+    @Column(name = "error_message", length = 500)
+    private String errorMessage;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private int attempts = 0;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+}
@@ -10,7 +10,12 @@ import sep490g65.fvcapi.enums.ApplicationFormStatus;
 import sep490g65.fvcapi.enums.ApplicationFormType;
 
 @Entity
-@Table(name = "submitted_application_forms")
+@Table(name = "submitted_application_forms", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_submitted_forms_form_registration_email",
+                columnNames = {"application_form_config_id", "registration_email"}),
+        @UniqueConstraint(name = "uk_submitted_forms_form_registration_student_id",
+                columnNames = {"application_form_config_id", "registration_student_id"})
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -37,6 +42,17 @@ public class SubmittedApplicationForm extends BaseEntity {
     @Column(name = "email", nullable = true)
     private String email; // Always required, for cases when user_id is null
 
+    // Normalized registration keys of a tournament submission, unique per form (see RegistrationKeyUtils)
+    @Column(name = "registration_email", length = 255)
+    private String registrationEmail;
+
+    @Column(name = "registration_student_id", length = 100)
+    private String registrationStudentId;
+
+    // Set once SubmissionRegistrationKeyBackfill has looked at the row, so unkeyable rows are not scanned again
+    @Column(name = "registration_keys_checked", nullable = false, columnDefinition = "boolean default false")
+    private boolean registrationKeysChecked;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 30)
     private ApplicationFormStatus status;
@@ -54,6 +54,10 @@ public class User extends BaseEntity {
     @Column()
     private Boolean isInChallenge;
 
+    // Bumped to revoke the user's stateless JWTs (password change, deletion); NULL = 0
+    @Column(name = "token_version")
+    private Integer tokenVersion = 0;
+
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<CompetitionRole> competitionRoles;
 
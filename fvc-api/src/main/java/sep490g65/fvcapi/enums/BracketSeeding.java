@@ -0,0 +1,6 @@
+package sep490g65.fvcapi.enums;
+
+public enum BracketSeeding {
+    STANDARD,   // Số bốc thăm là hạt giống: 1 gặp N, hạt giống cao gặp nhau muộn nhất
+    SEQUENTIAL  // Số bốc thăm là vị trí trên nhánh đấu (1-2, 3-4, ...)
+}
@@ -0,0 +1,17 @@
+package sep490g65.fvcapi.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Thymeleaf templates (src/main/resources/templates) and their subjects
+ */
+@Getter
+@RequiredArgsConstructor
+public enum EmailTemplate {
+    NEW_ACCOUNT_PASSWORD("new-account-password", "Tài khoản mới - FPTU Vovinam Club"),
+    REGISTRATION_APPROVED("registration-approved", "Đăng ký tham gia giải đấu đã được duyệt - FPTU Vovinam Club");
+
+    private final String templateName;
+    private final String subject;
+}
@@ -57,6 +57,14 @@ public enum ErrorCode {
     INVALID_EVENT_TYPE("MATCH_006", "Invalid event type for this operation"),
     MATCH_CONTROL_ERROR("MATCH_007", "Failed to control match"),
     MATCH_EVENT_RECORD_ERROR("MATCH_008", "Failed to record match event"),
+    MATCH_EVENT_DUPLICATE("MATCH_009", "Match event has already been recorded"),
+    MATCH_ATHLETES_NOT_DECIDED("MATCH_010", "Match athletes are not decided yet"),
+    MATCH_WINNER_REQUIRED("MATCH_011", "A tied bracket match needs a winner decision"),
+
+    // Bracket errors
+    BRACKET_ALREADY_GENERATED("BRACKET_001", "Bracket already generated for this draw"),
+    BRACKET_NOT_ENOUGH_ATHLETES("BRACKET_002", "At least 2 athletes are required for a bracket"),
+    BRACKET_DRAW_NOT_FINAL("BRACKET_003", "Draw session is not final"),
     
     // Arrange order errors
     ARRANGE_INVALID_CONTENT_TYPE("ARRANGE_001", "Invalid content type"),
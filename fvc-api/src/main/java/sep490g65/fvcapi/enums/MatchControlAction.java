@@ -5,6 +5,7 @@ public enum MatchControlAction {
     PAUSE,      // Tạm dừng
     RESUME,     // Tiếp tục
     NEXT_ROUND, // Chuyển vòng tiếp theo
-    END         // Kết thúc
+    END,        // Kết thúc
+    DECIDE_WINNER // Chọn người thắng của trận đã kết thúc với tỷ số hòa
 }
 
@@ -0,0 +1,12 @@
+package sep490g65.fvcapi.enums;
+
+/**
+ * How a cursor page reports the number of matching submissions
+ */
+public enum SubmissionCountMode {
+    // No total (cheapest)
+    NONE,
+    // Counted up to app.submissions.cursor.count-cap; beyond it the total is a lower bound
+    ESTIMATE,
+    EXACT
+}
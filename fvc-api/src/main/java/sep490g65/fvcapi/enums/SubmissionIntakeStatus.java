@@ -0,0 +1,8 @@
+package sep490g65.fvcapi.enums;
+
+public enum SubmissionIntakeStatus {
+    QUEUED,
+    PROCESSING,
+    COMPLETED,
+    REJECTED
+}
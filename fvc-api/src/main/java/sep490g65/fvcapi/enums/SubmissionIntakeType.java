@@ -0,0 +1,6 @@
+package sep490g65.fvcapi.enums;
+
+public enum SubmissionIntakeType {
+    TOURNAMENT, // tournament form registration (TournamentFormService.submit)
+    APPLICATION // club application form (SubmittedApplicationFormService.submit)
+}
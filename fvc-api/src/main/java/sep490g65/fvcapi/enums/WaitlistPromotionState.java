@@ -0,0 +1,7 @@
+package sep490g65.fvcapi.enums;
+
+public enum WaitlistPromotionState {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
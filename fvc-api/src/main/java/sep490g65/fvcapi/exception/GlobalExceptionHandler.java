@@ -122,6 +122,7 @@ public class GlobalExceptionHandler {
             ResponseStatusException ex, WebRequest request) {
         log.error("Response status exception: {}", ex.getReason());
         return ResponseEntity.status(ex.getStatusCode())
+                .headers(ex.getHeaders())
                 .body(BaseResponse.error(ex.getReason(), "RESPONSE_STATUS_ERROR"));
     }
 
@@ -44,6 +44,10 @@ public interface ApplicationFormConfigRepository extends JpaRepository<Applicati
 
     boolean existsByName(String name);
 
+    // Capacity of a form, locking its row so concurrent waitlist promotions of the form run one page at a time
+    @Query(value = "SELECT max_submissions FROM application_form_configs WHERE id = :id FOR UPDATE", nativeQuery = true)
+    Integer lockMaxSubmissions(@Param("id") String id);
+
     // Simple search by name or description - ONLY CLUB_REGISTRATION
     @Query("SELECT afc FROM ApplicationFormConfig afc WHERE " +
            "afc.formType = 'CLUB_REGISTRATION' AND " +
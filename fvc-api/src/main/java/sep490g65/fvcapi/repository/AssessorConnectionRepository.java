@@ -0,0 +1,48 @@
+package sep490g65.fvcapi.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import sep490g65.fvcapi.entity.AssessorConnection;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface AssessorConnectionRepository extends JpaRepository<AssessorConnection, String> {
+
+    @Modifying
+    @Query(value = "INSERT INTO assessor_connections "
+            + "(id, match_id, assessor_id, session_id, node_id, last_seen_at, created_at, updated_at) "
+            + "VALUES (:id, :matchId, :assessorId, :sessionId, :nodeId, :now, :now, :now) "
+            + "ON CONFLICT (match_id, assessor_id) DO UPDATE SET session_id = EXCLUDED.session_id, "
+            + "node_id = EXCLUDED.node_id, last_seen_at = EXCLUDED.last_seen_at, updated_at = EXCLUDED.updated_at",
+            nativeQuery = true)
+    int upsert(@Param("id") String id, @Param("matchId") String matchId, @Param("assessorId") String assessorId,
+               @Param("sessionId") String sessionId, @Param("nodeId") String nodeId, @Param("now") LocalDateTime now);
+
+    @Query("SELECT ac.assessorId FROM AssessorConnection ac WHERE ac.matchId = :matchId AND ac.lastSeenAt >= :since")
+    List<String> findLiveAssessorIds(@Param("matchId") String matchId, @Param("since") LocalDateTime since);
+
+    @Modifying
+    @Query("DELETE FROM AssessorConnection ac WHERE ac.matchId = :matchId AND ac.assessorId = :assessorId AND ac.sessionId = :sessionId")
+    int deleteConnection(@Param("matchId") String matchId, @Param("assessorId") String assessorId,
+                         @Param("sessionId") String sessionId);
+
+    @Modifying
+    @Query("UPDATE AssessorConnection ac SET ac.lastSeenAt = :now WHERE ac.nodeId = :nodeId")
+    int touchNode(@Param("nodeId") String nodeId, @Param("now") LocalDateTime now);
+
+    // Also called outside a service transaction (node shutdown)
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM AssessorConnection ac WHERE ac.nodeId = :nodeId")
+    int deleteByNodeId(@Param("nodeId") String nodeId);
+
+    @Modifying
+    @Query("DELETE FROM AssessorConnection ac WHERE ac.lastSeenAt < :before")
+    int deleteStale(@Param("before") LocalDateTime before);
+}
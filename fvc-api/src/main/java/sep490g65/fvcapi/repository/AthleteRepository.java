@@ -7,6 +7,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -33,6 +34,41 @@ public interface AthleteRepository extends JpaRepository<Athlete, java.util.UUID
         Athlete.CompetitionType competitionType, 
         String weightClassId
     );
+
+    @Query("SELECT a FROM Athlete a WHERE a.competitionId IN :competitionIds AND LOWER(a.email) IN :emails")
+    List<Athlete> findByCompetitionIdInAndEmailLowerIn(@Param("competitionIds") java.util.Collection<String> competitionIds,
+                                                       @Param("emails") java.util.Collection<String> emails);
+
+    /**
+     * Insert or update athletes in one statement, keyed by idx_athlete_competition_email.
+     * rows is a JSON array of objects with the snake_case columns below; a (competition_id, email) pair
+     * must not appear twice.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO athletes (id, competition_id, full_name, email, student_id, gender, club, " +
+            "competition_type, sub_competition_type, status, weight_class_id, fist_config_id, fist_item_id, " +
+            "music_content_id, created_at, updated_at) " +
+            "SELECT gen_random_uuid(), r.competition_id, r.full_name, r.email, r.student_id, r.gender, r.club, " +
+            "r.competition_type, r.sub_competition_type, r.status, r.weight_class_id, r.fist_config_id, " +
+            "r.fist_item_id, r.music_content_id, now(), now() " +
+            "FROM jsonb_to_recordset(CAST(:rows AS jsonb)) AS r(competition_id varchar, full_name varchar, " +
+            "email varchar, student_id varchar, gender varchar, club varchar, competition_type varchar, " +
+            "sub_competition_type varchar, status varchar, weight_class_id varchar, fist_config_id varchar, " +
+            "fist_item_id varchar, music_content_id varchar) " +
+            "ON CONFLICT (competition_id, email) DO UPDATE SET " +
+            "full_name = EXCLUDED.full_name, student_id = EXCLUDED.student_id, gender = EXCLUDED.gender, " +
+            "club = EXCLUDED.club, competition_type = EXCLUDED.competition_type, " +
+            "sub_competition_type = EXCLUDED.sub_competition_type, status = EXCLUDED.status, " +
+            "weight_class_id = EXCLUDED.weight_class_id, fist_config_id = EXCLUDED.fist_config_id, " +
+            "fist_item_id = EXCLUDED.fist_item_id, music_content_id = EXCLUDED.music_content_id, " +
+            "updated_at = EXCLUDED.updated_at", nativeQuery = true)
+    int upsertAll(@Param("rows") String rows);
+
+    @Modifying
+    @Query("UPDATE Athlete a SET a.status = :status, a.updatedAt = :updatedAt WHERE a.id IN :ids")
+    int updateStatusByIdIn(@Param("ids") java.util.Collection<java.util.UUID> ids,
+                           @Param("status") Athlete.AthleteStatus status,
+                           @Param("updatedAt") java.time.LocalDateTime updatedAt);
 }
 
 
@@ -2,11 +2,20 @@ package sep490g65.fvcapi.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import sep490g65.fvcapi.entity.ClubMember;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface ClubMemberRepository extends JpaRepository<ClubMember, String>, JpaSpecificationExecutor<ClubMember> {
     boolean existsByEmailIgnoreCase(String email);
     boolean existsByUserId(String userId);
+
+    // Which of these users are already club members
+    @Query("SELECT cm.user.id FROM ClubMember cm WHERE cm.user.id IN :userIds")
+    List<String> findUserIdsByUserIdIn(@Param("userIds") Collection<String> userIds);
 }
 
 
@@ -1,12 +1,15 @@
 package sep490g65.fvcapi.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import sep490g65.fvcapi.entity.CompetitionRole;
 import sep490g65.fvcapi.entity.Competition;
 import sep490g65.fvcapi.entity.User;
 import sep490g65.fvcapi.enums.CompetitionRoleType;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,4 +29,10 @@ public interface CompetitionRoleRepository extends JpaRepository<CompetitionRole
     boolean existsByCompetitionIdAndUserIdAndRole(String competitionId, String userId, CompetitionRoleType role);
     
     boolean existsByCompetitionIdAndEmailAndRole(String competitionId, String email, CompetitionRoleType role);
+
+    // (competitionId, userId, email) of the roles of the given competitions, without loading the entities
+    @Query("SELECT r.competition.id, u.id, r.email FROM CompetitionRole r LEFT JOIN r.user u " +
+           "WHERE r.competition.id IN :competitionIds AND r.role = :role")
+    List<Object[]> findKeysByCompetitionIdInAndRole(@Param("competitionIds") Collection<String> competitionIds,
+                                                    @Param("role") CompetitionRoleType role);
 }
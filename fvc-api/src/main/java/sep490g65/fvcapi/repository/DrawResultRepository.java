@@ -6,6 +6,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import sep490g65.fvcapi.entity.DrawResult;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -14,6 +15,9 @@ public interface DrawResultRepository extends JpaRepository<DrawResult, String>
     @Query("SELECT dr FROM DrawResult dr WHERE dr.drawSessionId = :drawSessionId ORDER BY dr.seedNumber")
     List<DrawResult> findByDrawSessionIdOrderBySeedNumber(@Param("drawSessionId") String drawSessionId);
 
+    @Query("SELECT dr FROM DrawResult dr WHERE dr.drawSessionId IN :drawSessionIds ORDER BY dr.seedNumber")
+    List<DrawResult> findByDrawSessionIdIn(@Param("drawSessionIds") Collection<String> drawSessionIds);
+
     @Query("SELECT dr FROM DrawResult dr WHERE dr.drawSessionId = :drawSessionId AND dr.athleteId = :athleteId")
     List<DrawResult> findByDrawSessionIdAndAthleteId(@Param("drawSessionId") String drawSessionId, 
                                                      @Param("athleteId") String athleteId);
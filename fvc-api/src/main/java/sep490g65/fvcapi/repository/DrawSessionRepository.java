@@ -22,4 +22,16 @@ public interface DrawSessionRepository extends JpaRepository<DrawSession, String
 
     @Query("SELECT ds FROM DrawSession ds WHERE ds.competitionId = :competitionId ORDER BY ds.drawDate DESC")
     List<DrawSession> findByCompetition(@Param("competitionId") String competitionId);
+
+    @Query("SELECT ds FROM DrawSession ds WHERE ds.competitionId = :competitionId AND ds.isFinal = true")
+    List<DrawSession> findFinalDrawSessions(@Param("competitionId") String competitionId);
+
+    // Locks the draw session row so concurrent bracket generations of the same draw run one after another
+    @Query(value = "SELECT * FROM draw_sessions WHERE id = :id FOR UPDATE", nativeQuery = true)
+    Optional<DrawSession> lockById(@Param("id") String id);
+
+    // Final draw sessions of a competition, locked in id order (no deadlock between concurrent generations)
+    @Query(value = "SELECT * FROM draw_sessions WHERE competition_id = :competitionId AND is_final = true " +
+            "ORDER BY id FOR UPDATE", nativeQuery = true)
+    List<DrawSession> lockFinalDrawSessions(@Param("competitionId") String competitionId);
 }
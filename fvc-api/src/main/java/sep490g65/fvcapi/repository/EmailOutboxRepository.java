@@ -0,0 +1,65 @@
+package sep490g65.fvcapi.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import sep490g65.fvcapi.entity.EmailOutbox;
+import sep490g65.fvcapi.enums.EmailOutboxStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, String> {
+
+    // Pending emails that are due, oldest first, skipping rows another node is claiming
+    @Query(value = "SELECT * FROM email_outbox WHERE status = 'PENDING' AND next_attempt_at <= :now " +
+            "ORDER BY next_attempt_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<EmailOutbox> lockDue(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    long countByStatus(EmailOutboxStatus status);
+
+    @Modifying
+    @Query("UPDATE EmailOutbox e SET e.status = :sent, e.sentAt = :now, e.updatedAt = :now, " +
+            "e.variables = :cleared, e.lastError = null WHERE e.id IN :ids")
+    int markSent(@Param("ids") Collection<String> ids,
+                 @Param("sent") EmailOutboxStatus sent,
+                 @Param("cleared") String cleared,
+                 @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE EmailOutbox e SET e.status = :status, e.nextAttemptAt = :nextAttemptAt, " +
+            "e.lastError = :error, e.updatedAt = :now WHERE e.id = :id")
+    int markUnsent(@Param("id") String id,
+                   @Param("status") EmailOutboxStatus status,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                   @Param("error") String error,
+                   @Param("now") LocalDateTime now);
+
+    // Giving up: the rendered variables (passwords included) are not kept
+    @Modifying
+    @Query("UPDATE EmailOutbox e SET e.status = :failed, e.variables = :cleared, e.lastError = :error, " +
+            "e.updatedAt = :now WHERE e.id = :id")
+    int markFailed(@Param("id") String id,
+                   @Param("failed") EmailOutboxStatus failed,
+                   @Param("cleared") String cleared,
+                   @Param("error") String error,
+                   @Param("now") LocalDateTime now);
+
+    // Emails left SENDING by a node that stopped mid-batch; they may be sent twice
+    @Modifying
+    @Query("UPDATE EmailOutbox e SET e.status = :pending, e.nextAttemptAt = :now, e.updatedAt = :now " +
+            "WHERE e.status = :sending AND e.updatedAt < :before")
+    int requeueStale(@Param("pending") EmailOutboxStatus pending,
+                     @Param("sending") EmailOutboxStatus sending,
+                     @Param("before") LocalDateTime before,
+                     @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM EmailOutbox e WHERE e.status IN :statuses AND e.updatedAt < :before")
+    int deleteFinishedBefore(@Param("statuses") List<EmailOutboxStatus> statuses,
+                             @Param("before") LocalDateTime before);
+}
@@ -19,5 +19,11 @@ public interface MatchRepository extends JpaRepository<Match, String> {
     
     @Query("SELECT m FROM Match m WHERE m.competitionId = :competitionId AND m.deletedAt IS NULL ORDER BY m.createdAt DESC")
     List<Match> findActiveMatchesByCompetition(@Param("competitionId") String competitionId);
+
+    boolean existsByDrawSessionIdAndDeletedAtIsNull(String drawSessionId);
+
+    // Draw sessions of the competition that already have a bracket
+    @Query("SELECT DISTINCT m.drawSessionId FROM Match m WHERE m.competitionId = :competitionId AND m.drawSessionId IS NOT NULL AND m.deletedAt IS NULL")
+    List<String> findBracketDrawSessionIds(@Param("competitionId") String competitionId);
 }
 
@@ -18,6 +18,9 @@ public interface PerformanceAthleteRepository extends JpaRepository<PerformanceA
     @Query("SELECT pa FROM PerformanceAthlete pa WHERE pa.athlete.id = :athleteId")
     List<PerformanceAthlete> findByAthleteId(@Param("athleteId") java.util.UUID athleteId);
 
+    @Query("SELECT pa FROM PerformanceAthlete pa JOIN FETCH pa.performance WHERE pa.athlete.id IN :athleteIds")
+    List<PerformanceAthlete> findWithPerformanceByAthleteIdIn(@Param("athleteIds") java.util.Collection<java.util.UUID> athleteIds);
+
     
     @Query("SELECT pa FROM PerformanceAthlete pa WHERE pa.athlete.id = :athleteId AND pa.performance.competition.id = :competitionId")
     List<PerformanceAthlete> findByAthleteIdAndCompetitionId(@Param("athleteId") java.util.UUID athleteId, @Param("competitionId") String competitionId);
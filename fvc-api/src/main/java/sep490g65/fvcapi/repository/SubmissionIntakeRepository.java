@@ -0,0 +1,52 @@
+package sep490g65.fvcapi.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import sep490g65.fvcapi.entity.SubmissionIntake;
+import sep490g65.fvcapi.enums.SubmissionIntakeStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface SubmissionIntakeRepository extends JpaRepository<SubmissionIntake, String> {
+
+    // Oldest queued intakes, skipping rows another node is claiming
+    @Query(value = "SELECT * FROM submission_intakes WHERE status = 'QUEUED' " +
+            "ORDER BY created_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<SubmissionIntake> lockQueued(@Param("limit") int limit);
+
+    long countByStatus(SubmissionIntakeStatus status);
+
+    // Only under the claim numbered attempts: 0 when the intake was requeued as stale meanwhile, even if claimed again
+    @Modifying
+    @Query("UPDATE SubmissionIntake i SET i.status = :status, i.submissionId = :submissionId, " +
+            "i.errorStatus = :errorStatus, i.errorMessage = :errorMessage, " +
+            "i.processedAt = :now, i.updatedAt = :now " +
+            "WHERE i.id = :id AND i.attempts = :attempts " +
+            "AND i.status = sep490g65.fvcapi.enums.SubmissionIntakeStatus.PROCESSING")
+    int finish(@Param("id") String id,
+               @Param("attempts") int attempts,
+               @Param("status") SubmissionIntakeStatus status,
+               @Param("submissionId") Long submissionId,
+               @Param("errorStatus") Integer errorStatus,
+               @Param("errorMessage") String errorMessage,
+               @Param("now") LocalDateTime now);
+
+    // Intakes left PROCESSING by a node that stopped; their submission transaction never committed
+    @Modifying
+    @Query("UPDATE SubmissionIntake i SET i.status = :queued, i.updatedAt = :now " +
+            "WHERE i.status = :processing AND i.updatedAt < :before")
+    int requeueStale(@Param("queued") SubmissionIntakeStatus queued,
+                     @Param("processing") SubmissionIntakeStatus processing,
+                     @Param("before") LocalDateTime before,
+                     @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM SubmissionIntake i WHERE i.status IN :statuses AND i.processedAt < :before")
+    int deleteProcessedBefore(@Param("statuses") List<SubmissionIntakeStatus> statuses,
+                              @Param("before") LocalDateTime before);
+}
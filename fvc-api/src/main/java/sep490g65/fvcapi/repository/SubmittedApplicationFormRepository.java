@@ -1,10 +1,13 @@
 package sep490g65.fvcapi.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import sep490g65.fvcapi.entity.SubmittedApplicationForm;
 import sep490g65.fvcapi.enums.ApplicationFormType;
@@ -12,6 +15,97 @@ import sep490g65.fvcapi.enums.ApplicationFormStatus;
 
 public interface SubmittedApplicationFormRepository extends JpaRepository<SubmittedApplicationForm, Long> {
 
+    // Keyset listing: list columns are read from form_data in SQL, so the jsonb document is never loaded.
+    // Null parameters disable their filter; filter is a jsonb object matched by containment (GIN index).
+    String SUMMARY_COLUMNS = "SELECT s.id AS id, s.application_form_config_id AS formId, s.form_type AS formType, " +
+            "s.status AS status, COALESCE(s.form_data->>'fullName', s.form_data->>'name') AS fullName, " +
+            "COALESCE(s.email, s.form_data->>'email') AS email, " +
+            "COALESCE(s.form_data->>'studentId', s.form_data->>'studentCode') AS studentId, " +
+            "s.form_data->>'club' AS club, s.created_at AS createdAt ";
+    String SUMMARY_FILTERS = "FROM submitted_application_forms s " +
+            "WHERE (CAST(:formId AS varchar) IS NULL OR s.application_form_config_id = CAST(:formId AS varchar)) " +
+            "AND (CAST(:formType AS varchar) IS NULL OR s.form_type = CAST(:formType AS varchar)) " +
+            "AND (CAST(:status AS varchar) IS NULL OR s.status = CAST(:status AS varchar)) " +
+            "AND (CAST(:filter AS jsonb) IS NULL OR s.form_data @> CAST(:filter AS jsonb)) " +
+            "AND (CAST(:search AS varchar) IS NULL " +
+            "OR COALESCE(s.form_data->>'fullName', s.form_data->>'name') ILIKE CAST(:search AS varchar) " +
+            "OR COALESCE(s.email, s.form_data->>'email') ILIKE CAST(:search AS varchar) " +
+            "OR COALESCE(s.form_data->>'studentId', s.form_data->>'studentCode') ILIKE CAST(:search AS varchar)) ";
+    String EXPORT_FETCH_SIZE = "500";
+
+    interface SummaryRow {
+        Long getId();
+        String getFormId();
+        String getFormType();
+        String getStatus();
+        String getFullName();
+        String getEmail();
+        String getStudentId();
+        String getClub();
+        java.time.LocalDateTime getCreatedAt();
+    }
+
+    @Query(value = SUMMARY_COLUMNS + SUMMARY_FILTERS + "AND s.id < :beforeId ORDER BY s.id DESC LIMIT :limit",
+            nativeQuery = true)
+    java.util.List<SummaryRow> findSummariesBefore(@Param("formId") String formId,
+                                                   @Param("formType") String formType,
+                                                   @Param("status") String status,
+                                                   @Param("filter") String filter,
+                                                   @Param("search") String search,
+                                                   @Param("beforeId") long beforeId,
+                                                   @Param("limit") int limit);
+
+    @Query(value = SUMMARY_COLUMNS + SUMMARY_FILTERS + "AND s.id > :afterId ORDER BY s.id ASC LIMIT :limit",
+            nativeQuery = true)
+    java.util.List<SummaryRow> findSummariesAfter(@Param("formId") String formId,
+                                                  @Param("formType") String formType,
+                                                  @Param("status") String status,
+                                                  @Param("filter") String filter,
+                                                  @Param("search") String search,
+                                                  @Param("afterId") long afterId,
+                                                  @Param("limit") int limit);
+
+    // Matching rows, counting at most :cap of them
+    @Query(value = "SELECT COUNT(*) FROM (SELECT 1 " + SUMMARY_FILTERS + "LIMIT :cap) capped", nativeQuery = true)
+    long countSummaries(@Param("formId") String formId,
+                        @Param("formType") String formType,
+                        @Param("status") String status,
+                        @Param("filter") String filter,
+                        @Param("search") String search,
+                        @Param("cap") long cap);
+
+    interface ExportRow {
+        Long getId();
+        String getFormType();
+        String getStatus();
+        String getEmail();
+        java.time.LocalDateTime getCreatedAt();
+        String getFormData();
+    }
+
+    /**
+     * Export rows in id order through a forward-only cursor: the driver fetches EXPORT_FETCH_SIZE rows
+     * at a time. Must be consumed (and closed) inside a transaction.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    @Query(value = "SELECT s.id AS id, s.form_type AS formType, s.status AS status, " +
+            "COALESCE(s.email, s.form_data->>'email') AS email, s.created_at AS createdAt, " +
+            "CAST(s.form_data AS text) AS formData " + SUMMARY_FILTERS + "ORDER BY s.id", nativeQuery = true)
+    java.util.stream.Stream<ExportRow> streamForExport(@Param("formId") String formId,
+                                                       @Param("formType") String formType,
+                                                       @Param("status") String status,
+                                                       @Param("filter") String filter,
+                                                       @Param("search") String search);
+
+    // Top-level form_data keys of the matching rows, i.e. the flattened export columns
+    @Query(value = "SELECT DISTINCT jsonb_object_keys(s.form_data) " + SUMMARY_FILTERS +
+            "AND jsonb_typeof(s.form_data) = 'object'", nativeQuery = true)
+    java.util.List<String> findFormDataKeys(@Param("formId") String formId,
+                                            @Param("formType") String formType,
+                                            @Param("status") String status,
+                                            @Param("filter") String filter,
+                                            @Param("search") String search);
+
     @EntityGraph(attributePaths = {"applicationFormConfig", "user"})
     @Query(value = "SELECT s FROM SubmittedApplicationForm s " +
            "WHERE (:type IS NULL OR s.formType = :type) " +
@@ -35,9 +129,61 @@ public interface SubmittedApplicationFormRepository extends JpaRepository<Submit
     @Query(value = "SELECT * FROM submitted_application_forms WHERE form_data->>'performanceId' = :performanceId LIMIT 1", nativeQuery = true)
     java.util.Optional<SubmittedApplicationForm> findOneByPerformanceId(@Param("performanceId") String performanceId);
 
+    // Batch variant of findOneByPerformanceId (several rows may share a performanceId)
+    @Query(value = "SELECT * FROM submitted_application_forms WHERE form_data->>'performanceId' IN (:performanceIds)", nativeQuery = true)
+    java.util.List<SubmittedApplicationForm> findByPerformanceIdIn(@Param("performanceIds") java.util.Collection<String> performanceIds);
+
     boolean existsByEmailIgnoreCase(String email);
 
     boolean existsByApplicationFormConfig_IdAndEmailIgnoreCase(String applicationFormConfigId, String email);
+
+    // Duplicate registration probes, served by the per-form unique indexes
+    boolean existsByApplicationFormConfig_IdAndRegistrationEmail(String applicationFormConfigId, String registrationEmail);
+
+    boolean existsByApplicationFormConfig_IdAndRegistrationStudentId(String applicationFormConfigId, String registrationStudentId);
+
+    // Submissions with their form and competition, for bulk status updates
+    @Query("SELECT s FROM SubmittedApplicationForm s JOIN FETCH s.applicationFormConfig f " +
+           "LEFT JOIN FETCH f.competition WHERE s.id IN :ids")
+    java.util.List<SubmittedApplicationForm> findWithFormByIdIn(@Param("ids") java.util.Collection<Long> ids);
+
+    // Emails (lower-cased) among the given ones that already submitted the form
+    @Query("SELECT LOWER(s.email) FROM SubmittedApplicationForm s " +
+           "WHERE s.applicationFormConfig.id = :formId AND LOWER(s.email) IN :emails")
+    java.util.List<String> findSubmittedEmails(@Param("formId") String formId,
+                                               @Param("emails") java.util.Collection<String> emails);
+
+    /**
+     * Insert PENDING submissions of one form in one statement.
+     * rows is a JSON array of objects {form_type, form_data, user_id, email}; form_data is the JSON object itself.
+     */
+    @org.springframework.data.jpa.repository.Modifying
+    @Query(value = "INSERT INTO submitted_application_forms (form_type, form_data, user_id, email, status, " +
+            "application_form_config_id, created_at, updated_at) " +
+            "SELECT r.form_type, r.form_data, r.user_id, r.email, 'PENDING', :formId, now(), now() " +
+            "FROM jsonb_to_recordset(CAST(:rows AS jsonb)) AS r(form_type varchar, form_data jsonb, " +
+            "user_id varchar, email varchar)", nativeQuery = true)
+    int insertPendingAll(@Param("formId") String formId, @Param("rows") String rows);
+
+    // Submissions of formType created before registration keys existed and not checked yet, in id order
+    @Query("SELECT s FROM SubmittedApplicationForm s JOIN FETCH s.applicationFormConfig f " +
+           "WHERE f.formType = :formType AND s.id > :afterId AND s.registrationKeysChecked = false " +
+           "AND s.registrationEmail IS NULL AND s.registrationStudentId IS NULL " +
+           "ORDER BY s.id")
+    java.util.List<SubmittedApplicationForm> findWithoutRegistrationKeys(@Param("formType") ApplicationFormType formType,
+                                                                        @Param("afterId") Long afterId, Pageable pageable);
+
+    // (form id, registration email) pairs already taken among the given forms and emails
+    @Query("SELECT s.applicationFormConfig.id, s.registrationEmail FROM SubmittedApplicationForm s " +
+           "WHERE s.applicationFormConfig.id IN :formIds AND s.registrationEmail IN :emails")
+    java.util.List<Object[]> findRegistrationEmails(@Param("formIds") java.util.Collection<String> formIds,
+                                                    @Param("emails") java.util.Collection<String> emails);
+
+    // (form id, registration student id) pairs already taken among the given forms and student ids
+    @Query("SELECT s.applicationFormConfig.id, s.registrationStudentId FROM SubmittedApplicationForm s " +
+           "WHERE s.applicationFormConfig.id IN :formIds AND s.registrationStudentId IN :studentIds")
+    java.util.List<Object[]> findRegistrationStudentIds(@Param("formIds") java.util.Collection<String> formIds,
+                                                        @Param("studentIds") java.util.Collection<String> studentIds);
 }
 
 
@@ -2,6 +2,8 @@ package sep490g65.fvcapi.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import sep490g65.fvcapi.entity.User;
 
@@ -25,10 +27,17 @@ public interface UserRepository extends JpaRepository<User, String>, JpaSpecific
     // Handle duplicates by returning List (use first element)
     List<User> findAllByPersonalMailIgnoreCase(String personalMail);
     List<User> findAllByEduMailIgnoreCase(String eduMail);
+
+    // Current token version of a user (empty when the user does not exist)
+    @Query("SELECT COALESCE(u.tokenVersion, 0) FROM User u WHERE u.id = :id")
+    Optional<Integer> findTokenVersion(@Param("id") String id);
     
     // Find multiple users by student codes
     List<User> findByStudentCodeIn(List<String> studentCodes);
     // Find user by either edu_mail or personal_mail
     Optional<User> findByEduMailOrPersonalMail(String eduMail, String personalMail);
+    // Batch variant for bulk approvals
+    List<User> findByEduMailInOrPersonalMailIn(java.util.Collection<String> eduMails, java.util.Collection<String> personalMails);
+    List<User> findByPersonalMailIn(java.util.Collection<String> personalMails);
 }
 
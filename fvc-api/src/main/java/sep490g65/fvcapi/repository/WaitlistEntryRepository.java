@@ -1,6 +1,7 @@
 package sep490g65.fvcapi.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -19,5 +20,22 @@ public interface WaitlistEntryRepository extends JpaRepository<WaitlistEntry, Lo
     Optional<WaitlistEntry> findByFormIdAndEmailAndNotProcessed(@Param("formId") String formId, @Param("email") String email);
 
     boolean existsByApplicationFormConfig_IdAndEmailIgnoreCaseAndIsProcessedFalse(String formId, String email);
+
+    long countByApplicationFormConfig_IdAndIsProcessedFalse(String formId);
+
+    /**
+     * Next unprocessed entries of a form in FIFO (id) order, locked until the promotion transaction ends.
+     * Entries locked by another promotion are skipped.
+     */
+    @Query(value = "SELECT * FROM waitlist_entries WHERE application_form_config_id = :formId " +
+            "AND is_processed = false AND id > :afterId ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<WaitlistEntry> lockPendingPage(@Param("formId") String formId,
+                                        @Param("afterId") long afterId,
+                                        @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE WaitlistEntry w SET w.isProcessed = true, w.updatedAt = :now WHERE w.id IN :ids")
+    int markProcessed(@Param("ids") java.util.Collection<Long> ids, @Param("now") java.time.LocalDateTime now);
 }
 
@@ -1,5 +1,6 @@
 package sep490g65.fvcapi.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -8,7 +9,9 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -26,6 +29,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtils jwtUtils;
     private final UserDetailsService userDetailsService;
+    private final PrincipalCache principalCache;
+    private final TokenVersionTable tokenVersions;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, 
@@ -40,18 +45,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             if (jwt != null) {
                 log.debug("JWT found in cookies for {}", requestPath);
                 
-                if (jwtUtils.validateJwtToken(jwt)) {
-                    String email = jwtUtils.getEmailFromJwtToken(jwt);
+                Claims claims = jwtUtils.parseVerifiedClaims(jwt);
+                if (claims != null && claims.getSubject() != null) {
+                    String email = claims.getSubject();
                     log.debug("JWT valid for user: {}", email);
                     
-                    UserDetails userDetails = userDetailsService.loadUserByUsername(email);
-                    
-                    UsernamePasswordAuthenticationToken authentication = 
-                        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
-                    log.debug("Authentication set for user: {}", email);
+                    UserDetails userDetails = resolvePrincipal(claims);
+                    if (userDetails != null) {
+                        UsernamePasswordAuthenticationToken authentication =
+                            new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+
+                        SecurityContextHolder.getContext().setAuthentication(authentication);
+                        log.debug("Authentication set for user: {}", email);
+                    } else {
+                        log.warn("Revoked JWT for user {} on {}", email, requestPath);
+                    }
                 } else {
                     log.warn("JWT token validation failed for {}", requestPath);
                 }
@@ -65,6 +74,31 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * Principal of a verified token, null when the token was revoked.
+     * Stateless tokens (uid/role/ver claims) are checked against the in-memory token version and, when
+     * stateless claims are enabled, authenticate with their role without a user lookup.
+     */
+    private UserDetails resolvePrincipal(Claims claims) {
+        String email = claims.getSubject();
+        String userId = claims.get(JwtUtils.CLAIM_USER_ID, String.class);
+        if (userId == null) {
+            return principalCache.get(email, userDetailsService::loadUserByUsername);
+        }
+        Integer version = claims.get(JwtUtils.CLAIM_TOKEN_VERSION, Integer.class);
+        if (version == null || !tokenVersions.isCurrent(userId, version)) {
+            return null;
+        }
+        String role = claims.get(JwtUtils.CLAIM_ROLE, String.class);
+        if (jwtUtils.isStatelessClaims() && role != null) {
+            return User.withUsername(email)
+                    .password("")
+                    .authorities(new SimpleGrantedAuthority("ROLE_" + role))
+                    .build();
+        }
+        return principalCache.get(email, userDetailsService::loadUserByUsername);
+    }
+
     private String getJwtFromCookies(HttpServletRequest request) {
         if (request.getCookies() != null) {
             return Arrays.stream(request.getCookies())
@@ -0,0 +1,81 @@
+package sep490g65.fvcapi.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import sep490g65.fvcapi.constants.MessageConstants;
+import sep490g65.fvcapi.exception.custom.TooManyRequestsException;
+import sep490g65.fvcapi.utils.TokenBucket;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Login attempts allowed per account and per client IP, checked before any password is hashed.
+ * Buckets refill continuously (per-minute rates); exhausted ones answer 429 with the seconds until
+ * the next attempt. Buckets that refilled completely are dropped every minute.
+ */
+@Component
+public class LoginAttemptThrottle {
+
+    private final double accountRate;
+    private final double accountBurst;
+    private final double ipRate;
+    private final double ipBurst;
+    private final Map<String, TokenBucket> accountBuckets = new ConcurrentHashMap<>();
+    private final Map<String, TokenBucket> ipBuckets = new ConcurrentHashMap<>();
+    private final Counter throttled;
+
+    public LoginAttemptThrottle(@Value("${app.security.login-throttle.account-per-minute:10}") double accountPerMinute,
+                                @Value("${app.security.login-throttle.account-burst:5}") double accountBurst,
+                                @Value("${app.security.login-throttle.ip-per-minute:120}") double ipPerMinute,
+                                @Value("${app.security.login-throttle.ip-burst:60}") double ipBurst,
+                                MeterRegistry meterRegistry) {
+        this.accountRate = accountPerMinute / 60;
+        this.accountBurst = accountBurst;
+        this.ipRate = ipPerMinute / 60;
+        this.ipBurst = ipBurst;
+        this.throttled = Counter.builder("fvc.auth.login.throttled").register(meterRegistry);
+    }
+
+    /**
+     * Take one attempt for the account and the calling IP (when called within a request)
+     */
+    public void acquire(String email) {
+        String ip = clientIp();
+        if (ip != null) {
+            take(ipBuckets, ip, ipRate, ipBurst);
+        }
+        if (email != null) {
+            take(accountBuckets, email.trim().toLowerCase(Locale.ROOT), accountRate, accountBurst);
+        }
+    }
+
+    private void take(Map<String, TokenBucket> buckets, String key, double rate, double burst) {
+        TokenBucket bucket = buckets.computeIfAbsent(key, k -> new TokenBucket(burst));
+        if (!bucket.tryAcquire(rate, burst)) {
+            throttled.increment();
+            throw new TooManyRequestsException(MessageConstants.LOGIN_RATE_LIMITED, bucket.secondsUntilNext(rate));
+        }
+    }
+
+    private static String clientIp() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            HttpServletRequest request = attributes.getRequest();
+            return request.getRemoteAddr();
+        }
+        return null;
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void prune() {
+        accountBuckets.values().removeIf(bucket -> bucket.isFull(accountRate, accountBurst));
+        ipBuckets.values().removeIf(bucket -> bucket.isFull(ipRate, ipBurst));
+    }
+}
@@ -0,0 +1,141 @@
+package sep490g65.fvcapi.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import sep490g65.fvcapi.constants.MessageConstants;
+import sep490g65.fvcapi.exception.custom.TooManyRequestsException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Runs the (BCrypt) delegate on a small dedicated pool so a login burst cannot take every request thread's CPU.
+ * The pool is also the bound for bulk account creation (encodeAll); it is shut down with the bean.
+ * Callers wait for their hash; when queue-capacity hashes are already waiting the call is shed with a 429
+ * whose Retry-After is estimated from the queue length and the mean hash time.
+ * Metrics: fvc.auth.hash (hash time), fvc.auth.hash.wait (time queued), fvc.auth.hash.queue, fvc.auth.hash.rejected.
+ */
+@Slf4j
+public class OffloadingPasswordEncoder implements PasswordEncoder {
+
+    // Retry-After estimate before any hash was timed
+    private static final double DEFAULT_HASH_MS = 250;
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolTaskExecutor executor;
+    private final int workers;
+    private final Timer hashTimer;
+    private final Timer waitTimer;
+    private final Counter rejected;
+
+    public OffloadingPasswordEncoder(PasswordEncoder delegate, int workers, int queueCapacity, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.workers = workers;
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-hash-");
+        executor.initialize();
+        this.hashTimer = Timer.builder("fvc.auth.hash").register(meterRegistry);
+        this.waitTimer = Timer.builder("fvc.auth.hash.wait").register(meterRegistry);
+        this.rejected = Counter.builder("fvc.auth.hash.rejected").register(meterRegistry);
+        Gauge.builder("fvc.auth.hash.queue", executor, e -> e.getThreadPoolExecutor().getQueue().size())
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * Encode many passwords on the pool without shedding (bulk account creation). At most workers hashes are
+     * queued at a time so waiting logins are not pushed out; a hash the pool cannot take runs on the caller.
+     */
+    public List<String> encodeAll(List<? extends CharSequence> rawPasswords) {
+        List<String> encoded = new ArrayList<>(rawPasswords.size());
+        for (int from = 0; from < rawPasswords.size(); from += workers) {
+            List<Future<String>> window = new ArrayList<>();
+            for (CharSequence rawPassword : rawPasswords.subList(from, Math.min(from + workers, rawPasswords.size()))) {
+                try {
+                    window.add(executor.submit(() -> hashTimer.record(() -> delegate.encode(rawPassword))));
+                } catch (TaskRejectedException e) {
+                    window.add(CompletableFuture.completedFuture(delegate.encode(rawPassword)));
+                }
+            }
+            for (Future<String> result : window) {
+                encoded.add(await(result));
+            }
+        }
+        return encoded;
+    }
+
+    private <T> T run(Supplier<T> hash) {
+        long queuedAt = System.nanoTime();
+        Future<T> result;
+        try {
+            result = executor.submit(() -> {
+                waitTimer.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+                return hashTimer.record(hash);
+            });
+        } catch (TaskRejectedException e) {
+            rejected.increment();
+            long retryAfter = retryAfterSeconds();
+            log.warn("Password hashing queue full, shedding request (Retry-After {}s)", retryAfter);
+            throw new TooManyRequestsException(MessageConstants.PASSWORD_HASHING_BUSY, retryAfter);
+        }
+        return await(result);
+    }
+
+    private static <T> T await(Future<T> result) {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    /**
+     * Time for the pool to drain what is queued now, in whole seconds
+     */
+    long retryAfterSeconds() {
+        double meanMs = hashTimer.count() > 0 ? hashTimer.mean(TimeUnit.MILLISECONDS) : DEFAULT_HASH_MS;
+        int queued = executor.getThreadPoolExecutor().getQueue().size();
+        return Math.max(1, (long) Math.ceil((queued + workers) * meanMs / workers / 1000));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
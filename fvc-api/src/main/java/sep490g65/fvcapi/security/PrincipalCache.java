@@ -0,0 +1,101 @@
+package sep490g65.fvcapi.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Short-lived cache of the principals resolved for JWT subjects, so authenticated requests
+ * (scoreboard polling in particular) do not query the users table every time.
+ * Entries expire after ttl-ms and at most max-size subjects are kept.
+ * UserServiceImpl evicts a user when their password, e-mail or account changes. Inside a transaction the
+ * eviction happens after commit (a rollback keeps the entry), and a principal loaded while an eviction
+ * happened is not cached.
+ */
+@Component
+public class PrincipalCache {
+
+    private final long ttlNanos;
+    private final int maxSize;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+
+    public PrincipalCache(@Value("${app.security.principal-cache.ttl-ms:60000}") long ttlMs,
+                          @Value("${app.security.principal-cache.max-size:10000}") int maxSize,
+                          MeterRegistry meterRegistry) {
+        this.ttlNanos = ttlMs * 1_000_000L;
+        this.maxSize = maxSize;
+        this.hits = Counter.builder("fvc.security.principal_cache").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("fvc.security.principal_cache").tag("result", "miss").register(meterRegistry);
+    }
+
+    /**
+     * Cached principal of the subject, loaded with the loader when absent or expired.
+     * Loader exceptions (unknown user) propagate and nothing is cached.
+     */
+    public UserDetails get(String subject, Function<String, UserDetails> loader) {
+        String key = key(subject);
+        long now = System.nanoTime();
+        Entry cached = entries.get(key);
+        if (cached != null && now - cached.loadedAt() < ttlNanos) {
+            hits.increment();
+            return cached.principal();
+        }
+        misses.increment();
+        long loadedGeneration = generation.get();
+        UserDetails principal = loader.apply(subject);
+        if (generation.get() == loadedGeneration && hasRoomFor(key, now)) {
+            entries.put(key, new Entry(principal, now));
+        }
+        return principal;
+    }
+
+    public void evict(String email) {
+        if (email == null) {
+            return;
+        }
+        String key = key(email);
+        Runnable bump = () -> {
+            generation.incrementAndGet();
+            entries.remove(key);
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bump.run();
+            return;
+        }
+        // Until the commit, loads still see the old row; evicting now would let one of them re-cache it
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                bump.run();
+            }
+        });
+    }
+
+    private boolean hasRoomFor(String key, long now) {
+        if (entries.size() < maxSize || entries.containsKey(key)) {
+            return true;
+        }
+        entries.values().removeIf(entry -> now - entry.loadedAt() >= ttlNanos);
+        return entries.size() < maxSize;
+    }
+
+    private static String key(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record Entry(UserDetails principal, long loadedAt) {
+    }
+}
@@ -0,0 +1,72 @@
+package sep490g65.fvcapi.security;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import sep490g65.fvcapi.entity.User;
+import sep490g65.fvcapi.repository.UserRepository;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory copy of users.token_version used to revoke stateless JWTs (see JwtUtils.generateStatelessToken).
+ * A user's version is read from the database once and then served from memory; revoke() bumps it and
+ * drops the copy (again after the transaction completes). The table is cleared every refresh-ms so bumps
+ * made by other instances are seen within that delay.
+ */
+@Component
+@RequiredArgsConstructor
+public class TokenVersionTable {
+
+    // Version of users that do not exist: never matches a token
+    private static final int MISSING = -1;
+
+    private final UserRepository userRepository;
+    private final Map<String, Integer> versions = new ConcurrentHashMap<>();
+
+    /**
+     * Current version of the user, -1 when the user does not exist
+     */
+    public int versionOf(String userId) {
+        return versions.computeIfAbsent(userId, id -> userRepository.findTokenVersion(id).orElse(MISSING));
+    }
+
+    public boolean isCurrent(String userId, int tokenVersion) {
+        return tokenVersion >= 0 && versionOf(userId) == tokenVersion;
+    }
+
+    /**
+     * Invalidate the user's stateless tokens: bumps the version on the entity (saved by the caller's transaction)
+     */
+    public void revoke(User user) {
+        user.setTokenVersion((user.getTokenVersion() != null ? user.getTokenVersion() : 0) + 1);
+        forget(user.getId());
+    }
+
+    /**
+     * Drop the cached version (role change, deletion): the next request reads it again
+     */
+    public void forget(String userId) {
+        if (userId == null) {
+            return;
+        }
+        Runnable drop = () -> versions.remove(userId);
+        drop.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    drop.run();
+                }
+            });
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.security.jwt.version-refresh-ms:60000}")
+    public void refresh() {
+        versions.clear();
+    }
+}
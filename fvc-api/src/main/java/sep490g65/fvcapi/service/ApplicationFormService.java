@@ -31,4 +31,9 @@ public interface ApplicationFormService {
     ApplicationFormConfigResponse postponeClubRegistrationForm();
 
     PaginationResponse<PublicApplicationFormResponse> listPublicForms(int page, int size);
+
+    /**
+     * Archive published forms whose end date has passed (scheduled by FormAutoArchiveJob when enabled)
+     */
+    void autoUnpublishExpiredForms();
 }
@@ -20,5 +20,10 @@ public interface AssessorVotingService {
      * Reset votes for a match (when starting new round or action)
      */
     void resetVotes(String matchId);
+
+    /**
+     * Drop the cached assessor roster of a match (when its assessors are reassigned)
+     */
+    void invalidateRoster(String matchId);
 }
 
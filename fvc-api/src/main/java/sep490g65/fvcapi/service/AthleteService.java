@@ -17,10 +17,9 @@ import sep490g65.fvcapi.repository.AthleteRepository;
 import sep490g65.fvcapi.repository.PerformanceAthleteRepository;
 import sep490g65.fvcapi.repository.SubmittedApplicationFormRepository;
 import sep490g65.fvcapi.entity.PerformanceAthlete;
-import sep490g65.fvcapi.repository.WeightClassRepository;
-import sep490g65.fvcapi.repository.VovinamFistItemRepository;
-import sep490g65.fvcapi.repository.MusicIntegratedPerformanceRepository;
 import sep490g65.fvcapi.service.CompetitionOrderService;
+import sep490g65.fvcapi.service.impl.AthleteBulkUpdater;
+import sep490g65.fvcapi.service.impl.ReferenceDataCache;
 
 import java.util.UUID;
 import java.util.List;
@@ -30,14 +29,14 @@ import java.util.Optional;
 @RequiredArgsConstructor
 @Slf4j
 public class AthleteService {
+    private static final com.fasterxml.jackson.databind.ObjectMapper FORM_DATA_READER = new com.fasterxml.jackson.databind.ObjectMapper();
+
     private final AthleteRepository athleteRepository;
-    private final WeightClassRepository weightClassRepository;
-    private final VovinamFistItemRepository fistItemRepository;
+    private final ReferenceDataCache referenceDataCache;
     private final CompetitionOrderService competitionOrderService;
-    private final sep490g65.fvcapi.repository.VovinamFistConfigRepository fistConfigRepository;
-    private final MusicIntegratedPerformanceRepository musicRepository;
     private final PerformanceAthleteRepository performanceAthleteRepository;
     private final SubmittedApplicationFormRepository submittedApplicationFormRepository;
+    private final AthleteBulkUpdater athleteBulkUpdater;
 
     @Transactional
     public Athlete upsert(Athlete prototype) {
@@ -61,6 +60,57 @@ public class AthleteService {
                 .orElseGet(() -> athleteRepository.save(prototype));
     }
 
+    /**
+     * Set-based upsert: same fields as upsert(), one statement for all prototypes.
+     * When a (competitionId, email) pair appears twice, the last prototype wins.
+     */
+    @Transactional
+    public int upsertAll(java.util.Collection<Athlete> prototypes) {
+        java.util.Map<String, java.util.Map<String, Object>> rows = new java.util.LinkedHashMap<>();
+        for (Athlete a : prototypes) {
+            java.util.Map<String, Object> row = new java.util.HashMap<>();
+            row.put("competition_id", a.getCompetitionId());
+            row.put("full_name", a.getFullName());
+            row.put("email", a.getEmail());
+            row.put("student_id", a.getStudentId());
+            row.put("gender", a.getGender() != null ? a.getGender().name() : null);
+            row.put("club", a.getClub());
+            row.put("competition_type", a.getCompetitionType() != null ? a.getCompetitionType().name() : null);
+            row.put("sub_competition_type", a.getSubCompetitionType());
+            row.put("status", a.getStatus() != null ? a.getStatus().name() : Athlete.AthleteStatus.NOT_STARTED.name());
+            row.put("weight_class_id", a.getWeightClassId());
+            row.put("fist_config_id", a.getFistConfigId());
+            row.put("fist_item_id", a.getFistItemId());
+            row.put("music_content_id", a.getMusicContentId());
+            rows.remove(a.getCompetitionId() + "|" + a.getEmail());
+            rows.put(a.getCompetitionId() + "|" + a.getEmail(), row);
+        }
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        try {
+            return athleteRepository.upsertAll(FORM_DATA_READER.writeValueAsString(rows.values()));
+        } catch (com.fasterxml.jackson.core.JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize athletes", e);
+        }
+    }
+
+    /**
+     * Athletes of the given competitions by email, ignoring case
+     */
+    public List<Athlete> findByCompetitionsAndEmails(java.util.Collection<String> competitionIds, java.util.Collection<String> emails) {
+        if (competitionIds.isEmpty() || emails.isEmpty()) {
+            return List.of();
+        }
+        return athleteRepository.findByCompetitionIdInAndEmailLowerIn(competitionIds,
+                emails.stream().map(e -> e.toLowerCase(java.util.Locale.ROOT)).collect(java.util.stream.Collectors.toSet()));
+    }
+
+    @Transactional
+    public List<Athlete> saveAll(java.util.Collection<Athlete> athletes) {
+        return athleteRepository.saveAll(athletes);
+    }
+
     @Transactional
     public Athlete create(Athlete athlete) {
         return athleteRepository.save(athlete);
@@ -80,6 +130,21 @@ public class AthleteService {
             Athlete.Gender gender,
             Athlete.AthleteStatus status,
             Pageable pageable) {
+        return athleteRepository.findAll(filterSpec(competitionId, competitionType, subCompetitionType,
+                detailSubCompetitionType, name, gender, status), pageable);
+    }
+
+    /**
+     * Filters of the athlete list, shared with the CSV export
+     */
+    public Specification<Athlete> filterSpec(
+            String competitionId,
+            Athlete.CompetitionType competitionType,
+            String subCompetitionType,
+            String detailSubCompetitionType,
+            String name,
+            Athlete.Gender gender,
+            Athlete.AthleteStatus status) {
         Specification<Athlete> spec = Specification.where(null);
         if (competitionId != null && !competitionId.isBlank()) {
             spec = spec.and((root, q, cb) -> cb.equal(root.get("competitionId"), competitionId));
@@ -93,9 +158,9 @@ public class AthleteService {
                 String label = subCompetitionType.trim();
                 String configId = null;
                 try {
-                    configId = fistConfigRepository
-                            .findFirstByNameStartingWithIgnoreCase(label)
-                            .map(cfg -> cfg.getId())
+                    configId = referenceDataCache
+                            .fistConfigByNamePrefix(label)
+                            .map(cfg -> cfg.id())
                             .orElse(null);
                 } catch (Exception ignored) {}
 
@@ -119,10 +184,8 @@ public class AthleteService {
             if (competitionType == Athlete.CompetitionType.quyen) {
                 // For Quyền, match by fistItemId resolved from name
                 try {
-                    String itemId = fistItemRepository.findAll().stream()
-                            .filter(item -> item.getName() != null && item.getName().toLowerCase().startsWith(detailLabel.toLowerCase()))
-                            .findFirst()
-                            .map(item -> item.getId())
+                    String itemId = referenceDataCache.fistItemByNamePrefix(detailLabel)
+                            .map(item -> item.id())
                             .orElse(null);
                     if (itemId != null) {
                         final String resolvedItemId = itemId;
@@ -148,10 +211,8 @@ public class AthleteService {
             } else if (competitionType == Athlete.CompetitionType.music) {
                 // For Music, match by musicContentId resolved from name
                 try {
-                    String contentId = musicRepository.findAll().stream()
-                            .filter(m -> m.getName() != null && m.getName().toLowerCase().startsWith(detailLabel.toLowerCase()))
-                            .findFirst()
-                            .map(content -> content.getId())
+                    String contentId = referenceDataCache.musicContentByNamePrefix(detailLabel)
+                            .map(content -> content.id())
                             .orElse(null);
                     if (contentId != null) {
                         final String resolvedContentId = contentId;
@@ -186,24 +247,24 @@ public class AthleteService {
         if (status != null) {
             spec = spec.and((root, q, cb) -> cb.equal(root.get("status"), status));
         }
-        return athleteRepository.findAll(spec, pageable);
+        return spec;
     }
 
     // Helper to resolve label by IDs
     public String resolveDetailLabel(Athlete a) {
         try {
             if (a.getCompetitionType() == Athlete.CompetitionType.fighting && a.getWeightClassId() != null) {
-                return weightClassRepository.findById(a.getWeightClassId())
+                return referenceDataCache.weightClass(a.getWeightClassId())
                         .map(w -> {
                             // Prefer explicit min-max formatting like "45 - 50 kg"
-                            if (w.getMinWeight() != null && w.getMaxWeight() != null) {
-                                String min = w.getMinWeight().stripTrailingZeros().toPlainString();
-                                String max = w.getMaxWeight().stripTrailingZeros().toPlainString();
+                            if (w.minWeight() != null && w.maxWeight() != null) {
+                                String min = w.minWeight().stripTrailingZeros().toPlainString();
+                                String max = w.maxWeight().stripTrailingZeros().toPlainString();
                                 return min + " - " + max + " kg";
                             }
-                            if (w.getWeightClass() != null && !w.getWeightClass().isBlank()) {
+                            if (w.weightClass() != null && !w.weightClass().isBlank()) {
                                 // Fallback to stored label
-                                return w.getWeightClass();
+                                return w.weightClass();
                             }
                             return null;
                         })
@@ -212,19 +273,19 @@ public class AthleteService {
             if (a.getCompetitionType() == Athlete.CompetitionType.quyen) {
                 // Use only configuration name for Quyền
                 if (a.getFistConfigId() != null) {
-                    return fistConfigRepository.findById(a.getFistConfigId()).map(cfg -> cfg.getName()).orElse(null);
+                    return referenceDataCache.fistConfig(a.getFistConfigId()).map(cfg -> cfg.name()).orElse(null);
                 }
                 // Fallback: try to infer by subCompetitionType prefix (e.g., "Song luyện" -> "Song luyện 1")
                 if (a.getSubCompetitionType() != null && !a.getSubCompetitionType().isBlank()) {
-                    return fistConfigRepository
-                            .findFirstByNameStartingWithIgnoreCase(a.getSubCompetitionType().trim())
-                            .map(cfg -> cfg.getName())
+                    return referenceDataCache
+                            .fistConfigByNamePrefix(a.getSubCompetitionType().trim())
+                            .map(cfg -> cfg.name())
                             .orElse(null);
                 }
                 return null;
             }
             if (a.getCompetitionType() == Athlete.CompetitionType.music && a.getMusicContentId() != null) {
-                return musicRepository.findById(a.getMusicContentId()).map(m -> m.getName()).orElse(null);
+                return referenceDataCache.musicContent(a.getMusicContentId()).map(m -> m.name()).orElse(null);
             }
         } catch (Exception ignored) {}
         return null;
@@ -232,38 +293,63 @@ public class AthleteService {
     
     // Resolve team info via Performance linkage and submission
     public TeamInfo resolveTeamInfo(Athlete a) {
-        TeamInfo info = new TeamInfo();
+        if (a == null || a.getId() == null) return new TeamInfo();
+        return resolveTeamInfos(List.of(a)).getOrDefault(a.getId(), new TeamInfo());
+    }
+
+    // Batch variant of resolveTeamInfo: two queries for the whole list instead of two per athlete
+    public java.util.Map<UUID, TeamInfo> resolveTeamInfos(java.util.Collection<Athlete> athletes) {
+        java.util.Map<UUID, TeamInfo> infos = new java.util.HashMap<>();
         try {
-            if (a == null || a.getId() == null) return info;
-            java.util.List<PerformanceAthlete> links = performanceAthleteRepository.findByAthleteId(a.getId());
-            if (links == null || links.isEmpty()) return info;
-            // Prefer the first link (or could add logic to pick latest)
-            PerformanceAthlete pa = links.get(0);
-            if (pa.getPerformance() != null) {
+            List<UUID> ids = athletes.stream()
+                    .map(Athlete::getId)
+                    .filter(java.util.Objects::nonNull)
+                    .distinct()
+                    .toList();
+            if (ids.isEmpty()) return infos;
+            // Prefer the first link of each athlete (or could add logic to pick latest)
+            java.util.Map<UUID, PerformanceAthlete> links = new java.util.HashMap<>();
+            for (PerformanceAthlete pa : performanceAthleteRepository.findWithPerformanceByAthleteIdIn(ids)) {
+                if (pa.getAthlete() != null && pa.getPerformance() != null) {
+                    links.putIfAbsent(pa.getAthlete().getId(), pa);
+                }
+            }
+            if (links.isEmpty()) return infos;
+
+            // Registrant email from the submitted form that created each performance
+            java.util.Set<String> perfIds = new java.util.HashSet<>();
+            links.values().forEach(pa -> perfIds.add(pa.getPerformance().getId()));
+            java.util.Map<String, String> registrantEmails = new java.util.HashMap<>();
+            for (sep490g65.fvcapi.entity.SubmittedApplicationForm s : submittedApplicationFormRepository.findByPerformanceIdIn(perfIds)) {
+                com.fasterxml.jackson.databind.JsonNode node = readFormData(s.getFormData());
+                String perfId = node != null && node.hasNonNull("performanceId") ? node.get("performanceId").asText() : null;
+                if (perfId == null || registrantEmails.containsKey(perfId)) continue;
+                String mail = s.getEmail();
+                if (mail == null || mail.isBlank()) {
+                    // Fallback: email from formData JSON
+                    mail = node.hasNonNull("email") ? node.get("email").asText("") : null;
+                }
+                registrantEmails.put(perfId, mail);
+            }
+
+            links.forEach((athleteId, pa) -> {
+                TeamInfo info = new TeamInfo();
                 String perfId = pa.getPerformance().getId();
                 info.setPerformanceId(perfId);
                 info.setTeamName(pa.getPerformance().getTeamName());
-                // Try to resolve registrant email from submitted form by performanceId
-                submittedApplicationFormRepository.findOneByPerformanceId(perfId).ifPresent(s -> {
-                    String mail = s.getEmail();
-                    if (mail != null && !mail.isBlank()) {
-                        info.setRegistrantEmail(mail);
-                    } else {
-                        // Fallback: try to parse email from formData JSON
-                        try {
-                            String formJson = s.getFormData();
-                            if (formJson != null) {
-                                com.fasterxml.jackson.databind.JsonNode node = new com.fasterxml.jackson.databind.ObjectMapper().readTree(formJson);
-                                if (node != null && node.hasNonNull("email")) {
-                                    info.setRegistrantEmail(node.get("email").asText(""));
-                                }
-                            }
-                        } catch (Exception ignored) {}
-                    }
-                });
-            }
+                info.setRegistrantEmail(registrantEmails.get(perfId));
+                infos.put(athleteId, info);
+            });
         } catch (Exception ignored) {}
-        return info;
+        return infos;
+    }
+
+    private static com.fasterxml.jackson.databind.JsonNode readFormData(String formJson) {
+        try {
+            return formJson != null ? FORM_DATA_READER.readTree(formJson) : null;
+        } catch (Exception e) {
+            return null;
+        }
     }
     
     @lombok.Data
@@ -278,29 +364,15 @@ public class AthleteService {
         log.info("🎲 [Arrange Order] Starting arrangement for competitionId: {}, competitionType: {}, total athletes: {}", 
                 competitionId, competitionType, orders.size());
         
-        int successCount = 0;
-        int failCount = 0;
-        
-        // Apply order to each athlete
-        for (sep490g65.fvcapi.dto.request.ArrangeFistOrderRequest.AthleteOrder order : orders) {
-            try {
-                Optional<Athlete> athleteOpt = athleteRepository.findById(UUID.fromString(order.getAthleteId()));
-                if (athleteOpt.isPresent()) {
-                    Athlete athlete = athleteOpt.get();
-                    // competition order field removed; skipping persistence update
-                    log.debug("✅ [Arrange Order] Athlete: {} ({}), New order: {} (no-op)", 
-                            athlete.getFullName(), order.getAthleteId(), order.getOrderIndex());
-                    successCount++;
-                } else {
-                    log.warn("⚠️ [Arrange Order] Athlete not found: {}", order.getAthleteId());
-                    failCount++;
-                }
-            } catch (Exception e) {
-                log.error("❌ [Arrange Order] Failed to update athlete: {}, error: {}", 
-                        order.getAthleteId(), e.getMessage(), e);
-                failCount++;
-            }
+        // competition order field removed; only check that the athletes exist (one query)
+        List<String> missing = athleteBulkUpdater.findMissing(orders.stream()
+                .map(sep490g65.fvcapi.dto.request.ArrangeFistOrderRequest.AthleteOrder::getAthleteId)
+                .toList());
+        if (!missing.isEmpty()) {
+            log.warn("⚠️ [Arrange Order] Athletes not found: {}", missing);
         }
+        int failCount = missing.size();
+        int successCount = orders.size() - failCount;
         
         log.info("🎲 [Arrange Order] Completed - Success: {}, Failed: {}, Total: {}", 
                 successCount, failCount, orders.size());
@@ -319,30 +391,16 @@ public class AthleteService {
     public void updateSeedNumbers(List<sep490g65.fvcapi.dto.request.UpdateSeedNumbersRequest.SeedNumberUpdate> updates) {
         log.info("🎲 [Update Seed Numbers] Starting update for {} athletes", updates.size());
         
-        int successCount = 0;
-        int failCount = 0;
-        
+        java.util.Map<String, Integer> seedByAthleteId = new java.util.LinkedHashMap<>();
         for (sep490g65.fvcapi.dto.request.UpdateSeedNumbersRequest.SeedNumberUpdate update : updates) {
-            try {
-                Optional<Athlete> athleteOpt = athleteRepository.findById(UUID.fromString(update.getAthleteId()));
-                if (athleteOpt.isPresent()) {
-                    Athlete athlete = athleteOpt.get();
-                    Integer oldSeed = athlete.getDrawSeedNumber();
-                    athlete.setDrawSeedNumber(update.getSeedNumber());
-                    athleteRepository.save(athlete);
-                    log.debug("✅ [Update Seed Numbers] Athlete: {} ({}), Old seed: {}, New seed: {}", 
-                            athlete.getFullName(), update.getAthleteId(), oldSeed, update.getSeedNumber());
-                    successCount++;
-                } else {
-                    log.warn("⚠️ [Update Seed Numbers] Athlete not found: {}", update.getAthleteId());
-                    failCount++;
-                }
-            } catch (Exception e) {
-                log.error("❌ [Update Seed Numbers] Failed to update athlete: {}, error: {}", 
-                        update.getAthleteId(), e.getMessage(), e);
-                failCount++;
-            }
+            seedByAthleteId.put(update.getAthleteId(), update.getSeedNumber());
+        }
+        AthleteBulkUpdater.Result result = athleteBulkUpdater.apply(AthleteBulkUpdater.Column.DRAW_SEED_NUMBER, seedByAthleteId);
+        if (!result.notFound().isEmpty()) {
+            log.warn("⚠️ [Update Seed Numbers] Athletes not found: {}", result.notFound());
         }
+        int successCount = result.updated();
+        int failCount = result.notFound().size();
         
         log.info("🎲 [Update Seed Numbers] Completed - Success: {}, Failed: {}, Total: {}", 
                 successCount, failCount, updates.size());
@@ -352,30 +410,12 @@ public class AthleteService {
     public void updateAthletesStatus(List<String> athleteIds, Athlete.AthleteStatus status) {
         log.info("🔄 [Update Athletes Status] Starting update for {} athletes to status: {}", athleteIds.size(), status);
         
-        int successCount = 0;
-        int failCount = 0;
-        
-        for (String athleteId : athleteIds) {
-            try {
-                Optional<Athlete> athleteOpt = athleteRepository.findById(UUID.fromString(athleteId));
-                if (athleteOpt.isPresent()) {
-                    Athlete athlete = athleteOpt.get();
-                    Athlete.AthleteStatus oldStatus = athlete.getStatus();
-                    athlete.setStatus(status);
-                    athleteRepository.save(athlete);
-                    log.debug("✅ [Update Athletes Status] Athlete: {} ({}), Old status: {}, New status: {}", 
-                            athlete.getFullName(), athleteId, oldStatus, status);
-                    successCount++;
-                } else {
-                    log.warn("⚠️ [Update Athletes Status] Athlete not found: {}", athleteId);
-                    failCount++;
-                }
-            } catch (Exception e) {
-                log.error("❌ [Update Athletes Status] Failed to update athlete: {}, error: {}", 
-                        athleteId, e.getMessage(), e);
-                failCount++;
-            }
+        AthleteBulkUpdater.Result result = athleteBulkUpdater.apply(AthleteBulkUpdater.Column.STATUS, athleteIds, status);
+        if (!result.notFound().isEmpty()) {
+            log.warn("⚠️ [Update Athletes Status] Athletes not found: {}", result.notFound());
         }
+        int successCount = result.updated();
+        int failCount = result.notFound().size();
         
         log.info("🔄 [Update Athletes Status] Completed - Success: {}, Failed: {}, Total: {}", 
                 successCount, failCount, athleteIds.size());
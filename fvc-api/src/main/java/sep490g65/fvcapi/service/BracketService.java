@@ -0,0 +1,25 @@
+package sep490g65.fvcapi.service;
+
+import sep490g65.fvcapi.dto.request.GenerateBracketRequest;
+import sep490g65.fvcapi.dto.response.BracketResponse;
+import sep490g65.fvcapi.entity.Match;
+
+import java.util.List;
+
+public interface BracketService {
+
+    /**
+     * Generate and persist the single-elimination matches of a draw session
+     */
+    BracketResponse generateBracket(String drawSessionId, GenerateBracketRequest request, String userId);
+
+    /**
+     * Generate the brackets of every finalized draw of a competition that has none yet
+     */
+    List<BracketResponse> generateCompetitionBrackets(String competitionId, GenerateBracketRequest request, String userId);
+
+    /**
+     * Put the winner of an ended bracket match into its next match (no-op outside brackets and for ties)
+     */
+    void advanceWinner(Match match);
+}
@@ -0,0 +1,304 @@
+package sep490g65.fvcapi.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import sep490g65.fvcapi.entity.ApplicationFormField;
+import sep490g65.fvcapi.exception.custom.ValidationException;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Form data validator compiled once from the built-in field rules and, optionally, the fields of a form.
+ * validate() reads the JSON with a streaming parser in a single pass: every top-level field is looked up by
+ * its lower-cased name, checked, and kept for the cleaned output. Unknown fields are kept as text when they
+ * are at most 1000 characters.
+ * Built-in fields have aliases (fullName / hovaten / ten ...); the cleaned output keeps one value per group.
+ * Instances are immutable and shared between threads.
+ */
+public final class CompiledFormValidator {
+
+    private static final int MAX_UNKNOWN_LENGTH = 1000;
+
+    private static final Pattern LETTERS = Pattern.compile("^[\\p{L}\\s]+$");
+    private static final Pattern PHONE = Pattern.compile("^(0|\\+84)[3-9]\\d{8}$");
+    private static final Pattern STUDENT_CODE = Pattern.compile("^(HE|SE|SS|SP)?\\d{6,8}$");
+    // Same shape as Bean Validation @Email: local part @ domain labels, no quoted local parts
+    private static final Pattern EMAIL = Pattern.compile(
+            "^[\\p{L}\\p{N}!#$%&'*+/=?^_`{|}~-]+(\\.[\\p{L}\\p{N}!#$%&'*+/=?^_`{|}~-]+)*"
+                    + "@[\\p{L}\\p{N}]([\\p{L}\\p{N}-]*[\\p{L}\\p{N}])?(\\.[\\p{L}\\p{N}]([\\p{L}\\p{N}-]*[\\p{L}\\p{N}])?)*$");
+    private static final Pattern NUMBER = Pattern.compile("^-?\\d+(\\.\\d+)?$");
+
+    private static final String NAME_PATTERN_MESSAGE = "chỉ được chứa chữ cái và khoảng trắng";
+    private static final String PHONE_MESSAGE = "Số điện thoại không đúng định dạng (VD: 0123456789 hoặc +84123456789)";
+    private static final String STUDENT_CODE_MESSAGE = "MSSV không đúng định dạng (VD: HE123456, SE1234567)";
+
+    /**
+     * Built-in fields, in slot order. Output groups pick the first non-blank slot of the group.
+     */
+    private enum Slot {
+        NAME("name", 100, LETTERS, "Tên"),
+        FULL_NAME("fullName", 100, LETTERS, "Họ và tên"),
+        HOVATEN("hovaten", 100, LETTERS, "Họ và tên"),
+        TEN("ten", 50, LETTERS, "Tên"),
+        EMAIL_SLOT("email", 100, null, "Email"),
+        PHONE_SLOT("phone", 0, PHONE, null),
+        SDT("sdt", 0, PHONE, null),
+        MOBILE("mobile", 0, PHONE, null),
+        STUDENT_CODE_SLOT("studentCode", 10, STUDENT_CODE, "MSSV"),
+        MSSV("mssv", 10, STUDENT_CODE, "MSSV"),
+        MSV("msv", 10, STUDENT_CODE, "MSSV"),
+        REASON("reason", 500, null, "Lý do tham gia"),
+        LYDO("lydo", 500, null, "Lý do tham gia"),
+        MOTIVATION("motivation", 500, null, "Động lực tham gia"),
+        CLUB("club", 100, null, "Tên câu lạc bộ"),
+        CLB("clb", 100, null, "Tên câu lạc bộ"),
+        ADDITIONAL("additional", 1000, null, "Thông tin bổ sung"),
+        OTHER("other", 1000, null, "Thông tin bổ sung"),
+        NOTE("note", 1000, null, "Ghi chú"),
+        GHICHU("ghichu", 1000, null, "Ghi chú");
+
+        private final String property;
+        private final int maxLength;
+        private final Pattern pattern;
+        private final String label;
+
+        Slot(String property, int maxLength, Pattern pattern, String label) {
+            this.property = property;
+            this.maxLength = maxLength;
+            this.pattern = pattern;
+            this.label = label;
+        }
+    }
+
+    private static final Map<String, Slot> BUILT_IN = new HashMap<>();
+
+    static {
+        for (Slot slot : Slot.values()) {
+            BUILT_IN.put(slot.property.toLowerCase(Locale.ROOT), slot);
+        }
+        BUILT_IN.put("full_name", Slot.FULL_NAME);
+        BUILT_IN.put("ho_ten", Slot.HOVATEN);
+        BUILT_IN.put("student_code", Slot.STUDENT_CODE_SLOT);
+        BUILT_IN.put("ly_do", Slot.LYDO);
+        BUILT_IN.put("ghi_chu", Slot.GHICHU);
+    }
+
+    private static final Slot[] NAME_GROUP = {Slot.NAME, Slot.FULL_NAME, Slot.HOVATEN, Slot.TEN};
+    private static final Slot[] PHONE_GROUP = {Slot.PHONE_SLOT, Slot.SDT, Slot.MOBILE};
+    private static final Slot[] STUDENT_CODE_GROUP = {Slot.STUDENT_CODE_SLOT, Slot.MSSV, Slot.MSV};
+    private static final Slot[] KEPT_AS_IS = {Slot.REASON, Slot.LYDO, Slot.MOTIVATION, Slot.CLUB, Slot.CLB,
+            Slot.ADDITIONAL, Slot.OTHER, Slot.NOTE, Slot.GHICHU};
+
+    static final CompiledFormValidator BUILT_IN_ONLY = new CompiledFormValidator(Map.of());
+
+    /**
+     * Rules of a form's own fields, by lower-cased field name
+     */
+    private final Map<String, FieldRule> fieldRules;
+
+    private CompiledFormValidator(Map<String, FieldRule> fieldRules) {
+        this.fieldRules = fieldRules;
+    }
+
+    /**
+     * Built-in rules plus the required / type checks of the given form fields
+     */
+    static CompiledFormValidator compile(Collection<ApplicationFormField> fields) {
+        Map<String, FieldRule> rules = new LinkedHashMap<>();
+        int index = 0;
+        for (ApplicationFormField field : fields) {
+            if (field.getName() == null || field.getName().isBlank()) {
+                continue;
+            }
+            String type = field.getFieldType() != null ? field.getFieldType().toUpperCase(Locale.ROOT) : "TEXT";
+            rules.put(field.getName().toLowerCase(Locale.ROOT), new FieldRule(index++, field.getName(),
+                    field.getLabel() != null ? field.getLabel() : field.getName(),
+                    Boolean.TRUE.equals(field.getRequired()), type));
+        }
+        return rules.isEmpty() ? BUILT_IN_ONLY : new CompiledFormValidator(Map.copyOf(rules));
+    }
+
+    /**
+     * Validate and clean one form data object.
+     * The parser must be positioned before (or on) the START_OBJECT token.
+     */
+    public Map<String, Object> validate(JsonParser parser, boolean hasUserId) throws IOException {
+        return validate(parser, hasUserId, true);
+    }
+
+    /**
+     * Field checks only, without the name / e-mail / student code / phone business rules
+     * (forms that carry those outside their form data)
+     */
+    public Map<String, Object> validateFields(JsonParser parser) throws IOException {
+        return validate(parser, true, false);
+    }
+
+    private Map<String, Object> validate(JsonParser parser, boolean hasUserId, boolean businessRules) throws IOException {
+        JsonToken token = parser.currentToken() != null ? parser.currentToken() : parser.nextToken();
+        if (token != JsonToken.START_OBJECT) {
+            throw new ValidationException("formData", "Form data must be a JSON object");
+        }
+        String[] slots = new String[Slot.values().length];
+        String[] fieldValues = new String[fieldRules.size()];
+        Map<String, Object> unknown = new LinkedHashMap<>();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String key = parser.currentName();
+            parser.nextToken();
+            String value = text(parser);
+            String lowerKey = key.toLowerCase(Locale.ROOT);
+            FieldRule rule = fieldRules.get(lowerKey);
+            if (rule != null) {
+                fieldValues[rule.index()] = value;
+            }
+            Slot slot = BUILT_IN.get(lowerKey);
+            if (slot != null) {
+                slots[slot.ordinal()] = value;
+            } else if (value == null || value.length() <= MAX_UNKNOWN_LENGTH) {
+                unknown.put(key, value != null ? value : "");
+            } else {
+                // a later, too long duplicate replaces the earlier value, so nothing is kept
+                unknown.remove(key);
+            }
+        }
+
+        Map<String, String> errors = new HashMap<>();
+        for (Slot slot : Slot.values()) {
+            check(slot, slots[slot.ordinal()], errors);
+        }
+        for (FieldRule rule : fieldRules.values()) {
+            rule.check(fieldValues[rule.index()], errors);
+        }
+        if (!errors.isEmpty()) {
+            throw new ValidationException(errors);
+        }
+
+        if (businessRules) {
+            checkBusinessRules(slots, hasUserId);
+        }
+        return clean(slots, unknown);
+    }
+
+    private static void check(Slot slot, String value, Map<String, String> errors) {
+        if (value == null) {
+            return;
+        }
+        String error = null;
+        if (slot.maxLength > 0 && value.length() > slot.maxLength) {
+            error = slot.label + " không được vượt quá " + slot.maxLength + " ký tự";
+        } else if (slot == Slot.EMAIL_SLOT) {
+            if (!value.isEmpty() && !EMAIL.matcher(value).matches()) {
+                error = "Email không đúng định dạng";
+            }
+        } else if (slot.pattern != null && !slot.pattern.matcher(value).matches()) {
+            if (slot.pattern == LETTERS) {
+                error = slot.label + " " + NAME_PATTERN_MESSAGE;
+            } else if (slot.pattern == PHONE) {
+                error = PHONE_MESSAGE;
+            } else {
+                error = STUDENT_CODE_MESSAGE;
+            }
+        }
+        if (error != null) {
+            errors.put(slot.property, error);
+        }
+    }
+
+    private static void checkBusinessRules(String[] slots, boolean hasUserId) {
+        Map<String, String> errors = new HashMap<>();
+        // If no user_id, then name, email, and student code are required
+        if (!hasUserId) {
+            if (first(slots, NAME_GROUP) == null) {
+                errors.put("name", "Tên là bắt buộc khi không có thông tin người dùng");
+            }
+            if (isBlank(slots[Slot.EMAIL_SLOT.ordinal()])) {
+                errors.put("email", "Email là bắt buộc khi không có thông tin người dùng");
+            }
+            if (first(slots, STUDENT_CODE_GROUP) == null) {
+                errors.put("studentCode", "MSSV là bắt buộc khi không có thông tin người dùng");
+            }
+        }
+        // Phone is always required
+        if (first(slots, PHONE_GROUP) == null) {
+            errors.put("phone", "Số điện thoại là bắt buộc");
+        }
+        if (!errors.isEmpty()) {
+            throw new ValidationException(errors);
+        }
+    }
+
+    private static Map<String, Object> clean(String[] slots, Map<String, Object> unknown) {
+        Map<String, Object> cleaned = new HashMap<>();
+        putIfNotNull(cleaned, "name", first(slots, NAME_GROUP));
+        String email = slots[Slot.EMAIL_SLOT.ordinal()];
+        putIfNotNull(cleaned, "email", email != null ? email.trim() : null);
+        putIfNotNull(cleaned, "phone", first(slots, PHONE_GROUP));
+        putIfNotNull(cleaned, "studentCode", first(slots, STUDENT_CODE_GROUP));
+        for (Slot slot : KEPT_AS_IS) {
+            String value = slots[slot.ordinal()];
+            if (!isBlank(value)) {
+                cleaned.put(slot.property, value.trim());
+            }
+        }
+        cleaned.putAll(unknown);
+        return cleaned;
+    }
+
+    /**
+     * Scalar values as text; arrays and objects as the text of their Java collection, like Map.toString()
+     */
+    private static String text(JsonParser parser) throws IOException {
+        return switch (parser.currentToken()) {
+            case VALUE_NULL -> null;
+            case VALUE_STRING -> parser.getText();
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> parser.getNumberValue().toString();
+            case VALUE_TRUE -> "true";
+            case VALUE_FALSE -> "false";
+            default -> String.valueOf(parser.readValueAs(Object.class));
+        };
+    }
+
+    private static String first(String[] slots, Slot[] group) {
+        for (Slot slot : group) {
+            String value = slots[slot.ordinal()];
+            if (!isBlank(value)) {
+                return value.trim();
+            }
+        }
+        return null;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+
+    private static void putIfNotNull(Map<String, Object> map, String key, String value) {
+        if (value != null) {
+            map.put(key, value);
+        }
+    }
+
+    private record FieldRule(int index, String name, String label, boolean required, String type) {
+        void check(String value, Map<String, String> errors) {
+            if (isBlank(value)) {
+                if (required) {
+                    errors.putIfAbsent(name, label + " là bắt buộc");
+                }
+                return;
+            }
+            String trimmed = value.trim();
+            if ("EMAIL".equals(type) && !EMAIL.matcher(trimmed).matches()) {
+                errors.putIfAbsent(name, label + " không đúng định dạng email");
+            } else if ("NUMBER".equals(type) && !NUMBER.matcher(trimmed).matches()) {
+                errors.putIfAbsent(name, label + " phải là số");
+            }
+        }
+    }
+}
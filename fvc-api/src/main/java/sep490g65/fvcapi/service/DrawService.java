@@ -13,6 +13,7 @@ import sep490g65.fvcapi.enums.DrawType;
 import sep490g65.fvcapi.repository.AthleteRepository;
 import sep490g65.fvcapi.repository.DrawResultRepository;
 import sep490g65.fvcapi.repository.DrawSessionRepository;
+import sep490g65.fvcapi.service.impl.AthleteBulkUpdater;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -26,6 +27,7 @@ public class DrawService {
     private final DrawSessionRepository drawSessionRepository;
     private final DrawResultRepository drawResultRepository;
     private final AthleteRepository athleteRepository;
+    private final AthleteBulkUpdater athleteBulkUpdater;
 
     @Transactional
     public DrawResponse performDraw(DrawRequest request, String userId) {
@@ -155,34 +157,18 @@ public class DrawService {
     private void updateAthleteCompetitionOrders(List<DrawResult> drawResults) {
         log.info("🎲 [Draw Service] Persisting draw seed numbers for {} athletes", drawResults.size());
 
-        int successCount = 0;
-        int failCount = 0;
-
+        // One UPDATE for the whole draw instead of a load and save per athlete
+        Map<String, Integer> seedByAthleteId = new LinkedHashMap<>();
         for (DrawResult result : drawResults) {
-            try {
-                Optional<Athlete> athleteOpt = athleteRepository.findById(UUID.fromString(result.getAthleteId()));
-                if (athleteOpt.isPresent()) {
-                    Athlete athlete = athleteOpt.get();
-                    Integer oldSeed = athlete.getDrawSeedNumber();
-                    athlete.setDrawSeedNumber(result.getSeedNumber());
-                    athleteRepository.save(athlete);
-
-                    log.debug("✅ [Draw Service] Updated athlete: {} (ID: {}), Old seed: {}, New seed: {}",
-                            athlete.getFullName(), result.getAthleteId(), oldSeed, result.getSeedNumber());
-                    successCount++;
-                } else {
-                    log.warn("⚠️ [Draw Service] Athlete not found for ID: {}", result.getAthleteId());
-                    failCount++;
-                }
-            } catch (Exception e) {
-                log.error("❌ [Draw Service] Failed to update athlete: {}, error: {}",
-                        result.getAthleteId(), e.getMessage(), e);
-                failCount++;
-            }
+            seedByAthleteId.put(result.getAthleteId(), result.getSeedNumber());
+        }
+        AthleteBulkUpdater.Result result = athleteBulkUpdater.apply(AthleteBulkUpdater.Column.DRAW_SEED_NUMBER, seedByAthleteId);
+        if (!result.notFound().isEmpty()) {
+            log.warn("⚠️ [Draw Service] Athletes not found for IDs: {}", result.notFound());
         }
 
         log.info("🎲 [Draw Service] Completed persisting seeds - Success: {}, Failed: {}, Total: {}",
-                successCount, failCount, drawResults.size());
+                result.updated(), result.notFound().size(), drawResults.size());
     }
 
     private DrawResponse buildDrawResponse(DrawSession drawSession, List<DrawResult> drawResults) {
@@ -0,0 +1,28 @@
+package sep490g65.fvcapi.service;
+
+/**
+ * Queues emails in the email_outbox table, in the caller's transaction.
+ * Emails are sent by EmailOutboxDispatcher after that transaction commits; nothing is sent if it rolls back.
+ */
+public interface EmailOutboxService {
+
+    /**
+     * Queue the credentials of a newly created account
+     */
+    void enqueueNewAccountPassword(String toEmail, String toName, String password, String loginUrl);
+
+    /**
+     * Queue the confirmation of an approved tournament registration
+     */
+    void enqueueRegistrationApproved(
+            String toEmail,
+            String fullName,
+            String studentId,
+            String club,
+            String gender,
+            String tournamentName,
+            String competitionType,
+            String category,
+            boolean isTeam,
+            String teamName);
+}
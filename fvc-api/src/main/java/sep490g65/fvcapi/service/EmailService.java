@@ -1,6 +1,9 @@
 package sep490g65.fvcapi.service;
 
 import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.mail.javamail.JavaMailSender;
@@ -9,57 +12,71 @@ import org.springframework.stereotype.Service;
 import org.thymeleaf.context.Context;
 import org.thymeleaf.spring6.SpringTemplateEngine;
 
-
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import sep490g65.fvcapi.enums.EmailTemplate;
+
+/**
+ * Renders and sends emails. Application code queues emails through EmailOutboxService;
+ * EmailOutboxDispatcher uses render/sendAll to deliver them.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class EmailService {
+    // Template variables stored encrypted while an email waits in the outbox
+    public static final Set<String> SECRET_VARIABLES = Set.of("password");
+
     private final JavaMailSender javaMailSender;
 
     private final SpringTemplateEngine templateEngine;
 
     @Value("${spring.mail.username:}")
     private String from;
-    
-    public void sendNewAccountPassword(String toEmail, String toName, String password, String loginUrl) {
-        try {
-            // Check if mail is configured
-            if (from == null || from.isEmpty()) {
-                log.warn("Mail not configured. Skipping email send to {}", toEmail);
-                return;
-            }
-            
-            MimeMessage message = javaMailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, StandardCharsets.UTF_8.name());
 
-            // load template email with password
-            Context context = new Context();
-            context.setVariable("name", toName);
-            context.setVariable("email", toEmail);
-            context.setVariable("password", password);
-            context.setVariable("loginUrl", loginUrl != null ? loginUrl : "#");
-            String html = templateEngine.process("new-account-password", context);
+    public boolean isConfigured() {
+        return from != null && !from.isEmpty();
+    }
+
+    /**
+     * Render a template into a ready-to-send message.
+     * Compiled templates are cached by the template engine (spring.thymeleaf.cache).
+     */
+    public MimeMessage render(EmailTemplate template, String toEmail, Map<String, Object> variables) throws MessagingException {
+        MimeMessage message = javaMailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, StandardCharsets.UTF_8.name());
+
+        Context context = new Context();
+        context.setVariables(variables);
+        String html = templateEngine.process(template.getTemplateName(), context);
 
-            // send email
-            helper.setFrom(from);
-            helper.setTo(toEmail);
-            helper.setSubject("Tài khoản mới - FPTU Vovinam Club");
-            helper.setText(html, true);
-            javaMailSender.send(message);
-            
-            log.info("Sent new account password email to {}", toEmail);
-        } catch (MessagingException e) {
-            log.error("Error when sending new account password email to {}: ", toEmail, e);
-        } catch (Exception e) {
-            log.error("Unexpected error when sending email to {}: ", toEmail, e);
-        }
+        helper.setFrom(from);
+        helper.setTo(toEmail);
+        helper.setSubject(template.getSubject());
+        helper.setText(html, true);
+        return message;
+    }
+
+    /**
+     * Send messages over a single SMTP connection.
+     * Throws MailSendException listing the failed messages; the others were sent.
+     */
+    public void sendAll(MimeMessage... messages) {
+        javaMailSender.send(messages);
     }
     
-    public void sendRegistrationApproved(
+    public static Map<String, Object> newAccountPasswordVariables(String toEmail, String toName, String password, String loginUrl) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("name", toName);
+        variables.put("email", toEmail);
+        variables.put("password", password);
+        variables.put("loginUrl", loginUrl != null ? loginUrl : "#");
+        return variables;
+    }
+
+    public static Map<String, Object> registrationApprovedVariables(
             String toEmail,
             String fullName,
             String studentId,
@@ -71,42 +88,17 @@ public class EmailService {
             boolean isTeam,
             String teamName
     ) {
-        try {
-            // Check if mail is configured
-            if (from == null || from.isEmpty()) {
-                log.warn("Mail not configured. Skipping email send to {}", toEmail);
-                return;
-            }
-            
-            MimeMessage message = javaMailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, StandardCharsets.UTF_8.name());
-
-            // load template email for registration approval
-            Context context = new Context();
-            context.setVariable("fullName", fullName);
-            context.setVariable("email", toEmail);
-            context.setVariable("studentId", studentId);
-            context.setVariable("club", club);
-            context.setVariable("gender", gender);
-            context.setVariable("tournamentName", tournamentName);
-            context.setVariable("competitionType", competitionType);
-            context.setVariable("category", category);
-            context.setVariable("isTeam", isTeam);
-            context.setVariable("teamName", teamName);
-            String html = templateEngine.process("registration-approved", context);
-
-            // send email
-            helper.setFrom(from);
-            helper.setTo(toEmail);
-            helper.setSubject("Đăng ký tham gia giải đấu đã được duyệt - FPTU Vovinam Club");
-            helper.setText(html, true);
-            javaMailSender.send(message);
-            
-            log.info("Sent registration approval email to {}", toEmail);
-        } catch (MessagingException e) {
-            log.error("Error when sending registration approval email to {}: ", toEmail, e);
-        } catch (Exception e) {
-            log.error("Unexpected error when sending email to {}: ", toEmail, e);
-        }
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("fullName", fullName);
+        variables.put("email", toEmail);
+        variables.put("studentId", studentId);
+        variables.put("club", club);
+        variables.put("gender", gender);
+        variables.put("tournamentName", tournamentName);
+        variables.put("competitionType", competitionType);
+        variables.put("category", category);
+        variables.put("isTeam", isTeam);
+        variables.put("teamName", teamName);
+        return variables;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,27 @@
+package sep490g65.fvcapi.service;
+
+import org.springframework.data.jpa.domain.Specification;
+import sep490g65.fvcapi.entity.Athlete;
+import sep490g65.fvcapi.enums.ApplicationFormStatus;
+import sep490g65.fvcapi.enums.ApplicationFormType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Streamed CSV exports: rows are read through a database cursor and written to the output as they arrive,
+ * so memory use does not grow with the number of rows.
+ */
+public interface ExportService {
+
+    /**
+     * Submissions matching the filters (null disables a filter), one column per top-level form_data key
+     */
+    void writeSubmissionsCsv(String formId, ApplicationFormType formType, ApplicationFormStatus status,
+                             OutputStream out) throws IOException;
+
+    /**
+     * Athletes matching the filters of AthleteService.filterSpec, with resolved labels and team info
+     */
+    void writeAthletesCsv(Specification<Athlete> spec, OutputStream out) throws IOException;
+}
@@ -3,6 +3,7 @@ package sep490g65.fvcapi.service;
 import sep490g65.fvcapi.dto.request.ControlMatchRequest;
 import sep490g65.fvcapi.dto.request.CreateMatchRequest;
 import sep490g65.fvcapi.dto.request.RecordScoreEventRequest;
+import sep490g65.fvcapi.dto.response.BulkCreateMatchesResponse;
 import sep490g65.fvcapi.dto.response.MatchEventDto;
 import sep490g65.fvcapi.dto.response.MatchListItemDto;
 import sep490g65.fvcapi.dto.response.MatchRoundDto;
@@ -18,9 +19,9 @@ public interface MatchService {
     MatchScoreboardDto createMatch(CreateMatchRequest request, String userId);
     
     /**
-     * Bulk create matches
+     * Bulk create matches in one transaction. Invalid rows are reported in the response, the others are created.
      */
-    List<MatchScoreboardDto> bulkCreateMatches(List<CreateMatchRequest> requests, String userId);
+    BulkCreateMatchesResponse bulkCreateMatches(List<CreateMatchRequest> requests, String userId);
     
     /**
      * List all matches (optionally filtered by competition or status)
@@ -52,6 +53,11 @@ public interface MatchService {
      */
     void undoLastEvent(String matchId);
     
+    /**
+     * Rebuild live scoreboard of a match from its full event history
+     */
+    MatchScoreboardDto rebuildScoreboard(String matchId);
+    
     /**
      * Update round duration for a match
      */
@@ -0,0 +1,27 @@
+package sep490g65.fvcapi.service;
+
+import sep490g65.fvcapi.dto.request.CreateSubmissionRequest;
+import sep490g65.fvcapi.dto.request.SubmitApplicationFormRequest;
+import sep490g65.fvcapi.dto.response.SubmissionReceiptResponse;
+
+/**
+ * Admission of public form submissions: requests are stored as received and answered with a receipt,
+ * then processed in the background (see SubmissionIntakeWorker).
+ */
+public interface SubmissionIntakeService {
+
+    /**
+     * Queue a tournament form registration
+     */
+    SubmissionReceiptResponse acceptTournamentSubmission(String formId, CreateSubmissionRequest request);
+
+    /**
+     * Queue a club application form submission
+     */
+    SubmissionReceiptResponse acceptApplicationSubmission(SubmitApplicationFormRequest request);
+
+    /**
+     * Current state of a queued submission
+     */
+    SubmissionReceiptResponse getReceipt(String intakeId);
+}
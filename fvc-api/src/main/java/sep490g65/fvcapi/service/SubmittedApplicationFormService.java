@@ -2,7 +2,11 @@ package sep490g65.fvcapi.service;
 
 import org.springframework.transaction.annotation.Transactional;
 import sep490g65.fvcapi.dto.request.RequestParam;
+import sep490g65.fvcapi.dto.request.SubmissionCursorRequest;
+import sep490g65.fvcapi.dto.response.CursorPageResponse;
+import sep490g65.fvcapi.dto.response.SubmissionSummaryResponse;
 import sep490g65.fvcapi.dto.request.SubmitApplicationFormRequest;
+import sep490g65.fvcapi.dto.response.BulkUpdateStatusResponse;
 import sep490g65.fvcapi.dto.response.PaginationResponse;
 import sep490g65.fvcapi.dto.response.SubmittedApplicationFormResponse;
 import sep490g65.fvcapi.enums.ApplicationFormType;
@@ -12,6 +16,8 @@ public interface SubmittedApplicationFormService {
 
     @Transactional(readOnly = true)
     PaginationResponse<SubmittedApplicationFormResponse> list(RequestParam params, ApplicationFormType type);
+
+    CursorPageResponse<SubmissionSummaryResponse> listByCursor(SubmissionCursorRequest request, ApplicationFormType type);
     
     @Transactional
     SubmittedApplicationFormResponse submit(SubmitApplicationFormRequest request) throws com.fasterxml.jackson.core.JsonProcessingException;
@@ -19,8 +25,8 @@ public interface SubmittedApplicationFormService {
     @Transactional
     void updateStatus(Long id, ApplicationFormStatus status);
     
-    // Bulk update with async processing
-    void bulkUpdateStatus(java.util.List<Long> ids, ApplicationFormStatus status);
+    // Bulk update in chunks, one transaction per chunk; reports the result of each id
+    BulkUpdateStatusResponse bulkUpdateStatus(java.util.List<Long> ids, ApplicationFormStatus status);
 }
 
 
@@ -1,6 +1,9 @@
 package sep490g65.fvcapi.service;
 
 import sep490g65.fvcapi.dto.request.RequestParam;
+import sep490g65.fvcapi.dto.request.SubmissionCursorRequest;
+import sep490g65.fvcapi.dto.response.CursorPageResponse;
+import sep490g65.fvcapi.dto.response.SubmissionSummaryResponse;
 import sep490g65.fvcapi.dto.response.PaginationResponse;
 import sep490g65.fvcapi.dto.response.TournamentFormResponse;
 import sep490g65.fvcapi.enums.FormStatus;
@@ -9,6 +12,7 @@ import sep490g65.fvcapi.dto.request.CreateFormRequest;
 import sep490g65.fvcapi.dto.request.UpdateFormRequest;
 import sep490g65.fvcapi.dto.response.FormDetailResponse;
 import sep490g65.fvcapi.dto.request.CreateSubmissionRequest;
+import sep490g65.fvcapi.dto.response.BulkUpdateStatusResponse;
 
 public interface TournamentFormService {
     PaginationResponse<TournamentFormResponse> list(RequestParam params);
@@ -17,8 +21,18 @@ public interface TournamentFormService {
     FormDetailResponse update(String id, UpdateFormRequest request);
     void updateStatus(String id, FormStatus status);
     PaginationResponse<SubmittedFormResponse> listSubmissions(String formId, RequestParam params);
+
+    CursorPageResponse<SubmissionSummaryResponse> listSubmissionsByCursor(String formId, SubmissionCursorRequest request);
     void updateSubmissionStatus(Long submissionId, sep490g65.fvcapi.enums.ApplicationFormStatus status);
-    void submit(String formId, CreateSubmissionRequest request);
+    /**
+     * Update the status of many submissions. Approval side-effects (athletes, competition roles, team approval,
+     * emails) are applied set-based for submissions that were not approved yet.
+     */
+    BulkUpdateStatusResponse bulkUpdateSubmissionStatus(java.util.List<Long> submissionIds, sep490g65.fvcapi.enums.ApplicationFormStatus status);
+    /**
+     * Validate, enrich and persist a tournament registration. Returns the submission id.
+     */
+    Long submit(String formId, CreateSubmissionRequest request);
 }
 
 
@@ -21,10 +21,10 @@ public class UserDetailsServiceImpl implements UserDetailsService {
     private final UserRepository userRepository;
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         final String normalizedEmail = email == null ? null : email.trim();
-        log.info("[UserDetailsService] Load by email: {}", normalizedEmail);
+        log.debug("[UserDetailsService] Load by email: {}", normalizedEmail);
 
         // Only personal mail is allowed as username
         java.util.List<User> users = userRepository.findAllByPersonalMailIgnoreCase(normalizedEmail);
@@ -34,7 +34,7 @@ public class UserDetailsServiceImpl implements UserDetailsService {
         
         User user = users.get(0); // Get first user if duplicates exist
 
-        log.info("[UserDetailsService] Found user {}, role={}, hash_present={}",
+        log.debug("[UserDetailsService] Found user {}, role={}, hash_present={}",
                 user.getId(), user.getSystemRole(), user.getHashPassword() != null);
 
         return org.springframework.security.core.userdetails.User.builder()
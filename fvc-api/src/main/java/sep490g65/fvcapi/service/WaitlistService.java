@@ -3,13 +3,23 @@ package sep490g65.fvcapi.service;
 import org.springframework.transaction.annotation.Transactional;
 import sep490g65.fvcapi.dto.request.AddToWaitlistRequest;
 import sep490g65.fvcapi.dto.response.BaseResponse;
+import sep490g65.fvcapi.dto.response.WaitlistPromotionResponse;
 
 public interface WaitlistService {
 
     @Transactional
     BaseResponse<Void> addToWaitlist(AddToWaitlistRequest request);
 
-    @Transactional
+    /**
+     * Promote the waitlist of a form in the calling thread; returns the number of submissions created
+     */
     int processWaitlistForForm(String formId);
+
+    /**
+     * Promote the waitlist of a form in the background (after commit when called in a transaction)
+     */
+    WaitlistPromotionResponse startPromotion(String formId);
+
+    WaitlistPromotionResponse getPromotion(String formId);
 }
 
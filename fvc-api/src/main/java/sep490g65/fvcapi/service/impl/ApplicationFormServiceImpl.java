@@ -6,7 +6,6 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import sep490g65.fvcapi.dto.request.CreateApplicationFormConfigRequest;
@@ -40,6 +39,7 @@ public class ApplicationFormServiceImpl implements ApplicationFormService {
 
     private final ApplicationFormConfigRepository applicationFormConfigRepository;
     private final sep490g65.fvcapi.service.WaitlistService waitlistService;
+    private final sep490g65.fvcapi.service.FormDataValidationService formDataValidationService;
 
     @Override
     @Transactional(readOnly = true)
@@ -97,6 +97,7 @@ public class ApplicationFormServiceImpl implements ApplicationFormService {
                 .formType(request.getFormType())
                 .status(request.getStatus() != null ? request.getStatus() : FormStatus.DRAFT)
                 .endDate(request.getEndDate())
+                .maxSubmissions(request.getMaxSubmissions())
                 .build();
 
         if (request.getFields() != null) {
@@ -156,6 +157,7 @@ public class ApplicationFormServiceImpl implements ApplicationFormService {
         config.setName(request.getName());
         config.setDescription(request.getDescription());
         config.setEndDate(request.getEndDate());
+        config.setMaxSubmissions(request.getMaxSubmissions());
         if (request.getStatus() != null) {
             config.setStatus(request.getStatus());
         }
@@ -185,14 +187,16 @@ public class ApplicationFormServiceImpl implements ApplicationFormService {
         }
 
         ApplicationFormConfig savedConfig = applicationFormConfigRepository.save(config);
+        formDataValidationService.invalidate(savedConfig.getId());
         
         // Process waitlist if form is being republished
         if (isRepublishing) {
             try {
-                int processedCount = waitlistService.processWaitlistForForm(savedConfig.getId());
-                log.info("✅ [Republish Form] Processed {} waitlist entries for form: {}", processedCount, savedConfig.getId());
+                // Promoted in the background once the form is committed (GET /waitlist/forms/{id}/promotion)
+                waitlistService.startPromotion(savedConfig.getId());
+                log.info("✅ [Republish Form] Waitlist promotion scheduled for form: {}", savedConfig.getId());
             } catch (Exception e) {
-                log.error("❌ [Republish Form] Error processing waitlist for form: {}", savedConfig.getId(), e);
+                log.error("❌ [Republish Form] Error scheduling waitlist promotion for form: {}", savedConfig.getId(), e);
                 // Don't fail the publish operation if waitlist processing fails
             }
         }
@@ -220,6 +224,7 @@ public class ApplicationFormServiceImpl implements ApplicationFormService {
         config.setName(request.getName());
         config.setDescription(request.getDescription());
         config.setEndDate(request.getEndDate());
+        config.setMaxSubmissions(request.getMaxSubmissions());
         if (request.getStatus() != null) {
             config.setStatus(request.getStatus());
         }
@@ -249,14 +254,16 @@ public class ApplicationFormServiceImpl implements ApplicationFormService {
         }
 
         ApplicationFormConfig savedConfig = applicationFormConfigRepository.save(config);
+        formDataValidationService.invalidate(savedConfig.getId());
         
         // Process waitlist if form is being republished
         if (isRepublishing) {
             try {
-                int processedCount = waitlistService.processWaitlistForForm(savedConfig.getId());
-                log.info("✅ [Republish Form] Processed {} waitlist entries for form: {}", processedCount, savedConfig.getId());
+                // Promoted in the background once the form is committed (GET /waitlist/forms/{id}/promotion)
+                waitlistService.startPromotion(savedConfig.getId());
+                log.info("✅ [Republish Form] Waitlist promotion scheduled for form: {}", savedConfig.getId());
             } catch (Exception e) {
-                log.error("❌ [Republish Form] Error processing waitlist for form: {}", savedConfig.getId(), e);
+                log.error("❌ [Republish Form] Error scheduling waitlist promotion for form: {}", savedConfig.getId(), e);
                 // Don't fail the publish operation if waitlist processing fails
             }
         }
@@ -395,6 +402,7 @@ public class ApplicationFormServiceImpl implements ApplicationFormService {
                 .formType(config.getFormType())
                 .fields(fieldResponses)
                 .endDate(config.getEndDate())
+                .maxSubmissions(config.getMaxSubmissions())
                 .status(config.getStatus())
                 .createdAt(config.getCreatedAt())
                 .updatedAt(config.getUpdatedAt())
@@ -440,7 +448,7 @@ public class ApplicationFormServiceImpl implements ApplicationFormService {
         return candidate;
     }
 
-    @Scheduled(fixedRate = 300000) // Run every 5 minutes
+    @Override
     @Transactional
     public void autoUnpublishExpiredForms() {
         LocalDateTime now = LocalDateTime.now();
@@ -2,185 +2,170 @@ package sep490g65.fvcapi.service.impl;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import sep490g65.fvcapi.dto.request.AssessorVoteRequest;
 import sep490g65.fvcapi.dto.response.AssessorVoteResponse;
-import sep490g65.fvcapi.entity.Match;
-import sep490g65.fvcapi.entity.MatchAssessor;
-import sep490g65.fvcapi.enums.Corner;
 import sep490g65.fvcapi.exception.custom.BusinessException;
 import sep490g65.fvcapi.exception.custom.ResourceNotFoundException;
 import sep490g65.fvcapi.repository.MatchAssessorRepository;
 import sep490g65.fvcapi.repository.MatchRepository;
 import sep490g65.fvcapi.service.AssessorVotingService;
 
-import java.util.*;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
 
 /**
  * Service to manage assessor votes and determine if score should be accepted (3 out of 6 rule)
- * Uses in-memory storage for active votes - votes reset when match action changes
+ * Uses one in-memory MatchVoteBoard per match - votes reset when match action changes
+ * and expire after the configured voting window. Each consensus window is accepted at most once.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class AssessorVotingServiceImpl implements AssessorVotingService {
 
+    private static final int CONSENSUS_VOTES = 3;
+
     private final MatchRepository matchRepository;
     private final MatchAssessorRepository matchAssessorRepository;
-    
-    // In-memory storage: matchId -> (assessorId -> vote)
-    // Vote is a map: {corner: RED/BLUE, score: 1/2}
-    private final Map<String, Map<String, Map<String, Object>>> activeVotes = new ConcurrentHashMap<>();
-    
-    // Track last action timestamp per match to auto-reset votes
-    private final Map<String, Long> lastActionTime = new ConcurrentHashMap<>();
+
+    // Key: matchId, Value: live votes and cached assessor roster of the match
+    private final Map<String, MatchVoteBoard> voteBoards = new ConcurrentHashMap<>();
+
+    // Votes older than this never count towards consensus
+    @Value("${app.match.voting.window-ms:3000}")
+    private long voteWindowMs;
 
     @Override
     public AssessorVoteResponse processVote(AssessorVoteRequest request) {
-        log.info("Processing vote: matchId={}, assessorId={}, corner={}, score={}", 
+        log.debug("Processing vote: matchId={}, assessorId={}, corner={}, score={}",
                 request.getMatchId(), request.getAssessorId(), request.getCorner(), request.getScore());
 
-        // Validate match exists and is active
-        Match match = matchRepository.findById(request.getMatchId())
-                .orElseThrow(() -> new ResourceNotFoundException("Match not found: " + request.getMatchId()));
-
-        // Validate assessor exists and is assigned to this match
-        // request.getAssessorId() is the MatchAssessor ID (not userId)
-        MatchAssessor assessor = matchAssessorRepository.findById(request.getAssessorId())
-                .orElseThrow(() -> new ResourceNotFoundException(
-                        "Assessor not found or not assigned to this match"));
-        
-        // Verify the assessor belongs to this match
-        if (!assessor.getMatch().getId().equals(request.getMatchId())) {
-            throw new BusinessException(
-                    "Assessor does not belong to this match",
-                    "ASSESSOR_MATCH_MISMATCH");
+        if (request.getScore() > MatchVoteBoard.MAX_SCORE) {
+            throw new BusinessException("Score must be 1 or 2", "INVALID_SCORE");
         }
 
-        // Get all assessors for this match
-        List<MatchAssessor> matchAssessors = matchAssessorRepository.findByMatchIdOrderByPositionAsc(
-                request.getMatchId());
-
-        // Initialize vote storage for this match if not exists
-        activeVotes.putIfAbsent(request.getMatchId(), new ConcurrentHashMap<>());
-
-        // Store the vote
-        Map<String, Object> vote = new HashMap<>();
-        vote.put("corner", request.getCorner().name());
-        vote.put("score", request.getScore());
-        vote.put("assessorId", request.getAssessorId());
-        vote.put("assessorPosition", assessor.getPosition());
-        
-        activeVotes.get(request.getMatchId()).put(request.getAssessorId(), vote);
-        lastActionTime.put(request.getMatchId(), System.currentTimeMillis());
-
-        // Check voting consensus
-        return checkVotingConsensus(request.getMatchId(), request.getCorner(), request.getScore());
+        MatchVoteBoard board = voteBoards.computeIfAbsent(request.getMatchId(), k -> new MatchVoteBoard());
+        int position = resolvePosition(board, request.getMatchId(), request.getAssessorId());
+
+        long now = System.currentTimeMillis();
+        board.expire(now, voteWindowMs);
+        long epoch = board.epoch();
+        int code = MatchVoteBoard.pack(request.getCorner(), request.getScore());
+        int voteCount = board.vote(position, code, now);
+
+        if (voteCount < CONSENSUS_VOTES) {
+            return buildResponse(request.getMatchId(), board, code, voteCount, epoch);
+        }
+
+        // Voters must be read before claim() clears the window
+        AssessorVoteResponse response = buildResponse(request.getMatchId(), board, code, voteCount, epoch);
+        if (!board.claim(epoch)) {
+            log.info("Consensus of window {} for match {} already applied, rejecting vote of assessor {}",
+                    epoch, request.getMatchId(), request.getAssessorId());
+            response.setScoreAccepted(false);
+            response.setDuplicateRejected(true);
+        }
+        return response;
     }
 
     @Override
     public AssessorVoteResponse getVotingStatus(String matchId) {
-        if (!activeVotes.containsKey(matchId)) {
-            return buildEmptyResponse(matchId);
+        MatchVoteBoard board = voteBoards.computeIfAbsent(matchId, k -> new MatchVoteBoard());
+        rosterOf(board, matchId);
+        board.expire(System.currentTimeMillis(), voteWindowMs);
+
+        int code = board.leadingCode();
+        if (code == 0) {
+            return buildEmptyResponse(matchId, board);
         }
+        return buildResponse(matchId, board, code, board.count(code), board.epoch());
+    }
 
-        Map<String, Map<String, Object>> votes = activeVotes.get(matchId);
-        
-        // Group votes by corner and score
-        Map<String, Long> voteGroups = votes.values().stream()
-                .collect(Collectors.groupingBy(
-                        v -> v.get("corner") + "_" + v.get("score"),
-                        Collectors.counting()
-                ));
-
-        // Find the most voted combination
-        if (voteGroups.isEmpty()) {
-            return buildEmptyResponse(matchId);
+    @Override
+    public void resetVotes(String matchId) {
+        log.info("Resetting votes for match {}", matchId);
+        MatchVoteBoard board = voteBoards.get(matchId);
+        if (board != null) {
+            board.nextWindow();
         }
+    }
 
-        String maxVoteKey = voteGroups.entrySet().stream()
-                .max(Map.Entry.comparingByValue())
-                .map(Map.Entry::getKey)
-                .orElse(null);
+    @Override
+    public void invalidateRoster(String matchId) {
+        MatchVoteBoard board = voteBoards.get(matchId);
+        if (board != null) {
+            board.nextWindow();
+            board.setRoster(null);
+        }
+    }
 
-        if (maxVoteKey == null) {
-            return buildEmptyResponse(matchId);
+    /**
+     * Position of the assessor in the match. The roster is reloaded once when the assessor is unknown,
+     * in case assignments changed after it was cached.
+     */
+    private int resolvePosition(MatchVoteBoard board, String matchId, String assessorId) {
+        Integer position = rosterOf(board, matchId).positionOf(assessorId);
+        if (position == null) {
+            position = loadRoster(board, matchId).positionOf(assessorId);
         }
+        if (position == null) {
+            // request.getAssessorId() is the MatchAssessor ID (not userId)
+            if (!matchAssessorRepository.existsById(assessorId)) {
+                throw new ResourceNotFoundException("Assessor not found or not assigned to this match");
+            }
+            throw new BusinessException(
+                    "Assessor does not belong to this match",
+                    "ASSESSOR_MATCH_MISMATCH");
+        }
+        return position;
+    }
 
-        String[] parts = maxVoteKey.split("_");
-        Corner corner = Corner.valueOf(parts[0]);
-        Integer score = Integer.parseInt(parts[1]);
-        Long voteCount = voteGroups.get(maxVoteKey);
+    private MatchVoteBoard.Roster rosterOf(MatchVoteBoard board, String matchId) {
+        MatchVoteBoard.Roster roster = board.getRoster();
+        return roster != null ? roster : loadRoster(board, matchId);
+    }
 
-        return checkVotingConsensus(matchId, corner, score);
+    private MatchVoteBoard.Roster loadRoster(MatchVoteBoard board, String matchId) {
+        MatchVoteBoard.Roster roster = new MatchVoteBoard.Roster(
+                matchAssessorRepository.findByMatchIdOrderByPositionAsc(matchId));
+        if (roster.size() == 0 && !matchRepository.existsById(matchId)) {
+            throw new ResourceNotFoundException("Match not found: " + matchId);
+        }
+        board.setRoster(roster);
+        return roster;
     }
 
-    private AssessorVoteResponse checkVotingConsensus(String matchId, Corner corner, Integer score) {
-        List<MatchAssessor> matchAssessors = matchAssessorRepository.findByMatchIdOrderByPositionAsc(matchId);
-        int totalAssessors = matchAssessors.size();
-
-        Map<String, Map<String, Object>> votes = activeVotes.getOrDefault(matchId, new HashMap<>());
-
-        // Count votes matching this corner and score
-        long matchingVotes = votes.values().stream()
-                .filter(v -> v.get("corner").equals(corner.name()) && 
-                           v.get("score").equals(score))
-                .count();
-
-        // Check if >= 3 out of 6 (or majority if less than 6)
-        boolean scoreAccepted = matchingVotes >= 3;
-
-        // Build votes map for response
-        Map<String, Integer> votesMap = votes.entrySet().stream()
-                .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        e -> {
-                            Map<String, Object> vote = e.getValue();
-                            if (vote.get("corner").equals(corner.name()) && 
-                                vote.get("score").equals(score)) {
-                                return (Integer) vote.get("score");
-                            }
-                            return null;
-                        }
-                ));
-        
-        // Remove null values
-        votesMap = votesMap.entrySet().stream()
-                .filter(e -> e.getValue() != null)
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-
-        log.info("Voting consensus check: matchId={}, corner={}, score={}, votes={}/{}, accepted={}", 
-                matchId, corner, score, matchingVotes, totalAssessors, scoreAccepted);
+    private AssessorVoteResponse buildResponse(String matchId, MatchVoteBoard board, int code, int voteCount, long epoch) {
+        int totalAssessors = board.getRoster() != null ? board.getRoster().size() : 0;
+        boolean scoreAccepted = voteCount >= CONSENSUS_VOTES;
+
+        log.debug("Voting consensus check: matchId={}, corner={}, score={}, votes={}/{}, accepted={}",
+                matchId, MatchVoteBoard.cornerOf(code), MatchVoteBoard.scoreOf(code),
+                voteCount, totalAssessors, scoreAccepted);
 
         return AssessorVoteResponse.builder()
                 .matchId(matchId)
-                .corner(corner)
-                .score(score)
-                .voteCount((int) matchingVotes)
+                .corner(MatchVoteBoard.cornerOf(code))
+                .score(MatchVoteBoard.scoreOf(code))
+                .voteCount(voteCount)
                 .totalAssessors(totalAssessors)
                 .scoreAccepted(scoreAccepted)
-                .votes(votesMap)
+                .votes(board.votersOf(code))
+                .consensusEpoch(epoch)
                 .build();
     }
 
-    private AssessorVoteResponse buildEmptyResponse(String matchId) {
-        List<MatchAssessor> matchAssessors = matchAssessorRepository.findByMatchIdOrderByPositionAsc(matchId);
+    private AssessorVoteResponse buildEmptyResponse(String matchId, MatchVoteBoard board) {
         return AssessorVoteResponse.builder()
                 .matchId(matchId)
                 .voteCount(0)
-                .totalAssessors(matchAssessors.size())
+                .totalAssessors(board.getRoster() != null ? board.getRoster().size() : 0)
                 .scoreAccepted(false)
                 .votes(new HashMap<>())
+                .consensusEpoch(board.epoch())
                 .build();
     }
-
-    @Override
-    public void resetVotes(String matchId) {
-        log.info("Resetting votes for match {}", matchId);
-        activeVotes.remove(matchId);
-        lastActionTime.remove(matchId);
-    }
 }
-
@@ -0,0 +1,138 @@
+package sep490g65.fvcapi.service.impl;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Writes one column of many athletes with a single UPDATE ... FROM (VALUES ...) per chunk instead of a
+ * load and save per athlete. Ids that are malformed or match no row are reported back as not found.
+ * Managed Athlete instances of the current persistence context are not refreshed (same as
+ * AthleteRepository.updateStatusByIdIn); callers write after they are done reading.
+ */
+@Component
+@RequiredArgsConstructor
+public class AthleteBulkUpdater {
+
+    // Two bind parameters per row, far below the PostgreSQL limit of 65535 per statement
+    static final int CHUNK_SIZE = 1000;
+
+    private final EntityManager entityManager;
+
+    public enum Column {
+        DRAW_SEED_NUMBER("draw_seed_number", "integer"),
+        STATUS("status", "varchar");
+
+        private final String columnName;
+        private final String sqlType;
+
+        Column(String columnName, String sqlType) {
+            this.columnName = columnName;
+            this.sqlType = sqlType;
+        }
+    }
+
+    public record Result(int updated, List<String> notFound) {
+    }
+
+    /**
+     * Set the same value on every athlete
+     */
+    public Result apply(Column column, Collection<String> athleteIds, Object value) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (String athleteId : athleteIds) {
+            values.put(athleteId, value);
+        }
+        return apply(column, values);
+    }
+
+    /**
+     * Set each athlete's value; enum values are stored by name
+     */
+    public Result apply(Column column, Map<String, ?> valueByAthleteId) {
+        List<String> notFound = new ArrayList<>();
+        Map<UUID, String> requested = parseIds(valueByAthleteId.keySet(), notFound);
+        List<UUID> ids = new ArrayList<>(requested.keySet());
+        Set<UUID> updated = new HashSet<>();
+        LocalDateTime now = LocalDateTime.now();
+
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            List<UUID> chunk = ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size()));
+            Query query = entityManager.createNativeQuery(updateSql(column, chunk.size()));
+            for (int i = 0; i < chunk.size(); i++) {
+                Object value = valueByAthleteId.get(requested.get(chunk.get(i)));
+                query.setParameter("id" + i, chunk.get(i));
+                query.setParameter("v" + i, value instanceof Enum<?> e ? e.name() : value);
+            }
+            query.setParameter("now", now);
+            for (Object id : query.getResultList()) {
+                updated.add(UUID.fromString(id.toString()));
+            }
+        }
+
+        for (UUID id : ids) {
+            if (!updated.contains(id)) {
+                notFound.add(requested.get(id));
+            }
+        }
+        return new Result(updated.size(), notFound);
+    }
+
+    /**
+     * Ids among athleteIds that are malformed or match no athlete, with one query per chunk
+     */
+    public List<String> findMissing(Collection<String> athleteIds) {
+        List<String> missing = new ArrayList<>();
+        Map<UUID, String> requested = parseIds(athleteIds, missing);
+        List<UUID> ids = new ArrayList<>(requested.keySet());
+        Set<UUID> existing = new HashSet<>();
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            existing.addAll(entityManager.createQuery("SELECT a.id FROM Athlete a WHERE a.id IN :ids", UUID.class)
+                    .setParameter("ids", ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size())))
+                    .getResultList());
+        }
+        for (UUID id : ids) {
+            if (!existing.contains(id)) {
+                missing.add(requested.get(id));
+            }
+        }
+        return missing;
+    }
+
+    static String updateSql(Column column, int rows) {
+        StringBuilder sql = new StringBuilder("UPDATE athletes a SET ")
+                .append(column.columnName).append(" = v.value, updated_at = :now FROM (VALUES ");
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append("(CAST(:id").append(i).append(" AS uuid), CAST(:v").append(i)
+                    .append(" AS ").append(column.sqlType).append("))");
+        }
+        return sql.append(") AS v(id, value) WHERE a.id = v.id RETURNING a.id").toString();
+    }
+
+    // Parsed id -> id as given (first occurrence wins for duplicates); malformed ids go to invalid
+    private static Map<UUID, String> parseIds(Collection<String> athleteIds, List<String> invalid) {
+        Map<UUID, String> parsed = new LinkedHashMap<>();
+        for (String athleteId : athleteIds) {
+            try {
+                parsed.putIfAbsent(UUID.fromString(athleteId.trim()), athleteId);
+            } catch (IllegalArgumentException | NullPointerException e) {
+                invalid.add(athleteId);
+            }
+        }
+        return parsed;
+    }
+}
@@ -2,10 +2,12 @@ package sep490g65.fvcapi.service.impl;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
 import sep490g65.fvcapi.dto.request.LoginRequest;
 import sep490g65.fvcapi.dto.request.RegisterRequest;
 import sep490g65.fvcapi.dto.response.LoginResponse;
@@ -13,6 +15,8 @@ import sep490g65.fvcapi.dto.response.RegisterResponse;
 import sep490g65.fvcapi.entity.User;
 import sep490g65.fvcapi.enums.SystemRole;
 import sep490g65.fvcapi.repository.UserRepository;
+import sep490g65.fvcapi.security.LoginAttemptThrottle;
+import sep490g65.fvcapi.security.OffloadingPasswordEncoder;
 import sep490g65.fvcapi.service.AuthService;
 import sep490g65.fvcapi.utils.JwtUtils;
 
@@ -26,6 +30,12 @@ public class AuthServiceImpl implements AuthService {
     private final UserRepository userRepository;
     private final JwtUtils jwtUtils;
     private final PasswordEncoder passwordEncoder;
+    private final OffloadingPasswordEncoder loginPasswordEncoder;
+    private final LoginAttemptThrottle loginAttemptThrottle;
+
+    // Re-encode hashes below app.security.password-encoder.strength on login (opt-in)
+    @Value("${app.security.password-encoder.upgrade-enabled:false}")
+    private boolean passwordUpgradeEnabled;
 
     @Override
     public LoginResponse login(LoginRequest request) {
@@ -53,6 +63,9 @@ public class AuthServiceImpl implements AuthService {
                 throw new BadCredentialsException("Password too long");
             }
 
+            // Per-account and per-IP attempt budget, checked before any hashing work
+            loginAttemptThrottle.acquire(normalizedEmail);
+
             // Find user by personal email only
             log.info("Step 1: Finding user by email: {}", request.getEmail());
             List<User> users = userRepository.findAllByPersonalMailIgnoreCase(request.getEmail().trim());
@@ -78,7 +91,7 @@ public class AuthServiceImpl implements AuthService {
 
             // Log hash visibility and compare with BCrypt
             log.info("Step 2: Comparing password for email={} (normalized: {}), hash_present={}", request.getEmail(), normalizedEmail, user.getHashPassword() != null);
-            boolean passwordMatches = passwordEncoder.matches(request.getPassword(), user.getHashPassword());
+            boolean passwordMatches = loginPasswordEncoder.matches(request.getPassword(), user.getHashPassword());
             log.info("Password match result: {}", passwordMatches);
             
             if (!passwordMatches) {
@@ -87,6 +100,7 @@ public class AuthServiceImpl implements AuthService {
             }
 
             log.info("Step 3: Password verified successfully");
+            rehashIfNeeded(user, request.getPassword());
 
 
             // Generate token for email (can be used for future JWT integration)
@@ -120,6 +134,10 @@ public class AuthServiceImpl implements AuthService {
             log.error("=== LOGIN FAILED - User Not Found ===");
             log.error("Login failed for email: {} - {}", request.getEmail(), e.getMessage());
             throw e;
+        } catch (ResponseStatusException e) {
+            // Throttled or hashing pool saturated: keep the 429 and its Retry-After
+            log.warn("Login rejected for email: {} - {}", request.getEmail(), e.getReason());
+            throw e;
         } catch (Exception e) {
             log.error("=== LOGIN FAILED - UNEXPECTED ERROR ===");
             log.error("Unexpected error during login for email: {}", request.getEmail(), e);
@@ -128,6 +146,23 @@ public class AuthServiceImpl implements AuthService {
         }
     }
 
+    /**
+     * Re-encode the password when its hash was made with an older strength (the raw password is only known here)
+     */
+    private void rehashIfNeeded(User user, String rawPassword) {
+        if (!passwordUpgradeEnabled || !loginPasswordEncoder.upgradeEncoding(user.getHashPassword())) {
+            return;
+        }
+        try {
+            user.setHashPassword(loginPasswordEncoder.encode(rawPassword));
+            userRepository.save(user);
+            log.info("Password hash upgraded for user: {}", user.getId());
+        } catch (RuntimeException e) {
+            // The login itself succeeded; the upgrade is retried on the next login
+            log.warn("Could not upgrade password hash for user {}: {}", user.getId(), e.getMessage());
+        }
+    }
+
     @Override
     public RegisterResponse register(RegisterRequest request) {
         log.info("Attempting registration for email: {}", request.getPersonalMail());
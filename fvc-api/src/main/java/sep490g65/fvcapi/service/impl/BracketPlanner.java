@@ -0,0 +1,219 @@
+package sep490g65.fvcapi.service.impl;
+
+import sep490g65.fvcapi.enums.BracketSeeding;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Places the athletes of a draw on a single-elimination bracket (no persistence).
+ * The bracket has the next power of two slots; the missing slots are byes, placed so that every
+ * first-round pair has at least one athlete and the byes go to the best seeds (standard seeding order).
+ * With club separation, athletes of the same club are swapped apart so they meet as late as possible;
+ * a swap only exchanges athletes of the same seeding tier and the same bye status, so seeding is kept.
+ */
+final class BracketPlanner {
+
+    // Passes of the club separation; each pass only applies improving swaps
+    private static final int MAX_SEPARATION_PASSES = 4;
+
+    private BracketPlanner() {
+    }
+
+    record Entry(String athleteId, String athleteName, String athleteClub, int seedNumber) {
+    }
+
+    /**
+     * slots[i] is the athlete at bracket position i, null for a bye; positions 2k and 2k+1 meet in round 1
+     */
+    record Plan(int size, int rounds, Entry[] slots) {
+    }
+
+    static Plan plan(List<Entry> entries, BracketSeeding seeding, boolean separateClubs) {
+        List<Entry> sorted = new ArrayList<>(entries);
+        sorted.sort(Comparator.comparingInt(Entry::seedNumber).thenComparing(Entry::athleteId));
+        int n = sorted.size();
+        int size = 1;
+        while (size < n) {
+            size <<= 1;
+        }
+        int rounds = Integer.numberOfTrailingZeros(size);
+
+        int[] rankAt = standardOrder(size);
+        Entry[] slots = new Entry[size];
+        int[] tier = new int[size];
+        int next = 0;
+        for (int slot = 0; slot < size; slot++) {
+            int rank = rankAt[slot];
+            if (rank > n) {
+                continue; // bye
+            }
+            if (seeding == BracketSeeding.SEQUENTIAL) {
+                slots[slot] = sorted.get(next++);
+            } else {
+                slots[slot] = sorted.get(rank - 1);
+                tier[slot] = Math.max(0, 31 - Integer.numberOfLeadingZeros(rank - 1));
+            }
+        }
+
+        if (separateClubs && rounds > 1) {
+            separateClubs(slots, tier, rounds);
+        }
+        return new Plan(size, rounds, slots);
+    }
+
+    /**
+     * Seed rank (1-based) at each position: 1 vs size, 2 vs size-1, ..., seeds 1 and 2 in opposite halves
+     */
+    static int[] standardOrder(int size) {
+        int[] order = {1};
+        while (order.length < size) {
+            int length = order.length * 2;
+            int[] expanded = new int[length];
+            for (int i = 0; i < order.length; i++) {
+                expanded[2 * i] = order[i];
+                expanded[2 * i + 1] = length + 1 - order[i];
+            }
+            order = expanded;
+        }
+        return order;
+    }
+
+    /**
+     * Round (1-based) in which the athletes at two positions would meet
+     */
+    static int meetingRound(int a, int b) {
+        return 32 - Integer.numberOfLeadingZeros(a ^ b);
+    }
+
+    /**
+     * Greedy local search over clubmate meetings: a meeting in round r costs 2^(rounds - r), so one
+     * first-round meeting outweighs any number of meetings in the final. Only the rounds a club can avoid
+     * count (a club of m athletes cannot avoid round r once fewer than m sub-brackets remain).
+     * Costs come from per-level block counts (clubmates in the block met at that level), so evaluating
+     * a swap is O(rounds).
+     */
+    private static void separateClubs(Entry[] slots, int[] tier, int rounds) {
+        int size = slots.length;
+        Map<String, Integer> clubIndex = new HashMap<>();
+        // Club of each position, -1 for byes and athletes without a club (they never conflict)
+        int[] club = new int[size];
+        for (int slot = 0; slot < size; slot++) {
+            String key = slots[slot] != null ? clubKey(slots[slot]) : "";
+            club[slot] = key.isEmpty() ? -1 : clubIndex.computeIfAbsent(key, k -> clubIndex.size());
+        }
+        int clubs = clubIndex.size();
+        if (clubs == 0) {
+            return;
+        }
+        int[] clubSize = new int[clubs];
+        for (int c : club) {
+            if (c >= 0) {
+                clubSize[c]++;
+            }
+        }
+        // avoidable[c]: levels (rounds - 1) over which the athletes of club c can all be kept apart
+        int[] avoidable = new int[clubs];
+        for (int c = 0; c < clubs; c++) {
+            while (avoidable[c] < rounds && (size >> (avoidable[c] + 1)) >= clubSize[c]) {
+                avoidable[c]++;
+            }
+        }
+
+        // counts[level][block * clubs + club]: athletes of club in block (blocks of 2^level positions)
+        int[][] counts = new int[rounds][];
+        for (int level = 0; level < rounds; level++) {
+            counts[level] = new int[(size >> level) * clubs];
+        }
+        for (int slot = 0; slot < size; slot++) {
+            if (club[slot] >= 0) {
+                move(counts, clubs, club[slot], -1, slot);
+            }
+        }
+
+        // Swap groups: same tier and same bye status
+        Map<Integer, List<Integer>> groups = new HashMap<>();
+        for (int slot = 0; slot < size; slot++) {
+            if (slots[slot] != null) {
+                int bye = slots[slot ^ 1] == null ? 1 : 0;
+                groups.computeIfAbsent(tier[slot] * 2 + bye, k -> new ArrayList<>()).add(slot);
+            }
+        }
+
+        boolean improved = true;
+        for (int pass = 0; pass < MAX_SEPARATION_PASSES && improved; pass++) {
+            improved = false;
+            for (int i = 0; i < size; i++) {
+                int a = club[i];
+                long current = a >= 0 ? cost(counts, clubs, avoidable, rounds, a, i, -1) : 0;
+                if (current == 0) {
+                    continue;
+                }
+                int bye = slots[i ^ 1] == null ? 1 : 0;
+                long best = 0;
+                int bestJ = -1;
+                for (int j : groups.get(tier[i] * 2 + bye)) {
+                    int b = club[j];
+                    if (j == i || b == a) {
+                        continue;
+                    }
+                    long before = current + (b >= 0 ? cost(counts, clubs, avoidable, rounds, b, j, -1) : 0);
+                    long after = cost(counts, clubs, avoidable, rounds, a, j, i) + (b >= 0 ? cost(counts, clubs, avoidable, rounds, b, i, j) : 0);
+                    if (after - before < best) {
+                        best = after - before;
+                        bestJ = j;
+                        if (-best >= current) {
+                            break; // removes every clubmate meeting of this athlete: good enough
+                        }
+                    }
+                }
+                if (bestJ >= 0) {
+                    int b = club[bestJ];
+                    move(counts, clubs, a, i, bestJ);
+                    if (b >= 0) {
+                        move(counts, clubs, b, bestJ, i);
+                    }
+                    Entry entry = slots[i];
+                    slots[i] = slots[bestJ];
+                    slots[bestJ] = entry;
+                    club[bestJ] = a;
+                    club[i] = b;
+                    improved = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Cost of an athlete of club at position, not counting a clubmate still recorded at position self (-1: none)
+     */
+    private static long cost(int[][] counts, int clubs, int[] avoidable, int rounds, int club, int position, int self) {
+        long cost = 0;
+        for (int level = 0; level < avoidable[club]; level++) {
+            int sibling = (position >> level) ^ 1;
+            int mates = counts[level][sibling * clubs + club];
+            if (self >= 0 && (self >> level) == sibling) {
+                mates--;
+            }
+            cost += (long) mates << (rounds - 1 - level);
+        }
+        return cost;
+    }
+
+    private static void move(int[][] counts, int clubs, int club, int from, int to) {
+        for (int level = 0; level < counts.length; level++) {
+            if (from >= 0) {
+                counts[level][(from >> level) * clubs + club]--;
+            }
+            counts[level][(to >> level) * clubs + club]++;
+        }
+    }
+
+    private static String clubKey(Entry entry) {
+        return entry.athleteClub() != null ? entry.athleteClub().trim().toLowerCase(Locale.ROOT) : "";
+    }
+}
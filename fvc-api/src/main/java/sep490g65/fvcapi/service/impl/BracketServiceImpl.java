@@ -0,0 +1,378 @@
+package sep490g65.fvcapi.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import sep490g65.fvcapi.constants.MessageConstants;
+import sep490g65.fvcapi.dto.request.GenerateBracketRequest;
+import sep490g65.fvcapi.dto.response.BracketResponse;
+import sep490g65.fvcapi.entity.Athlete;
+import sep490g65.fvcapi.entity.DrawResult;
+import sep490g65.fvcapi.entity.DrawSession;
+import sep490g65.fvcapi.entity.Match;
+import sep490g65.fvcapi.entity.MatchRound;
+import sep490g65.fvcapi.entity.MatchScoreboardSnapshot;
+import sep490g65.fvcapi.enums.BracketSeeding;
+import sep490g65.fvcapi.enums.Corner;
+import sep490g65.fvcapi.enums.ErrorCode;
+import sep490g65.fvcapi.enums.MatchStatus;
+import sep490g65.fvcapi.exception.custom.BusinessException;
+import sep490g65.fvcapi.exception.custom.ResourceNotFoundException;
+import sep490g65.fvcapi.repository.AthleteRepository;
+import sep490g65.fvcapi.repository.DrawResultRepository;
+import sep490g65.fvcapi.repository.DrawSessionRepository;
+import sep490g65.fvcapi.repository.MatchRepository;
+import sep490g65.fvcapi.repository.MatchRoundRepository;
+import sep490g65.fvcapi.repository.MatchScoreboardSnapshotRepository;
+import sep490g65.fvcapi.service.BracketService;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Single-elimination brackets from draw sessions. Positions come from BracketPlanner; all matches of the
+ * requested brackets (with their rounds and snapshots) are inserted in one flush, parents first so every
+ * match knows the id of the match its winner advances to. Only final draws get a bracket, and their
+ * rows are locked while it is generated so concurrent requests cannot create it twice.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BracketServiceImpl implements BracketService {
+
+    private final DrawSessionRepository drawSessionRepository;
+    private final DrawResultRepository drawResultRepository;
+    private final MatchRepository matchRepository;
+    private final MatchRoundRepository matchRoundRepository;
+    private final MatchScoreboardSnapshotRepository scoreboardSnapshotRepository;
+    private final AthleteRepository athleteRepository;
+    private final MatchScoreboardCache scoreboardCache;
+
+    /**
+     * Matches of one bracket: rounds[r - 1][k] is match k of round r, null for a first-round pair with a bye
+     */
+    private record Bracket(DrawSession session, BracketPlanner.Plan plan, int athleteCount, Match[][] rounds) {
+    }
+
+    @Override
+    @Transactional
+    public BracketResponse generateBracket(String drawSessionId, GenerateBracketRequest request, String userId) {
+        DrawSession session = drawSessionRepository.lockById(drawSessionId)
+                .orElseThrow(() -> new ResourceNotFoundException("DrawSession", "id", drawSessionId));
+        if (!Boolean.TRUE.equals(session.getIsFinal())) {
+            throw new BusinessException(
+                    String.format(MessageConstants.BRACKET_DRAW_NOT_FINAL, drawSessionId),
+                    ErrorCode.BRACKET_DRAW_NOT_FINAL.getCode());
+        }
+        if (matchRepository.existsByDrawSessionIdAndDeletedAtIsNull(drawSessionId)) {
+            throw new BusinessException(
+                    String.format(MessageConstants.BRACKET_ALREADY_GENERATED, drawSessionId),
+                    ErrorCode.BRACKET_ALREADY_GENERATED.getCode());
+        }
+        List<DrawResult> results = drawResultRepository.findByDrawSessionIdOrderBySeedNumber(drawSessionId);
+        if (results.size() < 2) {
+            throw new BusinessException(
+                    MessageConstants.BRACKET_NOT_ENOUGH_ATHLETES,
+                    ErrorCode.BRACKET_NOT_ENOUGH_ATHLETES.getCode());
+        }
+        return persist(List.of(build(session, results, options(request), userId))).get(0);
+    }
+
+    @Override
+    @Transactional
+    public List<BracketResponse> generateCompetitionBrackets(String competitionId, GenerateBracketRequest request, String userId) {
+        long startedAt = System.nanoTime();
+        // Lock before checking which brackets exist, so a concurrent generation waits and then skips them
+        List<DrawSession> locked = drawSessionRepository.lockFinalDrawSessions(competitionId);
+        Set<String> generated = new HashSet<>(matchRepository.findBracketDrawSessionIds(competitionId));
+        List<DrawSession> sessions = locked.stream()
+                .filter(session -> !generated.contains(session.getId()))
+                .toList();
+        if (sessions.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, List<DrawResult>> resultsBySession = drawResultRepository
+                .findByDrawSessionIdIn(sessions.stream().map(DrawSession::getId).toList())
+                .stream()
+                .collect(Collectors.groupingBy(DrawResult::getDrawSessionId));
+        GenerateBracketRequest options = options(request);
+        List<Bracket> brackets = new ArrayList<>(sessions.size());
+        for (DrawSession session : sessions) {
+            List<DrawResult> results = resultsBySession.getOrDefault(session.getId(), List.of());
+            if (results.size() < 2) {
+                log.info("Skipping bracket of draw session {} (weight class {}): {} athlete(s)",
+                        session.getId(), session.getWeightClassId(), results.size());
+                continue;
+            }
+            brackets.add(build(session, results, options, userId));
+        }
+
+        List<BracketResponse> responses = persist(brackets);
+        log.info("Generated {} brackets for competition {} ({} matches) in {} ms", responses.size(), competitionId,
+                responses.stream().mapToInt(response -> response.getMatches().size()).sum(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        return responses;
+    }
+
+    @Override
+    @Transactional
+    public void advanceWinner(Match match) {
+        if (match.getNextMatchId() == null || match.getNextMatchCorner() == null) {
+            return;
+        }
+        if (match.getWinnerCorner() == null) {
+            log.warn("Bracket match {} ended without a winner, nothing advanced to match {}",
+                    match.getId(), match.getNextMatchId());
+            return;
+        }
+        Match next = matchRepository.findByIdAndDeletedAtIsNull(match.getNextMatchId()).orElse(null);
+        if (next == null || next.getStatus() != MatchStatus.PENDING) {
+            log.warn("Cannot advance winner of match {}: next match {} is {}", match.getId(), match.getNextMatchId(),
+                    next != null ? next.getStatus() : "missing");
+            return;
+        }
+
+        boolean redWon = match.getWinnerCorner() == Corner.RED;
+        String athleteId = redWon ? match.getRedAthleteId() : match.getBlueAthleteId();
+        String athleteName = redWon ? match.getRedAthleteName() : match.getBlueAthleteName();
+        String athleteUnit = redWon ? match.getRedAthleteUnit() : match.getBlueAthleteUnit();
+        String sbtNumber = redWon ? match.getRedAthleteSbtNumber() : match.getBlueAthleteSbtNumber();
+        if (match.getNextMatchCorner() == Corner.RED) {
+            next.setRedAthleteId(athleteId);
+            next.setRedAthleteName(athleteName);
+            next.setRedAthleteUnit(athleteUnit);
+            next.setRedAthleteSbtNumber(sbtNumber);
+            next.setRedAthletePresent(false);
+        } else {
+            next.setBlueAthleteId(athleteId);
+            next.setBlueAthleteName(athleteName);
+            next.setBlueAthleteUnit(athleteUnit);
+            next.setBlueAthleteSbtNumber(sbtNumber);
+            next.setBlueAthletePresent(false);
+        }
+        matchRepository.save(next);
+        invalidateAfterCommit(next.getId());
+        log.info("Advanced {} (match {}) to match {} as {}", athleteName, match.getId(), next.getId(),
+                match.getNextMatchCorner());
+    }
+
+    // Readers must not rebuild the next match's scoreboard from the row before it is committed
+    private void invalidateAfterCommit(String matchId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            scoreboardCache.invalidate(matchId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                scoreboardCache.invalidate(matchId);
+            }
+        });
+    }
+
+    private static GenerateBracketRequest options(GenerateBracketRequest request) {
+        GenerateBracketRequest options = request != null ? request : GenerateBracketRequest.builder().build();
+        if (options.getSeeding() == null) {
+            options.setSeeding(BracketSeeding.STANDARD);
+        }
+        if (options.getSeparateClubs() == null) {
+            options.setSeparateClubs(true);
+        }
+        if (options.getTotalRounds() == null) {
+            options.setTotalRounds(3);
+        }
+        if (options.getRoundDurationSeconds() == null) {
+            options.setRoundDurationSeconds(120);
+        }
+        return options;
+    }
+
+    private Bracket build(DrawSession session, List<DrawResult> results, GenerateBracketRequest options, String userId) {
+        List<BracketPlanner.Entry> entries = results.stream()
+                .map(result -> new BracketPlanner.Entry(result.getAthleteId(), result.getAthleteName(),
+                        result.getAthleteClub(), result.getSeedNumber()))
+                .toList();
+        BracketPlanner.Plan plan = BracketPlanner.plan(entries, options.getSeeding(), options.getSeparateClubs());
+        BracketPlanner.Entry[] slots = plan.slots();
+
+        Match[][] rounds = new Match[plan.rounds()][];
+        for (int round = 1; round <= plan.rounds(); round++) {
+            rounds[round - 1] = new Match[plan.size() >> round];
+            for (int position = 0; position < rounds[round - 1].length; position++) {
+                if (round == 1 && (slots[2 * position] == null || slots[2 * position + 1] == null)) {
+                    continue; // bye
+                }
+                Match match = newMatch(session, round, position, plan.rounds(), options, userId);
+                if (round == 1) {
+                    assign(match, Corner.RED, slots[2 * position]);
+                    assign(match, Corner.BLUE, slots[2 * position + 1]);
+                }
+                rounds[round - 1][position] = match;
+            }
+        }
+        // Athletes with a bye start in round 2
+        for (int position = 0; position < rounds[0].length; position++) {
+            if (rounds[0][position] == null) {
+                BracketPlanner.Entry athlete = slots[2 * position] != null ? slots[2 * position] : slots[2 * position + 1];
+                assign(rounds[1][position / 2], cornerOf(position), athlete);
+            }
+        }
+        return new Bracket(session, plan, entries.size(), rounds);
+    }
+
+    private List<BracketResponse> persist(List<Bracket> brackets) {
+        int maxRounds = brackets.stream().mapToInt(bracket -> bracket.plan().rounds()).max().orElse(0);
+        List<Match> all = new ArrayList<>();
+        // Ids are generated on persist: save from the final down so next_match_id is known before each insert
+        for (int round = maxRounds; round >= 1; round--) {
+            List<Match> batch = new ArrayList<>();
+            for (Bracket bracket : brackets) {
+                Match[][] rounds = bracket.rounds();
+                if (round > rounds.length) {
+                    continue;
+                }
+                for (int position = 0; position < rounds[round - 1].length; position++) {
+                    Match match = rounds[round - 1][position];
+                    if (match == null) {
+                        continue;
+                    }
+                    if (round < rounds.length) {
+                        match.setNextMatchId(rounds[round][position / 2].getId());
+                        match.setNextMatchCorner(cornerOf(position));
+                    }
+                    batch.add(match);
+                }
+            }
+            matchRepository.saveAll(batch);
+            all.addAll(batch);
+        }
+
+        List<MatchRound> matchRounds = new ArrayList<>();
+        List<MatchScoreboardSnapshot> snapshots = new ArrayList<>(all.size());
+        for (Match match : all) {
+            matchRounds.addAll(MatchServiceImpl.buildRounds(match));
+            snapshots.add(MatchServiceImpl.buildInitialSnapshot(match));
+        }
+        matchRoundRepository.saveAll(matchRounds);
+        scoreboardSnapshotRepository.saveAll(snapshots);
+
+        // Athletes placed in a bracket are DONE, as with bulk-created matches
+        Set<UUID> athleteIds = new HashSet<>();
+        for (Bracket bracket : brackets) {
+            for (BracketPlanner.Entry entry : bracket.plan().slots()) {
+                if (entry != null) {
+                    parseAthleteId(entry.athleteId(), athleteIds);
+                }
+            }
+        }
+        if (!athleteIds.isEmpty()) {
+            athleteRepository.updateStatusByIdIn(athleteIds, Athlete.AthleteStatus.DONE, LocalDateTime.now());
+        }
+
+        return brackets.stream().map(BracketServiceImpl::toResponse).toList();
+    }
+
+    private static Match newMatch(DrawSession session, int round, int position, int rounds,
+                                  GenerateBracketRequest options, String userId) {
+        return Match.builder()
+                .competitionId(session.getCompetitionId())
+                .weightClassId(session.getWeightClassId())
+                .drawSessionId(session.getId())
+                .bracketRound(round)
+                .bracketPosition(position)
+                .roundType(roundName(round, rounds))
+                .status(MatchStatus.PENDING)
+                .currentRound(1)
+                .totalRounds(options.getTotalRounds())
+                .roundDurationSeconds(options.getRoundDurationSeconds()) // Keep for backward compatibility
+                .mainRoundDurationSeconds(options.getRoundDurationSeconds())
+                .tiebreakerDurationSeconds(60)
+                .createdBy(userId)
+                .build();
+    }
+
+    /**
+     * Same names as the bracket view: Chung kết, Bán kết, Tứ kết, otherwise Vòng n
+     */
+    static String roundName(int round, int rounds) {
+        return switch (rounds - round) {
+            case 0 -> "Chung kết";
+            case 1 -> "Bán kết";
+            case 2 -> "Tứ kết";
+            default -> "Vòng " + round;
+        };
+    }
+
+    private static Corner cornerOf(int position) {
+        return position % 2 == 0 ? Corner.RED : Corner.BLUE;
+    }
+
+    private static void assign(Match match, Corner corner, BracketPlanner.Entry athlete) {
+        if (corner == Corner.RED) {
+            match.setRedAthleteId(athlete.athleteId());
+            match.setRedAthleteName(athlete.athleteName());
+            match.setRedAthleteUnit(athlete.athleteClub());
+        } else {
+            match.setBlueAthleteId(athlete.athleteId());
+            match.setBlueAthleteName(athlete.athleteName());
+            match.setBlueAthleteUnit(athlete.athleteClub());
+        }
+    }
+
+    private static void parseAthleteId(String athleteId, Set<UUID> into) {
+        if (athleteId == null) {
+            return;
+        }
+        try {
+            into.add(UUID.fromString(athleteId));
+        } catch (IllegalArgumentException e) {
+            // Manual draws may carry ids that are not athletes
+        }
+    }
+
+    private static BracketResponse toResponse(Bracket bracket) {
+        List<BracketResponse.BracketMatch> matches = new ArrayList<>();
+        for (Match[] round : bracket.rounds()) {
+            for (Match match : round) {
+                if (match != null) {
+                    matches.add(BracketResponse.BracketMatch.builder()
+                            .matchId(match.getId())
+                            .bracketRound(match.getBracketRound())
+                            .bracketPosition(match.getBracketPosition())
+                            .roundType(match.getRoundType())
+                            .redAthleteId(match.getRedAthleteId())
+                            .redAthleteName(match.getRedAthleteName())
+                            .redAthleteUnit(match.getRedAthleteUnit())
+                            .blueAthleteId(match.getBlueAthleteId())
+                            .blueAthleteName(match.getBlueAthleteName())
+                            .blueAthleteUnit(match.getBlueAthleteUnit())
+                            .nextMatchId(match.getNextMatchId())
+                            .nextMatchCorner(match.getNextMatchCorner())
+                            .build());
+                }
+            }
+        }
+        DrawSession session = bracket.session();
+        return BracketResponse.builder()
+                .drawSessionId(session.getId())
+                .competitionId(session.getCompetitionId())
+                .weightClassId(session.getWeightClassId())
+                .athleteCount(bracket.athleteCount())
+                .size(bracket.plan().size())
+                .rounds(bracket.plan().rounds())
+                .byes(bracket.plan().size() - bracket.athleteCount())
+                .matches(matches)
+                .build();
+    }
+}
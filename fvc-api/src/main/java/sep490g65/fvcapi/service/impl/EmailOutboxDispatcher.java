@@ -0,0 +1,254 @@
+package sep490g65.fvcapi.service.impl;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import sep490g65.fvcapi.entity.EmailOutbox;
+import sep490g65.fvcapi.enums.EmailOutboxStatus;
+import sep490g65.fvcapi.repository.EmailOutboxRepository;
+import sep490g65.fvcapi.service.EmailService;
+import sep490g65.fvcapi.utils.SecretCipher;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sends the emails queued in email_outbox.
+ * Each poll claims due emails in batches (FOR UPDATE SKIP LOCKED, so several nodes can share the table) and hands
+ * every batch to a bounded pool; a batch is rendered and sent over a single SMTP connection.
+ * Emails the server refused are retried with exponential backoff (app.email.outbox.backoff-base-ms doubled per
+ * attempt, capped at backoff-max-ms) and marked FAILED after max-attempts. Sent and failed rows keep no variables.
+ * Secret variables (EmailService.SECRET_VARIABLES) are stored encrypted and only decrypted to render the message.
+ */
+@Component
+@Slf4j
+public class EmailOutboxDispatcher {
+
+    private static final List<EmailOutboxStatus> FINISHED = List.of(EmailOutboxStatus.SENT, EmailOutboxStatus.FAILED);
+    private static final TypeReference<Map<String, Object>> VARIABLES = new TypeReference<>() {
+    };
+
+    private final EmailOutboxRepository outboxRepository;
+    private final EmailService emailService;
+    private final ObjectMapper objectMapper;
+    private final SecretCipher secretCipher;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor executor;
+    private final int workers;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long backoffBaseMs;
+    private final long backoffMaxMs;
+    private final long staleMs;
+    private final long retentionMs;
+
+    // Batches claimed and not yet finished
+    private final AtomicInteger inFlight = new AtomicInteger();
+    // Pending emails as of the last maintenance run
+    private final AtomicLong pending = new AtomicLong();
+
+    private final Counter sent;
+    private final Counter retried;
+    private final Counter failed;
+    private final Timer sendTimer;
+
+    public EmailOutboxDispatcher(
+            EmailOutboxRepository outboxRepository,
+            EmailService emailService,
+            ObjectMapper objectMapper,
+            SecretCipher secretCipher,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${app.email.outbox.workers:2}") int workers,
+            @Value("${app.email.outbox.batch-size:50}") int batchSize,
+            @Value("${app.email.outbox.max-attempts:8}") int maxAttempts,
+            @Value("${app.email.outbox.backoff-base-ms:30000}") long backoffBaseMs,
+            @Value("${app.email.outbox.backoff-max-ms:3600000}") long backoffMaxMs,
+            @Value("${app.email.outbox.stale-ms:600000}") long staleMs,
+            @Value("${app.email.outbox.retention-ms:604800000}") long retentionMs) {
+        this.outboxRepository = outboxRepository;
+        this.emailService = emailService;
+        this.objectMapper = objectMapper;
+        this.secretCipher = secretCipher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.workers = workers;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.backoffBaseMs = backoffBaseMs;
+        this.backoffMaxMs = backoffMaxMs;
+        this.staleMs = staleMs;
+        this.retentionMs = retentionMs;
+
+        this.sent = counter(meterRegistry, "sent");
+        this.retried = counter(meterRegistry, "retry");
+        this.failed = counter(meterRegistry, "failed");
+        this.sendTimer = Timer.builder("fvc.email.send")
+                .description("Time to render and send one batch of emails")
+                .register(meterRegistry);
+        Gauge.builder("fvc.email.outbox.pending", pending, AtomicLong::get).register(meterRegistry);
+
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        // poll() never claims more batches than there are free workers
+        executor.setQueueCapacity(workers);
+        executor.setThreadNamePrefix("email-outbox-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+    }
+
+    @Scheduled(fixedDelayString = "${app.email.outbox.poll-ms:1000}")
+    public void poll() {
+        while (inFlight.get() < workers) {
+            List<EmailOutbox> batch = transactionTemplate.execute(status -> claim());
+            if (batch == null || batch.isEmpty()) {
+                return;
+            }
+            inFlight.incrementAndGet();
+            executor.execute(() -> {
+                try {
+                    send(batch);
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            });
+            if (batch.size() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    private List<EmailOutbox> claim() {
+        LocalDateTime now = LocalDateTime.now();
+        List<EmailOutbox> due = outboxRepository.lockDue(now, batchSize);
+        for (EmailOutbox email : due) {
+            email.setStatus(EmailOutboxStatus.SENDING);
+            email.setAttempts(email.getAttempts() + 1);
+        }
+        return due;
+    }
+
+    /**
+     * Render and send a claimed batch, then record the outcome of each email
+     */
+    void send(List<EmailOutbox> batch) {
+        Timer.Sample sample = Timer.start();
+        Map<MimeMessage, EmailOutbox> messages = new IdentityHashMap<>();
+        Map<EmailOutbox, String> errors = new IdentityHashMap<>();
+        for (EmailOutbox email : batch) {
+            try {
+                Map<String, Object> variables = objectMapper.readValue(email.getVariables(), VARIABLES);
+                for (String name : EmailService.SECRET_VARIABLES) {
+                    if (variables.get(name) instanceof String secret) {
+                        variables.put(name, secretCipher.decrypt(secret));
+                    }
+                }
+                messages.put(emailService.render(email.getTemplate(), email.getRecipient(), variables), email);
+            } catch (Exception e) {
+                log.error("Failed to render {} email {}", email.getTemplate(), email.getId(), e);
+                errors.put(email, e.getMessage());
+            }
+        }
+
+        if (!messages.isEmpty()) {
+            try {
+                emailService.sendAll(messages.keySet().toArray(new MimeMessage[0]));
+            } catch (MailSendException e) {
+                if (e.getFailedMessages().isEmpty()) {
+                    messages.values().forEach(email -> errors.put(email, e.getMessage()));
+                } else {
+                    e.getFailedMessages().forEach((message, cause) -> {
+                        EmailOutbox email = messages.get(message);
+                        if (email != null) {
+                            errors.put(email, cause.getMessage());
+                        }
+                    });
+                }
+            } catch (MailException e) {
+                // Authentication or configuration problem: nothing was sent
+                messages.values().forEach(email -> errors.put(email, e.getMessage()));
+            }
+        }
+        sample.stop(sendTimer);
+
+        List<String> sentIds = new ArrayList<>();
+        for (EmailOutbox email : batch) {
+            if (!errors.containsKey(email)) {
+                sentIds.add(email.getId());
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            if (!sentIds.isEmpty()) {
+                outboxRepository.markSent(sentIds, EmailOutboxStatus.SENT, "{}", now);
+            }
+            errors.forEach((email, error) -> markUnsent(email, error, now));
+        });
+        sent.increment(sentIds.size());
+        if (!errors.isEmpty()) {
+            log.warn("Sent {} of {} emails, {} will be retried or have failed", sentIds.size(), batch.size(), errors.size());
+        }
+    }
+
+    private void markUnsent(EmailOutbox email, String error, LocalDateTime now) {
+        String truncated = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+        if (email.getAttempts() >= maxAttempts) {
+            log.error("Giving up on {} email {} to {} after {} attempts: {}",
+                    email.getTemplate(), email.getId(), email.getRecipient(), email.getAttempts(), error);
+            outboxRepository.markFailed(email.getId(), EmailOutboxStatus.FAILED, "{}", truncated, now);
+            failed.increment();
+            return;
+        }
+        outboxRepository.markUnsent(email.getId(), EmailOutboxStatus.PENDING,
+                now.plusNanos(backoffMs(email.getAttempts()) * 1_000_000L), truncated, now);
+        retried.increment();
+    }
+
+    long backoffMs(int attempts) {
+        int shift = Math.min(Math.max(attempts - 1, 0), 30);
+        return Math.min(backoffMaxMs, backoffBaseMs << shift);
+    }
+
+    @Scheduled(fixedDelayString = "${app.email.outbox.maintenance-ms:60000}")
+    public void maintain() {
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            int requeued = outboxRepository.requeueStale(EmailOutboxStatus.PENDING, EmailOutboxStatus.SENDING,
+                    now.minusNanos(staleMs * 1_000_000L), now);
+            if (requeued > 0) {
+                log.warn("Requeued {} emails left sending", requeued);
+            }
+            outboxRepository.deleteFinishedBefore(FINISHED, now.minusNanos(retentionMs * 1_000_000L));
+        });
+        pending.set(outboxRepository.countByStatus(EmailOutboxStatus.PENDING));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("fvc.email.outbox").tag("result", result).register(meterRegistry);
+    }
+}
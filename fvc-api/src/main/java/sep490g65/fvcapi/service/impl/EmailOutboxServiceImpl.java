@@ -0,0 +1,86 @@
+package sep490g65.fvcapi.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import sep490g65.fvcapi.entity.EmailOutbox;
+import sep490g65.fvcapi.enums.EmailOutboxStatus;
+import sep490g65.fvcapi.enums.EmailTemplate;
+import sep490g65.fvcapi.repository.EmailOutboxRepository;
+import sep490g65.fvcapi.service.EmailOutboxService;
+import sep490g65.fvcapi.service.EmailService;
+import sep490g65.fvcapi.utils.SecretCipher;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EmailOutboxServiceImpl implements EmailOutboxService {
+
+    private final EmailOutboxRepository outboxRepository;
+    private final EmailService emailService;
+    private final ObjectMapper objectMapper;
+    private final SecretCipher secretCipher;
+
+    @Override
+    @Transactional
+    public void enqueueNewAccountPassword(String toEmail, String toName, String password, String loginUrl) {
+        enqueue(EmailTemplate.NEW_ACCOUNT_PASSWORD, toEmail,
+                EmailService.newAccountPasswordVariables(toEmail, toName, password, loginUrl));
+    }
+
+    @Override
+    @Transactional
+    public void enqueueRegistrationApproved(
+            String toEmail,
+            String fullName,
+            String studentId,
+            String club,
+            String gender,
+            String tournamentName,
+            String competitionType,
+            String category,
+            boolean isTeam,
+            String teamName) {
+        enqueue(EmailTemplate.REGISTRATION_APPROVED, toEmail, EmailService.registrationApprovedVariables(toEmail,
+                fullName, studentId, club, gender, tournamentName, competitionType, category, isTeam, teamName));
+    }
+
+    private void enqueue(EmailTemplate template, String toEmail, Map<String, Object> variables) {
+        if (toEmail == null || toEmail.isBlank()) {
+            log.warn("No recipient, skipping {} email", template);
+            return;
+        }
+        if (!emailService.isConfigured()) {
+            log.warn("Mail not configured. Skipping {} email to {}", template, toEmail);
+            return;
+        }
+        // Temporary passwords are not stored in plain text while the email is pending
+        Map<String, Object> stored = new HashMap<>(variables);
+        for (String name : EmailService.SECRET_VARIABLES) {
+            if (stored.get(name) instanceof String secret) {
+                stored.put(name, secretCipher.encrypt(secret));
+            }
+        }
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(stored);
+        } catch (JsonProcessingException e) {
+            // Variables are plain strings and booleans
+            throw new IllegalStateException("Cannot serialize email variables", e);
+        }
+        outboxRepository.save(EmailOutbox.builder()
+                .template(template)
+                .recipient(toEmail.trim())
+                .variables(json)
+                .status(EmailOutboxStatus.PENDING)
+                .nextAttemptAt(LocalDateTime.now())
+                .build());
+    }
+}
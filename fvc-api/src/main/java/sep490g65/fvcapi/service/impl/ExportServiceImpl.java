@@ -0,0 +1,214 @@
+package sep490g65.fvcapi.service.impl;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import sep490g65.fvcapi.entity.ApplicationFormField;
+import sep490g65.fvcapi.entity.Athlete;
+import sep490g65.fvcapi.enums.ApplicationFormStatus;
+import sep490g65.fvcapi.enums.ApplicationFormType;
+import sep490g65.fvcapi.repository.ApplicationFormConfigRepository;
+import sep490g65.fvcapi.repository.SubmittedApplicationFormRepository;
+import sep490g65.fvcapi.repository.SubmittedApplicationFormRepository.ExportRow;
+import sep490g65.fvcapi.service.AthleteService;
+import sep490g65.fvcapi.service.ExportService;
+import sep490g65.fvcapi.utils.CsvWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ExportServiceImpl implements ExportService {
+
+    private static final String[] SUBMISSION_COLUMNS = {"submissionId", "formType", "status", "submitterEmail", "submittedAt"};
+    private static final String[] ATHLETE_COLUMNS = {"id", "fullName", "email", "studentId", "gender", "club",
+            "competitionType", "subCompetitionType", "detailSubLabel", "status", "drawSeedNumber",
+            "teamName", "registrantEmail"};
+    // Athletes are resolved (labels, team info) and then detached per chunk of the cursor
+    private static final int ATHLETE_CHUNK_SIZE = Integer.parseInt(SubmittedApplicationFormRepository.EXPORT_FETCH_SIZE);
+
+    private final SubmittedApplicationFormRepository submittedRepository;
+    private final ApplicationFormConfigRepository applicationFormConfigRepository;
+    private final AthleteService athleteService;
+    private final ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public void writeSubmissionsCsv(String formId, ApplicationFormType formType, ApplicationFormStatus status,
+                                    OutputStream out) throws IOException {
+        String type = formType != null ? formType.name() : null;
+        String statusName = status != null ? status.name() : null;
+        List<String> keys = formDataColumns(formId,
+                submittedRepository.findFormDataKeys(formId, type, statusName, null, null));
+        Map<String, Integer> keyIndex = new HashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            keyIndex.put(keys.get(i), SUBMISSION_COLUMNS.length + i);
+        }
+
+        CsvWriter csv = new CsvWriter(out);
+        String[] header = Arrays.copyOf(SUBMISSION_COLUMNS, SUBMISSION_COLUMNS.length + keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            header[SUBMISSION_COLUMNS.length + i] = keys.get(i);
+        }
+        csv.writeRow(header);
+
+        // One reusable row buffer: memory stays flat whatever the number of rows
+        String[] cells = new String[header.length];
+        long rows = 0;
+        try (Stream<ExportRow> stream = submittedRepository.streamForExport(formId, type, statusName, null, null)) {
+            Iterator<ExportRow> it = stream.iterator();
+            while (it.hasNext()) {
+                ExportRow row = it.next();
+                Arrays.fill(cells, null);
+                cells[0] = String.valueOf(row.getId());
+                cells[1] = row.getFormType();
+                cells[2] = row.getStatus();
+                cells[3] = row.getEmail();
+                cells[4] = row.getCreatedAt() != null ? row.getCreatedAt().toString() : null;
+                flatten(row.getFormData(), keyIndex, cells);
+                csv.writeRow(cells);
+                rows++;
+            }
+        }
+        csv.flush();
+        log.info("Exported {} submissions (formId={}, type={}, status={})", rows, formId, type, statusName);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void writeAthletesCsv(Specification<Athlete> spec, OutputStream out) throws IOException {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Athlete> query = cb.createQuery(Athlete.class);
+        Root<Athlete> root = query.from(Athlete.class);
+        Predicate predicate = spec != null ? spec.toPredicate(root, query, cb) : null;
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(cb.asc(root.get("fullName")), cb.asc(root.get("id")));
+
+        CsvWriter csv = new CsvWriter(out);
+        csv.writeRow(ATHLETE_COLUMNS);
+        List<Athlete> chunk = new ArrayList<>(ATHLETE_CHUNK_SIZE);
+        long rows = 0;
+        try (Stream<Athlete> stream = entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, ATHLETE_CHUNK_SIZE)
+                .getResultStream()) {
+            Iterator<Athlete> it = stream.iterator();
+            while (it.hasNext()) {
+                chunk.add(it.next());
+                if (chunk.size() == ATHLETE_CHUNK_SIZE) {
+                    rows += writeAthletes(csv, chunk);
+                }
+            }
+        }
+        rows += writeAthletes(csv, chunk);
+        csv.flush();
+        log.info("Exported {} athletes", rows);
+    }
+
+    private int writeAthletes(CsvWriter csv, List<Athlete> chunk) throws IOException {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        Map<UUID, AthleteService.TeamInfo> teamInfos = athleteService.resolveTeamInfos(chunk);
+        for (Athlete a : chunk) {
+            AthleteService.TeamInfo team = teamInfos.get(a.getId());
+            csv.writeRow(
+                    Objects.toString(a.getId(), null),
+                    a.getFullName(),
+                    a.getEmail(),
+                    a.getStudentId(),
+                    a.getGender() != null ? a.getGender().name() : null,
+                    a.getClub(),
+                    a.getCompetitionType() != null ? a.getCompetitionType().name() : null,
+                    a.getSubCompetitionType(),
+                    athleteService.resolveDetailLabel(a),
+                    a.getStatus() != null ? a.getStatus().name() : null,
+                    Objects.toString(a.getDrawSeedNumber(), null),
+                    team != null ? team.getTeamName() : null,
+                    team != null ? team.getRegistrantEmail() : null);
+        }
+        int written = chunk.size();
+        chunk.clear();
+        // The chunk's athletes, performance links and submissions are done with
+        entityManager.clear();
+        return written;
+    }
+
+    /**
+     * Form fields first in their sort order, then any other key found in the data, alphabetically
+     */
+    private List<String> formDataColumns(String formId, List<String> keys) {
+        Set<String> columns = new LinkedHashSet<>();
+        if (formId != null) {
+            applicationFormConfigRepository.findByIdWithFields(formId).ifPresent(config -> {
+                if (config.getFields() == null) {
+                    return;
+                }
+                config.getFields().stream()
+                        .sorted(Comparator.comparing(ApplicationFormField::getSortOrder,
+                                Comparator.nullsLast(Comparator.naturalOrder())))
+                        .map(ApplicationFormField::getName)
+                        .filter(keys::contains)
+                        .forEach(columns::add);
+            });
+        }
+        keys.stream().sorted().forEach(columns::add);
+        return new ArrayList<>(columns);
+    }
+
+    /**
+     * Top-level form_data values into their columns; nested objects and arrays are written as JSON
+     */
+    private void flatten(String formData, Map<String, Integer> keyIndex, String[] cells) throws IOException {
+        if (formData == null || formData.isBlank()) {
+            return;
+        }
+        try (JsonParser parser = objectMapper.createParser(formData)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                Integer index = keyIndex.get(parser.currentName());
+                JsonToken value = parser.nextToken();
+                if (index == null) {
+                    // Key added after the header was built
+                    parser.skipChildren();
+                } else if (value.isStructStart()) {
+                    cells[index] = parser.readValueAsTree().toString();
+                } else if (value != JsonToken.VALUE_NULL) {
+                    cells[index] = parser.getText();
+                }
+            }
+        }
+    }
+}
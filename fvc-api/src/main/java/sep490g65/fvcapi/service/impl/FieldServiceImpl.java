@@ -25,6 +25,7 @@ import sep490g65.fvcapi.utils.ResponseUtils;
 public class FieldServiceImpl implements FieldService {
 
     private final FieldRepository fieldRepository;
+    private final MatchScoreboardCache matchScoreboardCache;
 
     private FieldResponse toDto(Field field) {
         return FieldResponse.builder()
@@ -77,6 +78,7 @@ public class FieldServiceImpl implements FieldService {
         }
         
         Field updated = fieldRepository.save(field);
+        matchScoreboardCache.invalidateReferences();
         return toDto(updated);
     }
 
@@ -85,6 +87,7 @@ public class FieldServiceImpl implements FieldService {
         Field field = fieldRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(String.format(MessageConstants.FIELD_NOT_FOUND, id)));
         fieldRepository.delete(field);
+        matchScoreboardCache.invalidateReferences();
     }
 }
 
@@ -0,0 +1,23 @@
+package sep490g65.fvcapi.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import sep490g65.fvcapi.service.ApplicationFormService;
+
+/**
+ * Periodic auto-archive of expired published forms; only registered with app.forms.auto-archive.enabled=true
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.forms.auto-archive.enabled", havingValue = "true")
+public class FormAutoArchiveJob {
+
+    private final ApplicationFormService applicationFormService;
+
+    @Scheduled(fixedRate = 300000) // Run every 5 minutes
+    public void run() {
+        applicationFormService.autoUnpublishExpiredForms();
+    }
+}
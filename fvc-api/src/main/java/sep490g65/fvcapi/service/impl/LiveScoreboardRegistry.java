@@ -0,0 +1,383 @@
+package sep490g65.fvcapi.service.impl;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import sep490g65.fvcapi.entity.MatchEvent;
+import sep490g65.fvcapi.entity.MatchScoreboardSnapshot;
+import sep490g65.fvcapi.enums.Corner;
+import sep490g65.fvcapi.enums.MatchEventType;
+import sep490g65.fvcapi.repository.MatchEventRepository;
+import sep490g65.fvcapi.repository.MatchScoreboardSnapshotRepository;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory live scoreboard state per match.
+ * Each score event is applied as an O(1) delta and pushed on a per-match stack so undo
+ * only has to pop the last entry. The persisted MatchScoreboardSnapshot is written behind
+ * by MatchEventWriteBehindQueue; a full recalculation from match_events only happens on cold
+ * start (first access after restart/eviction) or on an explicit rebuild. Rebuilds also apply the
+ * events still queued for writing, read under the queue lock so none is missed or counted twice.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LiveScoreboardRegistry {
+
+    private final MatchEventRepository matchEventRepository;
+    private final MatchScoreboardSnapshotRepository scoreboardSnapshotRepository;
+    // The queue depends on this registry; resolved lazily
+    private final ObjectProvider<MatchEventWriteBehindQueue> writeBehindQueue;
+
+    // Key: matchId, Value: live scoreboard state
+    private final Map<String, LiveScoreboard> liveScoreboards = new ConcurrentHashMap<>();
+
+    // Matches whose live state differs from the persisted snapshot
+    private final Set<String> dirtyMatchIds = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Get live state for a match without loading it
+     */
+    public Optional<LiveScoreboard> peek(String matchId) {
+        return Optional.ofNullable(liveScoreboards.get(matchId));
+    }
+
+    /**
+     * Get live state for a match, rebuilding it from stored events on cold start
+     */
+    public LiveScoreboard getOrLoad(String matchId) {
+        LiveScoreboard live = liveScoreboards.get(matchId);
+        if (live != null) {
+            return live;
+        }
+        return writeBehindQueue.getObject().withPending(matchId, pending -> {
+            LiveScoreboard existing = liveScoreboards.get(matchId);
+            if (existing != null) {
+                return existing;
+            }
+            LiveScoreboard loaded = loadFromEvents(matchId, pending);
+            liveScoreboards.put(matchId, loaded);
+            // Re-sync the persisted snapshot once, in case it was written from state that was later rolled back
+            dirtyMatchIds.add(matchId);
+            return loaded;
+        });
+    }
+
+    /**
+     * Discard live state and recalculate it from all stored events
+     */
+    public LiveScoreboard rebuild(String matchId) {
+        LiveScoreboard rebuilt = writeBehindQueue.getObject().withPending(matchId, pending -> {
+            LiveScoreboard loaded = loadFromEvents(matchId, pending);
+            liveScoreboards.put(matchId, loaded);
+            dirtyMatchIds.add(matchId);
+            return loaded;
+        });
+        evictOnRollback(matchId);
+        log.info("Rebuilt live scoreboard for match {} from {} events", matchId, rebuilt.getEventCount());
+        return rebuilt;
+    }
+
+    /**
+     * Apply a newly recorded event to the live state of its match
+     */
+    public LiveScoreboard apply(String matchId, MatchEvent event) {
+        LiveScoreboard live = getOrLoad(matchId);
+        live.apply(event);
+        dirtyMatchIds.add(matchId);
+        evictOnRollback(matchId);
+        return live;
+    }
+
+    /**
+     * Apply a committed event unless the live state already counts it (it was rebuilt while the
+     * event's request was in flight). Called by MatchEventWriteBehindQueue under the match queue lock.
+     */
+    public void ensureApplied(String matchId, MatchEvent event) {
+        LiveScoreboard live = liveScoreboards.get(matchId);
+        if (live != null && live.applyIfAbsent(event)) {
+            dirtyMatchIds.add(matchId);
+        }
+    }
+
+    /**
+     * Reserve the idempotency key of an event before it is queued.
+     * Returns false when an event with the same key was already recorded for the match.
+     */
+    public boolean reserveKey(String matchId, String idempotencyKey) {
+        return idempotencyKey == null || getOrLoad(matchId).reserveKey(idempotencyKey);
+    }
+
+    /**
+     * Release a reserved key whose event could not be queued
+     */
+    public void releaseKey(String matchId, String idempotencyKey) {
+        if (idempotencyKey != null) {
+            peek(matchId).ifPresent(live -> live.releaseKey(idempotencyKey));
+        }
+    }
+
+    /**
+     * Pop the last applied event and revert its effect.
+     * Returns empty when the match has no events to undo.
+     */
+    public Optional<AppliedEvent> undo(String matchId) {
+        LiveScoreboard live = getOrLoad(matchId);
+        Optional<AppliedEvent> undone = live.undo();
+        if (undone.isPresent()) {
+            dirtyMatchIds.add(matchId);
+            evictOnRollback(matchId);
+        }
+        return undone;
+    }
+
+    /**
+     * Drop live state for a match (e.g. after the match has ended and been flushed)
+     */
+    public void evict(String matchId) {
+        liveScoreboards.remove(matchId);
+        dirtyMatchIds.remove(matchId);
+    }
+
+    /**
+     * Persist the snapshot of one match if it changed since the last write.
+     * Called by MatchEventWriteBehindQueue inside the transaction that writes the match events.
+     */
+    @Transactional
+    public void flush(String matchId) {
+        if (!dirtyMatchIds.remove(matchId)) {
+            return;
+        }
+        LiveScoreboard live = liveScoreboards.get(matchId);
+        if (live != null) {
+            persistSnapshot(matchId, live);
+        }
+    }
+
+    public boolean isDirty(String matchId) {
+        return dirtyMatchIds.contains(matchId);
+    }
+
+    public void markDirty(String matchId) {
+        if (liveScoreboards.containsKey(matchId)) {
+            dirtyMatchIds.add(matchId);
+        }
+    }
+
+    /**
+     * Matches whose live state has not been written yet
+     */
+    public Set<String> dirtyMatchIds() {
+        return Set.copyOf(dirtyMatchIds);
+    }
+
+    private void persistSnapshot(String matchId, LiveScoreboard live) {
+        MatchScoreboardSnapshot snapshot = scoreboardSnapshotRepository.findByMatchId(matchId)
+                .orElseGet(() -> MatchScoreboardSnapshot.builder().matchId(matchId).build());
+        live.copyTo(snapshot);
+        scoreboardSnapshotRepository.save(snapshot);
+    }
+
+    private LiveScoreboard loadFromEvents(String matchId, List<MatchEvent> pending) {
+        LiveScoreboard live = new LiveScoreboard();
+        for (MatchEvent event : matchEventRepository.findByMatchIdOrderByCreatedAtAsc(matchId)) {
+            live.apply(event);
+        }
+        for (MatchEvent event : pending) {
+            live.apply(event);
+        }
+        return live;
+    }
+
+    /**
+     * If the surrounding transaction rolls back, the in-memory delta no longer matches the database,
+     * so the live state is dropped and rebuilt from events on next access.
+     */
+    private void evictOnRollback(String matchId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    log.warn("Transaction rolled back, evicting live scoreboard for match {}", matchId);
+                    evict(matchId);
+                }
+            }
+        });
+    }
+
+    /**
+     * Record of an applied event, holding the exact score change so undo can revert it
+     * (SCORE_MINUS_1 is clamped at 0 and may change nothing).
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class AppliedEvent {
+        // Same instance that is queued for write-behind; its id is assigned once persisted
+        private final MatchEvent event;
+        private final Corner corner;
+        private final MatchEventType eventType;
+        private final int scoreDelta;
+
+        public String getEventId() {
+            return event.getId();
+        }
+    }
+
+    /**
+     * Mutable counters of one match. All access is synchronized on the instance.
+     */
+    public static class LiveScoreboard {
+        private int redScore;
+        private int blueScore;
+        private int redMedicalTimeoutCount;
+        private int blueMedicalTimeoutCount;
+        private int redWarningCount;
+        private int blueWarningCount;
+        private final Deque<AppliedEvent> history = new ArrayDeque<>();
+        // Idempotency keys of recorded (or reserved) events
+        private final Set<String> idempotencyKeys = new HashSet<>();
+
+        public synchronized void apply(MatchEvent event) {
+            Corner corner = event.getCorner();
+            int scoreDelta = 0;
+            if (corner == Corner.RED || corner == Corner.BLUE) {
+                int score = corner == Corner.RED ? redScore : blueScore;
+                switch (event.getEventType()) {
+                    case SCORE_PLUS_1:
+                        scoreDelta = 1;
+                        break;
+                    case SCORE_PLUS_2:
+                        scoreDelta = 2;
+                        break;
+                    case SCORE_MINUS_1:
+                        scoreDelta = score > 0 ? -1 : 0;
+                        break;
+                    case MEDICAL_TIMEOUT:
+                        adjustMedicalTimeout(corner, 1);
+                        break;
+                    case WARNING:
+                        adjustWarning(corner, 1);
+                        break;
+                }
+                adjustScore(corner, scoreDelta);
+            }
+            history.push(new AppliedEvent(event, corner, event.getEventType(), scoreDelta));
+            if (event.getIdempotencyKey() != null) {
+                idempotencyKeys.add(event.getIdempotencyKey());
+            }
+        }
+
+        /**
+         * Apply the event unless this instance (the same MatchEvent object) was already applied
+         */
+        public synchronized boolean applyIfAbsent(MatchEvent event) {
+            for (AppliedEvent applied : history) {
+                if (applied.getEvent() == event) {
+                    return false;
+                }
+            }
+            apply(event);
+            return true;
+        }
+
+        public synchronized boolean reserveKey(String idempotencyKey) {
+            return idempotencyKeys.add(idempotencyKey);
+        }
+
+        public synchronized void releaseKey(String idempotencyKey) {
+            idempotencyKeys.remove(idempotencyKey);
+        }
+
+        public synchronized Optional<AppliedEvent> undo() {
+            AppliedEvent last = history.poll();
+            if (last == null) {
+                return Optional.empty();
+            }
+            // The undone event is deleted, so its key may be recorded again
+            if (last.getEvent().getIdempotencyKey() != null) {
+                idempotencyKeys.remove(last.getEvent().getIdempotencyKey());
+            }
+            Corner corner = last.getCorner();
+            if (corner == Corner.RED || corner == Corner.BLUE) {
+                adjustScore(corner, -last.getScoreDelta());
+                if (last.getEventType() == MatchEventType.MEDICAL_TIMEOUT) {
+                    adjustMedicalTimeout(corner, -1);
+                } else if (last.getEventType() == MatchEventType.WARNING) {
+                    adjustWarning(corner, -1);
+                }
+            }
+            return Optional.of(last);
+        }
+
+        public synchronized int getRedScore() {
+            return redScore;
+        }
+
+        public synchronized int getBlueScore() {
+            return blueScore;
+        }
+
+        public synchronized int getEventCount() {
+            return history.size();
+        }
+
+        public synchronized String getLastEventId() {
+            AppliedEvent last = history.peek();
+            return last != null ? last.getEventId() : null;
+        }
+
+        /**
+         * Copy current counters into a snapshot entity (managed or transient)
+         */
+        public synchronized MatchScoreboardSnapshot copyTo(MatchScoreboardSnapshot snapshot) {
+            snapshot.setRedScore(redScore);
+            snapshot.setBlueScore(blueScore);
+            snapshot.setRedMedicalTimeoutCount(redMedicalTimeoutCount);
+            snapshot.setBlueMedicalTimeoutCount(blueMedicalTimeoutCount);
+            snapshot.setRedWarningCount(redWarningCount);
+            snapshot.setBlueWarningCount(blueWarningCount);
+            snapshot.setLastEventId(getLastEventId());
+            return snapshot;
+        }
+
+        private void adjustScore(Corner corner, int delta) {
+            if (corner == Corner.RED) {
+                redScore += delta;
+            } else {
+                blueScore += delta;
+            }
+        }
+
+        private void adjustMedicalTimeout(Corner corner, int delta) {
+            if (corner == Corner.RED) {
+                redMedicalTimeoutCount += delta;
+            } else {
+                blueMedicalTimeoutCount += delta;
+            }
+        }
+
+        private void adjustWarning(Corner corner, int delta) {
+            if (corner == Corner.RED) {
+                redWarningCount += delta;
+            } else {
+                blueWarningCount += delta;
+            }
+        }
+    }
+}
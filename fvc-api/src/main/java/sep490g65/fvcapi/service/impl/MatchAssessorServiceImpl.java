@@ -30,6 +30,7 @@ import sep490g65.fvcapi.repository.MatchRepository;
 import sep490g65.fvcapi.repository.PerformanceMatchRepository;
 import sep490g65.fvcapi.repository.PerformanceRepository;
 import sep490g65.fvcapi.repository.UserRepository;
+import sep490g65.fvcapi.service.AssessorVotingService;
 import sep490g65.fvcapi.service.MatchAssessorService;
 
 import java.util.ArrayList;
@@ -51,6 +52,7 @@ public class MatchAssessorServiceImpl implements MatchAssessorService {
     private final PerformanceMatchRepository performanceMatchRepository;
     private final CompetitionRoleRepository competitionRoleRepository;
     private final PerformanceRepository performanceRepository;
+    private final AssessorVotingService assessorVotingService;
 
     @Override
     @Transactional
@@ -118,6 +120,7 @@ public class MatchAssessorServiceImpl implements MatchAssessorService {
                 })
                 .collect(Collectors.toList());
 
+        assessorVotingService.invalidateRoster(request.getMatchId());
         log.info("Successfully assigned {} assessors to match {}", assessors.size(), request.getMatchId());
 
         return assessors.stream()
@@ -268,6 +271,7 @@ public class MatchAssessorServiceImpl implements MatchAssessorService {
                 .build();
 
         MatchAssessor saved = matchAssessorRepository.save(assessor);
+        assessorVotingService.invalidateRoster(request.getMatchId());
         log.info("Successfully created assessor with ID {}", saved.getId());
 
         return toResponse(saved);
@@ -315,6 +319,9 @@ public class MatchAssessorServiceImpl implements MatchAssessorService {
         }
 
         MatchAssessor updated = matchAssessorRepository.save(assessor);
+        if (assessor.getMatch() != null) {
+            assessorVotingService.invalidateRoster(assessor.getMatch().getId());
+        }
         log.info("Successfully updated assessor {}", assessorId);
 
         return toResponse(updated);
@@ -352,6 +359,9 @@ public class MatchAssessorServiceImpl implements MatchAssessorService {
                 .orElseThrow(() -> new ResourceNotFoundException("Assessor not found with ID: " + assessorId));
 
         matchAssessorRepository.delete(assessor);
+        if (assessor.getMatch() != null) {
+            assessorVotingService.invalidateRoster(assessor.getMatch().getId());
+        }
         log.info("Successfully removed assessor {}", assessorId);
     }
 
@@ -362,6 +372,7 @@ public class MatchAssessorServiceImpl implements MatchAssessorService {
 
         List<MatchAssessor> assessors = matchAssessorRepository.findByMatchId(matchId);
         matchAssessorRepository.deleteAll(assessors);
+        assessorVotingService.invalidateRoster(matchId);
         
         log.info("Successfully removed {} assessors from match {}", assessors.size(), matchId);
     }
@@ -627,6 +638,7 @@ public class MatchAssessorServiceImpl implements MatchAssessorService {
             
             log.info("Assigned assessor {} to performance {}", user.getFullName(), request.getPerformanceId());
         } else {
+            assessorVotingService.invalidateRoster(request.getMatchId());
             log.info("Assigned assessor {} to match {}", user.getFullName(), request.getMatchId());
         }
         
@@ -657,6 +669,9 @@ public class MatchAssessorServiceImpl implements MatchAssessorService {
         }
         
         matchAssessorRepository.delete(assessor);
+        if (assessor.getMatch() != null) {
+            assessorVotingService.invalidateRoster(assessor.getMatch().getId());
+        }
         log.info("Unassigned assessor: {}", assessorId);
     }
 }
@@ -0,0 +1,233 @@
+package sep490g65.fvcapi.service.impl;
+
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import sep490g65.fvcapi.dto.response.MatchClockTickDto;
+
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Server-authoritative round clock of every active match.
+ * Clocks are plain counters driven by one scheduled sweep (no thread or timer per match):
+ * each tick broadcasts the elapsed second of running clocks to /topic/match/{id}/clock and
+ * publishes a RoundExpiredEvent once a round reaches its scheduled duration (only with
+ * app.match.clock.auto-end-rounds=true). The event is published on a single worker thread, so ending
+ * a round (database writes, flush, broadcasts) never delays the ticks of other matches.
+ * Elapsed time uses the monotonic System.nanoTime and excludes paused periods.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MatchClock {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.match.clock.auto-end-rounds:false}")
+    private boolean autoEndRounds;
+
+    private final ThreadPoolTaskExecutor expiryExecutor = expiryExecutor();
+
+    // Key: matchId, Value: clock of the current round
+    private final Map<String, RoundClock> clocks = new ConcurrentHashMap<>();
+
+    /**
+     * Start a new round clock, optionally from an already elapsed time (recovery after restart)
+     */
+    public void start(String matchId, int round, Integer durationSeconds, int elapsedSeconds) {
+        RoundClock clock = new RoundClock(matchId, round, durationSeconds, elapsedSeconds);
+        clocks.put(matchId, clock);
+        log.debug("Clock started for match {} round {} ({}s)", matchId, round, durationSeconds);
+        broadcast(clock.tick(System.nanoTime()));
+    }
+
+    public void pause(String matchId) {
+        RoundClock clock = clocks.get(matchId);
+        if (clock != null) {
+            broadcast(clock.pause(System.nanoTime()));
+        }
+    }
+
+    /**
+     * Resume the clock of the round. Returns false when no clock is tracked for it (e.g. after restart).
+     */
+    public boolean resume(String matchId, int round) {
+        RoundClock clock = clocks.get(matchId);
+        if (clock == null || clock.round != round) {
+            return false;
+        }
+        broadcast(clock.resume(System.nanoTime()));
+        return true;
+    }
+
+    public void stop(String matchId) {
+        clocks.remove(matchId);
+    }
+
+    /**
+     * Elapsed seconds of the round, when the clock of that round is tracked
+     */
+    public OptionalInt elapsedSeconds(String matchId, int round) {
+        RoundClock clock = clocks.get(matchId);
+        if (clock == null || clock.round != round) {
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of(clock.elapsedSeconds(System.nanoTime()));
+    }
+
+    /**
+     * Single sweep over all clocks: broadcast second changes and expire finished rounds
+     */
+    @Scheduled(fixedRateString = "${app.match.clock.tick-ms:1000}")
+    public void tick() {
+        long now = System.nanoTime();
+        for (RoundClock clock : clocks.values()) {
+            MatchClockTickDto tick = clock.tickIfChanged(now);
+            if (tick != null) {
+                broadcast(tick);
+            }
+            if (autoEndRounds && clock.markExpired(now)) {
+                log.info("Round {} of match {} reached its scheduled duration", clock.round, clock.matchId);
+                expire(clock.matchId, clock.round);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        expiryExecutor.shutdown();
+    }
+
+    private void expire(String matchId, int round) {
+        try {
+            expiryExecutor.execute(() -> {
+                try {
+                    eventPublisher.publishEvent(new RoundExpiredEvent(matchId, round));
+                } catch (Exception e) {
+                    log.error("Error ending expired round {} of match {}", round, matchId, e);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            log.error("Cannot end expired round {} of match {}: too many rounds pending", round, matchId);
+        }
+    }
+
+    private static ThreadPoolTaskExecutor expiryExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("match-clock-expiry-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+
+    private void broadcast(MatchClockTickDto tick) {
+        try {
+            messagingTemplate.convertAndSend("/topic/match/" + tick.getMatchId() + "/clock", tick);
+        } catch (Exception e) {
+            log.error("Error broadcasting clock tick for match {}", tick.getMatchId(), e);
+        }
+    }
+
+    /**
+     * Published when a running round reaches MatchRound.scheduledDurationSeconds
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class RoundExpiredEvent {
+        private final String matchId;
+        private final int round;
+    }
+
+    /**
+     * Clock of one round. All access is synchronized on the instance.
+     */
+    private static final class RoundClock {
+        private final String matchId;
+        private final int round;
+        private final Integer durationSeconds;
+        private long accumulatedNanos;
+        private long runningSinceNanos;
+        private boolean running;
+        private boolean expired;
+        private int lastBroadcastSecond = -1;
+
+        private RoundClock(String matchId, int round, Integer durationSeconds, int elapsedSeconds) {
+            this.matchId = matchId;
+            this.round = round;
+            this.durationSeconds = durationSeconds;
+            this.accumulatedNanos = TimeUnit.SECONDS.toNanos(elapsedSeconds);
+            this.runningSinceNanos = System.nanoTime();
+            this.running = true;
+        }
+
+        synchronized int elapsedSeconds(long now) {
+            long elapsed = accumulatedNanos + (running ? now - runningSinceNanos : 0);
+            int seconds = (int) TimeUnit.NANOSECONDS.toSeconds(elapsed);
+            return durationSeconds != null ? Math.min(seconds, durationSeconds) : seconds;
+        }
+
+        synchronized MatchClockTickDto pause(long now) {
+            if (running) {
+                accumulatedNanos += now - runningSinceNanos;
+                running = false;
+            }
+            return tick(now);
+        }
+
+        synchronized MatchClockTickDto resume(long now) {
+            if (!running) {
+                runningSinceNanos = now;
+                running = true;
+            }
+            return tick(now);
+        }
+
+        synchronized MatchClockTickDto tickIfChanged(long now) {
+            if (!running || elapsedSeconds(now) == lastBroadcastSecond) {
+                return null;
+            }
+            return tick(now);
+        }
+
+        /**
+         * True exactly once, when the running round has used its whole duration
+         */
+        synchronized boolean markExpired(long now) {
+            if (expired || !running || durationSeconds == null || durationSeconds <= 0
+                    || elapsedSeconds(now) < durationSeconds) {
+                return false;
+            }
+            expired = true;
+            return true;
+        }
+
+        synchronized MatchClockTickDto tick(long now) {
+            int elapsed = elapsedSeconds(now);
+            lastBroadcastSecond = elapsed;
+            return MatchClockTickDto.builder()
+                    .matchId(matchId)
+                    .round(round)
+                    .elapsedSeconds(elapsed)
+                    .remainingSeconds(durationSeconds != null ? Math.max(0, durationSeconds - elapsed) : null)
+                    .running(running)
+                    .timestamp(System.currentTimeMillis())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package sep490g65.fvcapi.service.impl;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import sep490g65.fvcapi.entity.MatchEvent;
+import sep490g65.fvcapi.enums.ErrorCode;
+import sep490g65.fvcapi.exception.custom.BusinessException;
+import sep490g65.fvcapi.repository.MatchEventRepository;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Write-behind pipeline for match events.
+ * Accepted events are queued per match (bounded, FIFO) and written together with the
+ * live scoreboard snapshot in one transaction using JDBC batch inserts
+ * (hibernate.jdbc.batch_size / order_inserts). A match is flushed when its queue reaches
+ * the batch size, on every scheduled tick, and synchronously on controlMatch transitions
+ * so that nothing is pending when END is acknowledged.
+ * An event only joins the queue once the request that recorded it has committed; a rolled-back
+ * request never reaches the database. A failed flush keeps its events queued as new entities, so the
+ * next tick writes all of them.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MatchEventWriteBehindQueue {
+
+    private final MatchEventRepository matchEventRepository;
+    private final LiveScoreboardRegistry liveScoreboardRegistry;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${app.match.write-behind.batch-size:50}")
+    private int batchSize;
+
+    @Value("${app.match.write-behind.queue-capacity:500}")
+    private int queueCapacity;
+
+    // Key: matchId, Value: events of the match not yet written
+    private final Map<String, MatchQueue> pendingEvents = new ConcurrentHashMap<>();
+
+    /**
+     * Queue an event for persistence once the current transaction commits (immediately without one).
+     * Flushes the match inline once a full batch is pending.
+     */
+    public void enqueue(String matchId, MatchEvent event) {
+        MatchQueue queue = pendingEvents.computeIfAbsent(matchId, k -> new MatchQueue());
+        synchronized (queue) {
+            if (queue.events.size() + queue.uncommitted.size() >= queueCapacity) {
+                // Writes are failing or lagging behind: push back instead of growing without bound
+                throw busy();
+            }
+            queue.uncommitted.add(event);
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            committed(matchId, event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    committed(matchId, event);
+                } else {
+                    MatchQueue current = pendingEvents.computeIfAbsent(matchId, k -> new MatchQueue());
+                    synchronized (current) {
+                        current.uncommitted.remove(event);
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Remove an event that has not been written yet (undo); it is queued again if the undo rolls back.
+     * Returns false when the event is already persisted and must be deleted from the database.
+     * An event whose request has not committed yet cannot be undone (the caller retries).
+     */
+    public boolean discard(String matchId, MatchEvent event) {
+        MatchQueue queue = pendingEvents.get(matchId);
+        if (queue == null) {
+            return false;
+        }
+        synchronized (queue) {
+            if (queue.uncommitted.contains(event)) {
+                throw busy();
+            }
+            if (!queue.events.removeLastOccurrence(event)) {
+                return false;
+            }
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        committed(matchId, event);
+                    }
+                }
+            });
+        }
+        return true;
+    }
+
+    /**
+     * Run action with the queued (committed, unwritten) events of a match, oldest first.
+     * Holds the match queue lock, so no flush can move events to the database meanwhile:
+     * stored events read inside action and the given list never overlap or miss an event.
+     */
+    public <T> T withPending(String matchId, Function<List<MatchEvent>, T> action) {
+        MatchQueue queue = pendingEvents.computeIfAbsent(matchId, k -> new MatchQueue());
+        synchronized (queue) {
+            return action.apply(new ArrayList<>(queue.events));
+        }
+    }
+
+    /**
+     * Write all pending events and the scoreboard snapshot of a match in one new transaction.
+     * Holds the match queue lock until commit, so events are persisted in acceptance order.
+     */
+    public void flush(String matchId) {
+        MatchQueue queue = pendingEvents.get(matchId);
+        if (queue == null) {
+            // No events queued for this match, but the snapshot may still be dirty
+            if (liveScoreboardRegistry.isDirty(matchId)) {
+                inNewTransaction(matchId, () -> liveScoreboardRegistry.flush(matchId));
+            }
+            return;
+        }
+        synchronized (queue) {
+            if (queue.events.isEmpty() && !liveScoreboardRegistry.isDirty(matchId)) {
+                return;
+            }
+            List<MatchEvent> batch = new ArrayList<>(queue.events);
+            List<MatchEvent> unsaved = batch.stream().filter(event -> event.getId() == null).toList();
+            try {
+                inNewTransaction(matchId, () -> {
+                    if (!batch.isEmpty()) {
+                        matchEventRepository.saveAll(batch);
+                    }
+                    liveScoreboardRegistry.flush(matchId);
+                });
+            } catch (RuntimeException e) {
+                // saveAll generated ids for rows that were rolled back: without them the retry inserts
+                // the events again instead of merging rows that do not exist
+                unsaved.forEach(event -> event.setId(null));
+                throw e;
+            }
+            // Only drop events once the transaction has committed
+            for (int i = 0; i < batch.size(); i++) {
+                queue.events.pollFirst();
+            }
+            if (!batch.isEmpty()) {
+                log.debug("Flushed {} events for match {}", batch.size(), matchId);
+            }
+        }
+    }
+
+    /**
+     * Flush a match that no longer accepts events and drop its queue
+     */
+    public void release(String matchId) {
+        flush(matchId);
+        pendingEvents.computeIfPresent(matchId, (k, queue) -> {
+            synchronized (queue) {
+                return queue.events.isEmpty() && queue.uncommitted.isEmpty() ? null : queue;
+            }
+        });
+    }
+
+    /**
+     * Scheduled flush of every match with pending events or a dirty snapshot
+     */
+    @Scheduled(fixedDelayString = "${app.match.write-behind.flush-interval-ms:200}")
+    public void flushAll() {
+        Set<String> matchIds = ConcurrentHashMap.newKeySet();
+        matchIds.addAll(pendingEvents.keySet());
+        matchIds.addAll(liveScoreboardRegistry.dirtyMatchIds());
+        for (String matchId : matchIds) {
+            flushQuietly(matchId);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("Flushing pending match events before shutdown");
+        flushAll();
+    }
+
+    private void flushQuietly(String matchId) {
+        try {
+            flush(matchId);
+        } catch (Exception e) {
+            // Events stay queued and are retried on the next tick
+            log.error("Error flushing match events for match {}", matchId, e);
+        }
+    }
+
+    // The request that recorded the event committed: queue it and make sure the live state counts it
+    private void committed(String matchId, MatchEvent event) {
+        MatchQueue queue = pendingEvents.computeIfAbsent(matchId, k -> new MatchQueue());
+        boolean batchFull;
+        synchronized (queue) {
+            queue.uncommitted.remove(event);
+            queue.events.addLast(event);
+            // Live state rebuilt while the request was in flight does not contain the event yet
+            liveScoreboardRegistry.ensureApplied(matchId, event);
+            batchFull = queue.events.size() >= batchSize;
+        }
+        if (batchFull) {
+            flushQuietly(matchId);
+        }
+    }
+
+    private static BusinessException busy() {
+        return new BusinessException(
+                "Hệ thống đang bận ghi nhận điểm, vui lòng thử lại sau giây lát.",
+                ErrorCode.MATCH_EVENT_RECORD_ERROR.getCode());
+    }
+
+    private void inNewTransaction(String matchId, Runnable action) {
+        TransactionTemplate tpl = new TransactionTemplate(transactionManager);
+        tpl.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        try {
+            tpl.executeWithoutResult(txStatus -> action.run());
+        } catch (RuntimeException e) {
+            // Snapshot was not committed, write it again on the next flush
+            liveScoreboardRegistry.markDirty(matchId);
+            throw e;
+        }
+    }
+
+    private static final class MatchQueue {
+        // Committed events not written yet (oldest first)
+        private final Deque<MatchEvent> events = new ArrayDeque<>();
+        // Events applied live whose request has not committed yet (MatchEvent compares by identity)
+        private final Set<MatchEvent> uncommitted = Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
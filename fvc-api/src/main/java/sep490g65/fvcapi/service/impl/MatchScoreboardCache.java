@@ -0,0 +1,197 @@
+package sep490g65.fvcapi.service.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import sep490g65.fvcapi.dto.response.MatchScoreboardDto;
+import sep490g65.fvcapi.entity.Field;
+import sep490g65.fvcapi.repository.FieldRepository;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Read-through cache of assembled scoreboards, one entry per match.
+ * Each entry is tagged with the versions it was built from:
+ *  - match version: bumped by anything that changes the match, its rounds or its status (invalidate)
+ *  - score version: bumped by score events and undo (scoresChanged); only the athlete counters are refreshed
+ *  - reference version: bumped when weight classes or fields change (invalidateReferences)
+ * Versions are read before loading, so an entry built from data that changed meanwhile is never served.
+ * Inside a transaction the bump is repeated after completion, so readers that cached uncommitted or
+ * rolled back state are discarded too.
+ * Version values come from one global sequence and are never reused: when a match ends (evict) its
+ * entry and versions are dropped, and matches without versions fall back to the sequence value of the
+ * last eviction, so an entry loaded before the eviction can never look current afterwards.
+ * Weight class names come from ReferenceDataCache, field locations are cached here.
+ */
+@Component
+public class MatchScoreboardCache {
+
+    private final ReferenceDataCache referenceDataCache;
+    private final FieldRepository fieldRepository;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Long> matchVersions = new ConcurrentHashMap<>();
+    private final Map<String, Long> scoreVersions = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    // Version of matches without an entry in matchVersions / scoreVersions
+    private volatile long evictedVersion;
+    private final AtomicLong referenceVersion = new AtomicLong();
+
+    // Locations by id; Optional.empty() caches ids that do not exist
+    private final Map<String, Optional<String>> fieldLocations = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+    private final Counter scoreRefreshes;
+    private final Counter misses;
+    private final Counter referenceHits;
+    private final Counter referenceMisses;
+
+    public MatchScoreboardCache(ReferenceDataCache referenceDataCache,
+                                FieldRepository fieldRepository,
+                                MeterRegistry meterRegistry) {
+        this.referenceDataCache = referenceDataCache;
+        this.fieldRepository = fieldRepository;
+        this.hits = counter(meterRegistry, "fvc.scoreboard.cache", "hit");
+        this.scoreRefreshes = counter(meterRegistry, "fvc.scoreboard.cache", "score_refresh");
+        this.misses = counter(meterRegistry, "fvc.scoreboard.cache", "miss");
+        this.referenceHits = counter(meterRegistry, "fvc.reference.cache", "hit");
+        this.referenceMisses = counter(meterRegistry, "fvc.reference.cache", "miss");
+    }
+
+    /**
+     * Cached scoreboard of a match.
+     * When only the scores changed, refreshScores rebuilds the entry from the cached one (returning null
+     * falls back to the loader); otherwise the loader assembles it from the database.
+     */
+    public MatchScoreboardDto get(String matchId,
+                                  UnaryOperator<MatchScoreboardDto> refreshScores,
+                                  Supplier<MatchScoreboardDto> loader) {
+        Version version = currentVersion(matchId);
+        Entry entry = entries.get(matchId);
+        if (entry != null && entry.version.equals(version)) {
+            hits.increment();
+            return entry.scoreboard;
+        }
+        if (entry != null && entry.version.sameFrame(version)) {
+            MatchScoreboardDto refreshed = refreshScores.apply(entry.scoreboard);
+            if (refreshed != null) {
+                scoreRefreshes.increment();
+                entries.put(matchId, new Entry(version, refreshed));
+                return refreshed;
+            }
+        }
+        misses.increment();
+        MatchScoreboardDto loaded = loader.get();
+        entries.put(matchId, new Entry(version, loaded));
+        return loaded;
+    }
+
+    /**
+     * The match, its rounds or its status changed
+     */
+    public void invalidate(String matchId) {
+        bump(() -> {
+            matchVersions.put(matchId, sequence.incrementAndGet());
+            entries.remove(matchId);
+        });
+    }
+
+    /**
+     * The match ended: drop its entry and versions (also after the transaction completes, so the final
+     * broadcast does not leave the entry behind). The next read loads it again.
+     */
+    public void evict(String matchId) {
+        bump(() -> {
+            evictedVersion = sequence.incrementAndGet();
+            matchVersions.remove(matchId);
+            scoreVersions.remove(matchId);
+            entries.remove(matchId);
+        });
+    }
+
+    /**
+     * Only the athlete counters of the match changed
+     */
+    public void scoresChanged(String matchId) {
+        bump(() -> scoreVersions.put(matchId, sequence.incrementAndGet()));
+    }
+
+    /**
+     * A weight class or field was changed: names are reloaded and every scoreboard is rebuilt
+     */
+    public void invalidateReferences() {
+        bump(() -> {
+            referenceVersion.incrementAndGet();
+            fieldLocations.clear();
+        });
+    }
+
+    public String weightClassName(String weightClassId) {
+        if (weightClassId == null || weightClassId.isEmpty()) {
+            return null;
+        }
+        return referenceDataCache.weightClass(weightClassId)
+                .map(ReferenceDataCache.WeightClassRef::weightClass)
+                .orElse(null);
+    }
+
+    public String fieldLocation(String fieldId) {
+        if (fieldId == null || fieldId.isEmpty()) {
+            return null;
+        }
+        return resolve(fieldLocations, fieldId,
+                () -> fieldRepository.findById(fieldId).map(Field::getLocation));
+    }
+
+    private String resolve(Map<String, Optional<String>> names, String id, Supplier<Optional<String>> loader) {
+        Optional<String> cached = names.get(id);
+        if (cached != null) {
+            referenceHits.increment();
+            return cached.orElse(null);
+        }
+        referenceMisses.increment();
+        Optional<String> loaded = loader.get();
+        names.put(id, loaded);
+        return loaded.orElse(null);
+    }
+
+    private Version currentVersion(String matchId) {
+        long evicted = evictedVersion;
+        return new Version(
+                matchVersions.getOrDefault(matchId, evicted),
+                scoreVersions.getOrDefault(matchId, evicted),
+                referenceVersion.get());
+    }
+
+    private void bump(Runnable bump) {
+        bump.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    bump.run();
+                }
+            });
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String name, String result) {
+        return Counter.builder(name).tag("result", result).register(meterRegistry);
+    }
+
+    private record Version(long match, long scores, long references) {
+        boolean sameFrame(Version other) {
+            return match == other.match && references == other.references;
+        }
+    }
+
+    private record Entry(Version version, MatchScoreboardDto scoreboard) {
+    }
+}
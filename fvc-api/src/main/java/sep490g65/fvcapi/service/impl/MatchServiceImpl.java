@@ -2,18 +2,21 @@ package sep490g65.fvcapi.service.impl;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import sep490g65.fvcapi.constants.MessageConstants;
 import sep490g65.fvcapi.dto.request.ControlMatchRequest;
 import sep490g65.fvcapi.dto.request.CreateMatchRequest;
 import sep490g65.fvcapi.dto.request.RecordScoreEventRequest;
+import sep490g65.fvcapi.dto.response.BulkCreateMatchesResponse;
 import sep490g65.fvcapi.dto.response.MatchAthleteInfoDto;
 import sep490g65.fvcapi.dto.response.MatchEventDto;
 import sep490g65.fvcapi.dto.response.MatchListItemDto;
 import sep490g65.fvcapi.dto.response.MatchRoundDto;
 import sep490g65.fvcapi.dto.response.MatchScoreboardDto;
 import sep490g65.fvcapi.entity.Athlete;
+import sep490g65.fvcapi.entity.Competition;
 import sep490g65.fvcapi.entity.Match;
 import sep490g65.fvcapi.entity.MatchAssessor;
 import sep490g65.fvcapi.entity.MatchEvent;
@@ -31,16 +34,21 @@ import sep490g65.fvcapi.repository.MatchEventRepository;
 import sep490g65.fvcapi.repository.MatchRepository;
 import sep490g65.fvcapi.repository.MatchRoundRepository;
 import sep490g65.fvcapi.repository.MatchScoreboardSnapshotRepository;
-import sep490g65.fvcapi.repository.WeightClassRepository;
 import sep490g65.fvcapi.repository.FieldRepository;
+import sep490g65.fvcapi.service.BracketService;
 import sep490g65.fvcapi.service.MatchService;
 import sep490g65.fvcapi.config.WebSocketConnectionEventListener;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import sep490g65.fvcapi.config.ScoreboardStreamBroadcaster;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -53,13 +61,16 @@ public class MatchServiceImpl implements MatchService {
     private final MatchScoreboardSnapshotRepository scoreboardSnapshotRepository;
     private final MatchAssessorRepository matchAssessorRepository;
     private final MatchRoundRepository matchRoundRepository;
-    private final WeightClassRepository weightClassRepository;
     private final FieldRepository fieldRepository;
-    private final SimpMessagingTemplate messagingTemplate;
     private final AthleteRepository athleteRepository;
     private final CompetitionRepository competitionRepository;
     private final WebSocketConnectionEventListener webSocketConnectionEventListener;
-    private final sep490g65.fvcapi.service.AthleteService athleteService;
+    private final LiveScoreboardRegistry liveScoreboardRegistry;
+    private final MatchEventWriteBehindQueue matchEventWriteBehindQueue;
+    private final ScoreboardStreamBroadcaster scoreboardStreamBroadcaster;
+    private final MatchClock matchClock;
+    private final MatchScoreboardCache scoreboardCache;
+    private final BracketService bracketService;
 
     @Override
     @Transactional
@@ -82,7 +93,119 @@ public class MatchServiceImpl implements MatchService {
                         String.format("Blue athlete not found: %s", request.getBlueAthleteId())));
 
         // Create match
-        Match match = Match.builder()
+        Match match = buildMatch(request, redAthlete, blueAthlete, userId);
+
+        match = matchRepository.save(match);
+        log.info("Match created successfully with ID: {}", match.getId());
+
+        // Create rounds for the match
+        createRoundsForMatch(match);
+
+        // Create initial snapshot
+        createInitialSnapshot(match);
+
+        // Return scoreboard
+        return getScoreboard(match.getId());
+    }
+
+    @Override
+    @Transactional
+    public BulkCreateMatchesResponse bulkCreateMatches(List<CreateMatchRequest> requests, String userId) {
+        log.info("Bulk creating {} matches", requests.size());
+
+        // Prefetch competitions and athletes of all rows in one query each
+        Set<String> existingCompetitionIds = competitionRepository.findAllById(requests.stream()
+                        .map(CreateMatchRequest::getCompetitionId)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .map(Competition::getId)
+                .collect(Collectors.toSet());
+        Map<String, Athlete> athletesById = athleteRepository.findAllById(requests.stream()
+                        .flatMap(request -> Stream.of(request.getRedAthleteId(), request.getBlueAthleteId()))
+                        .map(this::parseAthleteId)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(athlete -> athlete.getId().toString(), athlete -> athlete));
+
+        List<Match> matches = new ArrayList<>();
+        List<Integer> matchIndexes = new ArrayList<>();
+        List<BulkCreateMatchesResponse.FailedMatch> errors = new ArrayList<>();
+        for (int index = 0; index < requests.size(); index++) {
+            CreateMatchRequest request = requests.get(index);
+            Athlete redAthlete = athletesById.get(normalizeAthleteId(request.getRedAthleteId()));
+            Athlete blueAthlete = athletesById.get(normalizeAthleteId(request.getBlueAthleteId()));
+            String error = null;
+            if (!existingCompetitionIds.contains(request.getCompetitionId())) {
+                error = String.format("Competition not found: %s", request.getCompetitionId());
+            } else if (redAthlete == null) {
+                error = String.format("Red athlete not found: %s", request.getRedAthleteId());
+            } else if (blueAthlete == null) {
+                error = String.format("Blue athlete not found: %s", request.getBlueAthleteId());
+            }
+            if (error != null) {
+                log.warn("Skipping match row {}: {}", index, error);
+                errors.add(BulkCreateMatchesResponse.FailedMatch.builder()
+                        .index(index)
+                        .redAthleteId(request.getRedAthleteId())
+                        .blueAthleteId(request.getBlueAthleteId())
+                        .message(error)
+                        .build());
+                continue;
+            }
+            matches.add(buildMatch(request, redAthlete, blueAthlete, userId));
+            matchIndexes.add(index);
+        }
+
+        // Batched inserts (hibernate.jdbc.batch_size); ids are generated before the flush
+        matchRepository.saveAll(matches);
+        List<MatchRound> rounds = new ArrayList<>();
+        List<MatchScoreboardSnapshot> snapshots = new ArrayList<>();
+        for (Match match : matches) {
+            rounds.addAll(buildRounds(match));
+            snapshots.add(buildInitialSnapshot(match));
+        }
+        matchRoundRepository.saveAll(rounds);
+        scoreboardSnapshotRepository.saveAll(snapshots);
+
+        // Mark every participating athlete DONE with one UPDATE
+        Set<UUID> athleteIds = matches.stream()
+                .flatMap(match -> Stream.of(match.getRedAthleteId(), match.getBlueAthleteId()))
+                .map(this::parseAthleteId)
+                .collect(Collectors.toSet());
+        if (!athleteIds.isEmpty()) {
+            int updated = athleteRepository.updateStatusByIdIn(athleteIds, Athlete.AthleteStatus.DONE, LocalDateTime.now());
+            log.info("Updated {} athletes status to DONE after creating matches", updated);
+        }
+
+        List<BulkCreateMatchesResponse.CreatedMatch> created = new ArrayList<>(matches.size());
+        for (int i = 0; i < matches.size(); i++) {
+            Match match = matches.get(i);
+            created.add(BulkCreateMatchesResponse.CreatedMatch.builder()
+                    .index(matchIndexes.get(i))
+                    .matchId(match.getId())
+                    .redAthleteId(match.getRedAthleteId())
+                    .redAthleteName(match.getRedAthleteName())
+                    .blueAthleteId(match.getBlueAthleteId())
+                    .blueAthleteName(match.getBlueAthleteName())
+                    .build());
+        }
+
+        log.info("Bulk create completed. Successfully created {} out of {} matches ({} rounds)",
+                created.size(), requests.size(), rounds.size());
+
+        return BulkCreateMatchesResponse.builder()
+                .requestedCount(requests.size())
+                .createdCount(created.size())
+                .failedCount(errors.size())
+                .created(created)
+                .errors(errors)
+                .build();
+    }
+
+    private Match buildMatch(CreateMatchRequest request, Athlete redAthlete, Athlete blueAthlete, String userId) {
+        return Match.builder()
                 .competitionId(request.getCompetitionId())
                 .weightClassId(request.getWeightClassId())
                 .fieldId(request.getFieldId())
@@ -103,66 +226,25 @@ public class MatchServiceImpl implements MatchService {
                 .tiebreakerDurationSeconds(60) // Default tiebreaker duration
                 .createdBy(userId)
                 .build();
-
-        match = matchRepository.save(match);
-        log.info("Match created successfully with ID: {}", match.getId());
-
-        // Create rounds for the match
-        createRoundsForMatch(match);
-
-        // Create initial snapshot
-        createInitialSnapshot(match);
-
-        // Return scoreboard
-        return getScoreboard(match.getId());
     }
 
-    @Override
-    @Transactional
-    public List<MatchScoreboardDto> bulkCreateMatches(List<CreateMatchRequest> requests, String userId) {
-        log.info("Bulk creating {} matches", requests.size());
-        
-        List<MatchScoreboardDto> createdMatches = new java.util.ArrayList<>();
-        java.util.Set<String> athleteIds = new java.util.HashSet<>();
-        
-        for (CreateMatchRequest request : requests) {
-            try {
-                MatchScoreboardDto match = createMatch(request, userId);
-                createdMatches.add(match);
-                log.debug("Created match: {}", match.getMatchId());
-                
-                // Collect athlete IDs for status update
-                if (request.getRedAthleteId() != null) {
-                    athleteIds.add(request.getRedAthleteId());
-                }
-                if (request.getBlueAthleteId() != null) {
-                    athleteIds.add(request.getBlueAthleteId());
-                }
-            } catch (Exception e) {
-                log.error("Error creating match for red athlete: {}, blue athlete: {}", 
-                        request.getRedAthleteId(), request.getBlueAthleteId(), e);
-                // Continue with other matches even if one fails
-            }
+    /**
+     * Athlete id as UUID, or null when the id is missing or malformed (reported as not found)
+     */
+    private UUID parseAthleteId(String athleteId) {
+        if (athleteId == null) {
+            return null;
         }
-        
-        // Update athlete status to DONE for all athletes who participated in matches
-        if (!athleteIds.isEmpty()) {
-            try {
-                athleteService.updateAthletesStatus(
-                    new java.util.ArrayList<>(athleteIds), 
-                    Athlete.AthleteStatus.DONE
-                );
-                log.info("Updated {} athletes status to DONE after creating matches", athleteIds.size());
-            } catch (Exception e) {
-                log.error("Error updating athlete statuses after bulk create matches", e);
-                // Don't fail the entire operation if status update fails
-            }
+        try {
+            return UUID.fromString(athleteId);
+        } catch (IllegalArgumentException e) {
+            return null;
         }
-        
-        log.info("Bulk create completed. Successfully created {} out of {} matches", 
-                createdMatches.size(), requests.size());
-        
-        return createdMatches;
+    }
+
+    private String normalizeAthleteId(String athleteId) {
+        UUID id = parseAthleteId(athleteId);
+        return id != null ? id.toString() : null;
     }
 
     @Override
@@ -236,48 +318,24 @@ public class MatchServiceImpl implements MatchService {
     @Override
     @Transactional(readOnly = true)
     public MatchScoreboardDto getScoreboard(String matchId) {
+        return scoreboardCache.get(matchId, this::withLiveScores, () -> loadScoreboard(matchId));
+    }
+
+    private MatchScoreboardDto loadScoreboard(String matchId) {
         Match match = matchRepository.findByIdAndDeletedAtIsNull(matchId)
                 .orElseThrow(() -> new ResourceNotFoundException(
                         String.format(MessageConstants.MATCH_NOT_FOUND, matchId)));
 
-        MatchScoreboardSnapshot snapshot = scoreboardSnapshotRepository.findByMatchId(matchId)
-                .orElseGet(() -> createInitialSnapshot(match));
+        MatchScoreboardSnapshot snapshot = currentSnapshot(match);
 
         String statusText = getStatusText(match.getStatus());
 
-        // Get weight class name instead of ID
-        String weightClassName = null;
-        if (match.getWeightClassId() != null && !match.getWeightClassId().isEmpty()) {
-            weightClassName = weightClassRepository.findById(match.getWeightClassId())
-                    .map(wc -> wc.getWeightClass())
-                    .orElse(null);
-        }
+        // Weight class name and field location instead of IDs
+        String weightClassName = scoreboardCache.weightClassName(match.getWeightClassId());
+        String fieldLocation = scoreboardCache.fieldLocation(match.getFieldId());
 
-        // Get field location instead of ID
-        String fieldLocation = null;
-        if (match.getFieldId() != null && !match.getFieldId().isEmpty()) {
-            fieldLocation = fieldRepository.findById(match.getFieldId())
-                    .map(f -> f.getLocation())
-                    .orElse(null);
-        }
-
-        // Get duration for current round (main round or tiebreaker)
-        Integer currentRoundDuration;
-        if (match.getCurrentRound() <= 2) {
-            currentRoundDuration = match.getMainRoundDurationSeconds();
-        } else {
-            currentRoundDuration = match.getTiebreakerDurationSeconds();
-        }
-        
-        // Try to get from MatchRound if exists
-        final Integer[] finalDuration = {currentRoundDuration};
-        matchRoundRepository.findByMatchIdAndRoundNumber(match.getId(), match.getCurrentRound())
-                .ifPresent(round -> {
-                    if (round.getScheduledDurationSeconds() != null) {
-                        finalDuration[0] = round.getScheduledDurationSeconds();
-                    }
-                });
-        currentRoundDuration = finalDuration[0];
+        // Get duration for current round (MatchRound if exists, else main round or tiebreaker)
+        Integer currentRoundDuration = roundDurationSeconds(match, match.getCurrentRound());
 
         return MatchScoreboardDto.builder()
                 .matchId(match.getId())
@@ -317,6 +375,27 @@ public class MatchServiceImpl implements MatchService {
                 .build();
     }
 
+    /**
+     * Cached scoreboard with the counters of the live scoreboard, or null when the match is not live
+     */
+    private MatchScoreboardDto withLiveScores(MatchScoreboardDto cached) {
+        return liveScoreboardRegistry.peek(cached.getMatchId())
+                .map(live -> live.copyTo(MatchScoreboardSnapshot.builder().matchId(cached.getMatchId()).build()))
+                .map(snapshot -> cached.toBuilder()
+                        .redAthlete(cached.getRedAthlete().toBuilder()
+                                .score(snapshot.getRedScore())
+                                .medicalTimeoutCount(snapshot.getRedMedicalTimeoutCount())
+                                .warningCount(snapshot.getRedWarningCount())
+                                .build())
+                        .blueAthlete(cached.getBlueAthlete().toBuilder()
+                                .score(snapshot.getBlueScore())
+                                .medicalTimeoutCount(snapshot.getBlueMedicalTimeoutCount())
+                                .warningCount(snapshot.getBlueWarningCount())
+                                .build())
+                        .build())
+                .orElse(null);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<MatchEventDto> getEventHistory(String matchId) {
@@ -324,6 +403,9 @@ public class MatchServiceImpl implements MatchService {
                 .orElseThrow(() -> new ResourceNotFoundException(
                         String.format(MessageConstants.MATCH_NOT_FOUND, matchId)));
 
+        // Make sure events still waiting in the write-behind queue are included
+        matchEventWriteBehindQueue.flush(match.getId());
+
         List<MatchEvent> events = matchEventRepository.findByMatchIdOrderByCreatedAtAsc(matchId);
 
         return events.stream()
@@ -344,6 +426,10 @@ public class MatchServiceImpl implements MatchService {
                     ErrorCode.MATCH_NOT_IN_PROGRESS.getCode());
         }
 
+        // The server clock is authoritative for the time of the event when it tracks this round
+        request.setTimestampInRoundSeconds(matchClock.elapsedSeconds(match.getId(), request.getRound())
+                .orElse(request.getTimestampInRoundSeconds()));
+
         // Create event
         MatchEvent event = MatchEvent.builder()
                 .match(match)
@@ -354,15 +440,30 @@ public class MatchServiceImpl implements MatchService {
                 .corner(request.getCorner())
                 .eventType(request.getEventType())
                 .description(buildEventDescription(request))
+                .idempotencyKey(request.getIdempotencyKey())
                 .build();
 
-        matchEventRepository.save(event);
+        // Exactly once per idempotency key: a retried request or a second consensus of the same window is rejected
+        if (!liveScoreboardRegistry.reserveKey(match.getId(), request.getIdempotencyKey())) {
+            throw new BusinessException(
+                    String.format(MessageConstants.MATCH_EVENT_DUPLICATE, request.getIdempotencyKey()),
+                    ErrorCode.MATCH_EVENT_DUPLICATE.getCode());
+        }
 
-        // Update scoreboard snapshot
-        updateScoreboardSnapshot(match, event);
+        // Apply the event to the live scoreboard and queue it for batched persistence once this
+        // request commits; the event and snapshot rows are written behind by MatchEventWriteBehindQueue
+        // (a rollback evicts the live state, which is then rebuilt from stored and queued events)
+        liveScoreboardRegistry.apply(match.getId(), event);
+        try {
+            matchEventWriteBehindQueue.enqueue(match.getId(), event);
+        } catch (RuntimeException e) {
+            liveScoreboardRegistry.releaseKey(match.getId(), request.getIdempotencyKey());
+            throw e;
+        }
+        scoreboardCache.scoresChanged(match.getId());
 
-        // Broadcast update via WebSocket
-        broadcastScoreboardUpdate(match.getId());
+        // Broadcast changed counters only
+        scoreboardStreamBroadcaster.publishScores(match.getId(), () -> currentSnapshot(match));
 
         log.info("Score event recorded for match {}: {} {} for {}", 
                 match.getId(), request.getEventType(), request.getCorner(), request.getRound());
@@ -374,6 +475,10 @@ public class MatchServiceImpl implements MatchService {
                 .orElseThrow(() -> new ResourceNotFoundException(
                         String.format(MessageConstants.MATCH_NOT_FOUND, request.getMatchId())));
 
+        // Persist pending events and snapshot before every state transition
+        matchEventWriteBehindQueue.flush(match.getId());
+        scoreboardCache.invalidate(match.getId());
+
         switch (request.getAction()) {
             case START:
                 if (match.getStatus() != MatchStatus.PENDING && match.getStatus() != MatchStatus.PAUSED) {
@@ -382,6 +487,13 @@ public class MatchServiceImpl implements MatchService {
                             ErrorCode.INVALID_MATCH_STATUS.getCode());
                 }
                 
+                // Bracket matches wait for the winners of the previous round
+                if (match.getRedAthleteId() == null || match.getBlueAthleteId() == null) {
+                    throw new BusinessException(
+                            MessageConstants.MATCH_ATHLETES_NOT_DECIDED,
+                            ErrorCode.MATCH_ATHLETES_NOT_DECIDED.getCode());
+                }
+
                 // Validate assessors before starting match
                 List<MatchAssessor> allAssessors = matchAssessorRepository.findByMatchId(match.getId());
                 long assessorCount = allAssessors.size();
@@ -476,6 +588,10 @@ public class MatchServiceImpl implements MatchService {
                             round.setStartedAt(LocalDateTime.now());
                             matchRoundRepository.save(round);
                         });
+                if (!matchClock.resume(match.getId(), match.getCurrentRound())) {
+                    matchClock.start(match.getId(), match.getCurrentRound(),
+                            roundDurationSeconds(match, match.getCurrentRound()), 0);
+                }
                 break;
 
             case PAUSE:
@@ -492,6 +608,7 @@ public class MatchServiceImpl implements MatchService {
                             round.setStatus(MatchStatus.PAUSED);
                             matchRoundRepository.save(round);
                         });
+                matchClock.pause(match.getId());
                 break;
 
             case RESUME:
@@ -508,15 +625,31 @@ public class MatchServiceImpl implements MatchService {
                             round.setStatus(MatchStatus.IN_PROGRESS);
                             matchRoundRepository.save(round);
                         });
+                if (!matchClock.resume(match.getId(), match.getCurrentRound())) {
+                    // Clock state was lost (restart); paused time is unknown, so the round clock restarts
+                    log.warn("No clock for match {} round {}, restarting round clock", match.getId(), match.getCurrentRound());
+                    matchClock.start(match.getId(), match.getCurrentRound(),
+                            roundDurationSeconds(match, match.getCurrentRound()), 0);
+                }
                 break;
 
             case NEXT_ROUND:
+                // The round was already ended (server clock and referee screen both end rounds on time)
+                if (request.getCurrentRound() != null
+                        && (match.getStatus() == MatchStatus.ENDED || !request.getCurrentRound().equals(match.getCurrentRound()))) {
+                    log.info("Ignoring NEXT_ROUND for match {}: round {} already ended", match.getId(), request.getCurrentRound());
+                    return;
+                }
                 if (match.getStatus() != MatchStatus.IN_PROGRESS && match.getStatus() != MatchStatus.PAUSED) {
                     throw new BusinessException(
                             MessageConstants.INVALID_MATCH_STATUS,
                             ErrorCode.INVALID_MATCH_STATUS.getCode());
                 }
                 
+                if (match.getCurrentRound() >= match.getTotalRounds()) {
+                    requireDecidedWinner(match, request);
+                }
+
                 // End current round
                 matchRoundRepository.findByMatchIdAndRoundNumber(match.getId(), match.getCurrentRound())
                         .ifPresent(currentRound -> {
@@ -528,13 +661,10 @@ public class MatchServiceImpl implements MatchService {
                                         currentRound.getStartedAt(), LocalDateTime.now()).getSeconds();
                                 currentRound.setDurationSeconds((int) durationSeconds);
                             }
-                            // Get current scores from snapshot
-                            MatchScoreboardSnapshot snapshot = scoreboardSnapshotRepository.findByMatchId(match.getId())
-                                    .orElse(null);
-                            if (snapshot != null) {
-                                currentRound.setRedScore(snapshot.getRedScore());
-                                currentRound.setBlueScore(snapshot.getBlueScore());
-                            }
+                            // Get current scores from live scoreboard
+                            LiveScoreboardRegistry.LiveScoreboard live = liveScoreboardRegistry.getOrLoad(match.getId());
+                            currentRound.setRedScore(live.getRedScore());
+                            currentRound.setBlueScore(live.getBlueScore());
                             matchRoundRepository.save(currentRound);
                         });
                 
@@ -555,6 +685,10 @@ public class MatchServiceImpl implements MatchService {
                     } else if (finalScoreboard.getBlueAthlete().getScore() > finalScoreboard.getRedAthlete().getScore()) {
                         winner = "XANH";
                         winnerCorner = Corner.BLUE;
+                    } else if (request.getWinnerCorner() != null) {
+                        // Tie decided by the referee
+                        winnerCorner = request.getWinnerCorner();
+                        winner = winnerCorner == Corner.RED ? "ĐỎ" : "XANH";
                     } else {
                         winner = "HÒA";
                         // winnerCorner remains null for tie
@@ -563,6 +697,13 @@ public class MatchServiceImpl implements MatchService {
                     // Set winner corner in match
                     match.setWinnerCorner(winnerCorner);
                     matchRepository.save(match);
+                    bracketService.advanceWinner(match);
+                    
+                    // Persist final snapshot before acknowledging the end of the match and release live state
+                    matchEventWriteBehindQueue.release(match.getId());
+                    liveScoreboardRegistry.evict(match.getId());
+                    scoreboardCache.evict(match.getId());
+                    matchClock.stop(match.getId());
                     
                     // Notify all assessors and disconnect them
                     webSocketConnectionEventListener.notifyMatchEndedAndDisconnect(
@@ -580,6 +721,7 @@ public class MatchServiceImpl implements MatchService {
                                 nextRoundEntity.setStartedAt(LocalDateTime.now());
                                 matchRoundRepository.save(nextRoundEntity);
                             });
+                    matchClock.start(match.getId(), nextRound, roundDurationSeconds(match, nextRound), 0);
                     
                     log.info("Match {} moved to round {}", match.getId(), nextRound);
                 }
@@ -598,6 +740,7 @@ public class MatchServiceImpl implements MatchService {
                             "Không thể kết thúc trận đấu khi trận đấu chưa bắt đầu. Trạng thái hiện tại: " + match.getStatus(),
                             ErrorCode.INVALID_MATCH_STATUS.getCode());
                 }
+                requireDecidedWinner(match, request);
                 
                 match.setStatus(MatchStatus.ENDED);
                 match.setEndedAt(LocalDateTime.now());
@@ -615,13 +758,10 @@ public class MatchServiceImpl implements MatchService {
                                             currentRound.getStartedAt(), LocalDateTime.now()).getSeconds();
                                     currentRound.setDurationSeconds((int) durationSeconds);
                                 }
-                                // Get current scores from snapshot
-                                MatchScoreboardSnapshot snapshot = scoreboardSnapshotRepository.findByMatchId(match.getId())
-                                        .orElse(null);
-                                if (snapshot != null) {
-                                    currentRound.setRedScore(snapshot.getRedScore());
-                                    currentRound.setBlueScore(snapshot.getBlueScore());
-                                }
+                                // Get current scores from live scoreboard
+                                LiveScoreboardRegistry.LiveScoreboard live = liveScoreboardRegistry.getOrLoad(match.getId());
+                                currentRound.setRedScore(live.getRedScore());
+                                currentRound.setBlueScore(live.getBlueScore());
                                 matchRoundRepository.save(currentRound);
                             }
                         });
@@ -638,6 +778,10 @@ public class MatchServiceImpl implements MatchService {
                 } else if (finalScoreboard.getBlueAthlete().getScore() > finalScoreboard.getRedAthlete().getScore()) {
                     winner = "XANH";
                     winnerCorner = Corner.BLUE;
+                } else if (request.getWinnerCorner() != null) {
+                    // Tie decided by the referee
+                    winnerCorner = request.getWinnerCorner();
+                    winner = winnerCorner == Corner.RED ? "ĐỎ" : "XANH";
                 } else {
                     winner = "HÒA";
                     // winnerCorner remains null for tie
@@ -646,11 +790,40 @@ public class MatchServiceImpl implements MatchService {
                 // Set winner corner in match
                 match.setWinnerCorner(winnerCorner);
                 matchRepository.save(match);
+                bracketService.advanceWinner(match);
+                
+                // Persist final snapshot before acknowledging the end of the match and release live state
+                matchEventWriteBehindQueue.release(match.getId());
+                liveScoreboardRegistry.evict(match.getId());
+                scoreboardCache.evict(match.getId());
+                matchClock.stop(match.getId());
                 
                 // Notify all assessors and disconnect them
                 webSocketConnectionEventListener.notifyMatchEndedAndDisconnect(
                         match.getId(), redScore, blueScore, winner);
                 break;
+
+            case DECIDE_WINNER:
+                // Matches that ended tied before a decision was required
+                if (match.getStatus() != MatchStatus.ENDED) {
+                    throw new BusinessException(
+                            MessageConstants.INVALID_MATCH_STATUS,
+                            ErrorCode.INVALID_MATCH_STATUS.getCode());
+                }
+                if (match.getWinnerCorner() != null) {
+                    throw new BusinessException(
+                            MessageConstants.MATCH_WINNER_ALREADY_DECIDED,
+                            ErrorCode.INVALID_MATCH_STATUS.getCode());
+                }
+                if (request.getWinnerCorner() == null) {
+                    throw new BusinessException(
+                            MessageConstants.MATCH_WINNER_REQUIRED,
+                            ErrorCode.MATCH_WINNER_REQUIRED.getCode());
+                }
+                match.setWinnerCorner(request.getWinnerCorner());
+                matchRepository.save(match);
+                bracketService.advanceWinner(match);
+                break;
         }
 
         matchRepository.save(match);
@@ -661,28 +834,83 @@ public class MatchServiceImpl implements MatchService {
         log.info("Match {} control action: {}", match.getId(), request.getAction());
     }
 
+    /**
+     * A tied bracket match cannot end without the referee's decision: nobody would advance to its next match
+     */
+    private void requireDecidedWinner(Match match, ControlMatchRequest request) {
+        if (match.getNextMatchId() == null || request.getWinnerCorner() != null) {
+            return;
+        }
+        LiveScoreboardRegistry.LiveScoreboard live = liveScoreboardRegistry.getOrLoad(match.getId());
+        if (live.getRedScore() == live.getBlueScore()) {
+            throw new BusinessException(
+                    MessageConstants.MATCH_WINNER_REQUIRED,
+                    ErrorCode.MATCH_WINNER_REQUIRED.getCode());
+        }
+    }
+
+    /**
+     * End a round whose scheduled duration has elapsed on the server clock.
+     * A tied last round is not ended: the operator adds a tiebreaker (total rounds) or ends the match.
+     */
+    @EventListener
+    public void onRoundExpired(MatchClock.RoundExpiredEvent event) {
+        Match match = matchRepository.findByIdAndDeletedAtIsNull(event.getMatchId()).orElse(null);
+        if (match != null && match.getTotalRounds() != null && event.getRound() >= match.getTotalRounds()) {
+            LiveScoreboardRegistry.LiveScoreboard live = liveScoreboardRegistry.getOrLoad(match.getId());
+            if (live.getRedScore() == live.getBlueScore()) {
+                log.info("Last round {} of match {} expired with a tie, left to the operator", event.getRound(), match.getId());
+                return;
+            }
+        }
+        controlMatch(ControlMatchRequest.builder()
+                .matchId(event.getMatchId())
+                .action(MatchControlAction.NEXT_ROUND)
+                .currentRound(event.getRound())
+                .build());
+    }
+
     @Override
     public void undoLastEvent(String matchId) {
         Match match = matchRepository.findByIdAndDeletedAtIsNull(matchId)
                 .orElseThrow(() -> new ResourceNotFoundException(
                         String.format(MessageConstants.MATCH_NOT_FOUND, matchId)));
 
-        MatchEvent lastEvent = matchEventRepository.findFirstByMatchIdOrderByCreatedAtDesc(matchId)
+        // Pop the last event from the live scoreboard (reverts its delta)
+        LiveScoreboardRegistry.AppliedEvent lastEvent = liveScoreboardRegistry.undo(match.getId())
                 .orElseThrow(() -> new BusinessException(
                         MessageConstants.MATCH_CANNOT_UNDO,
                         ErrorCode.MATCH_CANNOT_UNDO.getCode()));
+        scoreboardCache.scoresChanged(match.getId());
 
-        // Delete the last event
-        matchEventRepository.delete(lastEvent);
+        // Drop the event from the write-behind queue, or delete it if it was already written
+        // (refused while the event's own request has not committed yet)
+        if (!matchEventWriteBehindQueue.discard(match.getId(), lastEvent.getEvent())) {
+            matchEventRepository.deleteById(lastEvent.getEventId());
+        }
 
-        // Recalculate scoreboard snapshot
-        List<MatchEvent> remainingEvents = matchEventRepository.findByMatchIdOrderByCreatedAtAsc(matchId);
-        recalculateScoreboardSnapshot(match, remainingEvents);
+        // Broadcast changed counters only
+        scoreboardStreamBroadcaster.publishScores(matchId, () -> currentSnapshot(match));
+
+        log.info("Last event undone for match {}", matchId);
+    }
+
+    @Override
+    public MatchScoreboardDto rebuildScoreboard(String matchId) {
+        Match match = matchRepository.findByIdAndDeletedAtIsNull(matchId)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        String.format(MessageConstants.MATCH_NOT_FOUND, matchId)));
+
+        // Full recalculation from stored events (pending ones are written first)
+        matchEventWriteBehindQueue.flush(match.getId());
+        liveScoreboardRegistry.rebuild(match.getId());
+        scoreboardCache.scoresChanged(match.getId());
+        matchEventWriteBehindQueue.flush(match.getId());
 
-        // Broadcast update via WebSocket
         broadcastScoreboardUpdate(matchId);
 
-        log.info("Last event undone for match {}", matchId);
+        log.info("Scoreboard rebuilt for match {}", matchId);
+        return getScoreboard(matchId);
     }
 
     @Override
@@ -691,6 +919,7 @@ public class MatchServiceImpl implements MatchService {
         Match match = matchRepository.findByIdAndDeletedAtIsNull(matchId)
                 .orElseThrow(() -> new ResourceNotFoundException(
                         String.format(MessageConstants.MATCH_NOT_FOUND, matchId)));
+        scoreboardCache.invalidate(matchId);
 
         // Only allow updating if match hasn't started yet
         if (match.getStatus() != MatchStatus.PENDING) {
@@ -731,6 +960,7 @@ public class MatchServiceImpl implements MatchService {
         Match match = matchRepository.findByIdAndDeletedAtIsNull(matchId)
                 .orElseThrow(() -> new ResourceNotFoundException(
                         String.format(MessageConstants.MATCH_NOT_FOUND, matchId)));
+        scoreboardCache.invalidate(matchId);
 
         // Only allow updating if match hasn't started yet
         if (match.getStatus() != MatchStatus.PENDING) {
@@ -771,6 +1001,7 @@ public class MatchServiceImpl implements MatchService {
         Match match = matchRepository.findByIdAndDeletedAtIsNull(matchId)
                 .orElseThrow(() -> new ResourceNotFoundException(
                         String.format(MessageConstants.MATCH_NOT_FOUND, matchId)));
+        scoreboardCache.invalidate(matchId);
 
         // Only allow updating if match hasn't started yet
         if (match.getStatus() != MatchStatus.PENDING) {
@@ -810,6 +1041,7 @@ public class MatchServiceImpl implements MatchService {
         Match match = matchRepository.findByIdAndDeletedAtIsNull(matchId)
                 .orElseThrow(() -> new ResourceNotFoundException(
                         String.format(MessageConstants.MATCH_NOT_FOUND, matchId)));
+        scoreboardCache.invalidate(matchId);
 
         // Only allow updating if match hasn't started yet
         if (match.getStatus() != MatchStatus.PENDING) {
@@ -916,6 +1148,7 @@ public class MatchServiceImpl implements MatchService {
         Match match = matchRepository.findByIdAndDeletedAtIsNull(matchId)
                 .orElseThrow(() -> new ResourceNotFoundException(
                         String.format(MessageConstants.MATCH_NOT_FOUND, matchId)));
+        scoreboardCache.invalidate(matchId);
 
         // Only allow updating if match hasn't started yet
         if (match.getStatus() != MatchStatus.PENDING) {
@@ -942,9 +1175,7 @@ public class MatchServiceImpl implements MatchService {
 
     private void broadcastScoreboardUpdate(String matchId) {
         try {
-            MatchScoreboardDto scoreboard = getScoreboard(matchId);
-            messagingTemplate.convertAndSend("/topic/match/" + matchId + "/scoreboard", scoreboard);
-            log.debug("Broadcasted scoreboard update for match {}", matchId);
+            scoreboardStreamBroadcaster.publishFull(matchId, () -> getScoreboard(matchId));
         } catch (Exception e) {
             log.error("Error broadcasting scoreboard update for match {}", matchId, e);
         }
@@ -952,6 +1183,13 @@ public class MatchServiceImpl implements MatchService {
 
     private void createRoundsForMatch(Match match) {
         log.info("Creating {} rounds for match {}", match.getTotalRounds(), match.getId());
+        matchRoundRepository.saveAll(buildRounds(match));
+        log.info("Created {} rounds for match {} (2 main + {} tiebreaker)", 
+                match.getTotalRounds(), match.getId(), Math.max(0, match.getTotalRounds() - 2));
+    }
+
+    static List<MatchRound> buildRounds(Match match) {
+        List<MatchRound> rounds = new ArrayList<>(match.getTotalRounds());
         for (int roundNumber = 1; roundNumber <= match.getTotalRounds(); roundNumber++) {
             // Round 1-2: Main rounds (hiệp chính), Round 3+: Tiebreaker (hiệp phụ)
             RoundType roundType = (roundNumber <= 2) ? RoundType.MAIN : RoundType.TIEBREAKER;
@@ -969,14 +1207,17 @@ public class MatchServiceImpl implements MatchService {
                     .blueScore(0)
                     .scheduledDurationSeconds(scheduledDuration)
                     .build();
-            matchRoundRepository.save(round);
+            rounds.add(round);
         }
-        log.info("Created {} rounds for match {} (2 main + {} tiebreaker)", 
-                match.getTotalRounds(), match.getId(), Math.max(0, match.getTotalRounds() - 2));
+        return rounds;
     }
 
     private MatchScoreboardSnapshot createInitialSnapshot(Match match) {
-        MatchScoreboardSnapshot snapshot = MatchScoreboardSnapshot.builder()
+        return scoreboardSnapshotRepository.save(buildInitialSnapshot(match));
+    }
+
+    static MatchScoreboardSnapshot buildInitialSnapshot(Match match) {
+        return MatchScoreboardSnapshot.builder()
                 .matchId(match.getId())
                 .redScore(0)
                 .blueScore(0)
@@ -986,80 +1227,29 @@ public class MatchServiceImpl implements MatchService {
                 .blueWarningCount(0)
                 .lastEventId(null) // NULL for initial state (no events yet)
                 .build();
-        return scoreboardSnapshotRepository.save(snapshot);
     }
 
-    private void updateScoreboardSnapshot(Match match, MatchEvent event) {
-        MatchScoreboardSnapshot snapshot = scoreboardSnapshotRepository.findByMatchId(match.getId())
-                .orElseGet(() -> createInitialSnapshot(match));
-
-        // Calculate scores from all events
-        List<MatchEvent> allEvents = matchEventRepository.findByMatchIdOrderByCreatedAtAsc(match.getId());
-        recalculateScoreboardSnapshot(match, allEvents);
+    /**
+     * Current counters of a match: live state when the match is active in memory,
+     * otherwise the persisted snapshot
+     */
+    private MatchScoreboardSnapshot currentSnapshot(Match match) {
+        return liveScoreboardRegistry.peek(match.getId())
+                .map(live -> live.copyTo(MatchScoreboardSnapshot.builder().matchId(match.getId()).build()))
+                .orElseGet(() -> scoreboardSnapshotRepository.findByMatchId(match.getId())
+                        .orElseGet(() -> createInitialSnapshot(match)));
     }
 
-    private void recalculateScoreboardSnapshot(Match match, List<MatchEvent> events) {
-        MatchScoreboardSnapshot snapshot = scoreboardSnapshotRepository.findByMatchId(match.getId())
-                .orElseGet(() -> createInitialSnapshot(match));
-
-        int redScore = 0;
-        int blueScore = 0;
-        int redMedicalTimeoutCount = 0;
-        int blueMedicalTimeoutCount = 0;
-        int redWarningCount = 0;
-        int blueWarningCount = 0;
-        String lastEventId = null;
-
-        for (MatchEvent event : events) {
-            if (event.getCorner() == Corner.RED) {
-                switch (event.getEventType()) {
-                    case SCORE_PLUS_1:
-                        redScore += 1;
-                        break;
-                    case SCORE_PLUS_2:
-                        redScore += 2;
-                        break;
-                    case SCORE_MINUS_1:
-                        redScore = Math.max(0, redScore - 1);
-                        break;
-                    case MEDICAL_TIMEOUT:
-                        redMedicalTimeoutCount++;
-                        break;
-                    case WARNING:
-                        redWarningCount++;
-                        break;
-                }
-            } else if (event.getCorner() == Corner.BLUE) {
-                switch (event.getEventType()) {
-                    case SCORE_PLUS_1:
-                        blueScore += 1;
-                        break;
-                    case SCORE_PLUS_2:
-                        blueScore += 2;
-                        break;
-                    case SCORE_MINUS_1:
-                        blueScore = Math.max(0, blueScore - 1);
-                        break;
-                    case MEDICAL_TIMEOUT:
-                        blueMedicalTimeoutCount++;
-                        break;
-                    case WARNING:
-                        blueWarningCount++;
-                        break;
-                }
-            }
-            lastEventId = event.getId();
-        }
-
-        snapshot.setRedScore(redScore);
-        snapshot.setBlueScore(blueScore);
-        snapshot.setRedMedicalTimeoutCount(redMedicalTimeoutCount);
-        snapshot.setBlueMedicalTimeoutCount(blueMedicalTimeoutCount);
-        snapshot.setRedWarningCount(redWarningCount);
-        snapshot.setBlueWarningCount(blueWarningCount);
-        snapshot.setLastEventId(lastEventId);
-
-        scoreboardSnapshotRepository.save(snapshot);
+    /**
+     * Scheduled duration of a round: MatchRound.scheduledDurationSeconds, else main round / tiebreaker duration
+     */
+    private Integer roundDurationSeconds(Match match, int roundNumber) {
+        Integer fallback = roundNumber <= 2
+                ? match.getMainRoundDurationSeconds()
+                : match.getTiebreakerDurationSeconds();
+        return matchRoundRepository.findByMatchIdAndRoundNumber(match.getId(), roundNumber)
+                .map(MatchRound::getScheduledDurationSeconds)
+                .orElse(fallback);
     }
 
     private String buildEventDescription(RecordScoreEventRequest request) {
@@ -1111,6 +1301,7 @@ public class MatchServiceImpl implements MatchService {
         Match match = matchRepository.findByIdAndDeletedAtIsNull(matchId)
                 .orElseThrow(() -> new ResourceNotFoundException(
                         String.format(MessageConstants.MATCH_NOT_FOUND, matchId)));
+        scoreboardCache.invalidate(matchId);
 
         // Only allow updating if match hasn't started yet
         if (match.getStatus() != MatchStatus.PENDING) {
@@ -1145,6 +1336,7 @@ public class MatchServiceImpl implements MatchService {
         Match match = matchRepository.findByIdAndDeletedAtIsNull(matchId)
                 .orElseThrow(() -> new ResourceNotFoundException(
                         String.format(MessageConstants.MATCH_NOT_FOUND, matchId)));
+        scoreboardCache.invalidate(matchId);
 
         // Only allow updating if match hasn't started yet
         if (match.getStatus() != MatchStatus.PENDING) {
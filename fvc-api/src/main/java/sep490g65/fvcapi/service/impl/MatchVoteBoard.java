@@ -0,0 +1,213 @@
+package sep490g65.fvcapi.service.impl;
+
+import sep490g65.fvcapi.entity.MatchAssessor;
+import sep490g65.fvcapi.enums.Corner;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free vote state of one fighting match.
+ * Each assessor position (1-6) owns one slot holding its latest vote, packed together with the time
+ * it was cast, and one atomic counter per corner×score bucket tracks how many live votes agree.
+ * Casting, replacing, expiring and clearing a vote all go through a single atomic operation on the
+ * slot, so exactly one thread adjusts the counters for each vote even when assessors press together.
+ * Votes belong to a consensus window identified by an epoch; reaching consensus closes the window with
+ * a compare-and-set, so only one of several concurrent votes over the threshold applies the score.
+ */
+final class MatchVoteBoard {
+
+    static final int MAX_POSITION = 6;
+    static final int MAX_SCORE = 2;
+
+    private static final Corner[] CORNERS = Corner.values();
+    private static final int CODE_BITS = 8;
+    private static final long CODE_MASK = (1L << CODE_BITS) - 1;
+
+    // Index = assessor position, value = (votedAtMillis << 8) | vote code, 0 = no vote
+    private final AtomicLongArray slots = new AtomicLongArray(MAX_POSITION + 1);
+
+    // Index = corner.ordinal() * MAX_SCORE + (score - 1), value = live votes in that bucket
+    private final AtomicIntegerArray buckets = new AtomicIntegerArray(CORNERS.length * MAX_SCORE);
+
+    // Current consensus window: even = open, odd = being closed (votes are being cleared).
+    // Seeded from the clock so keys derived from it differ across restarts
+    private final AtomicLong epoch = new AtomicLong(System.currentTimeMillis() << 1);
+
+    private volatile Roster roster;
+
+    /**
+     * Corner and score of a vote packed into one int (never 0)
+     */
+    static int pack(Corner corner, int score) {
+        return (corner.ordinal() << 4) | score;
+    }
+
+    static Corner cornerOf(int code) {
+        return CORNERS[code >>> 4];
+    }
+
+    static int scoreOf(int code) {
+        return code & 0xF;
+    }
+
+    /**
+     * Record the vote of a position, replacing its previous vote.
+     * Returns the number of live votes in the same bucket, including this one.
+     */
+    int vote(int position, int code, long now) {
+        long previous = slots.getAndSet(position, (now << CODE_BITS) | code);
+        if (previous != 0) {
+            buckets.decrementAndGet(bucketOf(codeOf(previous)));
+        }
+        return buckets.incrementAndGet(bucketOf(code));
+    }
+
+    /**
+     * Drop votes cast before the window, so stale presses never combine with a later action
+     */
+    void expire(long now, long windowMs) {
+        long cutoff = now - windowMs;
+        for (int position = 1; position <= MAX_POSITION; position++) {
+            long slot = slots.get(position);
+            if (slot != 0 && (slot >>> CODE_BITS) < cutoff && slots.compareAndSet(position, slot, 0)) {
+                buckets.decrementAndGet(bucketOf(codeOf(slot)));
+            }
+        }
+    }
+
+    /**
+     * Epoch of the open window. Waits out a concurrent close, which only clears the six slots,
+     * so a vote is never counted against a window whose counters are still being reset.
+     */
+    long epoch() {
+        long current = epoch.get();
+        while ((current & 1) != 0) {
+            Thread.onSpinWait();
+            current = epoch.get();
+        }
+        return current;
+    }
+
+    /**
+     * Close the given window and open the next one with no votes.
+     * Returns false when the window was already closed by another vote or a reset.
+     */
+    boolean claim(long windowEpoch) {
+        if (!epoch.compareAndSet(windowEpoch, windowEpoch + 1)) {
+            return false;
+        }
+        clear();
+        epoch.set(windowEpoch + 2);
+        return true;
+    }
+
+    /**
+     * Open a new window, discarding votes of the current one (reset between actions)
+     */
+    void nextWindow() {
+        while (!claim(epoch())) {
+            Thread.onSpinWait();
+        }
+    }
+
+    void clear() {
+        for (int position = 1; position <= MAX_POSITION; position++) {
+            long slot = slots.getAndSet(position, 0);
+            if (slot != 0) {
+                buckets.decrementAndGet(bucketOf(codeOf(slot)));
+            }
+        }
+    }
+
+    int count(int code) {
+        return buckets.get(bucketOf(code));
+    }
+
+    /**
+     * Code of the bucket with the most live votes, or 0 when nobody has voted
+     */
+    int leadingCode() {
+        int best = -1;
+        int bestCount = 0;
+        for (int bucket = 0; bucket < buckets.length(); bucket++) {
+            int count = buckets.get(bucket);
+            if (count > bestCount) {
+                best = bucket;
+                bestCount = count;
+            }
+        }
+        return best < 0 ? 0 : pack(CORNERS[best / MAX_SCORE], best % MAX_SCORE + 1);
+    }
+
+    /**
+     * Assessor id -> score of every live vote matching the code
+     */
+    Map<String, Integer> votersOf(int code) {
+        Map<String, Integer> voters = new HashMap<>();
+        Roster current = roster;
+        if (current == null) {
+            return voters;
+        }
+        for (int position = 1; position <= MAX_POSITION; position++) {
+            long slot = slots.get(position);
+            String assessorId = current.assessorIdAt(position);
+            if (slot != 0 && codeOf(slot) == code && assessorId != null) {
+                voters.put(assessorId, scoreOf(code));
+            }
+        }
+        return voters;
+    }
+
+    Roster getRoster() {
+        return roster;
+    }
+
+    void setRoster(Roster roster) {
+        this.roster = roster;
+    }
+
+    private static int codeOf(long slot) {
+        return (int) (slot & CODE_MASK);
+    }
+
+    private static int bucketOf(int code) {
+        return cornerOf(code).ordinal() * MAX_SCORE + scoreOf(code) - 1;
+    }
+
+    /**
+     * Assessors of a match by position, loaded once per match instead of on every vote
+     */
+    static final class Roster {
+        private final String[] assessorIdByPosition = new String[MAX_POSITION + 1];
+        private final Map<String, Integer> positionByAssessorId = new HashMap<>();
+        private final int size;
+
+        Roster(List<MatchAssessor> assessors) {
+            this.size = assessors.size();
+            for (MatchAssessor assessor : assessors) {
+                Integer position = assessor.getPosition();
+                if (position != null && position >= 1 && position <= MAX_POSITION) {
+                    assessorIdByPosition[position] = assessor.getId();
+                    positionByAssessorId.put(assessor.getId(), position);
+                }
+            }
+        }
+
+        Integer positionOf(String assessorId) {
+            return positionByAssessorId.get(assessorId);
+        }
+
+        String assessorIdAt(int position) {
+            return assessorIdByPosition[position];
+        }
+
+        int size() {
+            return size;
+        }
+    }
+}
@@ -26,6 +26,7 @@ import sep490g65.fvcapi.utils.ResponseUtils;
 public class MusicContentServiceImpl implements MusicContentService {
 
     private final MusicIntegratedPerformanceRepository repository;
+    private final ReferenceDataCache referenceDataCache;
 
     private MusicContentResponse toDto(MusicIntegratedPerformance e) {
         return MusicContentResponse.builder()
@@ -71,7 +72,9 @@ public class MusicContentServiceImpl implements MusicContentService {
                 .isActive(request.getIsActive() != null ? request.getIsActive() : Boolean.TRUE)
                 .performersPerEntry(request.getPerformersPerEntry() != null ? request.getPerformersPerEntry() : 1)
                 .build();
-        return toDto(repository.save(e));
+        MusicIntegratedPerformance saved = repository.save(e);
+        referenceDataCache.musicContentChanged();
+        return toDto(saved);
     }
 
     @Override
@@ -94,7 +97,9 @@ public class MusicContentServiceImpl implements MusicContentService {
         if (request.getDescription() != null) e.setDescription(request.getDescription());
         if (request.getIsActive() != null) e.setIsActive(request.getIsActive());
         if (request.getPerformersPerEntry() != null) e.setPerformersPerEntry(request.getPerformersPerEntry());
-        return toDto(repository.save(e));
+        MusicIntegratedPerformance saved = repository.save(e);
+        referenceDataCache.musicContentChanged();
+        return toDto(saved);
     }
 
     @Override
@@ -109,6 +114,7 @@ public class MusicContentServiceImpl implements MusicContentService {
         
         // Hard delete: permanently remove
         repository.delete(e);
+        referenceDataCache.musicContentChanged();
     }
 }
 
@@ -0,0 +1,246 @@
+package sep490g65.fvcapi.service.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import sep490g65.fvcapi.entity.MusicIntegratedPerformance;
+import sep490g65.fvcapi.entity.VovinamFistConfig;
+import sep490g65.fvcapi.entity.VovinamFistItem;
+import sep490g65.fvcapi.entity.WeightClass;
+import sep490g65.fvcapi.repository.MusicIntegratedPerformanceRepository;
+import sep490g65.fvcapi.repository.VovinamFistConfigRepository;
+import sep490g65.fvcapi.repository.VovinamFistItemRepository;
+import sep490g65.fvcapi.repository.WeightClassRepository;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * In-memory snapshots of the reference catalogs used to label registrations and athletes:
+ * weight classes, Vovinam fist configs/items and music contents.
+ * Each catalog is loaded with a single query on first use and kept until a mutation through
+ * WeightClassService, VovinamFistConfigService or MusicContentService invalidates it.
+ * Like MatchScoreboardCache, the invalidation is repeated after the mutating transaction completes,
+ * and a snapshot loaded while its catalog changed is reloaded on the next read.
+ * Snapshots hold immutable views, never managed entities.
+ */
+@Component
+public class ReferenceDataCache {
+
+    private final Catalog<WeightClassRef> weightClasses;
+    private final Catalog<FistConfigRef> fistConfigs;
+    private final Catalog<FistItemRef> fistItems;
+    private final Catalog<MusicContentRef> musicContents;
+
+    public ReferenceDataCache(WeightClassRepository weightClassRepository,
+                              VovinamFistConfigRepository fistConfigRepository,
+                              VovinamFistItemRepository fistItemRepository,
+                              MusicIntegratedPerformanceRepository musicRepository,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        this.weightClasses = new Catalog<>("weight_class", meterRegistry, readOnly,
+                () -> weightClassRepository.findAll().stream().map(WeightClassRef::of).toList(), WeightClassRef::id);
+        this.fistConfigs = new Catalog<>("fist_config", meterRegistry, readOnly,
+                () -> fistConfigRepository.findAll().stream().map(FistConfigRef::of).toList(), FistConfigRef::id);
+        this.fistItems = new Catalog<>("fist_item", meterRegistry, readOnly,
+                () -> fistItemRepository.findAll().stream().map(FistItemRef::of).toList(), FistItemRef::id);
+        this.musicContents = new Catalog<>("music_content", meterRegistry, readOnly,
+                () -> musicRepository.findAll().stream().map(MusicContentRef::of).toList(), MusicContentRef::id);
+    }
+
+    public Optional<WeightClassRef> weightClass(String id) {
+        return weightClasses.get(id);
+    }
+
+    public Map<String, WeightClassRef> weightClasses(Collection<String> ids) {
+        return weightClasses.getAll(ids);
+    }
+
+    public Optional<FistConfigRef> fistConfig(String id) {
+        return fistConfigs.get(id);
+    }
+
+    public Map<String, FistConfigRef> fistConfigs(Collection<String> ids) {
+        return fistConfigs.getAll(ids);
+    }
+
+    /**
+     * First fist config whose name starts with the prefix, ignoring case
+     */
+    public Optional<FistConfigRef> fistConfigByNamePrefix(String prefix) {
+        return fistConfigs.findFirst(ref -> startsWithIgnoreCase(ref.name(), prefix));
+    }
+
+    public Optional<FistItemRef> fistItem(String id) {
+        return fistItems.get(id);
+    }
+
+    public Map<String, FistItemRef> fistItems(Collection<String> ids) {
+        return fistItems.getAll(ids);
+    }
+
+    /**
+     * First fist item whose name starts with the prefix, ignoring case
+     */
+    public Optional<FistItemRef> fistItemByNamePrefix(String prefix) {
+        return fistItems.findFirst(ref -> startsWithIgnoreCase(ref.name(), prefix));
+    }
+
+    public Optional<MusicContentRef> musicContent(String id) {
+        return musicContents.get(id);
+    }
+
+    public Map<String, MusicContentRef> musicContents(Collection<String> ids) {
+        return musicContents.getAll(ids);
+    }
+
+    /**
+     * First music content whose name starts with the prefix, ignoring case
+     */
+    public Optional<MusicContentRef> musicContentByNamePrefix(String prefix) {
+        return musicContents.findFirst(ref -> startsWithIgnoreCase(ref.name(), prefix));
+    }
+
+    public void weightClassesChanged() {
+        weightClasses.invalidate();
+    }
+
+    /**
+     * Fist configs and items change together (items belong to a config)
+     */
+    public void fistContentChanged() {
+        fistConfigs.invalidate();
+        fistItems.invalidate();
+    }
+
+    public void musicContentChanged() {
+        musicContents.invalidate();
+    }
+
+    private static boolean startsWithIgnoreCase(String value, String prefix) {
+        return value != null && prefix != null && value.toLowerCase().startsWith(prefix.toLowerCase());
+    }
+
+    public record WeightClassRef(String id, String weightClass, BigDecimal minWeight, BigDecimal maxWeight) {
+        static WeightClassRef of(WeightClass w) {
+            return new WeightClassRef(w.getId(), w.getWeightClass(), w.getMinWeight(), w.getMaxWeight());
+        }
+    }
+
+    public record FistConfigRef(String id, String name) {
+        static FistConfigRef of(VovinamFistConfig c) {
+            return new FistConfigRef(c.getId(), c.getName());
+        }
+    }
+
+    public record FistItemRef(String id, String name, String configId) {
+        static FistItemRef of(VovinamFistItem i) {
+            return new FistItemRef(i.getId(), i.getName(),
+                    i.getVovinamFistConfig() != null ? i.getVovinamFistConfig().getId() : null);
+        }
+    }
+
+    public record MusicContentRef(String id, String name) {
+        static MusicContentRef of(MusicIntegratedPerformance m) {
+            return new MusicContentRef(m.getId(), m.getName());
+        }
+    }
+
+    /**
+     * One catalog snapshot, tagged with the version it was loaded at
+     */
+    private static final class Catalog<T> {
+        private final Supplier<List<T>> loader;
+        private final Function<T, String> idOf;
+        private final TransactionTemplate readOnly;
+        private final AtomicLong version = new AtomicLong();
+        private volatile Snapshot<T> snapshot;
+        private final Counter hits;
+        private final Counter misses;
+
+        Catalog(String name, MeterRegistry meterRegistry, TransactionTemplate readOnly,
+                Supplier<List<T>> loader, Function<T, String> idOf) {
+            this.loader = loader;
+            this.idOf = idOf;
+            this.readOnly = readOnly;
+            this.hits = Counter.builder("fvc.reference.catalog").tag("catalog", name).tag("result", "hit").register(meterRegistry);
+            this.misses = Counter.builder("fvc.reference.catalog").tag("catalog", name).tag("result", "miss").register(meterRegistry);
+        }
+
+        Optional<T> get(String id) {
+            if (id == null || id.isBlank()) {
+                return Optional.empty();
+            }
+            return Optional.ofNullable(byId().get(id));
+        }
+
+        Map<String, T> getAll(Collection<String> ids) {
+            Map<String, T> all = byId();
+            Map<String, T> found = new LinkedHashMap<>();
+            for (String id : ids) {
+                T value = id != null ? all.get(id) : null;
+                if (value != null) {
+                    found.put(id, value);
+                }
+            }
+            return found;
+        }
+
+        Optional<T> findFirst(Predicate<T> filter) {
+            return byId().values().stream().filter(filter).findFirst();
+        }
+
+        private Map<String, T> byId() {
+            long current = version.get();
+            Snapshot<T> cached = snapshot;
+            if (cached != null && cached.version == current) {
+                hits.increment();
+                return cached.byId;
+            }
+            misses.increment();
+            Map<String, T> loaded = new LinkedHashMap<>();
+            List<T> values = readOnly.execute(status -> loader.get());
+            if (values != null) {
+                values.forEach(value -> loaded.put(idOf.apply(value), value));
+            }
+            Map<String, T> byId = Collections.unmodifiableMap(loaded);
+            // Tagged with the version read before loading: a concurrent change makes the next read reload
+            snapshot = new Snapshot<>(current, byId);
+            return byId;
+        }
+
+        void invalidate() {
+            Runnable bump = () -> {
+                version.incrementAndGet();
+                snapshot = null;
+            };
+            bump.run();
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        bump.run();
+                    }
+                });
+            }
+        }
+    }
+
+    private record Snapshot<T>(long version, Map<String, T> byId) {
+    }
+}
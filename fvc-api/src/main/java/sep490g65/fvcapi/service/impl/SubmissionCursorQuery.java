@@ -0,0 +1,135 @@
+package sep490g65.fvcapi.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import sep490g65.fvcapi.dto.request.SubmissionCursorRequest;
+import sep490g65.fvcapi.dto.response.CursorPageResponse;
+import sep490g65.fvcapi.dto.response.SubmissionSummaryResponse;
+import sep490g65.fvcapi.enums.ApplicationFormStatus;
+import sep490g65.fvcapi.enums.ApplicationFormType;
+import sep490g65.fvcapi.enums.ErrorCode;
+import sep490g65.fvcapi.enums.SubmissionCountMode;
+import sep490g65.fvcapi.exception.BusinessException;
+import sep490g65.fvcapi.repository.SubmittedApplicationFormRepository;
+import sep490g65.fvcapi.repository.SubmittedApplicationFormRepository.SummaryRow;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Keyset (cursor) listing of submissions shared by the tournament and club screens.
+ * Pages are taken by id from the cursor, so deep pages cost the same as the first one, and rows are
+ * read as column projections (see SubmittedApplicationFormRepository.SUMMARY_COLUMNS).
+ */
+@Component
+public class SubmissionCursorQuery {
+
+    private final SubmittedApplicationFormRepository submittedRepository;
+    private final ObjectMapper objectMapper;
+    private final long countCap;
+
+    public SubmissionCursorQuery(SubmittedApplicationFormRepository submittedRepository,
+                                 ObjectMapper objectMapper,
+                                 @Value("${app.submissions.cursor.count-cap:10000}") long countCap) {
+        this.submittedRepository = submittedRepository;
+        this.objectMapper = objectMapper;
+        this.countCap = countCap;
+    }
+
+    public CursorPageResponse<SubmissionSummaryResponse> page(String formId, ApplicationFormType formType,
+                                                             SubmissionCursorRequest request) {
+        String type = formType != null ? formType.name() : null;
+        String status = parseStatus(request.getStatus());
+        String filter = filterJson(request.getFilter());
+        String search = searchPattern(request.getSearch());
+        int size = request.getSize();
+
+        // One extra row tells whether there is a next page
+        List<SummaryRow> rows;
+        if (request.isAscending()) {
+            long afterId = request.getCursor() != null ? parseCursor(request.getCursor()) : 0L;
+            rows = submittedRepository.findSummariesAfter(formId, type, status, filter, search, afterId, size + 1);
+        } else {
+            long beforeId = request.getCursor() != null ? parseCursor(request.getCursor()) : Long.MAX_VALUE;
+            rows = submittedRepository.findSummariesBefore(formId, type, status, filter, search, beforeId, size + 1);
+        }
+        boolean hasNext = rows.size() > size;
+        List<SubmissionSummaryResponse> content = rows.stream().limit(size).map(this::toSummary).toList();
+
+        CursorPageResponse.CursorPageResponseBuilder<SubmissionSummaryResponse> page = CursorPageResponse.<SubmissionSummaryResponse>builder()
+                .content(content)
+                .size(content.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? String.valueOf(content.get(content.size() - 1).getId()) : null);
+        SubmissionCountMode count = request.getCount() != null ? request.getCount() : SubmissionCountMode.NONE;
+        if (count != SubmissionCountMode.NONE) {
+            long cap = count == SubmissionCountMode.EXACT ? Long.MAX_VALUE : countCap + 1;
+            long total = submittedRepository.countSummaries(formId, type, status, filter, search, cap);
+            boolean lowerBound = count == SubmissionCountMode.ESTIMATE && total > countCap;
+            page.total(lowerBound ? countCap : total).totalIsLowerBound(lowerBound);
+        }
+        return page.build();
+    }
+
+    private SubmissionSummaryResponse toSummary(SummaryRow row) {
+        return SubmissionSummaryResponse.builder()
+                .id(row.getId())
+                .formId(row.getFormId())
+                .formType(row.getFormType() != null ? ApplicationFormType.valueOf(row.getFormType()) : null)
+                .status(row.getStatus() != null ? ApplicationFormStatus.valueOf(row.getStatus()) : null)
+                .fullName(row.getFullName())
+                .email(row.getEmail())
+                .studentId(row.getStudentId())
+                .club(row.getClub())
+                .createdAt(row.getCreatedAt())
+                .build();
+    }
+
+    // The request pattern allows 19 digits, some of which are past Long.MAX_VALUE
+    private static long parseCursor(String cursor) {
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new BusinessException("Cursor không hợp lệ: " + cursor, ErrorCode.INVALID_INPUT.getCode());
+        }
+    }
+
+    private static String parseStatus(String status) {
+        if (status == null || status.isBlank()) {
+            return null;
+        }
+        try {
+            return ApplicationFormStatus.valueOf(status.trim().toUpperCase(Locale.ROOT)).name();
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("Trạng thái không hợp lệ: " + status, ErrorCode.INVALID_INPUT.getCode());
+        }
+    }
+
+    /**
+     * key:value pairs as a jsonb containment object; values are matched as strings
+     */
+    private String filterJson(List<String> filters) {
+        if (filters == null || filters.isEmpty()) {
+            return null;
+        }
+        ObjectNode node = objectMapper.createObjectNode();
+        for (String filter : filters) {
+            int colon = filter.indexOf(':');
+            node.put(filter.substring(0, colon), filter.substring(colon + 1));
+        }
+        return node.toString();
+    }
+
+    private static String searchPattern(String search) {
+        if (search == null || search.isBlank()) {
+            return null;
+        }
+        String escaped = search.trim()
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+}
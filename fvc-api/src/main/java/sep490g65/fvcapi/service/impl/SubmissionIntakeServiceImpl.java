@@ -0,0 +1,148 @@
+package sep490g65.fvcapi.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+import sep490g65.fvcapi.constants.MessageConstants;
+import sep490g65.fvcapi.dto.request.CreateSubmissionRequest;
+import sep490g65.fvcapi.dto.request.SubmitApplicationFormRequest;
+import sep490g65.fvcapi.dto.response.SubmissionReceiptResponse;
+import sep490g65.fvcapi.entity.SubmissionIntake;
+import sep490g65.fvcapi.enums.SubmissionIntakeStatus;
+import sep490g65.fvcapi.enums.SubmissionIntakeType;
+import sep490g65.fvcapi.exception.custom.ResourceNotFoundException;
+import sep490g65.fvcapi.repository.ApplicationFormConfigRepository;
+import sep490g65.fvcapi.repository.SubmissionIntakeRepository;
+import sep490g65.fvcapi.service.SubmissionIntakeService;
+import sep490g65.fvcapi.utils.TokenBucket;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Accepting a submission costs one insert: no validation against the form, no lookups, no enrichment.
+ * Admission is refused with 503 while the backlog of queued submissions is full, and with 429 when a form
+ * receives more than app.submissions.intake.per-form-rate submissions per second (after a burst allowance).
+ * A form gets a bucket only once it is known to exist (404 otherwise); buckets of forms that went quiet
+ * are dropped every minute, so the map only holds forms currently receiving submissions.
+ */
+@Service
+@Slf4j
+public class SubmissionIntakeServiceImpl implements SubmissionIntakeService {
+
+    private final SubmissionIntakeRepository intakeRepository;
+    private final ApplicationFormConfigRepository formConfigRepository;
+    private final SubmissionIntakeWorker intakeWorker;
+    private final ObjectMapper objectMapper;
+    private final long maxBacklog;
+    private final double perFormRate;
+    private final double perFormBurst;
+
+    // Key: formId
+    private final Map<String, TokenBucket> formBuckets = new ConcurrentHashMap<>();
+
+    public SubmissionIntakeServiceImpl(
+            SubmissionIntakeRepository intakeRepository,
+            ApplicationFormConfigRepository formConfigRepository,
+            SubmissionIntakeWorker intakeWorker,
+            ObjectMapper objectMapper,
+            @Value("${app.submissions.intake.max-backlog:5000}") long maxBacklog,
+            @Value("${app.submissions.intake.per-form-rate:20}") double perFormRate,
+            @Value("${app.submissions.intake.per-form-burst:100}") double perFormBurst) {
+        this.intakeRepository = intakeRepository;
+        this.formConfigRepository = formConfigRepository;
+        this.intakeWorker = intakeWorker;
+        this.objectMapper = objectMapper;
+        this.maxBacklog = maxBacklog;
+        this.perFormRate = perFormRate;
+        this.perFormBurst = perFormBurst;
+    }
+
+    @Override
+    @Transactional
+    public SubmissionReceiptResponse acceptTournamentSubmission(String formId, CreateSubmissionRequest request) {
+        return accept(SubmissionIntakeType.TOURNAMENT, formId, request);
+    }
+
+    @Override
+    @Transactional
+    public SubmissionReceiptResponse acceptApplicationSubmission(SubmitApplicationFormRequest request) {
+        return accept(SubmissionIntakeType.APPLICATION, request.getApplicationFormConfigId(), request);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SubmissionReceiptResponse getReceipt(String intakeId) {
+        return intakeRepository.findById(intakeId)
+                .map(this::toReceipt)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        String.format(MessageConstants.SUBMISSION_INTAKE_NOT_FOUND, intakeId)));
+    }
+
+    private SubmissionReceiptResponse accept(SubmissionIntakeType type, String formId, Object request) {
+        if (intakeWorker.backlog() >= maxBacklog) {
+            log.warn("Submission backlog full ({}), refusing {} submission for form {}", maxBacklog, type, formId);
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, MessageConstants.SUBMISSION_BACKLOG_FULL);
+        }
+        if (formId != null && !formBucket(formId).tryAcquire(perFormRate, perFormBurst)) {
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, MessageConstants.SUBMISSION_RATE_LIMITED);
+        }
+
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(request);
+        } catch (JsonProcessingException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid JSON format in form data");
+        }
+
+        SubmissionIntake intake = intakeRepository.save(SubmissionIntake.builder()
+                .type(type)
+                .formId(formId)
+                .payload(payload)
+                .status(SubmissionIntakeStatus.QUEUED)
+                .build());
+        intakeWorker.queued();
+        log.debug("Queued {} submission {} for form {}", type, intake.getId(), formId);
+        return toReceipt(intake);
+    }
+
+    // The form id comes from a public endpoint: only existing forms get a bucket
+    private TokenBucket formBucket(String formId) {
+        TokenBucket bucket = formBuckets.get(formId);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (!formConfigRepository.existsById(formId)) {
+            throw new ResourceNotFoundException("ApplicationFormConfig", "id", formId);
+        }
+        return formBuckets.computeIfAbsent(formId, k -> new TokenBucket(perFormBurst));
+    }
+
+    /**
+     * Drop the buckets that refilled completely (forms without recent submissions)
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void pruneFormBuckets() {
+        formBuckets.values().removeIf(bucket -> bucket.isFull(perFormRate, perFormBurst));
+    }
+
+    private SubmissionReceiptResponse toReceipt(SubmissionIntake intake) {
+        return SubmissionReceiptResponse.builder()
+                .intakeId(intake.getId())
+                .status(intake.getStatus())
+                .submissionId(intake.getSubmissionId())
+                .errorStatus(intake.getErrorStatus())
+                .message(intake.getStatus() == SubmissionIntakeStatus.REJECTED
+                        ? intake.getErrorMessage()
+                        : intake.getStatus() == SubmissionIntakeStatus.COMPLETED ? null : MessageConstants.SUBMISSION_QUEUED)
+                .createdAt(intake.getCreatedAt())
+                .processedAt(intake.getProcessedAt())
+                .build();
+    }
+}
@@ -0,0 +1,236 @@
+package sep490g65.fvcapi.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+import sep490g65.fvcapi.constants.MessageConstants;
+import sep490g65.fvcapi.dto.request.CreateSubmissionRequest;
+import sep490g65.fvcapi.dto.request.SubmitApplicationFormRequest;
+import sep490g65.fvcapi.entity.SubmissionIntake;
+import sep490g65.fvcapi.enums.SubmissionIntakeStatus;
+import sep490g65.fvcapi.exception.custom.ResourceNotFoundException;
+import sep490g65.fvcapi.exception.custom.ValidationException;
+import sep490g65.fvcapi.repository.SubmissionIntakeRepository;
+import sep490g65.fvcapi.service.SubmittedApplicationFormService;
+import sep490g65.fvcapi.service.TournamentFormService;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains the submission intake queue.
+ * Each poll claims the oldest queued intakes (FOR UPDATE SKIP LOCKED, so several nodes can drain the same
+ * table) and hands them to a bounded pool; the scheduler thread never waits on a submission.
+ * A submission is persisted by the same service call as the synchronous endpoint, and the intake is marked
+ * COMPLETED in that same transaction, so an intake is never completed without its submission or processed twice:
+ * if it was requeued as stale meanwhile, completing it fails and the submission is rolled back.
+ * Failures are recorded with the HTTP status the synchronous endpoint would have returned.
+ */
+@Component
+@Slf4j
+public class SubmissionIntakeWorker {
+
+    private static final List<SubmissionIntakeStatus> FINISHED =
+            List.of(SubmissionIntakeStatus.COMPLETED, SubmissionIntakeStatus.REJECTED);
+
+    private final SubmissionIntakeRepository intakeRepository;
+    private final TournamentFormService tournamentFormService;
+    private final SubmittedApplicationFormService submittedApplicationFormService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor executor;
+    private final int batchSize;
+    private final int workers;
+    private final int maxAttempts;
+    private final long staleMs;
+    private final long retentionMs;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    // Queued intakes as of the last poll, plus those accepted since
+    private final AtomicLong backlog = new AtomicLong();
+
+    public SubmissionIntakeWorker(
+            SubmissionIntakeRepository intakeRepository,
+            TournamentFormService tournamentFormService,
+            SubmittedApplicationFormService submittedApplicationFormService,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.submissions.intake.workers:4}") int workers,
+            @Value("${app.submissions.intake.batch-size:50}") int batchSize,
+            @Value("${app.submissions.intake.max-attempts:3}") int maxAttempts,
+            @Value("${app.submissions.intake.stale-ms:300000}") long staleMs,
+            @Value("${app.submissions.intake.retention-ms:604800000}") long retentionMs) {
+        this.intakeRepository = intakeRepository;
+        this.tournamentFormService = tournamentFormService;
+        this.submittedApplicationFormService = submittedApplicationFormService;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.workers = workers;
+        this.maxAttempts = maxAttempts;
+        this.staleMs = staleMs;
+        this.retentionMs = retentionMs;
+
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        // Never more than one batch waiting: poll() only claims what the pool can take
+        executor.setQueueCapacity(batchSize);
+        executor.setThreadNamePrefix("submission-intake-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+    }
+
+    public long backlog() {
+        return backlog.get();
+    }
+
+    /**
+     * Called after an intake is saved
+     */
+    public void queued() {
+        backlog.incrementAndGet();
+    }
+
+    @Scheduled(fixedDelayString = "${app.submissions.intake.poll-ms:250}")
+    public void poll() {
+        int capacity = Math.min(batchSize, workers + batchSize - inFlight.get());
+        if (capacity <= 0) {
+            return;
+        }
+        List<SubmissionIntake> claimed = transactionTemplate.execute(status -> claim(capacity));
+        if (claimed == null) {
+            return;
+        }
+        for (SubmissionIntake intake : claimed) {
+            inFlight.incrementAndGet();
+            executor.execute(() -> {
+                try {
+                    process(intake);
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            });
+        }
+        // Only count when the queue was not drained by this claim
+        backlog.set(claimed.size() < capacity ? 0 : intakeRepository.countByStatus(SubmissionIntakeStatus.QUEUED));
+    }
+
+    private List<SubmissionIntake> claim(int limit) {
+        List<SubmissionIntake> locked = intakeRepository.lockQueued(limit);
+        List<SubmissionIntake> claimed = new ArrayList<>(locked.size());
+        LocalDateTime now = LocalDateTime.now();
+        for (SubmissionIntake intake : locked) {
+            intake.setAttempts(intake.getAttempts() + 1);
+            if (intake.getAttempts() > maxAttempts) {
+                // Requeued after a node stopped more than maxAttempts times: give up on it
+                intake.setStatus(SubmissionIntakeStatus.REJECTED);
+                intake.setErrorStatus(500);
+                intake.setErrorMessage(MessageConstants.SUBMISSION_PROCESSING_FAILED);
+                intake.setProcessedAt(now);
+                log.warn("Submission intake {} rejected after {} attempts", intake.getId(), maxAttempts);
+                continue;
+            }
+            intake.setStatus(SubmissionIntakeStatus.PROCESSING);
+            claimed.add(intake);
+        }
+        return claimed;
+    }
+
+    void process(SubmissionIntake intake) {
+        try {
+            switch (intake.getType()) {
+                case TOURNAMENT -> {
+                    CreateSubmissionRequest request = objectMapper.readValue(intake.getPayload(), CreateSubmissionRequest.class);
+                    transactionTemplate.executeWithoutResult(status -> complete(intake,
+                            tournamentFormService.submit(intake.getFormId(), request)));
+                }
+                case APPLICATION -> {
+                    SubmitApplicationFormRequest request = objectMapper.readValue(intake.getPayload(), SubmitApplicationFormRequest.class);
+                    transactionTemplate.executeWithoutResult(status -> {
+                        try {
+                            complete(intake, submittedApplicationFormService.submit(request).getId());
+                        } catch (JsonProcessingException e) {
+                            throw new IllegalArgumentException("Invalid JSON format in form data", e);
+                        }
+                    });
+                }
+            }
+        } catch (ClaimLostException e) {
+            log.warn("Submission intake {} was requeued while processing, submission rolled back", intake.getId());
+        } catch (Exception e) {
+            reject(intake, e);
+        }
+    }
+
+    private void complete(SubmissionIntake intake, Long submissionId) {
+        if (intakeRepository.finish(intake.getId(), intake.getAttempts(), SubmissionIntakeStatus.COMPLETED, submissionId,
+                null, null, LocalDateTime.now()) == 0) {
+            throw new ClaimLostException();
+        }
+    }
+
+    private void reject(SubmissionIntake intake, Exception e) {
+        int status;
+        String message;
+        if (e instanceof ResponseStatusException rse) {
+            status = rse.getStatusCode().value();
+            message = rse.getReason();
+        } else if (e instanceof ValidationException ve) {
+            status = 400;
+            message = String.join("; ", new TreeMap<>(ve.getErrors()).values());
+        } else if (e instanceof ResourceNotFoundException || e instanceof NoSuchElementException) {
+            status = 404;
+            message = e.getMessage();
+        } else if (e instanceof IllegalArgumentException
+                || e instanceof JsonProcessingException
+                || e instanceof sep490g65.fvcapi.exception.BusinessException
+                || e instanceof sep490g65.fvcapi.exception.custom.BusinessException) {
+            status = 400;
+            message = e.getMessage();
+        } else {
+            log.error("Failed to process submission intake {}", intake.getId(), e);
+            status = 500;
+            message = MessageConstants.SUBMISSION_PROCESSING_FAILED;
+        }
+        String truncated = message != null && message.length() > 500 ? message.substring(0, 500) : message;
+        transactionTemplate.executeWithoutResult(tx -> intakeRepository.finish(intake.getId(), intake.getAttempts(),
+                SubmissionIntakeStatus.REJECTED, null, status, truncated, LocalDateTime.now()));
+    }
+
+    @Scheduled(fixedDelayString = "${app.submissions.intake.maintenance-ms:60000}")
+    public void maintain() {
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            int requeued = intakeRepository.requeueStale(SubmissionIntakeStatus.QUEUED,
+                    SubmissionIntakeStatus.PROCESSING, now.minusNanos(staleMs * 1_000_000L), now);
+            if (requeued > 0) {
+                log.warn("Requeued {} submission intakes left processing", requeued);
+            }
+            intakeRepository.deleteProcessedBefore(FINISHED, now.minusNanos(retentionMs * 1_000_000L));
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    // The intake is no longer PROCESSING under this claim
+    private static class ClaimLostException extends RuntimeException {
+    }
+}
@@ -7,12 +7,21 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import sep490g65.fvcapi.constants.MessageConstants;
 import sep490g65.fvcapi.dto.FormDataDto;
 import sep490g65.fvcapi.dto.request.RequestParam;
+import sep490g65.fvcapi.dto.request.SubmissionCursorRequest;
 import sep490g65.fvcapi.dto.request.SubmitApplicationFormRequest;
+import sep490g65.fvcapi.dto.response.BulkUpdateStatusResponse;
+import sep490g65.fvcapi.dto.response.CursorPageResponse;
 import sep490g65.fvcapi.dto.response.PaginationResponse;
+import sep490g65.fvcapi.dto.response.SubmissionSummaryResponse;
 import sep490g65.fvcapi.dto.response.SubmittedApplicationFormResponse;
 import sep490g65.fvcapi.entity.ClubMember;
 import sep490g65.fvcapi.entity.SubmittedApplicationForm;
@@ -23,7 +32,9 @@ import sep490g65.fvcapi.repository.ClubMemberRepository;
 import sep490g65.fvcapi.repository.SubmittedApplicationFormRepository;
 import sep490g65.fvcapi.repository.UserRepository;
 import sep490g65.fvcapi.repository.ApplicationFormConfigRepository;
-import sep490g65.fvcapi.service.EmailService;
+import sep490g65.fvcapi.security.OffloadingPasswordEncoder;
+import sep490g65.fvcapi.service.EmailOutboxService;
+import sep490g65.fvcapi.service.FormDataValidationService;
 import sep490g65.fvcapi.service.SubmittedApplicationFormService;
 import sep490g65.fvcapi.utils.ResponseUtils;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -31,7 +42,15 @@ import sep490g65.fvcapi.enums.SystemRole;
 
 import java.time.LocalDate;
 import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.*;
 import java.util.stream.Collectors;
 
@@ -46,14 +65,20 @@ public class SubmittedApplicationFormServiceImpl implements SubmittedApplication
     private final ApplicationFormConfigRepository applicationFormConfigRepository;
     private final ClubMemberRepository clubMemberRepository;
     private final PasswordEncoder passwordEncoder;
-    private final EmailService emailService;
+    // Bulk approvals hash new-account passwords on the shared, bounded hashing pool
+    private final OffloadingPasswordEncoder offloadingPasswordEncoder;
+    private final EmailOutboxService emailOutboxService;
+    private final FormDataValidationService formDataValidationService;
+    private final SubmissionCursorQuery submissionCursorQuery;
+    private final PlatformTransactionManager transactionManager;
     private final ObjectMapper objectMapper = new ObjectMapper();
     
     private static final String RANDOM_PASSWORD_CHARS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789!@#$%^&*";
     private static final int RANDOM_PASSWORD_LENGTH = 12;
+    private static final String LOGIN_URL = "https://fvclub.fpt.edu.vn/login";
     
-    // Thread pool for async processing
-    private final ExecutorService executorService = Executors.newFixedThreadPool(10);
+    @Value("${app.submissions.bulk-approval.chunk-size:200}")
+    private int bulkChunkSize;
     
 
     private SubmittedApplicationFormResponse toDto(SubmittedApplicationForm s) {
@@ -99,9 +124,19 @@ public class SubmittedApplicationFormServiceImpl implements SubmittedApplication
         return ResponseUtils.createPaginatedResponse(page.map(this::toDto));
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<SubmissionSummaryResponse> listByCursor(SubmissionCursorRequest request, ApplicationFormType type) {
+        return submissionCursorQuery.page(null, type, request);
+    }
+
     @Override
     @Transactional
     public SubmittedApplicationFormResponse submit(SubmitApplicationFormRequest request) throws com.fasterxml.jackson.core.JsonProcessingException {
+        // Also reached from the intake worker, after the request body validation of the endpoint
+        boolean hasUserId = request.getUserId() != null && !request.getUserId().trim().isEmpty();
+        formDataValidationService.validateFormData(toJson(request.getFormData()), hasUserId);
+
         // Duplicate check ONLY within submitted forms by email
         try {
             sep490g65.fvcapi.dto.FormDataDto formData = objectMapper.convertValue(request.getFormData(), sep490g65.fvcapi.dto.FormDataDto.class);
@@ -153,6 +188,9 @@ public class SubmittedApplicationFormServiceImpl implements SubmittedApplication
             applicationFormConfigRepository.findById(request.getApplicationFormConfigId())
                     .ifPresent(entity::setApplicationFormConfig);
         }
+        if (entity.getApplicationFormConfig() != null && entity.getApplicationFormConfig().getMaxSubmissions() != null) {
+            checkCapacity(entity.getApplicationFormConfig().getId());
+        }
         
         // Save entity
         SubmittedApplicationForm saved = repository.save(entity);
@@ -161,6 +199,18 @@ public class SubmittedApplicationFormServiceImpl implements SubmittedApplication
         return toDto(saved);
     }
 
+    /**
+     * Counted under the form row lock taken by waitlist promotion too, so concurrent submissions and
+     * promotions cannot go past max_submissions; the lock is held until the submission commits
+     */
+    private void checkCapacity(String formId) {
+        Integer maxSubmissions = applicationFormConfigRepository.lockMaxSubmissions(formId);
+        if (maxSubmissions != null && repository.countByFormId(formId) >= maxSubmissions) {
+            throw new org.springframework.web.server.ResponseStatusException(
+                    org.springframework.http.HttpStatus.CONFLICT, MessageConstants.SUBMISSION_FORM_FULL);
+        }
+    }
+
     @Override
     @Transactional
     public void updateStatus(Long id, ApplicationFormStatus status) {
@@ -181,49 +231,145 @@ public class SubmittedApplicationFormServiceImpl implements SubmittedApplication
     }
     
     @Override
-    public void bulkUpdateStatus(List<Long> ids, ApplicationFormStatus status) {
-        if (ids == null || ids.isEmpty()) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BulkUpdateStatusResponse bulkUpdateStatus(List<Long> ids, ApplicationFormStatus status) {
+        List<Long> distinctIds = ids == null ? List.of() : ids.stream().filter(Objects::nonNull).distinct().toList();
+        List<Long> updated = new ArrayList<>();
+        List<BulkUpdateStatusResponse.FailedUpdate> errors = new ArrayList<>();
+        if (distinctIds.isEmpty()) {
             log.warn("Bulk update called with empty ids list");
-            return;
+            return toBulkResponse(distinctIds, updated, errors);
         }
-        
-        log.info("Starting bulk update for {} forms with status {}", ids.size(), status);
-        
-        // Create CompletableFuture for each form update
-        List<CompletableFuture<Void>> futures = ids.stream()
-                .map(id -> CompletableFuture.runAsync(() -> {
+
+        log.info("Starting bulk update for {} forms with status {}", distinctIds.size(), status);
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        int chunkSize = Math.max(1, bulkChunkSize);
+        for (int from = 0; from < distinctIds.size(); from += chunkSize) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + chunkSize, distinctIds.size()));
+            try {
+                ChunkResult result = tx.execute(txStatus -> updateChunk(chunk, status));
+                updated.addAll(result.updated());
+                errors.addAll(result.errors());
+            } catch (Exception e) {
+                // A row broke the whole chunk (e.g. a constraint): retry its ids one by one to isolate it
+                log.warn("Bulk update chunk of {} forms failed ({}), retrying one by one", chunk.size(), e.getMessage());
+                for (Long id : chunk) {
                     try {
-                        updateStatus(id, status);
-                        log.debug("Successfully updated form {}", id);
-                    } catch (Exception e) {
-                        log.error("Failed to update form {}: {}", id, e.getMessage(), e);
-                        // Continue processing other forms even if one fails
+                        tx.executeWithoutResult(txStatus -> updateStatus(id, status));
+                        updated.add(id);
+                    } catch (Exception ex) {
+                        log.error("Failed to update form {}: {}", id, ex.getMessage());
+                        errors.add(failedUpdate(id, ex.getMessage()));
                     }
-                }, executorService))
-                .collect(Collectors.toList());
-        
-        // Wait for all futures to complete
-        CompletableFuture<Void> allOf = CompletableFuture.allOf(
-                futures.toArray(new CompletableFuture[0])
-        );
-        
-        try {
-            // Wait with timeout (e.g., 5 minutes for large batches)
-            allOf.get(5, TimeUnit.MINUTES);
-            log.info("Bulk update completed successfully for {} forms", ids.size());
-        } catch (TimeoutException e) {
-            log.error("Bulk update timed out after 5 minutes", e);
-            throw new RuntimeException("Bulk update operation timed out");
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.error("Bulk update was interrupted", e);
-            throw new RuntimeException("Bulk update was interrupted");
-        } catch (ExecutionException e) {
-            log.error("Error during bulk update execution", e);
-            throw new RuntimeException("Error during bulk update: " + e.getMessage());
+                }
+            }
         }
+        log.info("Bulk update finished: {} updated, {} failed", updated.size(), errors.size());
+        return toBulkResponse(distinctIds, updated, errors);
     }
-    
+
+    /**
+     * One transaction: loads the chunk, and for approvals resolves users and club members in one query each,
+     * creates the missing ones with saveAll. Ids that fail validation keep their status.
+     */
+    private ChunkResult updateChunk(List<Long> ids, ApplicationFormStatus status) {
+        Map<Long, SubmittedApplicationForm> forms = repository.findAllById(ids).stream()
+                .collect(Collectors.toMap(SubmittedApplicationForm::getId, f -> f));
+        List<SubmittedApplicationForm> toSave = new ArrayList<>();
+        List<Long> updated = new ArrayList<>();
+        List<BulkUpdateStatusResponse.FailedUpdate> errors = new ArrayList<>();
+        Map<Long, FormDataDto> approvals = new LinkedHashMap<>();
+
+        for (Long id : ids) {
+            SubmittedApplicationForm form = forms.get(id);
+            if (form == null) {
+                errors.add(failedUpdate(id, "Submitted form not found with id: " + id));
+                continue;
+            }
+            if (status == ApplicationFormStatus.APPROVED) {
+                FormDataDto formData;
+                try {
+                    formData = objectMapper.readValue(form.getFormData(), FormDataDto.class);
+                } catch (Exception e) {
+                    errors.add(failedUpdate(id, "Failed to process approved form: " + e.getMessage()));
+                    continue;
+                }
+                if (formData.getEmail() == null || formData.getEmail().trim().isEmpty()) {
+                    errors.add(failedUpdate(id, "Email is required in form_data"));
+                    continue;
+                }
+                approvals.put(id, formData);
+            }
+            form.setStatus(status);
+            toSave.add(form);
+            updated.add(id);
+        }
+
+        if (!approvals.isEmpty()) {
+            createClubMembers(approvals.values());
+        }
+        repository.saveAll(toSave);
+        return new ChunkResult(updated, errors);
+    }
+
+    private void createClubMembers(Collection<FormDataDto> approvals) {
+        Set<String> emails = approvals.stream().map(FormDataDto::getEmail).collect(Collectors.toSet());
+        Map<String, User> usersByEmail = new HashMap<>();
+        for (User u : userRepository.findByEduMailInOrPersonalMailIn(emails, emails)) {
+            if (u.getEduMail() != null && emails.contains(u.getEduMail())) usersByEmail.putIfAbsent(u.getEduMail(), u);
+            if (u.getPersonalMail() != null && emails.contains(u.getPersonalMail())) usersByEmail.putIfAbsent(u.getPersonalMail(), u);
+        }
+
+        // One new account per unknown email; passwords are hashed in parallel
+        Map<String, FormDataDto> unknown = new LinkedHashMap<>();
+        approvals.forEach(d -> {
+            if (!usersByEmail.containsKey(d.getEmail())) unknown.putIfAbsent(d.getEmail(), d);
+        });
+        if (!unknown.isEmpty()) {
+            List<String> rawPasswords = unknown.keySet().stream().map(email -> generateRandomPassword()).toList();
+            List<String> hashedPasswords = offloadingPasswordEncoder.encodeAll(rawPasswords);
+            List<NewAccount> accounts = new ArrayList<>(unknown.size());
+            int i = 0;
+            for (Map.Entry<String, FormDataDto> e : unknown.entrySet()) {
+                accounts.add(new NewAccount(e.getKey(), e.getValue(), rawPasswords.get(i), hashedPasswords.get(i)));
+                i++;
+            }
+            List<User> saved = userRepository.saveAll(accounts.stream()
+                    .map(a -> newUser(a.formData(), a.email(), a.hashedPassword()))
+                    .toList());
+            saved.forEach(u -> usersByEmail.put(u.getPersonalMail(), u));
+            accounts.forEach(a -> queuePasswordEmail(a.email(), a.formData().getFullName(), a.rawPassword()));
+            log.info("Created {} users for bulk approval", saved.size());
+        }
+
+        Set<String> memberUserIds = new HashSet<>(clubMemberRepository.findUserIdsByUserIdIn(
+                usersByEmail.values().stream().map(User::getId).distinct().toList()));
+        List<ClubMember> newMembers = new ArrayList<>();
+        for (FormDataDto formData : approvals) {
+            User user = usersByEmail.get(formData.getEmail());
+            if (memberUserIds.add(user.getId())) {
+                newMembers.add(toClubMember(user, formData, formData.getEmail()));
+            }
+        }
+        clubMemberRepository.saveAll(newMembers);
+        log.info("Created {} club members for bulk approval", newMembers.size());
+    }
+
+    private static BulkUpdateStatusResponse toBulkResponse(List<Long> ids, List<Long> updated,
+                                                           List<BulkUpdateStatusResponse.FailedUpdate> errors) {
+        return BulkUpdateStatusResponse.builder()
+                .requestedCount(ids.size())
+                .updatedCount(updated.size())
+                .failedCount(errors.size())
+                .updatedIds(updated)
+                .errors(errors)
+                .build();
+    }
+
+    private static BulkUpdateStatusResponse.FailedUpdate failedUpdate(Long id, String message) {
+        return BulkUpdateStatusResponse.FailedUpdate.builder().id(id).message(message).build();
+    }
+
     private void processApprovedForm(SubmittedApplicationForm form) throws Exception {
         String formDataJson = form.getFormData();
         
@@ -250,8 +396,13 @@ public class SubmittedApplicationFormServiceImpl implements SubmittedApplication
             return;
         }
         
-        // Create new club member
-        ClubMember clubMember = ClubMember.builder()
+        clubMemberRepository.save(toClubMember(user, formData, email));
+        
+        log.info("Created club member for user {} with email {}", user.getId(), email);
+    }
+
+    private ClubMember toClubMember(User user, FormDataDto formData, String email) {
+        return ClubMember.builder()
                 .user(user)
                 .fullName(formData.getFullName() != null ? formData.getFullName() : user.getFullName())
                 .email(email)
@@ -262,18 +413,22 @@ public class SubmittedApplicationFormServiceImpl implements SubmittedApplication
                 .joinedAt(LocalDate.now())
                 .status(ClubMember.MemberStatus.ACTIVE)
                 .build();
-        
-        clubMemberRepository.save(clubMember);
-        
-        log.info("Created club member for user {} with email {}", user.getId(), email);
     }
     
     private User createUserFromFormData(FormDataDto formData, String email) {
         // Generate random password
         String randomPassword = generateRandomPassword();
-        String hashedPassword = passwordEncoder.encode(randomPassword);
+        User savedUser = userRepository.save(newUser(formData, email, passwordEncoder.encode(randomPassword)));
         
-        // Create new user
+        log.info("Created new user {} with email {} and random password", savedUser.getId(), email);
+        
+        // Send email with temporary password to user
+        queuePasswordEmail(email, formData.getFullName(), randomPassword);
+        
+        return savedUser;
+    }
+
+    private User newUser(FormDataDto formData, String email, String hashedPassword) {
         User newUser = new User();
         newUser.setFullName(formData.getFullName());
         
@@ -292,31 +447,21 @@ public class SubmittedApplicationFormServiceImpl implements SubmittedApplication
         newUser.setSystemRole(SystemRole.MEMBER);
         newUser.setStatus(true);
         newUser.setIsInChallenge(true);
-        
-        User savedUser = userRepository.save(newUser);
-        
-        log.info("Created new user {} with email {} and random password", savedUser.getId(), email);
-        
-        // Send email with temporary password to user
-        String loginUrl = "https://fvclub.fpt.edu.vn/login";
-        CompletableFuture.runAsync(() -> 
-            emailService.sendNewAccountPassword(
+        return newUser;
+    }
+
+    /**
+     * Queued in the approval transaction: the password is only mailed if the account is committed
+     */
+    private void queuePasswordEmail(String email, String fullName, String rawPassword) {
+        emailOutboxService.enqueueNewAccountPassword(
                 email,
-                formData.getFullName() != null ? formData.getFullName() : "Thành viên mới",
-                randomPassword,
-                loginUrl
-            )
-        ).thenRun(() -> 
-            log.info("Sent password email to {}", email)
-        ).exceptionally(ex -> {
-            log.error("Failed to send password email to {}: {}", email, ex.getMessage());
-            // Return null because exceptionally must return something
-            return null;
-        });
-        
-        return savedUser;
+                fullName != null ? fullName : "Thành viên mới",
+                rawPassword,
+                LOGIN_URL
+        );
     }
-    
+
     private String generateRandomPassword() {
         SecureRandom random = new SecureRandom();
         StringBuilder password = new StringBuilder(RANDOM_PASSWORD_LENGTH);
@@ -336,6 +481,10 @@ public class SubmittedApplicationFormServiceImpl implements SubmittedApplication
             return "{}";
         }
     }
-}
 
+    private record ChunkResult(List<Long> updated, List<BulkUpdateStatusResponse.FailedUpdate> errors) {
+    }
 
+    private record NewAccount(String email, FormDataDto formData, String rawPassword, String hashedPassword) {
+    }
+}
@@ -8,7 +8,6 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.PlatformTransactionManager;
@@ -24,6 +23,7 @@ import sep490g65.fvcapi.repository.UserRepository;
 import sep490g65.fvcapi.repository.CompetitionRoleRepository;
 import sep490g65.fvcapi.enums.ApplicationFormStatus;
 import sep490g65.fvcapi.service.TournamentFormService;
+import sep490g65.fvcapi.utils.RegistrationKeyUtils;
 import sep490g65.fvcapi.utils.ResponseUtils;
 import sep490g65.fvcapi.dto.request.CreateFormRequest;
 import sep490g65.fvcapi.dto.request.UpdateFormRequest;
@@ -37,17 +37,12 @@ import sep490g65.fvcapi.entity.Athlete;
 import sep490g65.fvcapi.entity.CompetitionRole;
 import sep490g65.fvcapi.entity.User;
 import sep490g65.fvcapi.enums.CompetitionRoleType;
-import sep490g65.fvcapi.repository.WeightClassRepository;
-import sep490g65.fvcapi.repository.VovinamFistConfigRepository;
-import sep490g65.fvcapi.repository.VovinamFistItemRepository;
-import sep490g65.fvcapi.repository.MusicIntegratedPerformanceRepository;
 import sep490g65.fvcapi.exception.custom.ResourceNotFoundException;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.time.LocalDate;
-import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
@@ -62,13 +57,16 @@ public class TournamentFormServiceImpl implements TournamentFormService {
     private final AthleteService athleteService;
     private final CompetitionRoleRepository competitionRoleRepository;
     private final PerformanceService performanceService;
-    private final WeightClassRepository weightClassRepository;
-    private final VovinamFistConfigRepository fistConfigRepository;
-    private final VovinamFistItemRepository fistItemRepository;
-    private final MusicIntegratedPerformanceRepository musicRepository;
+    private final ReferenceDataCache referenceDataCache;
     private final ObjectMapper objectMapper = new ObjectMapper();
     private final PlatformTransactionManager transactionManager;
-    private final sep490g65.fvcapi.service.EmailService emailService;
+    private final sep490g65.fvcapi.service.EmailOutboxService emailOutboxService;
+    private final sep490g65.fvcapi.service.FormDataValidationService formDataValidationService;
+    private final SubmissionCursorQuery submissionCursorQuery;
+
+    // Submissions whose approval side-effects are applied per transaction by bulkUpdateSubmissionStatus
+    @org.springframework.beans.factory.annotation.Value("${app.submissions.bulk-approval.chunk-size:200}")
+    private int approvalChunkSize;
 
     private TournamentFormResponse toDto(Competition c) {
         String status = resolveStatus(c);
@@ -296,6 +294,7 @@ public class TournamentFormServiceImpl implements TournamentFormService {
             f.getFields().addAll(next);
         }
         ApplicationFormConfig saved = formConfigRepository.save(f);
+        formDataValidationService.invalidate(saved.getId());
         return getById(saved.getId());
     }
 
@@ -321,6 +320,16 @@ public class TournamentFormServiceImpl implements TournamentFormService {
         return ResponseUtils.createPaginatedResponse(mapped);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public sep490g65.fvcapi.dto.response.CursorPageResponse<sep490g65.fvcapi.dto.response.SubmissionSummaryResponse> listSubmissionsByCursor(
+            String formId, sep490g65.fvcapi.dto.request.SubmissionCursorRequest request) {
+        if (!formConfigRepository.existsById(formId)) {
+            throw new ResourceNotFoundException("ApplicationFormConfig", "id", formId);
+        }
+        return submissionCursorQuery.page(formId, null, request);
+    }
+
     @Override
     @Transactional(readOnly = false)
     public void updateSubmissionStatus(Long submissionId, ApplicationFormStatus status) {
@@ -329,428 +338,286 @@ public class TournamentFormServiceImpl implements TournamentFormService {
         s.setStatus(status);
         submittedRepository.save(s);
 
-        // On approval, upsert an athlete based on submission data
-        // Run all approval side-effects in a separate transaction to ensure status update succeeds even if athlete creation fails
         if (status == ApplicationFormStatus.APPROVED) {
-            TransactionTemplate approvalTpl = new TransactionTemplate(transactionManager);
-            approvalTpl.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
-            approvalTpl.executeWithoutResult((txStatus) -> {
-                try {
-                    String formJson = s.getFormData();
-                    JsonNode root = formJson != null ? objectMapper.readTree(formJson) : objectMapper.createObjectNode();
-
-                    // Chạy side-effects trong transaction REQUIRES_NEW thông qua TransactionTemplate để tránh self-invocation issue
-                    TransactionTemplate tpl = new TransactionTemplate(transactionManager);
-                    tpl.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
-                    tpl.execute(innerTxStatus -> {
-                        try { 
-                            upsertAthleteAndRole(root, s); 
-                        } catch (Exception innerEx) { 
-                            log.warn("Failed to upsert athlete and role in separate transaction for submission {}: {}", 
-                                    submissionId, innerEx.getMessage(), innerEx);
-                        }
-                        return null;
-                    });
-                String fullName = textOrNull(root, "fullName");
-                String email = textOrNull(root, "email");
-                String club = textOrNull(root, "club");
-                String competitionTypeStr = textOrNull(root, "competitionType");
-                String genderStr = textOrNull(root, "gender");
-                String studentId = textOrNull(root, "studentId");
-
-                Athlete.Gender gender = parseGender(genderStr);
-                Athlete.CompetitionType competitionType = parseCompetitionType(competitionTypeStr);
-                
-                // Extract hierarchical competition structure
-                String subCompetitionType = resolveSubCompetitionType(root, competitionTypeStr);
-
-                String competitionId = null;
-                if (s.getApplicationFormConfig() != null && s.getApplicationFormConfig().getCompetition() != null) {
-                    String compId = s.getApplicationFormConfig().getCompetition().getId();
-                    if (compId != null && !compId.isBlank()) {
-                        competitionId = compId;
-                    }
-                }
+            applyApprovalSideEffects(java.util.List.of(s));
+        }
+    }
 
-                // Read performanceId (team) early so it's available outside inner block
-                String perfIdForTeam = textOrNull(root, "performanceId");
-                boolean isTeamSubmission = false;
-                try {
-                    Integer ppe = root.hasNonNull("participantsPerEntry") ? root.get("participantsPerEntry").asInt() : null;
-                    boolean hasMembers = root.has("teamMembers") && root.get("teamMembers").isArray() && root.get("teamMembers").size() > 0;
-                    isTeamSubmission = (ppe != null && ppe > 1) || hasMembers || (perfIdForTeam != null && !perfIdForTeam.isBlank());
-                } catch (Exception ignoredCalc) {}
-
-                // Create Athlete for both individual and team submissions
-                if (competitionId != null && fullName != null && email != null && gender != null && competitionType != null) {
-                // Extract preferred IDs for tight linking and storing into detail_sub
-                String weightClassId = textOrNull(root, "weightClassId");
-                String fistItemId    = textOrNull(root, "fistItemId");
-                if (fistItemId == null || fistItemId.isBlank()) {
-                    String qid = textOrNull(root, "quyenContentId");
-                    if (qid != null && !qid.isBlank()) fistItemId = qid;
-                }
-                String musicContentId= textOrNull(root, "musicContentId");
-                String fistConfigId  = textOrNull(root, "fistConfigId");
+    @Override
+    @Transactional(readOnly = false)
+    public BulkUpdateStatusResponse bulkUpdateSubmissionStatus(java.util.List<Long> submissionIds, ApplicationFormStatus status) {
+        java.util.List<Long> ids = submissionIds.stream().filter(java.util.Objects::nonNull).distinct().toList();
+        java.util.Map<Long, sep490g65.fvcapi.entity.SubmittedApplicationForm> found = new java.util.HashMap<>();
+        for (java.util.List<Long> chunk : partition(ids, approvalChunkSize)) {
+            submittedRepository.findWithFormByIdIn(chunk).forEach(s -> found.put(s.getId(), s));
+        }
 
-                // For Quyền, ensure subCompetitionType is the category name (e.g., "đa luyện")
-                String subCompetitionTypeFinal = subCompetitionType;
-                try {
-                    if (competitionType == Athlete.CompetitionType.quyen) {
-                        // Prefer direct value from form buttons (quyenCategory)
-                        String quyenCategoryFromForm = textOrNull(root, "quyenCategory");
-                        if (quyenCategoryFromForm != null && !quyenCategoryFromForm.isBlank()) {
-                            subCompetitionTypeFinal = quyenCategoryFromForm;
-                        }
-                        // Fallback: resolve from config name when form value missing or generic
-                        if (subCompetitionTypeFinal == null || subCompetitionTypeFinal.isBlank() || "Quyền".equalsIgnoreCase(subCompetitionTypeFinal)) {
-                            if (fistConfigId != null && !fistConfigId.isBlank()) {
-                                var cfg = fistConfigRepository.findById(fistConfigId).orElse(null);
-                                if (cfg != null && cfg.getName() != null && !cfg.getName().isBlank()) {
-                                    subCompetitionTypeFinal = cfg.getName();
-                                }
-                            }
-                        }
-                    }
-                } catch (Exception ignoredResolveCfg) { }
-
-                    // Use upsert to avoid duplicate key constraint violations
-                    Athlete.AthleteBuilder builder = Athlete.builder()
-                        .competitionId(competitionId)
-                        .fullName(fullName)
-                        .email(email)
-                        .studentId(studentId)
-                        .gender(gender)
-                        .club(club)
-                        .competitionType(competitionType)
-                        .subCompetitionType(subCompetitionTypeFinal)
-                        .status(Athlete.AthleteStatus.NOT_STARTED);
-
-                    // Prefer IDs from submission formData for FK columns
-                    if (weightClassId != null && !weightClassId.isBlank()) builder.weightClassId(weightClassId);
-                    if (fistConfigId  != null && !fistConfigId.isBlank())  builder.fistConfigId(fistConfigId);
-                    // Persist both config and item to support list/filters
-                    if (musicContentId!= null && !musicContentId.isBlank()) builder.musicContentId(musicContentId);
-                    if (fistItemId != null && !fistItemId.isBlank()) builder.fistItemId(fistItemId);
-
-                    // Use upsert instead of delete + create to avoid race conditions and constraint violations
-                    Athlete athlete = athleteService.upsert(builder.build());
-                    
-                    // Create CompetitionRole for the athlete (always create)
-                    Competition competition = competitionRepository.findById(competitionId).orElse(null);
-                    User user = userRepository.findByPersonalMail(email).orElse(null);
-                    
-                    if (competition != null) {
-                        // Check if CompetitionRole already exists
-                        boolean roleExists = false;
-                        if (user != null) {
-                            roleExists = competitionRoleRepository.existsByCompetitionIdAndUserIdAndRole(
-                                competitionId, user.getId(), CompetitionRoleType.ATHLETE);
-                        } else {
-                            // For non-system users, check by email
-                            roleExists = competitionRoleRepository.existsByCompetitionIdAndEmailAndRole(
-                                competitionId, email, CompetitionRoleType.ATHLETE);
-                        }
-                        
-                        if (!roleExists) {
-                            CompetitionRole competitionRole = CompetitionRole.builder()
-                                .competition(competition)
-                                .user(user) // null if user doesn't exist
-                                .email(email) // store email for non-system users
-                                .role(CompetitionRoleType.ATHLETE)
-                                .build();
-                            
-                            competitionRoleRepository.save(competitionRole);
-                        }
-                    }
-                    // Note: Athlete record and CompetitionRole are always created
-                }
-                // If this submission belongs to a team (performance), approve the whole team
-                if (perfIdForTeam != null && !perfIdForTeam.isBlank()) {
-                    try { performanceService.approve(perfIdForTeam); } catch (Exception ignoredApprove) { }
-                    // After approval, propagate content IDs from Performance to all team members' athlete rows
-                    try {
-                        final String competitionIdFinal = competitionId;
-                        
-                        // Get Performance to extract content information
-                        try {
-                            PerformanceResponse perfResponse = performanceService.getPerformanceById(perfIdForTeam);
-                            String performanceContentId = perfResponse.getContentId();
-                            Performance.ContentType perfContentType = perfResponse.getContentType();
-                            
-                            // Extract content IDs from form data
-                            final String fistConfigIdFromForm = textOrNull(root, "fistConfigId");
-                            final String quyenContentIdFromForm = textOrNull(root, "quyenContentId");
-                            final String fistItemIdFromForm = textOrNull(root, "fistItemId");
-                            final String musicContentIdFromForm = textOrNull(root, "musicContentId");
-                            
-                            // Use Performance contentId as fallback if form data is missing
-                            String finalFistConfigId = fistConfigIdFromForm;
-                            String finalMusicContentId = musicContentIdFromForm;
-                            if (perfContentType == Performance.ContentType.QUYEN && performanceContentId != null && !performanceContentId.isBlank()) {
-                                finalFistConfigId = finalFistConfigId != null ? finalFistConfigId : performanceContentId;
-                            } else if (perfContentType == Performance.ContentType.MUSIC && performanceContentId != null && !performanceContentId.isBlank()) {
-                                finalMusicContentId = finalMusicContentId != null ? finalMusicContentId : performanceContentId;
-                            }
+        java.util.List<Long> updatedIds = new java.util.ArrayList<>();
+        java.util.List<BulkUpdateStatusResponse.FailedUpdate> errors = new java.util.ArrayList<>();
+        java.util.List<sep490g65.fvcapi.entity.SubmittedApplicationForm> updated = new java.util.ArrayList<>();
+        java.util.List<sep490g65.fvcapi.entity.SubmittedApplicationForm> newlyApproved = new java.util.ArrayList<>();
+        for (Long id : ids) {
+            sep490g65.fvcapi.entity.SubmittedApplicationForm s = found.get(id);
+            if (s == null) {
+                errors.add(new BulkUpdateStatusResponse.FailedUpdate(id, "Không tìm thấy đơn đăng ký"));
+                continue;
+            }
+            if (s.getApplicationFormConfig().getCompetition() == null) {
+                errors.add(new BulkUpdateStatusResponse.FailedUpdate(id, "Đơn đăng ký không thuộc giải đấu nào"));
+                continue;
+            }
+            // Side effects only run on the transition, so re-approving does not mail registrants again
+            if (status == ApplicationFormStatus.APPROVED && s.getStatus() != ApplicationFormStatus.APPROVED) {
+                newlyApproved.add(s);
+            }
+            s.setStatus(status);
+            updated.add(s);
+            updatedIds.add(id);
+        }
+        submittedRepository.saveAll(updated);
 
-                            java.util.Set<String> emails = new java.util.LinkedHashSet<>();
-                            if (email != null && !email.isBlank()) emails.add(email);
-                            try {
-                                JsonNode members = root.get("teamMembers");
-                                if (members != null && members.isArray()) {
-                                    for (JsonNode m : members) {
-                                        if (m.hasNonNull("email")) {
-                                            String em = m.get("email").asText("").trim();
-                                            if (!em.isBlank()) emails.add(em);
-                                        }
-                                    }
-                                }
-                            } catch (Exception ignoredMembers) {}
+        for (java.util.List<sep490g65.fvcapi.entity.SubmittedApplicationForm> chunk : partition(newlyApproved, approvalChunkSize)) {
+            applyApprovalSideEffects(chunk);
+        }
 
-                            for (String em : emails) {
-                                try {
-                                    // Only update existing athletes to avoid creating invalid rows without required fields
-                                    java.util.Optional<sep490g65.fvcapi.entity.Athlete> existingOpt = 
-                                            athleteService.list(competitionIdFinal, null, null, null, null, null, null, org.springframework.data.domain.Pageable.unpaged())
-                                            .getContent()
-                                            .stream().filter(a -> em.equalsIgnoreCase(a.getEmail())).findFirst();
-                                    if (existingOpt.isPresent()) {
-                                        Athlete existingAthlete = existingOpt.get();
-                                        
-                                        // Set competition type based on Performance content type
-                                        Athlete.CompetitionType perfCompetitionType = Athlete.CompetitionType.fighting;
-                                        if (perfContentType == Performance.ContentType.QUYEN) {
-                                            perfCompetitionType = Athlete.CompetitionType.quyen;
-                                        } else if (perfContentType == Performance.ContentType.MUSIC) {
-                                            perfCompetitionType = Athlete.CompetitionType.music;
-                                        }
-                                        existingAthlete.setCompetitionType(perfCompetitionType);
-                                        
-                                        // Set sub competition type
-                                        String perfSubCompType = null;
-                                        if (perfContentType == Performance.ContentType.QUYEN) {
-                                            // Prefer the Quyền category name from (final -> existing -> item->config)
-                                            try {
-                                                String tryCfgId = null;
-                                                if (finalFistConfigId != null && !finalFistConfigId.isBlank()) tryCfgId = finalFistConfigId;
-                                                if ((tryCfgId == null || tryCfgId.isBlank()) && existingAthlete.getFistConfigId() != null) {
-                                                    tryCfgId = existingAthlete.getFistConfigId();
-                                                }
-                                                if ((tryCfgId == null || tryCfgId.isBlank())) {
-                                                    // derive from chosen fist item
-                                                    String chosenFistItemLocal = quyenContentIdFromForm != null && !quyenContentIdFromForm.isBlank()
-                                                            ? quyenContentIdFromForm
-                                                            : (fistItemIdFromForm != null && !fistItemIdFromForm.isBlank() ? fistItemIdFromForm : existingAthlete.getFistItemId());
-                                                    if (chosenFistItemLocal != null && !chosenFistItemLocal.isBlank()) {
-                                                        var item = fistItemRepository.findById(chosenFistItemLocal).orElse(null);
-                                                        if (item != null && item.getVovinamFistConfig() != null) tryCfgId = item.getVovinamFistConfig().getId();
-                                                    }
-                                                }
-                                                if (tryCfgId != null && !tryCfgId.isBlank()) {
-                                                    var cfg = fistConfigRepository.findById(tryCfgId).orElse(null);
-                                                    if (cfg != null && cfg.getName() != null && !cfg.getName().isBlank()) {
-                                                        perfSubCompType = cfg.getName();
-                                                    }
-                                                }
-                                            } catch (Exception ignoredCfg) { }
-                                            if (perfSubCompType == null) perfSubCompType = "Quyền"; // fallback
-                                        } else if (perfContentType == Performance.ContentType.FIGHTING) {
-                                            perfSubCompType = "Hạng cân";
-                                        } else if (perfContentType == Performance.ContentType.MUSIC) {
-                                            perfSubCompType = "Tiết mục";
-                                        }
-                                        if (perfSubCompType != null) existingAthlete.setSubCompetitionType(perfSubCompType);
-                                        
-                                        if (finalFistConfigId != null && !finalFistConfigId.isBlank()) existingAthlete.setFistConfigId(finalFistConfigId);
-                                        String chosenFistItem = quyenContentIdFromForm != null && !quyenContentIdFromForm.isBlank()
-                                                ? quyenContentIdFromForm
-                                                : (fistItemIdFromForm != null && !fistItemIdFromForm.isBlank() ? fistItemIdFromForm : null);
-                                        if (chosenFistItem != null) existingAthlete.setFistItemId(chosenFistItem);
-                                        if (finalMusicContentId != null && !finalMusicContentId.isBlank()) existingAthlete.setMusicContentId(finalMusicContentId);
-                                        athleteService.create(existingAthlete);
-                                    }
-                                } catch (Exception ignoredUpsert) {}
-                            }
-                        } catch (Exception ignoredPerf) {}
-                    } catch (Exception propagateEx) {
-                        log.warn("Failed to propagate team performance updates for submission {}: {}", 
-                                submissionId, propagateEx.getMessage(), propagateEx);
-                    }
-                }
-                
-                // Send approval email to the registrant asynchronously using CompletableFuture
-                String tournamentName = "";
-                if (s.getApplicationFormConfig() != null && s.getApplicationFormConfig().getCompetition() != null) {
-                    Competition comp = s.getApplicationFormConfig().getCompetition();
-                    tournamentName = comp.getName() != null ? comp.getName() : "";
-                }
-                
-                // Format competition type for email
-                String competitionTypeDisplay = "";
-                if (competitionTypeStr != null && !competitionTypeStr.isBlank()) {
-                    String compLower = competitionTypeStr.toLowerCase();
-                    if (compLower.equals("quyen")) competitionTypeDisplay = "Quyền";
-                    else if (compLower.equals("fighting")) competitionTypeDisplay = "Đối kháng";
-                    else if (compLower.equals("music")) competitionTypeDisplay = "Võ nhạc";
-                    else competitionTypeDisplay = competitionTypeStr;
+        return BulkUpdateStatusResponse.builder()
+                .requestedCount(ids.size())
+                .updatedCount(updatedIds.size())
+                .failedCount(errors.size())
+                .updatedIds(updatedIds)
+                .errors(errors)
+                .build();
+    }
+
+    /**
+     * Athletes, competition roles, team approval and emails of approved submissions, in a transaction of their
+     * own so the status update succeeds even if they fail. The whole list is applied set-based (one statement
+     * per table); if that fails, submissions are retried one by one so a bad one does not block the others.
+     */
+    private void applyApprovalSideEffects(java.util.List<sep490g65.fvcapi.entity.SubmittedApplicationForm> submissions) {
+        java.util.List<ApprovedRegistration> registrations = new java.util.ArrayList<>();
+        for (sep490g65.fvcapi.entity.SubmittedApplicationForm s : submissions) {
+            try {
+                registrations.add(toApprovedRegistration(s));
+            } catch (Exception ex) {
+                log.error("Error reading approved submission {}: {}", s.getId(), ex.getMessage(), ex);
+            }
+        }
+        if (registrations.isEmpty()) {
+            return;
+        }
+
+        TransactionTemplate tpl = new TransactionTemplate(transactionManager);
+        tpl.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        try {
+            tpl.executeWithoutResult(txStatus -> applyApprovals(registrations));
+            return;
+        } catch (Exception ex) {
+            if (registrations.size() == 1) {
+                log.error("Error processing approval side-effects for submission {}: {}",
+                        registrations.get(0).submissionId(), ex.getMessage(), ex);
+                return;
+            }
+            log.warn("Approval side-effects of {} submissions failed, retrying one by one: {}",
+                    registrations.size(), ex.getMessage());
+        }
+        for (ApprovedRegistration registration : registrations) {
+            try {
+                tpl.executeWithoutResult(txStatus -> applyApprovals(java.util.List.of(registration)));
+            } catch (Exception ex) {
+                log.error("Error processing approval side-effects for submission {}: {}",
+                        registration.submissionId(), ex.getMessage(), ex);
+            }
+        }
+    }
+
+    private void applyApprovals(java.util.List<ApprovedRegistration> registrations) {
+        java.util.List<ApprovedRegistration> withAthlete = registrations.stream()
+                .filter(r -> r.athlete() != null)
+                .toList();
+
+        // Athletes: one INSERT ... ON CONFLICT (competition_id, email)
+        athleteService.upsertAll(withAthlete.stream().map(ApprovedRegistration::athlete).toList());
+
+        // Competition roles: one lookup of users, one of existing roles, one batched insert
+        createAthleteRoles(withAthlete);
+
+        // Teams: each performance is approved once, then its content is copied to all member athletes
+        propagateTeamPerformances(registrations);
+
+        for (ApprovedRegistration registration : registrations) {
+            queueApprovalEmail(registration);
+        }
+        log.info("Applied approval side-effects of {} submissions ({} athletes)", registrations.size(), withAthlete.size());
+    }
+
+    private void createAthleteRoles(java.util.List<ApprovedRegistration> registrations) {
+        if (registrations.isEmpty()) {
+            return;
+        }
+        java.util.Set<String> competitionIds = new java.util.HashSet<>();
+        java.util.Set<String> emails = new java.util.HashSet<>();
+        registrations.forEach(r -> {
+            competitionIds.add(r.competitionId());
+            emails.add(r.email());
+        });
+
+        java.util.Map<String, User> usersByMail = new java.util.HashMap<>();
+        for (User u : userRepository.findByPersonalMailIn(emails)) {
+            usersByMail.putIfAbsent(u.getPersonalMail(), u);
+        }
+        // Same existence rule as before: by user when the registrant has an account, by email otherwise
+        java.util.Set<String> existing = new java.util.HashSet<>();
+        for (Object[] key : competitionRoleRepository.findKeysByCompetitionIdInAndRole(competitionIds, CompetitionRoleType.ATHLETE)) {
+            if (key[1] != null) existing.add(key[0] + "|user:" + key[1]);
+            if (key[2] != null) existing.add(key[0] + "|email:" + key[2]);
+        }
+
+        java.util.List<CompetitionRole> roles = new java.util.ArrayList<>();
+        for (ApprovedRegistration r : registrations) {
+            User user = usersByMail.get(r.email());
+            String key = user != null ? r.competitionId() + "|user:" + user.getId() : r.competitionId() + "|email:" + r.email();
+            if (existing.add(key)) {
+                roles.add(CompetitionRole.builder()
+                        .competition(competitionRepository.getReferenceById(r.competitionId()))
+                        .user(user) // null if user doesn't exist
+                        .email(r.email()) // store email for non-system users
+                        .role(CompetitionRoleType.ATHLETE)
+                        .build());
+            }
+        }
+        competitionRoleRepository.saveAll(roles);
+    }
+
+    private void propagateTeamPerformances(java.util.List<ApprovedRegistration> registrations) {
+        java.util.List<ApprovedRegistration> teams = registrations.stream()
+                .filter(r -> r.performanceId() != null && r.competitionId() != null)
+                .toList();
+        if (teams.isEmpty()) {
+            return;
+        }
+
+        java.util.Map<String, PerformanceResponse> performances = new java.util.HashMap<>();
+        for (ApprovedRegistration r : teams) {
+            if (performances.containsKey(r.performanceId())) continue;
+            PerformanceResponse perf = null;
+            try { perf = performanceService.approve(r.performanceId()); } catch (Exception ignoredApprove) { }
+            if (perf == null) {
+                try { perf = performanceService.getPerformanceById(r.performanceId()); } catch (Exception ignoredPerf) { }
+            }
+            performances.put(r.performanceId(), perf);
+        }
+
+        // Only existing athletes are updated, to avoid creating invalid rows without required fields
+        java.util.Set<String> competitionIds = new java.util.HashSet<>();
+        java.util.Set<String> emails = new java.util.HashSet<>();
+        teams.forEach(r -> {
+            competitionIds.add(r.competitionId());
+            emails.addAll(r.teamEmails());
+        });
+        java.util.Map<String, Athlete> athletes = new java.util.HashMap<>();
+        for (Athlete a : athleteService.findByCompetitionsAndEmails(competitionIds, emails)) {
+            athletes.putIfAbsent(a.getCompetitionId() + "|" + a.getEmail().toLowerCase(java.util.Locale.ROOT), a);
+        }
+
+        java.util.Map<java.util.UUID, Athlete> changed = new java.util.LinkedHashMap<>();
+        for (ApprovedRegistration r : teams) {
+            PerformanceResponse perf = performances.get(r.performanceId());
+            if (perf == null) continue;
+            for (String em : r.teamEmails()) {
+                Athlete existingAthlete = athletes.get(r.competitionId() + "|" + em.toLowerCase(java.util.Locale.ROOT));
+                if (existingAthlete != null) {
+                    try {
+                        applyPerformanceContent(existingAthlete, perf, r.root());
+                        changed.put(existingAthlete.getId(), existingAthlete);
+                    } catch (Exception ignoredUpsert) { }
                 }
-                
-                // Format gender for email
-                String genderDisplay = "";
-                if (genderStr != null) {
-                    if (genderStr.equalsIgnoreCase("MALE")) genderDisplay = "Nam";
-                    else if (genderStr.equalsIgnoreCase("FEMALE")) genderDisplay = "Nữ";
-                    else genderDisplay = genderStr;
+            }
+        }
+        athleteService.saveAll(changed.values());
+    }
+
+    /**
+     * Copy the content of an approved team performance to a member's athlete row
+     */
+    private void applyPerformanceContent(Athlete existingAthlete, PerformanceResponse perfResponse, JsonNode root) {
+        String performanceContentId = perfResponse.getContentId();
+        Performance.ContentType perfContentType = perfResponse.getContentType();
+
+        // Extract content IDs from form data
+        final String fistConfigIdFromForm = textOrNull(root, "fistConfigId");
+        final String quyenContentIdFromForm = textOrNull(root, "quyenContentId");
+        final String fistItemIdFromForm = textOrNull(root, "fistItemId");
+        final String musicContentIdFromForm = textOrNull(root, "musicContentId");
+
+        // Use Performance contentId as fallback if form data is missing
+        String finalFistConfigId = fistConfigIdFromForm;
+        String finalMusicContentId = musicContentIdFromForm;
+        if (perfContentType == Performance.ContentType.QUYEN && performanceContentId != null && !performanceContentId.isBlank()) {
+            finalFistConfigId = finalFistConfigId != null ? finalFistConfigId : performanceContentId;
+        } else if (perfContentType == Performance.ContentType.MUSIC && performanceContentId != null && !performanceContentId.isBlank()) {
+            finalMusicContentId = finalMusicContentId != null ? finalMusicContentId : performanceContentId;
+        }
+
+        // Set competition type based on Performance content type
+        Athlete.CompetitionType perfCompetitionType = Athlete.CompetitionType.fighting;
+        if (perfContentType == Performance.ContentType.QUYEN) {
+            perfCompetitionType = Athlete.CompetitionType.quyen;
+        } else if (perfContentType == Performance.ContentType.MUSIC) {
+            perfCompetitionType = Athlete.CompetitionType.music;
+        }
+        existingAthlete.setCompetitionType(perfCompetitionType);
+
+        // Set sub competition type
+        String perfSubCompType = null;
+        if (perfContentType == Performance.ContentType.QUYEN) {
+            // Prefer the Quyền category name from (final -> existing -> item->config)
+            try {
+                String tryCfgId = null;
+                if (finalFistConfigId != null && !finalFistConfigId.isBlank()) tryCfgId = finalFistConfigId;
+                if ((tryCfgId == null || tryCfgId.isBlank()) && existingAthlete.getFistConfigId() != null) {
+                    tryCfgId = existingAthlete.getFistConfigId();
                 }
-                
-                // Get detailed category display name based on competition type
-                String categoryDisplay = "";
-                if (competitionTypeStr != null && !competitionTypeStr.isBlank()) {
-                    String compLower = competitionTypeStr.toLowerCase();
-                    
-                    if (compLower.equals("quyen")) {
-                        // For Quyền: try to get both category and content
-                        String quyenCategory = removeIdFromString(textOrNull(root, "quyenCategory"));
-                        String quyenContent = removeIdFromString(textOrNull(root, "quyenContent"));
-                        String quyenContentName = removeIdFromString(textOrNull(root, "quyenContentName"));
-                        
-                        // Try to resolve from fistConfigId and fistItemId
-                        String fistConfigId = textOrNull(root, "fistConfigId");
-                        String fistItemId = textOrNull(root, "fistItemId");
-                        if (fistItemId == null || fistItemId.isBlank()) {
-                            fistItemId = textOrNull(root, "quyenContentId");
-                        }
-                        
-                        if (quyenCategory != null && !quyenCategory.isBlank()) {
-                            categoryDisplay = quyenCategory;
-                            if (quyenContent != null && !quyenContent.isBlank()) {
-                                categoryDisplay += " - " + quyenContent;
-                            } else if (quyenContentName != null && !quyenContentName.isBlank()) {
-                                categoryDisplay += " - " + quyenContentName;
-                            } else if (fistItemId != null && !fistItemId.isBlank()) {
-                                try {
-                                    var item = fistItemRepository.findById(fistItemId).orElse(null);
-                                    if (item != null && item.getName() != null) {
-                                        categoryDisplay += " - " + removeIdFromString(item.getName());
-                                    }
-                                } catch (Exception ignored) {}
-                            }
-                        } else if (fistConfigId != null && !fistConfigId.isBlank()) {
-                            try {
-                                var cfg = fistConfigRepository.findById(fistConfigId).orElse(null);
-                                if (cfg != null && cfg.getName() != null) {
-                                    categoryDisplay = removeIdFromString(cfg.getName());
-                                    if (fistItemId != null && !fistItemId.isBlank()) {
-                                        try {
-                                            var item = fistItemRepository.findById(fistItemId).orElse(null);
-                                            if (item != null && item.getName() != null) {
-                                                categoryDisplay += " - " + removeIdFromString(item.getName());
-                                            }
-                                        } catch (Exception ignored) {}
-                                    }
-                                }
-                            } catch (Exception ignored) {}
-                        }
-                        
-                    } else if (compLower.equals("fighting")) {
-                        // For Fighting: show weight class with gender
-                        String weightClassId = textOrNull(root, "weightClassId");
-                        String weightClass = removeIdFromString(textOrNull(root, "weightClass"));
-                        
-                        if (weightClassId != null && !weightClassId.isBlank()) {
-                            try {
-                                var wc = weightClassRepository.findById(weightClassId).orElse(null);
-                                if (wc != null) {
-                                    if (wc.getWeightClass() != null && !wc.getWeightClass().isBlank()) {
-                                        categoryDisplay = removeIdFromString(wc.getWeightClass());
-                                    } else if (wc.getMinWeight() != null && wc.getMaxWeight() != null) {
-                                        categoryDisplay = wc.getMinWeight() + "-" + wc.getMaxWeight() + "kg";
-                                    }
-                                }
-                            } catch (Exception ignored) {}
-                        } else if (weightClass != null && !weightClass.isBlank()) {
-                            categoryDisplay = weightClass;
-                        }
-                        
-                        // Add gender prefix if available
-                        if (!categoryDisplay.isBlank() && !genderDisplay.isBlank()) {
-                            categoryDisplay = genderDisplay + " " + categoryDisplay;
-                        }
-                        
-                    } else if (compLower.equals("music")) {
-                        // For Music: show music content name
-                        String musicContentId = textOrNull(root, "musicContentId");
-                        String musicCategory = removeIdFromString(textOrNull(root, "musicCategory"));
-                        
-                        if (musicContentId != null && !musicContentId.isBlank()) {
-                            try {
-                                var mc = musicRepository.findById(musicContentId).orElse(null);
-                                if (mc != null && mc.getName() != null) {
-                                    categoryDisplay = removeIdFromString(mc.getName());
-                                }
-                            } catch (Exception ignored) {}
-                        } else if (musicCategory != null && !musicCategory.isBlank()) {
-                            categoryDisplay = musicCategory;
-                        }
+                if ((tryCfgId == null || tryCfgId.isBlank())) {
+                    // derive from chosen fist item
+                    String chosenFistItemLocal = quyenContentIdFromForm != null && !quyenContentIdFromForm.isBlank()
+                            ? quyenContentIdFromForm
+                            : (fistItemIdFromForm != null && !fistItemIdFromForm.isBlank() ? fistItemIdFromForm : existingAthlete.getFistItemId());
+                    if (chosenFistItemLocal != null && !chosenFistItemLocal.isBlank()) {
+                        var item = referenceDataCache.fistItem(chosenFistItemLocal).orElse(null);
+                        if (item != null && item.configId() != null) tryCfgId = item.configId();
                     }
                 }
-                
-                // Fallback to subCompetitionType if categoryDisplay is still empty
-                if (categoryDisplay.isBlank() && subCompetitionType != null && !subCompetitionType.isBlank()) {
-                    categoryDisplay = removeIdFromString(subCompetitionType);
-                }
-                
-                // Get team name if exists and clean ID from all display fields
-                String teamName = removeIdFromString(textOrNull(root, "teamName"));
-                
-                // Prepare final variables for async task - clean all display strings from IDs
-                final String finalEmail = email;
-                final String finalFullName = removeIdFromString(fullName);
-                final String finalStudentId = studentId;
-                final String finalClub = removeIdFromString(club);
-                final String finalGenderDisplay = genderDisplay;
-                final String finalTournamentName = removeIdFromString(tournamentName);
-                final String finalCompetitionTypeDisplay = competitionTypeDisplay;
-                final String finalCategoryDisplay = categoryDisplay;
-                final boolean finalIsTeamSubmission = isTeamSubmission;
-                final String finalTeamName = teamName;
-                final Long finalSubmissionId = submissionId;
-                
-                // Send email asynchronously - don't block the main transaction
-                CompletableFuture.runAsync(() -> {
-                    try {
-                        emailService.sendRegistrationApproved(
-                            finalEmail,
-                            finalFullName,
-                            finalStudentId,
-                            finalClub,
-                            finalGenderDisplay,
-                            finalTournamentName,
-                            finalCompetitionTypeDisplay,
-                            finalCategoryDisplay,
-                            finalIsTeamSubmission,
-                            finalTeamName
-                        );
-                        log.info("Sent registration approval email to {} for submission {}", finalEmail, finalSubmissionId);
-                    } catch (Exception emailEx) {
-                        log.warn("Failed to send approval email to {} for submission {}: {}", 
-                                finalEmail, finalSubmissionId, emailEx.getMessage());
+                if (tryCfgId != null && !tryCfgId.isBlank()) {
+                    var cfg = referenceDataCache.fistConfig(tryCfgId).orElse(null);
+                    if (cfg != null && cfg.name() != null && !cfg.name().isBlank()) {
+                        perfSubCompType = cfg.name();
                     }
-                });
-                
-                } catch (Exception ex) {
-                    // Log error but don't fail the status update transaction
-                    log.error("Error processing approval side-effects for submission {}: {}", 
-                            submissionId, ex.getMessage(), ex);
-                    // Don't re-throw - this is in a separate transaction, so status update already succeeded
-                    // The exception will be logged but won't affect the main transaction
                 }
-            });
+            } catch (Exception ignoredCfg) { }
+            if (perfSubCompType == null) perfSubCompType = "Quyền"; // fallback
+        } else if (perfContentType == Performance.ContentType.FIGHTING) {
+            perfSubCompType = "Hạng cân";
+        } else if (perfContentType == Performance.ContentType.MUSIC) {
+            perfSubCompType = "Tiết mục";
         }
+        if (perfSubCompType != null) existingAthlete.setSubCompetitionType(perfSubCompType);
+
+        if (finalFistConfigId != null && !finalFistConfigId.isBlank()) existingAthlete.setFistConfigId(finalFistConfigId);
+        String chosenFistItem = quyenContentIdFromForm != null && !quyenContentIdFromForm.isBlank()
+                ? quyenContentIdFromForm
+                : (fistItemIdFromForm != null && !fistItemIdFromForm.isBlank() ? fistItemIdFromForm : null);
+        if (chosenFistItem != null) existingAthlete.setFistItemId(chosenFistItem);
+        if (finalMusicContentId != null && !finalMusicContentId.isBlank()) existingAthlete.setMusicContentId(finalMusicContentId);
     }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    protected void upsertAthleteAndRole(JsonNode root, sep490g65.fvcapi.entity.SubmittedApplicationForm s) {
+    /**
+     * Everything the approval side-effects need from a submission's formData, read once
+     */
+    private ApprovedRegistration toApprovedRegistration(sep490g65.fvcapi.entity.SubmittedApplicationForm s) throws Exception {
+        String formJson = s.getFormData();
+        JsonNode root = formJson != null ? objectMapper.readTree(formJson) : objectMapper.createObjectNode();
+
         String fullName = textOrNull(root, "fullName");
         String email = textOrNull(root, "email");
         String club = textOrNull(root, "club");
@@ -761,24 +628,44 @@ public class TournamentFormServiceImpl implements TournamentFormService {
         Athlete.Gender gender = parseGender(genderStr);
         Athlete.CompetitionType competitionType = parseCompetitionType(competitionTypeStr);
 
+        // Extract hierarchical competition structure
         String subCompetitionType = resolveSubCompetitionType(root, competitionTypeStr);
 
         String competitionId = null;
+        String tournamentName = "";
         if (s.getApplicationFormConfig() != null && s.getApplicationFormConfig().getCompetition() != null) {
-            String compId = s.getApplicationFormConfig().getCompetition().getId();
-            if (compId != null && !compId.isBlank()) {
-                competitionId = compId;
+            Competition comp = s.getApplicationFormConfig().getCompetition();
+            if (comp.getId() != null && !comp.getId().isBlank()) {
+                competitionId = comp.getId();
             }
+            tournamentName = comp.getName() != null ? comp.getName() : "";
         }
 
         String perfIdForTeam = textOrNull(root, "performanceId");
+        if (perfIdForTeam != null && perfIdForTeam.isBlank()) perfIdForTeam = null;
+        boolean isTeamSubmission = false;
         try {
             Integer ppe = root.hasNonNull("participantsPerEntry") ? root.get("participantsPerEntry").asInt() : null;
             boolean hasMembers = root.has("teamMembers") && root.get("teamMembers").isArray() && root.get("teamMembers").size() > 0;
-            boolean _unused = (ppe != null && ppe > 1) || hasMembers || (perfIdForTeam != null && !perfIdForTeam.isBlank());
+            isTeamSubmission = (ppe != null && ppe > 1) || hasMembers || perfIdForTeam != null;
         } catch (Exception ignoredCalc) {}
 
+        java.util.Set<String> teamEmails = new java.util.LinkedHashSet<>();
+        if (email != null && !email.isBlank()) teamEmails.add(email);
+        JsonNode members = root.get("teamMembers");
+        if (members != null && members.isArray()) {
+            for (JsonNode m : members) {
+                if (m.hasNonNull("email")) {
+                    String em = m.get("email").asText("").trim();
+                    if (!em.isBlank()) teamEmails.add(em);
+                }
+            }
+        }
+
+        // Create Athlete for both individual and team submissions
+        Athlete athlete = null;
         if (competitionId != null && fullName != null && email != null && gender != null && competitionType != null) {
+            // Extract preferred IDs for tight linking and storing into detail_sub
             String weightClassId = textOrNull(root, "weightClassId");
             String fistItemId    = textOrNull(root, "fistItemId");
             if (fistItemId == null || fistItemId.isBlank()) {
@@ -788,176 +675,219 @@ public class TournamentFormServiceImpl implements TournamentFormService {
             String musicContentId= textOrNull(root, "musicContentId");
             String fistConfigId  = textOrNull(root, "fistConfigId");
 
+            // For Quyền, ensure subCompetitionType is the category name (e.g., "đa luyện")
             String subCompetitionTypeFinal = subCompetitionType;
             try {
                 if (competitionType == Athlete.CompetitionType.quyen) {
+                    // Prefer direct value from form buttons (quyenCategory)
                     String quyenCategoryFromForm = textOrNull(root, "quyenCategory");
                     if (quyenCategoryFromForm != null && !quyenCategoryFromForm.isBlank()) {
                         subCompetitionTypeFinal = quyenCategoryFromForm;
                     }
+                    // Fallback: resolve from config name when form value missing or generic
                     if (subCompetitionTypeFinal == null || subCompetitionTypeFinal.isBlank() || "Quyền".equalsIgnoreCase(subCompetitionTypeFinal)) {
                         if (fistConfigId != null && !fistConfigId.isBlank()) {
-                            var cfg = fistConfigRepository.findById(fistConfigId).orElse(null);
-                            if (cfg != null && cfg.getName() != null && !cfg.getName().isBlank()) {
-                                subCompetitionTypeFinal = cfg.getName();
+                            var cfg = referenceDataCache.fistConfig(fistConfigId).orElse(null);
+                            if (cfg != null && cfg.name() != null && !cfg.name().isBlank()) {
+                                subCompetitionTypeFinal = cfg.name();
                             }
                         }
                     }
                 }
             } catch (Exception ignoredResolveCfg) { }
 
-            try { athleteService.deleteByEmailAndCompetitionId(email, competitionId); } catch (Exception ignoredDelete) { }
+            Athlete.AthleteBuilder builder = Athlete.builder()
+                .competitionId(competitionId)
+                .fullName(fullName)
+                .email(email)
+                .studentId(studentId)
+                .gender(gender)
+                .club(club)
+                .competitionType(competitionType)
+                .subCompetitionType(subCompetitionTypeFinal)
+                .status(Athlete.AthleteStatus.NOT_STARTED);
+
+            // Prefer IDs from submission formData for FK columns
+            if (weightClassId != null && !weightClassId.isBlank()) builder.weightClassId(weightClassId);
+            if (fistConfigId  != null && !fistConfigId.isBlank())  builder.fistConfigId(fistConfigId);
+            // Persist both config and item to support list/filters
+            if (musicContentId!= null && !musicContentId.isBlank()) builder.musicContentId(musicContentId);
+            if (fistItemId != null && !fistItemId.isBlank()) builder.fistItemId(fistItemId);
+            athlete = builder.build();
+        }
 
-            try {
-                Athlete.AthleteBuilder builder = Athlete.builder()
-                    .competitionId(competitionId)
-                    .fullName(fullName)
-                    .email(email)
-                    .studentId(studentId)
-                    .gender(gender)
-                    .club(club)
-                    .competitionType(competitionType)
-                    .subCompetitionType(subCompetitionTypeFinal)
-                    .status(Athlete.AthleteStatus.NOT_STARTED);
-
-                if (weightClassId != null && !weightClassId.isBlank()) builder.weightClassId(weightClassId);
-                if (fistConfigId  != null && !fistConfigId.isBlank())  builder.fistConfigId(fistConfigId);
-                if (musicContentId!= null && !musicContentId.isBlank()) builder.musicContentId(musicContentId);
-                if (fistItemId != null && !fistItemId.isBlank()) builder.fistItemId(fistItemId);
-
-                athleteService.create(builder.build());
-            } catch (Exception ignoredCreateAthlete) { }
+        return new ApprovedRegistration(s.getId(), root, competitionId, tournamentName, fullName, email, club,
+                competitionTypeStr, genderStr, studentId, subCompetitionType, isTeamSubmission, perfIdForTeam,
+                teamEmails, athlete);
+    }
 
-            try {
-                Competition competition = competitionRepository.findById(competitionId).orElse(null);
-                User user = userRepository.findByPersonalMail(email).orElse(null);
-                if (competition != null) {
-                    boolean roleExists = false;
-                    if (user != null) {
-                        roleExists = competitionRoleRepository.existsByCompetitionIdAndUserIdAndRole(
-                            competitionId, user.getId(), CompetitionRoleType.ATHLETE);
-                    } else {
-                        roleExists = competitionRoleRepository.existsByCompetitionIdAndEmailAndRole(
-                            competitionId, email, CompetitionRoleType.ATHLETE);
-                    }
-                    if (!roleExists) {
-                        CompetitionRole competitionRole = CompetitionRole.builder()
-                            .competition(competition)
-                            .user(user)
-                            .email(email)
-                            .role(CompetitionRoleType.ATHLETE)
-                            .build();
-                        try { competitionRoleRepository.save(competitionRole); } catch (Exception ignoredSaveRole) { }
-                    }
-                }
-            } catch (Exception ignoredRole) { }
+    private void queueApprovalEmail(ApprovedRegistration r) {
+        JsonNode root = r.root();
+        String competitionTypeStr = r.competitionTypeStr();
+        String genderStr = r.genderStr();
+
+        // Format competition type for email
+        String competitionTypeDisplay = "";
+        if (competitionTypeStr != null && !competitionTypeStr.isBlank()) {
+            String compLower = competitionTypeStr.toLowerCase();
+            if (compLower.equals("quyen")) competitionTypeDisplay = "Quyền";
+            else if (compLower.equals("fighting")) competitionTypeDisplay = "Đối kháng";
+            else if (compLower.equals("music")) competitionTypeDisplay = "Võ nhạc";
+            else competitionTypeDisplay = competitionTypeStr;
         }
 
-        if (perfIdForTeam != null && !perfIdForTeam.isBlank()) {
-            try { performanceService.approve(perfIdForTeam); } catch (Exception ignoredApprove) { }
-            try {
-                final String competitionIdFinal;
-                if (s.getApplicationFormConfig() != null && s.getApplicationFormConfig().getCompetition() != null) {
-                    competitionIdFinal = s.getApplicationFormConfig().getCompetition().getId();
-                } else { return; }
+        // Format gender for email
+        String genderDisplay = "";
+        if (genderStr != null) {
+            if (genderStr.equalsIgnoreCase("MALE")) genderDisplay = "Nam";
+            else if (genderStr.equalsIgnoreCase("FEMALE")) genderDisplay = "Nữ";
+            else genderDisplay = genderStr;
+        }
 
-                try {
-                    PerformanceResponse perfResponse = performanceService.getPerformanceById(perfIdForTeam);
-                    String performanceContentId = perfResponse.getContentId();
-                    Performance.ContentType perfContentType = perfResponse.getContentType();
-
-                    final String fistConfigIdFromForm = textOrNull(root, "fistConfigId");
-                    final String quyenContentIdFromForm = textOrNull(root, "quyenContentId");
-                    final String fistItemIdFromForm = textOrNull(root, "fistItemId");
-                    final String musicContentIdFromForm = textOrNull(root, "musicContentId");
-
-                    String finalFistConfigId = fistConfigIdFromForm;
-                    String finalMusicContentId = musicContentIdFromForm;
-                    if (perfContentType == Performance.ContentType.QUYEN && performanceContentId != null && !performanceContentId.isBlank()) {
-                        finalFistConfigId = finalFistConfigId != null ? finalFistConfigId : performanceContentId;
-                    } else if (perfContentType == Performance.ContentType.MUSIC && performanceContentId != null && !performanceContentId.isBlank()) {
-                        finalMusicContentId = finalMusicContentId != null ? finalMusicContentId : performanceContentId;
+        // Get detailed category display name based on competition type
+        String categoryDisplay = "";
+        if (competitionTypeStr != null && !competitionTypeStr.isBlank()) {
+            String compLower = competitionTypeStr.toLowerCase();
+            
+            if (compLower.equals("quyen")) {
+                // For Quyền: try to get both category and content
+                String quyenCategory = removeIdFromString(textOrNull(root, "quyenCategory"));
+                String quyenContent = removeIdFromString(textOrNull(root, "quyenContent"));
+                String quyenContentName = removeIdFromString(textOrNull(root, "quyenContentName"));
+                
+                // Try to resolve from fistConfigId and fistItemId
+                String fistConfigId = textOrNull(root, "fistConfigId");
+                String fistItemId = textOrNull(root, "fistItemId");
+                if (fistItemId == null || fistItemId.isBlank()) {
+                    fistItemId = textOrNull(root, "quyenContentId");
+                }
+                
+                if (quyenCategory != null && !quyenCategory.isBlank()) {
+                    categoryDisplay = quyenCategory;
+                    if (quyenContent != null && !quyenContent.isBlank()) {
+                        categoryDisplay += " - " + quyenContent;
+                    } else if (quyenContentName != null && !quyenContentName.isBlank()) {
+                        categoryDisplay += " - " + quyenContentName;
+                    } else if (fistItemId != null && !fistItemId.isBlank()) {
+                        try {
+                            var item = referenceDataCache.fistItem(fistItemId).orElse(null);
+                            if (item != null && item.name() != null) {
+                                categoryDisplay += " - " + removeIdFromString(item.name());
+                            }
+                        } catch (Exception ignored) {}
                     }
-
-                    java.util.Set<String> emails = new java.util.LinkedHashSet<>();
-                    if (email != null && !email.isBlank()) emails.add(email);
+                } else if (fistConfigId != null && !fistConfigId.isBlank()) {
+                    try {
+                        var cfg = referenceDataCache.fistConfig(fistConfigId).orElse(null);
+                        if (cfg != null && cfg.name() != null) {
+                            categoryDisplay = removeIdFromString(cfg.name());
+                            if (fistItemId != null && !fistItemId.isBlank()) {
+                                try {
+                                    var item = referenceDataCache.fistItem(fistItemId).orElse(null);
+                                    if (item != null && item.name() != null) {
+                                        categoryDisplay += " - " + removeIdFromString(item.name());
+                                    }
+                                } catch (Exception ignored) {}
+                            }
+                        }
+                    } catch (Exception ignored) {}
+                }
+                
+            } else if (compLower.equals("fighting")) {
+                // For Fighting: show weight class with gender
+                String weightClassId = textOrNull(root, "weightClassId");
+                String weightClass = removeIdFromString(textOrNull(root, "weightClass"));
+                
+                if (weightClassId != null && !weightClassId.isBlank()) {
                     try {
-                        JsonNode members = root.get("teamMembers");
-                        if (members != null && members.isArray()) {
-                            for (JsonNode m : members) {
-                                if (m.hasNonNull("email")) {
-                                    String em = m.get("email").asText("").trim();
-                                    if (!em.isBlank()) emails.add(em);
-                                }
+                        var wc = referenceDataCache.weightClass(weightClassId).orElse(null);
+                        if (wc != null) {
+                            if (wc.weightClass() != null && !wc.weightClass().isBlank()) {
+                                categoryDisplay = removeIdFromString(wc.weightClass());
+                            } else if (wc.minWeight() != null && wc.maxWeight() != null) {
+                                categoryDisplay = wc.minWeight() + "-" + wc.maxWeight() + "kg";
                             }
                         }
-                    } catch (Exception ignoredMembers) {}
+                    } catch (Exception ignored) {}
+                } else if (weightClass != null && !weightClass.isBlank()) {
+                    categoryDisplay = weightClass;
+                }
+                
+                // Add gender prefix if available
+                if (!categoryDisplay.isBlank() && !genderDisplay.isBlank()) {
+                    categoryDisplay = genderDisplay + " " + categoryDisplay;
+                }
+                
+            } else if (compLower.equals("music")) {
+                // For Music: show music content name
+                String musicContentId = textOrNull(root, "musicContentId");
+                String musicCategory = removeIdFromString(textOrNull(root, "musicCategory"));
+                
+                if (musicContentId != null && !musicContentId.isBlank()) {
+                    try {
+                        var mc = referenceDataCache.musicContent(musicContentId).orElse(null);
+                        if (mc != null && mc.name() != null) {
+                            categoryDisplay = removeIdFromString(mc.name());
+                        }
+                    } catch (Exception ignored) {}
+                } else if (musicCategory != null && !musicCategory.isBlank()) {
+                    categoryDisplay = musicCategory;
+                }
+            }
+        }
+        
+        // Fallback to subCompetitionType if categoryDisplay is still empty
+        if (categoryDisplay.isBlank() && r.subCompetitionType() != null && !r.subCompetitionType().isBlank()) {
+            categoryDisplay = removeIdFromString(r.subCompetitionType());
+        }
+        
+        // Get team name if exists and clean ID from all display fields
+        String teamName = removeIdFromString(textOrNull(root, "teamName"));
+
+        // Queued in the side-effects transaction; EmailOutboxDispatcher sends it after commit
+        emailOutboxService.enqueueRegistrationApproved(
+            r.email(),
+            removeIdFromString(r.fullName()),
+            r.studentId(),
+            removeIdFromString(r.club()),
+            genderDisplay,
+            removeIdFromString(r.tournamentName()),
+            competitionTypeDisplay,
+            categoryDisplay,
+            r.teamSubmission(),
+            teamName
+        );
+    }
 
-                    for (String em : emails) {
-                        try {
-                            java.util.Optional<sep490g65.fvcapi.entity.Athlete> existingOpt = 
-                                    athleteService.list(competitionIdFinal, null, null, null, null, null, null, org.springframework.data.domain.Pageable.unpaged())
-                                    .getContent()
-                                    .stream().filter(a -> em.equalsIgnoreCase(a.getEmail())).findFirst();
-                            if (existingOpt.isPresent()) {
-                                Athlete existingAthlete = existingOpt.get();
-                                Athlete.CompetitionType perfCompetitionType = Athlete.CompetitionType.fighting;
-                                if (perfContentType == Performance.ContentType.QUYEN) {
-                                    perfCompetitionType = Athlete.CompetitionType.quyen;
-                                } else if (perfContentType == Performance.ContentType.MUSIC) {
-                                    perfCompetitionType = Athlete.CompetitionType.music;
-                                }
-                                existingAthlete.setCompetitionType(perfCompetitionType);
-
-                                String perfSubCompType = null;
-                                if (perfContentType == Performance.ContentType.QUYEN) {
-                                    try {
-                                        String tryCfgId = null;
-                                        if (finalFistConfigId != null && !finalFistConfigId.isBlank()) tryCfgId = finalFistConfigId;
-                                        if ((tryCfgId == null || tryCfgId.isBlank()) && existingAthlete.getFistConfigId() != null) {
-                                            tryCfgId = existingAthlete.getFistConfigId();
-                                        }
-                                        if ((tryCfgId == null || tryCfgId.isBlank())) {
-                                            String chosenFistItemLocal = quyenContentIdFromForm != null && !quyenContentIdFromForm.isBlank()
-                                                    ? quyenContentIdFromForm
-                                                    : (fistItemIdFromForm != null && !fistItemIdFromForm.isBlank() ? fistItemIdFromForm : existingAthlete.getFistItemId());
-                                            if (chosenFistItemLocal != null && !chosenFistItemLocal.isBlank()) {
-                                                var item = fistItemRepository.findById(chosenFistItemLocal).orElse(null);
-                                                if (item != null && item.getVovinamFistConfig() != null) tryCfgId = item.getVovinamFistConfig().getId();
-                                            }
-                                        }
-                                        if (tryCfgId != null && !tryCfgId.isBlank()) {
-                                            var cfg = fistConfigRepository.findById(tryCfgId).orElse(null);
-                                            if (cfg != null && cfg.getName() != null && !cfg.getName().isBlank()) {
-                                                perfSubCompType = cfg.getName();
-                                            }
-                                        }
-                                    } catch (Exception ignoredCfg) { }
-                                    if (perfSubCompType == null) perfSubCompType = "Quyền";
-                                } else if (perfContentType == Performance.ContentType.FIGHTING) {
-                                    perfSubCompType = "Hạng cân";
-                                } else if (perfContentType == Performance.ContentType.MUSIC) {
-                                    perfSubCompType = "Tiết mục";
-                                }
-                                if (perfSubCompType != null) existingAthlete.setSubCompetitionType(perfSubCompType);
-                                if (finalFistConfigId != null && !finalFistConfigId.isBlank()) existingAthlete.setFistConfigId(finalFistConfigId);
-                                String chosenFistItem = quyenContentIdFromForm != null && !quyenContentIdFromForm.isBlank()
-                                        ? quyenContentIdFromForm
-                                        : (fistItemIdFromForm != null && !fistItemIdFromForm.isBlank() ? fistItemIdFromForm : null);
-                                if (chosenFistItem != null) existingAthlete.setFistItemId(chosenFistItem);
-                                if (finalMusicContentId != null && !finalMusicContentId.isBlank()) existingAthlete.setMusicContentId(finalMusicContentId);
-                                try { athleteService.create(existingAthlete); } catch (Exception ignoredUpsert) { }
-                            }
-                        } catch (Exception ignoredLoop) { }
-                    }
-                } catch (Exception ignoredPerf) { }
-            } catch (Exception ignoredPropagate) { }
+    private static <T> java.util.List<java.util.List<T>> partition(java.util.List<T> items, int size) {
+        java.util.List<java.util.List<T>> chunks = new java.util.ArrayList<>();
+        for (int i = 0; i < items.size(); i += size) {
+            chunks.add(items.subList(i, Math.min(items.size(), i + size)));
         }
+        return chunks;
+    }
+
+    private record ApprovedRegistration(
+            Long submissionId,
+            JsonNode root,
+            String competitionId,
+            String tournamentName,
+            String fullName,
+            String email,
+            String club,
+            String competitionTypeStr,
+            String genderStr,
+            String studentId,
+            String subCompetitionType,
+            boolean teamSubmission,
+            String performanceId,
+            java.util.Set<String> teamEmails,
+            Athlete athlete) {
     }
 
     @Override
     @Transactional
-    public void submit(String formId, CreateSubmissionRequest request) {
+    public Long submit(String formId, CreateSubmissionRequest request) {
         ApplicationFormConfig form = formConfigRepository.findById(formId).orElseThrow();
         // Basic validation for required standard fields
         if (request.getFullName() == null || request.getFullName().isBlank()
@@ -968,47 +898,16 @@ public class TournamentFormServiceImpl implements TournamentFormService {
             throw new IllegalArgumentException("Missing required fields for submission");
         }
 
-        // Enforce 1 email per form: check existing submissions by formId + email
-        String normalizedEmail = request.getEmail().trim().toLowerCase();
-        String normalizedStudentId = request.getStudentId().trim();
-        
-        // submittedRepository should expose a method to search by formId and email contained in formData
-        // As a pragmatic approach, fetch minimal page and scan for match
-        PageRequest onePage = PageRequest.of(0, 100);
-        Page<sep490g65.fvcapi.entity.SubmittedApplicationForm> existing = submittedRepository.findByFormId(formId, onePage);
-        
-        // Check for duplicate email
-        boolean duplicateEmail = existing.stream().anyMatch(s -> {
-            try {
-                String formJson = s.getFormData();
-                if (formJson == null) return false;
-                com.fasterxml.jackson.databind.JsonNode node = objectMapper.readTree(formJson);
-                String e = (node != null && node.hasNonNull("email")) ? node.get("email").asText("") : "";
-                return !e.isBlank() && e.trim().toLowerCase().equals(normalizedEmail);
-            } catch (Exception ex) {
-                return false;
-            }
-        });
-        if (duplicateEmail) {
+        // Enforce 1 email and 1 studentId per form: indexed probes on the normalized registration keys
+        String registrationEmail = RegistrationKeyUtils.normalizeEmail(request.getEmail());
+        String registrationStudentId = RegistrationKeyUtils.normalizeStudentId(request.getStudentId());
+        if (submittedRepository.existsByApplicationFormConfig_IdAndRegistrationEmail(formId, registrationEmail)) {
             throw new org.springframework.web.server.ResponseStatusException(
                     org.springframework.http.HttpStatus.CONFLICT,
                     "Email này đã được đăng ký cho form này"
             );
         }
-        
-        // Check for duplicate studentId
-        boolean duplicateStudentId = existing.stream().anyMatch(s -> {
-            try {
-                String formJson = s.getFormData();
-                if (formJson == null) return false;
-                com.fasterxml.jackson.databind.JsonNode node = objectMapper.readTree(formJson);
-                String sid = (node != null && node.hasNonNull("studentId")) ? node.get("studentId").asText("") : "";
-                return !sid.isBlank() && sid.trim().equals(normalizedStudentId);
-            } catch (Exception ex) {
-                return false;
-            }
-        });
-        if (duplicateStudentId) {
+        if (submittedRepository.existsByApplicationFormConfig_IdAndRegistrationStudentId(formId, registrationStudentId)) {
             throw new org.springframework.web.server.ResponseStatusException(
                     org.springframework.http.HttpStatus.CONFLICT,
                     "MSSV này đã được đăng ký cho form này"
@@ -1037,6 +936,8 @@ public class TournamentFormServiceImpl implements TournamentFormService {
                     "Dữ liệu form không hợp lệ"
             );
         }
+        // Fields defined on the form (required, EMAIL / NUMBER) with the form's cached validator
+        formDataValidationService.validateFormFields(formId, request.getFormDataJson());
 
         // Reject submissions after endDate if configured
         try {
@@ -1049,15 +950,36 @@ public class TournamentFormServiceImpl implements TournamentFormService {
             }
         } catch (org.springframework.web.server.ResponseStatusException ex) { throw ex; }
 
+        // max_submissions is counted under the form row lock also taken by waitlist promotion, held until commit
+        if (form.getMaxSubmissions() != null) {
+            Integer maxSubmissions = formConfigRepository.lockMaxSubmissions(formId);
+            if (maxSubmissions != null && submittedRepository.countByFormId(formId) >= maxSubmissions) {
+                throw new org.springframework.web.server.ResponseStatusException(
+                        org.springframework.http.HttpStatus.CONFLICT,
+                        sep490g65.fvcapi.constants.MessageConstants.SUBMISSION_FORM_FULL
+                );
+            }
+        }
+
         sep490g65.fvcapi.entity.SubmittedApplicationForm s = sep490g65.fvcapi.entity.SubmittedApplicationForm.builder()
                 .applicationFormConfig(form)
                 .formType(form.getFormType())
                 .formData(request.getFormDataJson())
                 .user(user)
                 .email(request.getEmail())
+                .registrationEmail(registrationEmail)
+                .registrationStudentId(registrationStudentId)
                 .status(sep490g65.fvcapi.enums.ApplicationFormStatus.PENDING)
                 .build();
-        submittedRepository.save(s);
+        try {
+            submittedRepository.saveAndFlush(s);
+        } catch (org.springframework.dao.DataIntegrityViolationException ex) {
+            // A concurrent submission with the same email or studentId won the unique index
+            throw new org.springframework.web.server.ResponseStatusException(
+                    org.springframework.http.HttpStatus.CONFLICT,
+                    "Email hoặc MSSV này đã được đăng ký cho form này"
+            );
+        }
 
         // Create a Performance for team submissions (if applicable)
         // Use separate transaction to avoid rollback of main submission if performance creation fails
@@ -1074,13 +996,13 @@ public class TournamentFormServiceImpl implements TournamentFormService {
                 if ("fighting".equals(ctLowerForEnrich)) {
                     if (!obj.hasNonNull("weightClass") && obj.hasNonNull("weightClassId")) {
                         String wId = obj.get("weightClassId").asText();
-                        weightClassRepository.findById(wId).ifPresent(w -> {
+                        referenceDataCache.weightClass(wId).ifPresent(w -> {
                             String label;
-                            if (w.getWeightClass() != null && !w.getWeightClass().trim().isEmpty()) {
-                                label = w.getWeightClass();
-                            } else if (w.getMinWeight() != null && w.getMaxWeight() != null) {
-                                String min = w.getMinWeight().stripTrailingZeros().toPlainString();
-                                String max = w.getMaxWeight().stripTrailingZeros().toPlainString();
+                            if (w.weightClass() != null && !w.weightClass().trim().isEmpty()) {
+                                label = w.weightClass();
+                            } else if (w.minWeight() != null && w.maxWeight() != null) {
+                                String min = w.minWeight().stripTrailingZeros().toPlainString();
+                                String max = w.maxWeight().stripTrailingZeros().toPlainString();
                                 label = min + "-" + max + "kg";
                             } else {
                                 label = null;
@@ -1100,20 +1022,20 @@ public class TournamentFormServiceImpl implements TournamentFormService {
                     }
                     if (!obj.hasNonNull("quyenCategory") && obj.hasNonNull("fistConfigId")) {
                         String cfgId = obj.get("fistConfigId").asText();
-                        fistConfigRepository.findById(cfgId).ifPresent(cfg -> obj.put("quyenCategory", cfg.getName()));
+                        referenceDataCache.fistConfig(cfgId).ifPresent(cfg -> obj.put("quyenCategory", cfg.name()));
                     }
                     if (!obj.hasNonNull("quyenContent") && obj.hasNonNull("quyenContentId")) {
                         String itemId = obj.get("quyenContentId").asText();
-                        fistItemRepository.findById(itemId).ifPresent(it -> obj.put("quyenContent", it.getName()));
+                        referenceDataCache.fistItem(itemId).ifPresent(it -> obj.put("quyenContent", it.name()));
                     }
                     if (!obj.hasNonNull("quyenContent") && obj.hasNonNull("fistItemId")) {
                         String itemId2 = obj.get("fistItemId").asText();
-                        fistItemRepository.findById(itemId2).ifPresent(it -> obj.put("quyenContent", it.getName()));
+                        referenceDataCache.fistItem(itemId2).ifPresent(it -> obj.put("quyenContent", it.name()));
                     }
                 } else if ("music".equals(ctLowerForEnrich)) {
                     if (!obj.hasNonNull("musicCategory") && obj.hasNonNull("musicContentId")) {
                         String mid = obj.get("musicContentId").asText();
-                        musicRepository.findById(mid).ifPresent(m -> obj.put("musicCategory", m.getName()));
+                        referenceDataCache.musicContent(mid).ifPresent(m -> obj.put("musicCategory", m.name()));
                     }
                 }
                 s.setFormData(obj.toString());
@@ -1216,6 +1138,7 @@ public class TournamentFormServiceImpl implements TournamentFormService {
 
         // Optionally pre-create/update an Athlete record with tight linking IDs (pending approval)
         // We keep existing approval flow; IDs will be used on approval to upsert athlete.
+        return s.getId();
     }
 
     private TournamentFormResponse toDtoFromForm(ApplicationFormConfig f) {
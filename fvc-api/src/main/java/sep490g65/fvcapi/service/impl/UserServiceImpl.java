@@ -23,6 +23,8 @@ import sep490g65.fvcapi.dto.response.UserResponse;
 import sep490g65.fvcapi.entity.ClubMember;
 import sep490g65.fvcapi.exception.BusinessException;
 import sep490g65.fvcapi.repository.ClubMemberRepository;
+import sep490g65.fvcapi.security.PrincipalCache;
+import sep490g65.fvcapi.security.TokenVersionTable;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -37,6 +39,8 @@ public class UserServiceImpl implements UserService {
     private final PasswordHistoryRepository passwordHistoryRepository;
     private final PasswordEncoder passwordEncoder;
     private final ClubMemberRepository clubMemberRepository;
+    private final PrincipalCache principalCache;
+    private final TokenVersionTable tokenVersions;
 
     
     @Override
@@ -81,6 +85,9 @@ public class UserServiceImpl implements UserService {
                 throw new ValidationException("personalMail", "Personal email already exists");
             }
             user.setPersonalMail(newPersonalMail);
+            // Tokens issued for the old address must stop resolving to this user
+            principalCache.evict(email);
+            tokenVersions.revoke(user);
         }
         
         // Update eduMail with validation
@@ -169,10 +176,12 @@ public class UserServiceImpl implements UserService {
         String hashedPassword = passwordEncoder.encode(request.getNewPassword());
         log.debug("Hashed new password for user: {}", normalizedEmail);
         user.setHashPassword(hashedPassword);
+        tokenVersions.revoke(user);
         
         // Save user and flush to ensure password is persisted immediately
         User savedUser = userRepository.save(user);
         userRepository.flush(); // Force immediate database write
+        principalCache.evict(normalizedEmail);
         
         log.debug("User password saved. Verifying password can be matched...");
         // Verify the saved password can be matched (for debugging)
@@ -397,13 +406,16 @@ public class UserServiceImpl implements UserService {
         
         try {
             // Check if user exists
-            if (!userRepository.existsById(userId)) {
+            Optional<User> existing = userRepository.findById(userId);
+            if (existing.isEmpty()) {
                 log.warn("User deletion failed: User not found with id: {}", userId);
                 throw new BusinessException("User not found", "USER_NOT_FOUND");
             }
             
             // Delete user
             userRepository.deleteById(userId);
+            principalCache.evict(existing.get().getPersonalMail());
+            tokenVersions.forget(userId);
             log.info("User deleted successfully with id: {}", userId);
             
         } catch (BusinessException e) {
@@ -29,6 +29,7 @@ public class VovinamFistConfigServiceImpl implements VovinamFistConfigService {
 
     private final VovinamFistConfigRepository repository;
     private final VovinamFistItemRepository fistItemRepository;
+    private final ReferenceDataCache referenceDataCache;
 
     private FistConfigResponse toDto(VovinamFistConfig v) {
         return FistConfigResponse.builder()
@@ -84,6 +85,7 @@ public class VovinamFistConfigServiceImpl implements VovinamFistConfigService {
                 .status(request.getStatus() != null ? request.getStatus() : Boolean.TRUE)
                 .build();
         VovinamFistConfig saved = repository.save(v);
+        referenceDataCache.fistContentChanged();
         return toDto(saved);
     }
 
@@ -95,6 +97,7 @@ public class VovinamFistConfigServiceImpl implements VovinamFistConfigService {
         if (request.getDescription() != null) v.setDescription(request.getDescription());
         if (request.getStatus() != null) v.setStatus(request.getStatus());
         VovinamFistConfig saved = repository.save(v);
+        referenceDataCache.fistContentChanged();
         return toDto(saved);
     }
     @Override
@@ -102,6 +105,7 @@ public class VovinamFistConfigServiceImpl implements VovinamFistConfigService {
         VovinamFistConfig v = repository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("FistConfig not found: " + id));
         repository.delete(v);
+        referenceDataCache.fistContentChanged();
     }
 
     // FistItem methods
@@ -190,6 +194,7 @@ public class VovinamFistConfigServiceImpl implements VovinamFistConfigService {
                 .level(parent == null ? 1 : (parent.getLevel() == null ? 2 : parent.getLevel() + 1))
                 .build();
         VovinamFistItem saved = fistItemRepository.save(entity);
+        referenceDataCache.fistContentChanged();
         return mapItemToResponse(saved);
     }
 
@@ -211,6 +216,7 @@ public class VovinamFistConfigServiceImpl implements VovinamFistConfigService {
             entity.setParent(parent);
         }
         VovinamFistItem saved = fistItemRepository.save(entity);
+        referenceDataCache.fistContentChanged();
         return mapItemToResponse(saved);
     }
 
@@ -222,6 +228,7 @@ public class VovinamFistConfigServiceImpl implements VovinamFistConfigService {
         VovinamFistItem entity = fistItemRepository.findById(itemId)
                 .orElseThrow(() -> new ResourceNotFoundException("FistItem not found: " + itemId));
         fistItemRepository.delete(entity);
+        referenceDataCache.fistContentChanged();
     }
 }
 
@@ -0,0 +1,320 @@
+package sep490g65.fvcapi.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import sep490g65.fvcapi.dto.request.SubmittedFormData;
+import sep490g65.fvcapi.dto.response.WaitlistPromotionResponse;
+import sep490g65.fvcapi.entity.WaitlistEntry;
+import sep490g65.fvcapi.enums.WaitlistPromotionState;
+import sep490g65.fvcapi.exception.custom.ValidationException;
+import sep490g65.fvcapi.repository.ApplicationFormConfigRepository;
+import sep490g65.fvcapi.repository.SubmittedApplicationFormRepository;
+import sep490g65.fvcapi.repository.WaitlistEntryRepository;
+import sep490g65.fvcapi.service.FormDataValidationService;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Promotes the waitlist of a form into PENDING submissions.
+ * Entries are read in FIFO (id) order one page at a time, each page in its own transaction:
+ *  - the form row is locked and the remaining capacity (max_submissions minus existing submissions) bounds the page
+ *  - emails that already submitted the form are marked processed without a new submission
+ *  - the page is written with one insert and one update
+ * Entries whose form data cannot be read or fails the checks of a direct submission (FormDataValidationService)
+ * stay on the waitlist and are counted as failed.
+ * Runs go to a bounded pool; the last run of each form is kept for progress reporting.
+ */
+@Component
+@Slf4j
+public class WaitlistPromotionEngine {
+
+    private final WaitlistEntryRepository waitlistEntryRepository;
+    private final SubmittedApplicationFormRepository submittedRepository;
+    private final ApplicationFormConfigRepository formConfigRepository;
+    private final FormDataValidationService formDataValidationService;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader formDataReader;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor executor;
+    private final int pageSize;
+
+    // Key: formId, Value: current or last run of the form on this node
+    private final Map<String, Progress> runs = new ConcurrentHashMap<>();
+
+    public WaitlistPromotionEngine(
+            WaitlistEntryRepository waitlistEntryRepository,
+            SubmittedApplicationFormRepository submittedRepository,
+            ApplicationFormConfigRepository formConfigRepository,
+            FormDataValidationService formDataValidationService,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.waitlist.promotion.page-size:200}") int pageSize,
+            @Value("${app.waitlist.promotion.workers:2}") int workers) {
+        this.waitlistEntryRepository = waitlistEntryRepository;
+        this.submittedRepository = submittedRepository;
+        this.formConfigRepository = formConfigRepository;
+        this.formDataValidationService = formDataValidationService;
+        this.objectMapper = objectMapper;
+        this.formDataReader = objectMapper.readerFor(SubmittedFormData.class);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.pageSize = pageSize;
+
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("waitlist-promotion-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+    }
+
+    /**
+     * Start promoting the waitlist of a form in the background.
+     * Inside a transaction the run starts after commit (and is marked failed on rollback).
+     * If the form is already being promoted, the running progress is returned instead.
+     */
+    public WaitlistPromotionResponse start(String formId) {
+        Progress progress = claim(formId);
+        if (progress == null) {
+            return runs.get(formId).toResponse();
+        }
+        Runnable launch = () -> {
+            try {
+                executor.execute(() -> run(progress));
+            } catch (TaskRejectedException e) {
+                progress.fail("Hệ thống đang bận, vui lòng thử lại sau");
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        launch.run();
+                    } else {
+                        progress.fail("Giao dịch bị hủy");
+                    }
+                }
+            });
+        } else {
+            launch.run();
+        }
+        return progress.toResponse();
+    }
+
+    /**
+     * Promote the waitlist of a form in the calling thread.
+     * Returns the number of submissions created (0 when the form is already being promoted).
+     */
+    public int promoteNow(String formId) {
+        Progress progress = claim(formId);
+        if (progress == null) {
+            return 0;
+        }
+        run(progress);
+        return progress.promoted;
+    }
+
+    public Optional<WaitlistPromotionResponse> progress(String formId) {
+        Progress progress = runs.get(formId);
+        return progress != null ? Optional.of(progress.toResponse()) : Optional.empty();
+    }
+
+    /**
+     * New run of the form, or null when one is already running
+     */
+    private Progress claim(String formId) {
+        long total = waitlistEntryRepository.countByApplicationFormConfig_IdAndIsProcessedFalse(formId);
+        Progress created = new Progress(formId, total);
+        Progress current = runs.compute(formId, (k, existing) ->
+                existing != null && existing.state == WaitlistPromotionState.RUNNING ? existing : created);
+        return current == created ? created : null;
+    }
+
+    private void run(Progress progress) {
+        long afterId = 0L;
+        try {
+            while (true) {
+                long from = afterId;
+                PageResult result = transactionTemplate.execute(status -> promotePage(progress.formId, from));
+                if (result == null) {
+                    break;
+                }
+                progress.add(result);
+                if (result.lastId() == null || result.capacityReached()) {
+                    break;
+                }
+                afterId = result.lastId();
+            }
+            progress.complete();
+            log.info("Waitlist promotion of form {}: {} promoted, {} already submitted, {} failed{}",
+                    progress.formId, progress.promoted, progress.duplicates, progress.failed,
+                    progress.capacityReached ? ", capacity reached" : "");
+        } catch (RuntimeException e) {
+            log.error("Waitlist promotion of form {} failed", progress.formId, e);
+            progress.fail(e.getMessage());
+        }
+    }
+
+    private PageResult promotePage(String formId, long afterId) {
+        Integer maxSubmissions = formConfigRepository.lockMaxSubmissions(formId);
+        int limit = pageSize;
+        if (maxSubmissions != null) {
+            long remaining = maxSubmissions - submittedRepository.countByFormId(formId);
+            if (remaining <= 0) {
+                boolean waiting = waitlistEntryRepository.countByApplicationFormConfig_IdAndIsProcessedFalse(formId) > 0;
+                return new PageResult(null, 0, 0, 0, waiting);
+            }
+            limit = (int) Math.min(pageSize, remaining);
+        }
+
+        List<WaitlistEntry> page = waitlistEntryRepository.lockPendingPage(formId, afterId, limit);
+        if (page.isEmpty()) {
+            return new PageResult(null, 0, 0, 0, false);
+        }
+
+        List<Promotion> promotions = new ArrayList<>();
+        int failed = 0;
+        for (WaitlistEntry entry : page) {
+            try {
+                // Same rules as SubmittedApplicationFormServiceImpl.submit; insertPendingAll bypasses it
+                formDataValidationService.validateFormData(entry.getFormData(), entry.getUser() != null);
+                SubmittedFormData formData = formDataReader.readValue(entry.getFormData());
+                String email = formData.getEmail() != null && !formData.getEmail().trim().isEmpty()
+                        ? formData.getEmail() : entry.getEmail();
+                promotions.add(new Promotion(entry, formData, email));
+            } catch (IOException e) {
+                log.warn("Cannot read form data of waitlist entry {}: {}", entry.getId(), e.getMessage());
+                failed++;
+            } catch (ValidationException e) {
+                log.warn("Invalid form data of waitlist entry {}: {}", entry.getId(), e.getErrors());
+                failed++;
+            }
+        }
+
+        Set<String> submitted = new HashSet<>();
+        if (!promotions.isEmpty()) {
+            submitted.addAll(submittedRepository.findSubmittedEmails(formId,
+                    promotions.stream().map(p -> lower(p.email())).collect(Collectors.toSet())));
+        }
+        List<Map<String, Object>> rows = new ArrayList<>();
+        List<Long> processedIds = new ArrayList<>();
+        int duplicates = 0;
+        for (Promotion promotion : promotions) {
+            processedIds.add(promotion.entry().getId());
+            // add() also catches the same email twice in one page
+            if (!submitted.add(lower(promotion.email()))) {
+                duplicates++;
+                continue;
+            }
+            Map<String, Object> row = new HashMap<>();
+            row.put("form_type", promotion.entry().getFormType().name());
+            row.put("form_data", promotion.formData());
+            row.put("user_id", promotion.entry().getUser() != null ? promotion.entry().getUser().getId() : null);
+            row.put("email", promotion.email());
+            rows.add(row);
+        }
+
+        if (!rows.isEmpty()) {
+            try {
+                submittedRepository.insertPendingAll(formId, objectMapper.writeValueAsString(rows));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Cannot serialize waitlist promotions", e);
+            }
+        }
+        if (!processedIds.isEmpty()) {
+            waitlistEntryRepository.markProcessed(processedIds, LocalDateTime.now());
+        }
+        // A full page may have used up the capacity; the next page finds out under the form lock
+        return new PageResult(page.get(page.size() - 1).getId(), rows.size(), duplicates, failed, false);
+    }
+
+    private static String lower(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private record Promotion(WaitlistEntry entry, SubmittedFormData formData, String email) {
+    }
+
+    private record PageResult(Long lastId, int promoted, int duplicates, int failed, boolean capacityReached) {
+    }
+
+    private static final class Progress {
+        private final String formId;
+        private final long total;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private volatile WaitlistPromotionState state = WaitlistPromotionState.RUNNING;
+        private volatile int promoted;
+        private volatile int duplicates;
+        private volatile int failed;
+        private volatile boolean capacityReached;
+        private volatile String error;
+        private volatile LocalDateTime finishedAt;
+
+        private Progress(String formId, long total) {
+            this.formId = formId;
+            this.total = total;
+        }
+
+        private synchronized void add(PageResult result) {
+            promoted += result.promoted();
+            duplicates += result.duplicates();
+            failed += result.failed();
+            capacityReached |= result.capacityReached();
+        }
+
+        private synchronized void complete() {
+            state = WaitlistPromotionState.COMPLETED;
+            finishedAt = LocalDateTime.now();
+        }
+
+        private synchronized void fail(String message) {
+            state = WaitlistPromotionState.FAILED;
+            error = message;
+            finishedAt = LocalDateTime.now();
+        }
+
+        private synchronized WaitlistPromotionResponse toResponse() {
+            return WaitlistPromotionResponse.builder()
+                    .formId(formId)
+                    .state(state)
+                    .total(total)
+                    .promoted(promoted)
+                    .duplicates(duplicates)
+                    .failed(failed)
+                    .capacityReached(capacityReached)
+                    .error(error)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .build();
+        }
+    }
+}
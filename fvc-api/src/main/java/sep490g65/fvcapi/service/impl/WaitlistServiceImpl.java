@@ -6,8 +6,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import sep490g65.fvcapi.dto.request.AddToWaitlistRequest;
-import sep490g65.fvcapi.dto.request.SubmitApplicationFormRequest;
 import sep490g65.fvcapi.dto.response.BaseResponse;
+import sep490g65.fvcapi.dto.response.WaitlistPromotionResponse;
 import sep490g65.fvcapi.entity.ApplicationFormConfig;
 import sep490g65.fvcapi.entity.User;
 import sep490g65.fvcapi.entity.WaitlistEntry;
@@ -18,9 +18,7 @@ import sep490g65.fvcapi.repository.SubmittedApplicationFormRepository;
 import sep490g65.fvcapi.repository.UserRepository;
 import sep490g65.fvcapi.repository.WaitlistEntryRepository;
 import sep490g65.fvcapi.service.WaitlistService;
-import sep490g65.fvcapi.service.SubmittedApplicationFormService;
 
-import java.util.List;
 import java.util.Optional;
 
 @Slf4j
@@ -32,7 +30,7 @@ public class WaitlistServiceImpl implements WaitlistService {
     private final ApplicationFormConfigRepository applicationFormConfigRepository;
     private final UserRepository userRepository;
     private final SubmittedApplicationFormRepository submittedApplicationFormRepository;
-    private final SubmittedApplicationFormService submittedApplicationFormService;
+    private final WaitlistPromotionEngine waitlistPromotionEngine;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     @Override
@@ -92,70 +90,25 @@ public class WaitlistServiceImpl implements WaitlistService {
     }
 
     @Override
-    @Transactional
     public int processWaitlistForForm(String formId) {
         log.info("🔄 [Process Waitlist] Starting to process waitlist for form: {}", formId);
+        int processedCount = waitlistPromotionEngine.promoteNow(formId);
+        log.info("✅ [Process Waitlist] Completed processing waitlist. Processed: {}", processedCount);
+        return processedCount;
+    }
 
-        // Get all unprocessed waitlist entries for this form
-        List<WaitlistEntry> waitlistEntries = waitlistEntryRepository.findByFormIdAndNotProcessed(formId);
-
-        if (waitlistEntries.isEmpty()) {
-            log.info("ℹ️ [Process Waitlist] No waitlist entries to process for form: {}", formId);
-            return 0;
-        }
-
-        int processedCount = 0;
-        int failedCount = 0;
-
-        for (WaitlistEntry entry : waitlistEntries) {
-            try {
-                // Convert waitlist entry to SubmittedApplicationForm
-                SubmitApplicationFormRequest submitRequest = new SubmitApplicationFormRequest();
-                submitRequest.setFormType(entry.getFormType());
-                submitRequest.setApplicationFormConfigId(formId);
-
-                // Parse formData from JSON string to Map, then convert to SubmittedFormData
-                try {
-                    java.util.Map<String, Object> formDataMap = objectMapper.readValue(
-                            entry.getFormData(), 
-                            objectMapper.getTypeFactory().constructMapType(java.util.Map.class, String.class, Object.class));
-                    
-                    // Convert Map to SubmittedFormData
-                    sep490g65.fvcapi.dto.request.SubmittedFormData submittedFormData = 
-                            objectMapper.convertValue(formDataMap, sep490g65.fvcapi.dto.request.SubmittedFormData.class);
-                    submitRequest.setFormData(submittedFormData);
-                } catch (Exception e) {
-                    log.error("Error parsing formData from waitlist entry: {}", entry.getId(), e);
-                    failedCount++;
-                    continue;
-                }
-
-                // Set user if exists
-                if (entry.getUser() != null) {
-                    submitRequest.setUserId(entry.getUser().getId());
-                }
-
-                // Submit the form
-                submittedApplicationFormService.submit(submitRequest);
-
-                // Mark as processed
-                entry.setIsProcessed(true);
-                waitlistEntryRepository.save(entry);
-
-                processedCount++;
-                log.debug("✅ [Process Waitlist] Processed waitlist entry: {}", entry.getId());
-
-            } catch (Exception e) {
-                log.error("❌ [Process Waitlist] Failed to process waitlist entry: {}", entry.getId(), e);
-                failedCount++;
-                // Continue processing other entries even if one fails
-            }
+    @Override
+    public WaitlistPromotionResponse startPromotion(String formId) {
+        if (!applicationFormConfigRepository.existsById(formId)) {
+            throw new ResourceNotFoundException("Form not found");
         }
+        return waitlistPromotionEngine.start(formId);
+    }
 
-        log.info("✅ [Process Waitlist] Completed processing waitlist. Processed: {}, Failed: {}, Total: {}", 
-                processedCount, failedCount, waitlistEntries.size());
-
-        return processedCount;
+    @Override
+    public WaitlistPromotionResponse getPromotion(String formId) {
+        return waitlistPromotionEngine.progress(formId)
+                .orElseThrow(() -> new ResourceNotFoundException("Chưa có lượt xử lý danh sách chờ nào cho form này"));
     }
 }
 
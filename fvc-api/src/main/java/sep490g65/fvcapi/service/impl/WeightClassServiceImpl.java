@@ -31,6 +31,8 @@ import java.math.BigDecimal;
 public class WeightClassServiceImpl implements WeightClassService {
 
     private final WeightClassRepository weightClassRepository;
+    private final MatchScoreboardCache matchScoreboardCache;
+    private final ReferenceDataCache referenceDataCache;
 
     private void validateRange(BigDecimal min, BigDecimal max) {
         if (min != null && max != null && min.compareTo(max) >= 0) {
@@ -95,6 +97,7 @@ public class WeightClassServiceImpl implements WeightClassService {
                 .status(request.getSaveMode() != null ? request.getSaveMode() : WeightClassStatus.DRAFT)
                 .build();
         WeightClass saved = weightClassRepository.save(w);
+        referenceDataCache.weightClassesChanged();
         return toDto(saved);
     }
 
@@ -116,6 +119,9 @@ public class WeightClassServiceImpl implements WeightClassService {
         w.setMaxWeight(newMax);
         if (request.getNote() != null) w.setNote(request.getNote());
 
+        // The label shown on scoreboards is derived from the range (names before the scoreboards showing them)
+        referenceDataCache.weightClassesChanged();
+        matchScoreboardCache.invalidateReferences();
         return toDto(weightClassRepository.save(w));
     }
 
@@ -145,6 +151,9 @@ public class WeightClassServiceImpl implements WeightClassService {
         }
         // TODO: ensure not referenced by any config (requires join repo); skipping for now
         weightClassRepository.delete(w);
+        // Names before the scoreboards showing them
+        referenceDataCache.weightClassesChanged();
+        matchScoreboardCache.invalidateReferences();
     }
 }
 
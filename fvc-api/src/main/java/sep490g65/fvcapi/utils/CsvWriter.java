@@ -0,0 +1,84 @@
+package sep490g65.fvcapi.utils;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Minimal RFC 4180 CSV writer for streamed exports: rows go straight to the underlying stream.
+ * Output is UTF-8 with a BOM so Excel shows Vietnamese text correctly, and cells that would start a
+ * spreadsheet formula are prefixed with a quote.
+ */
+public class CsvWriter implements Flushable, Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Writer writer;
+
+    public CsvWriter(OutputStream out) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        this.writer.write('\uFEFF');
+    }
+
+    public void writeRow(String... cells) throws IOException {
+        for (int i = 0; i < cells.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeCell(cells[i]);
+        }
+        writer.write("\r\n");
+    }
+
+    private void writeCell(String cell) throws IOException {
+        if (cell == null || cell.isEmpty()) {
+            return;
+        }
+        String value = isFormula(cell) ? "'" + cell : cell;
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    // =, @, tab, CR always; + and - only when not a plain number (phone numbers, negative values)
+    private static boolean isFormula(String cell) {
+        char first = cell.charAt(0);
+        if (first == '=' || first == '@' || first == '\t' || first == '\r') {
+            return true;
+        }
+        if (first == '+' || first == '-') {
+            for (int i = 1; i < cell.length(); i++) {
+                char c = cell.charAt(i);
+                if (!Character.isDigit(c) && c != '.' && c != ' ') {
+                    return true;
+                }
+            }
+            return cell.length() == 1;
+        }
+        return false;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
@@ -2,10 +2,12 @@ package sep490g65.fvcapi.utils;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import sep490g65.fvcapi.entity.User;
+import sep490g65.fvcapi.enums.SystemRole;
 
 import javax.crypto.SecretKey;
 import java.util.Date;
@@ -17,11 +19,26 @@ public class JwtUtils {
     @Value("${spring.security.jwt.secret}")
     private String jwtSecret;
 
+    // Claims of stateless tokens
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_ROLE = "role";
+    public static final String CLAIM_TOKEN_VERSION = "ver";
+
     @Value("${spring.security.jwt.expiration}")
     private int jwtExpirationMs;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+    // Opt-in: login issues tokens carrying the user id, role and token version (see generateStatelessToken)
+    @Value("${app.security.jwt.stateless-claims:false}")
+    private boolean statelessClaims;
+
+    // Built once from the secret; the parser is immutable and thread-safe
+    private SecretKey signingKey;
+    private JwtParser parser;
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        parser = Jwts.parser().verifyWith(signingKey).build();
     }
 
     public String generateJwtToken(User user) {
@@ -35,26 +52,44 @@ public class JwtUtils {
                 .subject(email)
                 .issuedAt(new Date())
                 .expiration(new Date((new Date()).getTime() + jwtExpirationMs))
-                .signWith(getSigningKey())
+                .signWith(signingKey)
+                .compact();
+    }
+
+    public boolean isStatelessClaims() {
+        return statelessClaims;
+    }
+
+    /**
+     * Token that authenticates without a user lookup: the filter trusts its role as long as
+     * tokenVersion is still the user's current version (TokenVersionTable)
+     */
+    public String generateStatelessToken(String email, String userId, SystemRole role, int tokenVersion) {
+        return Jwts.builder()
+                .subject(email)
+                .claim(CLAIM_USER_ID, userId)
+                .claim(CLAIM_ROLE, role.name())
+                .claim(CLAIM_TOKEN_VERSION, tokenVersion)
+                .issuedAt(new Date())
+                .expiration(new Date((new Date()).getTime() + jwtExpirationMs))
+                .signWith(signingKey)
                 .compact();
     }
 
     public String getEmailFromJwtToken(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject();
+        return parser.parseSignedClaims(token).getPayload().getSubject();
     }
 
     public boolean validateJwtToken(String authToken) {
+        return parseVerifiedClaims(authToken) != null;
+    }
+
+    /**
+     * Verify the token and return its claims in a single parse, or null when it is invalid or expired
+     */
+    public Claims parseVerifiedClaims(String authToken) {
         try {
-            Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(authToken);
-            return true;
+            return parser.parseSignedClaims(authToken).getPayload();
         } catch (MalformedJwtException e) {
             log.error("Invalid JWT token: {}", e.getMessage());
         } catch (ExpiredJwtException e) {
@@ -64,6 +99,6 @@ public class JwtUtils {
         } catch (IllegalArgumentException e) {
             log.error("JWT claims string is empty: {}", e.getMessage());
         }
-        return false;
+        return null;
     }
 }
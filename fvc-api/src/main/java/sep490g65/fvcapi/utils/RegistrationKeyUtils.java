@@ -0,0 +1,25 @@
+package sep490g65.fvcapi.utils;
+
+/**
+ * Normalization of the keys used to detect duplicate tournament registrations:
+ * emails are compared trimmed and case-insensitively, student ids trimmed.
+ */
+public final class RegistrationKeyUtils {
+
+    private RegistrationKeyUtils() {
+    }
+
+    public static String normalizeEmail(String email) {
+        if (email == null || email.isBlank()) {
+            return null;
+        }
+        return email.trim().toLowerCase();
+    }
+
+    public static String normalizeStudentId(String studentId) {
+        if (studentId == null || studentId.isBlank()) {
+            return null;
+        }
+        return studentId.trim();
+    }
+}
@@ -0,0 +1,43 @@
+package sep490g65.fvcapi.utils;
+
+/**
+ * Token bucket refilled at rate tokens per second up to burst
+ */
+public final class TokenBucket {
+    private double tokens;
+    private long refilledAt = System.nanoTime();
+
+    public TokenBucket(double tokens) {
+        this.tokens = tokens;
+    }
+
+    public synchronized boolean tryAcquire(double rate, double burst) {
+        refill(rate, burst);
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+
+    /**
+     * Whole seconds until the next token is available (at least 1)
+     */
+    public synchronized long secondsUntilNext(double rate) {
+        return Math.max(1, (long) Math.ceil((1 - tokens) / rate));
+    }
+
+    /**
+     * Refilled to burst: the bucket no longer limits anything and can be dropped
+     */
+    public synchronized boolean isFull(double rate, double burst) {
+        refill(rate, burst);
+        return tokens >= burst;
+    }
+
+    private void refill(double rate, double burst) {
+        long now = System.nanoTime();
+        tokens = Math.min(burst, tokens + (now - refilledAt) / 1_000_000_000.0 * rate);
+        refilledAt = now;
+    }
+}
@@ -0,0 +1,6 @@
+-- Idempotency key of score events (consensus window / client retry key)
+ALTER TABLE match_events ADD COLUMN IF NOT EXISTS idempotency_key VARCHAR(100);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_match_events_match_idempotency_key
+ON match_events(match_id, idempotency_key)
+WHERE idempotency_key IS NOT NULL;
@@ -0,0 +1,15 @@
+-- Assessor WebSocket connections shared between fvc-api nodes (broker relay mode)
+CREATE TABLE IF NOT EXISTS assessor_connections (
+    id VARCHAR(36) PRIMARY KEY,
+    match_id VARCHAR(36) NOT NULL,
+    assessor_id VARCHAR(36) NOT NULL,
+    session_id VARCHAR(100) NOT NULL,
+    node_id VARCHAR(100) NOT NULL,
+    last_seen_at TIMESTAMP NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_assessor_connections_match_assessor UNIQUE (match_id, assessor_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_assessor_connections_session ON assessor_connections(session_id);
+CREATE INDEX IF NOT EXISTS idx_assessor_connections_node ON assessor_connections(node_id);
@@ -0,0 +1,10 @@
+-- Normalized registration keys of tournament submissions (one email / one studentId per form).
+-- Existing rows are filled by SubmissionRegistrationKeyBackfill on startup.
+ALTER TABLE submitted_application_forms ADD COLUMN IF NOT EXISTS registration_email VARCHAR(255);
+ALTER TABLE submitted_application_forms ADD COLUMN IF NOT EXISTS registration_student_id VARCHAR(100);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_submitted_forms_form_registration_email
+ON submitted_application_forms(application_form_config_id, registration_email);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_submitted_forms_form_registration_student_id
+ON submitted_application_forms(application_form_config_id, registration_student_id);
@@ -0,0 +1,18 @@
+-- Queue of public form submissions accepted with a receipt and processed by SubmissionIntakeWorker.
+CREATE TABLE IF NOT EXISTS submission_intakes (
+    id VARCHAR(36) PRIMARY KEY,
+    type VARCHAR(20) NOT NULL,
+    form_id VARCHAR(36),
+    payload JSONB NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    submission_id BIGINT,
+    error_status INTEGER,
+    error_message VARCHAR(500),
+    attempts INTEGER NOT NULL DEFAULT 0,
+    processed_at TIMESTAMP,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_submission_intakes_status_created
+ON submission_intakes(status, created_at);
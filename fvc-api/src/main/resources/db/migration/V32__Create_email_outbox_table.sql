@@ -0,0 +1,17 @@
+-- Emails queued in the transaction of the change that triggers them and sent by EmailOutboxDispatcher.
+CREATE TABLE IF NOT EXISTS email_outbox (
+    id VARCHAR(36) PRIMARY KEY,
+    template VARCHAR(40) NOT NULL,
+    recipient VARCHAR(255) NOT NULL,
+    variables JSONB NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL,
+    last_error VARCHAR(500),
+    sent_at TIMESTAMP,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_email_outbox_status_next_attempt
+ON email_outbox(status, next_attempt_at);
@@ -0,0 +1,7 @@
+-- Optional capacity of a form (NULL = unlimited); waitlist promotion stops when it is reached
+ALTER TABLE application_form_configs ADD COLUMN IF NOT EXISTS max_submissions INTEGER;
+
+-- FIFO paging of a form's unprocessed waitlist entries
+CREATE INDEX IF NOT EXISTS idx_waitlist_form_pending_id
+ON waitlist_entries(application_form_config_id, id)
+WHERE is_processed = FALSE;
@@ -0,0 +1,10 @@
+-- Keyset listing of submissions (SubmittedApplicationFormRepository.findSummaries*): id order per form / per type
+CREATE INDEX IF NOT EXISTS idx_submitted_forms_form_id_id
+ON submitted_application_forms(application_form_config_id, id);
+
+CREATE INDEX IF NOT EXISTS idx_submitted_forms_type_id
+ON submitted_application_forms(form_type, id);
+
+-- formData filters (form_data @> '{"club":"..."}')
+CREATE INDEX IF NOT EXISTS idx_submitted_forms_form_data
+ON submitted_application_forms USING gin (form_data jsonb_path_ops);
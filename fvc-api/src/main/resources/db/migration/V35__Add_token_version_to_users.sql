@@ -0,0 +1,2 @@
+-- Version embedded in stateless JWTs (uid/role/ver claims); bumping it revokes the user's tokens
+ALTER TABLE users ADD COLUMN IF NOT EXISTS token_version INTEGER NOT NULL DEFAULT 0;
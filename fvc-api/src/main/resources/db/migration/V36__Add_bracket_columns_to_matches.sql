@@ -0,0 +1,14 @@
+-- Single-elimination brackets generated from a draw session (BracketService)
+ALTER TABLE matches ADD COLUMN IF NOT EXISTS draw_session_id VARCHAR(255);
+ALTER TABLE matches ADD COLUMN IF NOT EXISTS bracket_round INTEGER;
+ALTER TABLE matches ADD COLUMN IF NOT EXISTS bracket_position INTEGER;
+ALTER TABLE matches ADD COLUMN IF NOT EXISTS next_match_id VARCHAR(255);
+ALTER TABLE matches ADD COLUMN IF NOT EXISTS next_match_corner VARCHAR(10);
+
+-- Athletes of later bracket rounds are known only once the previous matches end
+ALTER TABLE matches ALTER COLUMN red_athlete_id DROP NOT NULL;
+ALTER TABLE matches ALTER COLUMN blue_athlete_id DROP NOT NULL;
+ALTER TABLE matches ALTER COLUMN red_athlete_name DROP NOT NULL;
+ALTER TABLE matches ALTER COLUMN blue_athlete_name DROP NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_matches_draw_session ON matches(draw_session_id);
@@ -0,0 +1,4 @@
+-- Marks submissions the registration key backfill has already looked at, so rows that cannot be keyed
+-- (no email / studentId in formData, or pre-existing duplicates) are not scanned again on every startup.
+ALTER TABLE submitted_application_forms ADD COLUMN IF NOT EXISTS registration_keys_checked BOOLEAN NOT NULL DEFAULT FALSE;
+
@@ -0,0 +1,36 @@
+package sep490g65.fvcapi.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LocalAssessorConnectionStore Unit Tests")
+class LocalAssessorConnectionStoreTest {
+
+    private final LocalAssessorConnectionStore store = new LocalAssessorConnectionStore();
+
+    @Test
+    @DisplayName("put - a reconnect replaces the session, the old session's disconnect keeps the assessor")
+    void put_ReconnectReplacesSession() {
+        store.put("m1", "a1", "s1");
+        store.put("m1", "a2", "s2");
+        store.put("m1", "a1", "s3");
+
+        assertFalse(store.remove("m1", "a1", "s1"));
+        assertEquals(List.of("a1", "a2"), store.connectedAssessors("m1").stream().sorted().toList());
+    }
+
+    @Test
+    @DisplayName("remove - the current session removes the assessor, the last one drops the match")
+    void remove_CurrentSession() {
+        store.put("m1", "a1", "s1");
+
+        assertTrue(store.remove("m1", "a1", "s1"));
+        assertEquals(List.of(), store.connectedAssessors("m1"));
+        assertFalse(store.remove("m1", "a1", "s1"));
+        assertFalse(store.remove("unknown", "a1", "s1"));
+    }
+}
@@ -0,0 +1,132 @@
+package sep490g65.fvcapi.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import sep490g65.fvcapi.dto.response.MatchAthleteInfoDto;
+import sep490g65.fvcapi.dto.response.MatchScoreboardDto;
+import sep490g65.fvcapi.dto.response.ScoreboardDeltaDto;
+import sep490g65.fvcapi.dto.response.ScoreboardStreamMessage;
+import sep490g65.fvcapi.entity.MatchScoreboardSnapshot;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ScoreboardStreamBroadcaster Unit Tests")
+class ScoreboardStreamBroadcasterTest {
+
+    private static final String TOPIC = "/topic/match/m1/scoreboard";
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    private ScoreboardStreamBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new ScoreboardStreamBroadcaster(messagingTemplate);
+    }
+
+    private static MatchScoreboardDto scoreboard(int redScore, int blueScore) {
+        return MatchScoreboardDto.builder()
+                .matchId("m1")
+                .status("ĐANG ĐẤU")
+                .currentRound(1)
+                .roundDurationSeconds(120)
+                .redAthlete(MatchAthleteInfoDto.builder().score(redScore).warningCount(0).medicalTimeoutCount(0).build())
+                .blueAthlete(MatchAthleteInfoDto.builder().score(blueScore).warningCount(0).medicalTimeoutCount(0).build())
+                .build();
+    }
+
+    private static MatchScoreboardSnapshot counters(int redScore, int blueScore) {
+        return MatchScoreboardSnapshot.builder().matchId("m1").redScore(redScore).blueScore(blueScore).build();
+    }
+
+    private List<ScoreboardStreamMessage> sent(int count) {
+        ArgumentCaptor<ScoreboardStreamMessage> captor = ArgumentCaptor.forClass(ScoreboardStreamMessage.class);
+        verify(messagingTemplate, times(count)).convertAndSend(eq(TOPIC), captor.capture());
+        return captor.getAllValues();
+    }
+
+    @Test
+    @DisplayName("publishScores - only changed counters, one sequence number per message, nothing when unchanged")
+    void publishScores_Delta() {
+        broadcaster.publishFull("m1", () -> scoreboard(0, 0));
+        broadcaster.publishScores("m1", () -> counters(2, 0));
+        broadcaster.publishScores("m1", () -> counters(2, 0));
+
+        List<ScoreboardStreamMessage> messages = sent(2);
+        assertEquals(ScoreboardStreamMessage.Type.FULL, messages.get(0).getType());
+        assertEquals(1, messages.get(0).getSeq());
+        assertEquals(ScoreboardStreamMessage.Type.DELTA, messages.get(1).getType());
+        assertEquals(2, messages.get(1).getSeq());
+        assertEquals(ScoreboardDeltaDto.builder().redScore(2).build(), messages.get(1).getChanges());
+    }
+
+    @Test
+    @DisplayName("snapshotFor - stamped with the sequence number read before loading, without advancing it")
+    void snapshotFor_DeltaWhileLoading() {
+        broadcaster.publishFull("m1", () -> scoreboard(0, 0));
+
+        // A score event is published while the snapshot is being loaded
+        ScoreboardStreamMessage snapshot = broadcaster.snapshotFor("m1", () -> {
+            broadcaster.publishScores("m1", () -> counters(1, 0));
+            return scoreboard(0, 0);
+        });
+
+        ScoreboardStreamMessage delta = sent(2).get(1);
+        assertEquals(ScoreboardStreamMessage.Type.FULL, snapshot.getType());
+        assertEquals(1, snapshot.getSeq());
+        assertTrue(delta.getSeq() > snapshot.getSeq(), "the client must still apply the delta");
+        assertEquals(2, broadcaster.snapshotFor("m1", () -> scoreboard(1, 0)).getSeq());
+    }
+
+    @Test
+    @DisplayName("publishFull - a delta published while the scoreboard loads waits and is diffed against it")
+    void publishFull_DeltaWaitsForLoad() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> full = CompletableFuture.runAsync(() -> broadcaster.publishFull("m1", () -> {
+            loading.countDown();
+            await(release);
+            return scoreboard(1, 0);
+        }));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<Void> delta = CompletableFuture.runAsync(() -> broadcaster.publishScores("m1", () -> counters(1, 1)));
+        Thread.sleep(100);
+        assertFalse(delta.isDone());
+        verifyNoInteractions(messagingTemplate);
+
+        release.countDown();
+        full.get(5, TimeUnit.SECONDS);
+        delta.get(5, TimeUnit.SECONDS);
+
+        List<ScoreboardStreamMessage> messages = sent(2);
+        assertEquals(1, messages.get(0).getSeq());
+        assertEquals(ScoreboardStreamMessage.Type.FULL, messages.get(0).getType());
+        assertEquals(2, messages.get(1).getSeq());
+        assertEquals(ScoreboardDeltaDto.builder().blueScore(1).build(), messages.get(1).getChanges());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package sep490g65.fvcapi.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import sep490g65.fvcapi.repository.AssessorConnectionRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SharedAssessorConnectionStore Unit Tests")
+class SharedAssessorConnectionStoreTest {
+
+    private static final long TTL_MS = 30_000;
+
+    @Mock
+    private AssessorConnectionRepository assessorConnectionRepository;
+
+    private SharedAssessorConnectionStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new SharedAssessorConnectionStore(assessorConnectionRepository, "node-1", TTL_MS);
+    }
+
+    @Test
+    @DisplayName("put - one upsert owned by this node")
+    void put_Upserts() {
+        store.put("m1", "a1", "s1");
+
+        verify(assessorConnectionRepository).upsert(anyString(), eq("m1"), eq("a1"), eq("s1"), eq("node-1"),
+                any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("remove - only the row of the given session, reported when one was deleted")
+    void remove_BySession() {
+        when(assessorConnectionRepository.deleteConnection("m1", "a1", "s1")).thenReturn(1);
+        when(assessorConnectionRepository.deleteConnection("m1", "a1", "old")).thenReturn(0);
+
+        assertTrue(store.remove("m1", "a1", "s1"));
+        assertFalse(store.remove("m1", "a1", "old"));
+    }
+
+    @Test
+    @DisplayName("connectedAssessors - rows refreshed within the TTL")
+    void connectedAssessors_WithinTtl() {
+        ArgumentCaptor<LocalDateTime> since = ArgumentCaptor.forClass(LocalDateTime.class);
+        when(assessorConnectionRepository.findLiveAssessorIds(eq("m1"), since.capture())).thenReturn(List.of("a1"));
+
+        LocalDateTime before = LocalDateTime.now();
+        assertEquals(List.of("a1"), store.connectedAssessors("m1"));
+
+        assertTtlBefore(before, since.getValue());
+    }
+
+    @Test
+    @DisplayName("heartbeat - refreshes this node's rows and deletes rows older than the TTL")
+    void heartbeat_TouchesAndRemovesStale() {
+        ArgumentCaptor<LocalDateTime> now = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> staleBefore = ArgumentCaptor.forClass(LocalDateTime.class);
+        when(assessorConnectionRepository.deleteStale(staleBefore.capture())).thenReturn(2);
+
+        store.heartbeat();
+
+        verify(assessorConnectionRepository).touchNode(eq("node-1"), now.capture());
+        assertEquals(now.getValue().minus(Duration.ofMillis(TTL_MS)), staleBefore.getValue());
+    }
+
+    @Test
+    @DisplayName("blank node id - a random one is used, and its rows are deleted on shutdown")
+    void blankNodeId_ReleasedOnShutdown() {
+        SharedAssessorConnectionStore unnamed = new SharedAssessorConnectionStore(assessorConnectionRepository, " ", TTL_MS);
+
+        unnamed.releaseNode();
+
+        ArgumentCaptor<String> nodeId = ArgumentCaptor.forClass(String.class);
+        verify(assessorConnectionRepository).deleteByNodeId(nodeId.capture());
+        assertFalse(nodeId.getValue().isBlank());
+        assertNotEquals("node-1", nodeId.getValue());
+    }
+
+    private static void assertTtlBefore(LocalDateTime before, LocalDateTime since) {
+        LocalDateTime expected = before.minus(Duration.ofMillis(TTL_MS));
+        assertFalse(since.isBefore(expected));
+        assertFalse(since.isAfter(LocalDateTime.now().minus(Duration.ofMillis(TTL_MS))));
+    }
+}
@@ -0,0 +1,108 @@
+package sep490g65.fvcapi.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import sep490g65.fvcapi.entity.ApplicationFormConfig;
+import sep490g65.fvcapi.entity.SubmittedApplicationForm;
+import sep490g65.fvcapi.enums.ApplicationFormType;
+import sep490g65.fvcapi.repository.SubmittedApplicationFormRepository;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SubmissionRegistrationKeyBackfill Unit Tests")
+class SubmissionRegistrationKeyBackfillTest {
+
+    @Mock
+    private SubmittedApplicationFormRepository submittedRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SubmissionRegistrationKeyBackfill backfill(boolean enabled) {
+        return new SubmissionRegistrationKeyBackfill(submittedRepository, new ObjectMapper(), transactionManager, enabled, 500);
+    }
+
+    private static SubmittedApplicationForm submission(long id, String formId, String formData) {
+        ApplicationFormConfig form = new ApplicationFormConfig();
+        form.setId(formId);
+        SubmittedApplicationForm s = new SubmittedApplicationForm();
+        s.setId(id);
+        s.setApplicationFormConfig(form);
+        s.setFormData(formData);
+        return s;
+    }
+
+    private void batches(List<SubmittedApplicationForm> batch) {
+        long lastId = batch.get(batch.size() - 1).getId();
+        when(submittedRepository.findWithoutRegistrationKeys(eq(ApplicationFormType.COMPETITION_REGISTRATION), anyLong(), any(Pageable.class)))
+                .thenAnswer(inv -> inv.<Long>getArgument(1) < lastId ? batch : List.of());
+    }
+
+    @Test
+    @DisplayName("backfill - first submission keeps the key, later duplicates and keys taken by other rows are left unkeyed")
+    void backfill_DuplicatesLeftUnkeyed() {
+        SubmittedApplicationForm first = submission(1L, "f1", "{\"email\":\" A@Mail.com \",\"studentId\":\"S1\"}");
+        SubmittedApplicationForm duplicate = submission(2L, "f1", "{\"email\":\"a@mail.com\",\"studentId\":\"S2\"}");
+        SubmittedApplicationForm takenByKeyed = submission(3L, "f1", "{\"email\":\"b@mail.com\",\"studentId\":\"S3\"}");
+        // Same email on another form is not a duplicate
+        SubmittedApplicationForm otherForm = submission(4L, "f2", "{\"email\":\"a@mail.com\",\"studentId\":\"S1\"}");
+        batches(List.of(first, duplicate, takenByKeyed, otherForm));
+        when(submittedRepository.findRegistrationEmails(anyCollection(), anyCollection()))
+                .thenReturn(List.<Object[]>of(new Object[]{"f1", "b@mail.com"}));
+        when(submittedRepository.findRegistrationStudentIds(anyCollection(), anyCollection())).thenReturn(List.of());
+
+        backfill(true).backfill();
+
+        assertEquals("a@mail.com", first.getRegistrationEmail());
+        assertEquals("S1", first.getRegistrationStudentId());
+        assertNull(duplicate.getRegistrationEmail());
+        assertEquals("S2", duplicate.getRegistrationStudentId());
+        assertNull(takenByKeyed.getRegistrationEmail());
+        assertEquals("S3", takenByKeyed.getRegistrationStudentId());
+        assertEquals("a@mail.com", otherForm.getRegistrationEmail());
+        assertEquals("S1", otherForm.getRegistrationStudentId());
+        List.of(first, duplicate, takenByKeyed, otherForm).forEach(s -> assertTrue(s.isRegistrationKeysChecked()));
+        verify(submittedRepository).findRegistrationEmails(Set.of("f1", "f2"), Set.of("a@mail.com", "b@mail.com"));
+        verify(submittedRepository).findRegistrationStudentIds(Set.of("f1", "f2"), Set.of("S1", "S2", "S3"));
+    }
+
+    @Test
+    @DisplayName("backfill - rows without keys are marked checked without key lookups, next batch starts after them")
+    void backfill_RowsWithoutKeys() {
+        SubmittedApplicationForm blank = submission(5L, "f1", "{\"email\":\"  \"}");
+        SubmittedApplicationForm invalid = submission(9L, "f1", "not json");
+        batches(List.of(blank, invalid));
+
+        backfill(true).backfill();
+
+        assertNull(blank.getRegistrationEmail());
+        assertNull(blank.getRegistrationStudentId());
+        assertNull(invalid.getRegistrationEmail());
+        assertTrue(blank.isRegistrationKeysChecked());
+        assertTrue(invalid.isRegistrationKeysChecked());
+        verify(submittedRepository).findWithoutRegistrationKeys(any(), eq(0L), any());
+        verify(submittedRepository).findWithoutRegistrationKeys(any(), eq(9L), any());
+        verify(submittedRepository, never()).findRegistrationEmails(any(), any());
+        verify(submittedRepository, never()).findRegistrationStudentIds(any(), any());
+    }
+
+    @Test
+    @DisplayName("backfill - disabled, nothing is read")
+    void backfill_Disabled() {
+        backfill(false).backfill();
+
+        verifyNoInteractions(submittedRepository, transactionManager);
+    }
+}
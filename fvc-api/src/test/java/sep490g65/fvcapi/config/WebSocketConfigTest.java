@@ -0,0 +1,76 @@
+package sep490g65.fvcapi.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.SubscribableChannel;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.stomp.StompBrokerRelayMessageHandler;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("WebSocketConfig Unit Tests")
+class WebSocketConfigTest {
+
+    private final SubscribableChannel brokerChannel = mock(SubscribableChannel.class);
+    private WebSocketConfig config;
+    private MessageBrokerRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        config = new WebSocketConfig();
+        config.setMessageBrokerTaskScheduler(mock(TaskScheduler.class));
+        ReflectionTestUtils.setField(config, "relayHost", "broker");
+        ReflectionTestUtils.setField(config, "relayPort", 61614);
+        ReflectionTestUtils.setField(config, "clientLogin", "client");
+        ReflectionTestUtils.setField(config, "clientPasscode", "client-secret");
+        ReflectionTestUtils.setField(config, "systemLogin", "system");
+        ReflectionTestUtils.setField(config, "systemPasscode", "system-secret");
+        ReflectionTestUtils.setField(config, "virtualHost", "");
+        ReflectionTestUtils.setField(config, "heartbeatMs", 10_000L);
+        registry = new MessageBrokerRegistry(mock(SubscribableChannel.class), mock(MessageChannel.class));
+    }
+
+    @Test
+    @DisplayName("relay mode - /topic and /queue relayed to the external broker, user destinations broadcast")
+    void relayMode() {
+        ReflectionTestUtils.setField(config, "brokerMode", "RELAY");
+        ReflectionTestUtils.setField(config, "virtualHost", "fvc");
+
+        config.configureMessageBroker(registry);
+
+        StompBrokerRelayMessageHandler relay = ReflectionTestUtils.invokeMethod(registry, "getStompBrokerRelay", brokerChannel);
+        assertNotNull(relay);
+        assertNull(ReflectionTestUtils.invokeMethod(registry, "getSimpleBroker", brokerChannel));
+        assertEquals("broker", relay.getRelayHost());
+        assertEquals(61614, relay.getRelayPort());
+        assertEquals("client", relay.getClientLogin());
+        assertEquals("system", relay.getSystemLogin());
+        assertEquals("fvc", relay.getVirtualHost());
+        assertEquals(List.of("/topic", "/queue"), List.copyOf(relay.getDestinationPrefixes()));
+        assertEquals("/topic/unresolved-user-destination",
+                ReflectionTestUtils.invokeMethod(registry, "getUserDestinationBroadcast"));
+        assertEquals("/topic/simp-user-registry",
+                ReflectionTestUtils.invokeMethod(registry, "getUserRegistryBroadcast"));
+    }
+
+    @Test
+    @DisplayName("simple mode - in-memory broker with heartbeats, no relay")
+    void simpleMode() {
+        ReflectionTestUtils.setField(config, "brokerMode", "simple");
+
+        config.configureMessageBroker(registry);
+
+        SimpleBrokerMessageHandler broker = ReflectionTestUtils.invokeMethod(registry, "getSimpleBroker", brokerChannel);
+        assertNotNull(broker);
+        assertNull(ReflectionTestUtils.invokeMethod(registry, "getStompBrokerRelay", brokerChannel));
+        assertArrayEquals(new long[]{10_000L, 10_000L}, broker.getHeartbeatValue());
+    }
+}
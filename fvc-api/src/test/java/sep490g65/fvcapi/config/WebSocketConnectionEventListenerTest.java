@@ -0,0 +1,121 @@
+package sep490g65.fvcapi.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WebSocketConnectionEventListener Unit Tests")
+class WebSocketConnectionEventListenerTest {
+
+    private static final String STATUS_TOPIC = "/topic/match/m1/assessor-connections";
+    private static final long STALE_MS = 50;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    private AssessorSessionRegistry sessionRegistry;
+    private WebSocketConnectionEventListener listener;
+
+    @BeforeEach
+    void setUp() {
+        sessionRegistry = new AssessorSessionRegistry();
+        listener = new WebSocketConnectionEventListener(messagingTemplate, new LocalAssessorConnectionStore(),
+                sessionRegistry, STALE_MS);
+    }
+
+    private static Message<byte[]> frame(StompCommand command, String sessionId, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId(sessionId);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private List<WebSocketConnectionEventListener.AssessorConnectionStatus> broadcasts(int count) {
+        ArgumentCaptor<WebSocketConnectionEventListener.AssessorConnectionStatus> captor =
+                ArgumentCaptor.forClass(WebSocketConnectionEventListener.AssessorConnectionStatus.class);
+        verify(messagingTemplate, times(count)).convertAndSend(eq(STATUS_TOPIC), captor.capture());
+        return captor.getAllValues();
+    }
+
+    @Test
+    @DisplayName("connects within one debounce interval - a single status broadcast per match")
+    void flushStatusBroadcasts_Debounced() {
+        listener.handleSubscribeEvent(new SessionSubscribeEvent(this,
+                frame(StompCommand.SUBSCRIBE, "s1", "/topic/match/m1/assessor/a1")));
+        listener.handleSubscribeEvent(new SessionSubscribeEvent(this,
+                frame(StompCommand.SUBSCRIBE, "s2", "/topic/match/m1/assessor/a2")));
+        listener.registerAssessorConnection("m1", "a3", "s3");
+        listener.handleSubscribeEvent(new SessionSubscribeEvent(this,
+                frame(StompCommand.SUBSCRIBE, "s1", "/topic/match/m1/scoreboard")));
+        verifyNoInteractions(messagingTemplate);
+
+        listener.flushStatusBroadcasts();
+        listener.flushStatusBroadcasts();
+
+        WebSocketConnectionEventListener.AssessorConnectionStatus status = broadcasts(1).get(0);
+        assertEquals(3, status.getConnectedCount());
+        assertEquals(List.of("a1", "a2", "a3"), status.getConnectedAssessors().stream().sorted().toList());
+    }
+
+    @Test
+    @DisplayName("disconnect - removes the session's registrations and broadcasts once")
+    void disconnect_RemovesSession() {
+        listener.registerAssessorConnection("m1", "a1", "s1");
+        listener.registerAssessorConnection("m1", "a2", "s2");
+        listener.flushStatusBroadcasts();
+
+        listener.handleWebSocketDisconnectListener(new SessionDisconnectEvent(this,
+                frame(StompCommand.DISCONNECT, "s1", null), "s1", null));
+        listener.flushStatusBroadcasts();
+
+        assertEquals(List.of("a2"), broadcasts(2).get(1).getConnectedAssessors());
+    }
+
+    @Test
+    @DisplayName("sweep - evicts sessions silent for longer than session-stale-ms, keeps active ones")
+    void evictStaleSessions() throws InterruptedException {
+        listener.registerAssessorConnection("m1", "a1", "s1");
+        listener.registerAssessorConnection("m1", "a2", "s2");
+        listener.flushStatusBroadcasts();
+
+        Thread.sleep(STALE_MS + 20);
+        // A heartbeat of s2 refreshes it
+        sessionRegistry.preSend(frame(StompCommand.SEND, "s2", "/app/heartbeat"), null);
+        listener.evictStaleSessions();
+        listener.flushStatusBroadcasts();
+
+        assertEquals(List.of("a2"), broadcasts(2).get(1).getConnectedAssessors());
+        assertTrue(sessionRegistry.removeSession("s1").isEmpty());
+        assertEquals(List.of(), sessionRegistry.staleSessions(System.currentTimeMillis() - STALE_MS));
+    }
+
+    @Test
+    @DisplayName("sweep - disabled when session-stale-ms is 0")
+    void evictStaleSessions_Disabled() {
+        WebSocketConnectionEventListener disabled = new WebSocketConnectionEventListener(messagingTemplate,
+                new LocalAssessorConnectionStore(), sessionRegistry, 0);
+        disabled.registerAssessorConnection("m1", "a1", "s1");
+
+        disabled.evictStaleSessions();
+
+        assertEquals(1, disabled.getConnectionStatus("m1").getConnectedCount());
+    }
+}
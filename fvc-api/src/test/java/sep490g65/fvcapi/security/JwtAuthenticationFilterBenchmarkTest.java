@@ -0,0 +1,111 @@
+package sep490g65.fvcapi.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import sep490g65.fvcapi.enums.SystemRole;
+import sep490g65.fvcapi.repository.UserRepository;
+import sep490g65.fvcapi.utils.JwtUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Requests/sec of JwtAuthenticationFilter per token mode. Skipped unless run with -Dbenchmark=true:
+ * mvn test -Dtest=JwtAuthenticationFilterBenchmarkTest -Dbenchmark=true [-Dbenchmark.lookupMicros=500]
+ * The user lookup is simulated by parking for lookupMicros (a round-trip to Postgres), so the numbers
+ * compare the modes rather than measure a deployment.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("JwtAuthenticationFilter benchmark")
+class JwtAuthenticationFilterBenchmarkTest {
+
+    private static final int THREADS = 8;
+    private static final long WARMUP_MS = 1_000;
+    private static final long MEASURE_MS = 3_000;
+    private static final long LOOKUP_NANOS = TimeUnit.MICROSECONDS.toNanos(Long.getLong("benchmark.lookupMicros", 500));
+
+    private final UserDetailsService slowUserDetailsService = email -> {
+        LockSupport.parkNanos(LOOKUP_NANOS);
+        return User.withUsername(email).password("hash").roles("MEMBER").build();
+    };
+
+    @Test
+    @DisplayName("subject token (lookup per request / cached) vs stateless claims")
+    void compareModes() throws Exception {
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findTokenVersion("user-1")).thenReturn(Optional.of(0));
+        JwtUtils legacy = JwtAuthenticationFilterTest.jwtUtils(false);
+        JwtUtils stateless = JwtAuthenticationFilterTest.jwtUtils(true);
+
+        double perRequest = run(new JwtAuthenticationFilter(legacy, slowUserDetailsService,
+                        new PrincipalCache(0, 100, new SimpleMeterRegistry()), new TokenVersionTable(userRepository)),
+                legacy.generateTokenFromEmail("a@fpt.edu.vn"));
+        double cached = run(new JwtAuthenticationFilter(legacy, slowUserDetailsService,
+                        new PrincipalCache(60_000, 100, new SimpleMeterRegistry()), new TokenVersionTable(userRepository)),
+                legacy.generateTokenFromEmail("a@fpt.edu.vn"));
+        double claims = run(new JwtAuthenticationFilter(stateless, slowUserDetailsService,
+                        new PrincipalCache(0, 100, new SimpleMeterRegistry()), new TokenVersionTable(userRepository)),
+                stateless.generateStatelessToken("a@fpt.edu.vn", "user-1", SystemRole.MEMBER, 0));
+
+        System.out.printf("JwtAuthenticationFilter, %d threads, lookup %d us%n", THREADS, LOOKUP_NANOS / 1_000);
+        System.out.printf("  subject token, lookup per request : %,12.0f req/s%n", perRequest);
+        System.out.printf("  subject token, principal cache    : %,12.0f req/s%n", cached);
+        System.out.printf("  stateless claims                  : %,12.0f req/s%n", claims);
+    }
+
+    private static double run(JwtAuthenticationFilter filter, String token) throws Exception {
+        FilterChain chain = (request, response) -> assertNotNull(SecurityContextHolder.getContext().getAuthentication());
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            long start = System.nanoTime();
+            long measureFrom = start + TimeUnit.MILLISECONDS.toNanos(WARMUP_MS);
+            long end = measureFrom + TimeUnit.MILLISECONDS.toNanos(MEASURE_MS);
+            List<Future<Long>> workers = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                workers.add(pool.submit(() -> {
+                    long measured = 0;
+                    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/matches");
+                    request.setCookies(new Cookie("jwt", token));
+                    long now;
+                    while ((now = System.nanoTime()) < end) {
+                        SecurityContextHolder.clearContext();
+                        // OncePerRequestFilter marks the request as filtered
+                        request.removeAttribute(filter.getClass().getName() + ".FILTERED");
+                        filter.doFilter(request, new MockHttpServletResponse(), chain);
+                        if (now >= measureFrom) {
+                            measured++;
+                        }
+                    }
+                    SecurityContextHolder.clearContext();
+                    return measured;
+                }));
+            }
+            long total = 0;
+            for (Future<Long> worker : workers) {
+                total += worker.get();
+            }
+            return total * 1_000.0 / MEASURE_MS;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package sep490g65.fvcapi.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+import sep490g65.fvcapi.enums.SystemRole;
+import sep490g65.fvcapi.repository.UserRepository;
+import sep490g65.fvcapi.utils.JwtUtils;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JwtAuthenticationFilter Unit Tests")
+class JwtAuthenticationFilterTest {
+
+    static final String SECRET = "b9f3c7e2a5d1f0c4b8a3e6d9f2c1a7b4d5e6f7a8b9c0d1e2f3a4b5c6d7e8f9a0";
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private JwtUtils jwtUtils;
+    private JwtAuthenticationFilter filter;
+
+    static JwtUtils jwtUtils(boolean statelessClaims) {
+        JwtUtils jwtUtils = new JwtUtils();
+        ReflectionTestUtils.setField(jwtUtils, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(jwtUtils, "jwtExpirationMs", 3_600_000);
+        ReflectionTestUtils.setField(jwtUtils, "statelessClaims", statelessClaims);
+        ReflectionTestUtils.invokeMethod(jwtUtils, "init");
+        return jwtUtils;
+    }
+
+    @BeforeEach
+    void setUp() {
+        jwtUtils = jwtUtils(true);
+        filter = new JwtAuthenticationFilter(jwtUtils, userDetailsService,
+                new PrincipalCache(60_000, 100, new SimpleMeterRegistry()), new TokenVersionTable(userRepository));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private Authentication authenticate(String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/matches");
+        request.setCookies(new Cookie("jwt", token));
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    @Test
+    @DisplayName("stateless token - role from the claims, version read once, no user lookup")
+    void statelessToken_NoUserLookup() throws Exception {
+        when(userRepository.findTokenVersion("user-1")).thenReturn(Optional.of(2));
+        String token = jwtUtils.generateStatelessToken("a@fpt.edu.vn", "user-1", SystemRole.ADMIN, 2);
+
+        Authentication first = authenticate(token);
+        Authentication second = authenticate(token);
+
+        assertEquals("a@fpt.edu.vn", first.getName());
+        assertEquals("ROLE_ADMIN", first.getAuthorities().iterator().next().getAuthority());
+        assertNotNull(second);
+        verify(userRepository, times(1)).findTokenVersion("user-1");
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    @DisplayName("stateless token - an older version or a deleted user is not authenticated")
+    void statelessToken_Revoked() throws Exception {
+        when(userRepository.findTokenVersion("user-1")).thenReturn(Optional.of(3));
+        when(userRepository.findTokenVersion("user-2")).thenReturn(Optional.empty());
+
+        assertNull(authenticate(jwtUtils.generateStatelessToken("a@fpt.edu.vn", "user-1", SystemRole.ADMIN, 2)));
+        assertNull(authenticate(jwtUtils.generateStatelessToken("b@fpt.edu.vn", "user-2", SystemRole.MEMBER, 0)));
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    @DisplayName("subject-only token - principal loaded through the cache")
+    void subjectToken_LoadsPrincipal() throws Exception {
+        when(userDetailsService.loadUserByUsername(anyString())).thenAnswer(inv ->
+                User.withUsername(inv.getArgument(0)).password("hash").roles("MEMBER").build());
+        String token = jwtUtils.generateTokenFromEmail("a@fpt.edu.vn");
+
+        assertEquals("ROLE_MEMBER", authenticate(token).getAuthorities().iterator().next().getAuthority());
+        assertNotNull(authenticate(token));
+        verify(userDetailsService, times(1)).loadUserByUsername("a@fpt.edu.vn");
+        verifyNoInteractions(userRepository);
+    }
+}
@@ -0,0 +1,105 @@
+package sep490g65.fvcapi.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PrincipalCache Unit Tests")
+class PrincipalCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Function<String, UserDetails> loader = email -> {
+        loads.incrementAndGet();
+        return User.withUsername(email).password("hash").roles("MEMBER").build();
+    };
+
+    @Test
+    @DisplayName("get - one load per subject until evicted, subjects compared ignoring case")
+    void get_CachedUntilEvicted() {
+        PrincipalCache cache = new PrincipalCache(60_000, 100, new SimpleMeterRegistry());
+
+        UserDetails first = cache.get("a@fpt.edu.vn", loader);
+        assertSame(first, cache.get(" A@fpt.edu.vn", loader));
+        assertEquals(1, loads.get());
+
+        cache.evict("A@FPT.EDU.VN");
+        cache.get("a@fpt.edu.vn", loader);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("get - expired entries, full cache and failed loads are not served from cache")
+    void get_ExpiredFullOrFailed() {
+        PrincipalCache expired = new PrincipalCache(0, 100, new SimpleMeterRegistry());
+        expired.get("a@fpt.edu.vn", loader);
+        expired.get("a@fpt.edu.vn", loader);
+        assertEquals(2, loads.get());
+
+        PrincipalCache full = new PrincipalCache(60_000, 1, new SimpleMeterRegistry());
+        full.get("a@fpt.edu.vn", loader);
+        full.get("b@fpt.edu.vn", loader);
+        full.get("b@fpt.edu.vn", loader);
+        assertEquals(5, loads.get());
+
+        assertThrows(UsernameNotFoundException.class, () -> full.get("c@fpt.edu.vn", email -> {
+            throw new UsernameNotFoundException(email);
+        }));
+    }
+
+    @Test
+    @DisplayName("get - a principal loaded while an eviction happened is not cached")
+    void get_EvictedDuringLoad() {
+        PrincipalCache cache = new PrincipalCache(60_000, 100, new SimpleMeterRegistry());
+
+        cache.get("a@fpt.edu.vn", email -> {
+            cache.evict(email);
+            return loader.apply(email);
+        });
+        cache.get("a@fpt.edu.vn", loader);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("evict - inside a transaction the entry is dropped on commit only")
+    void evict_AfterCommit() {
+        PrincipalCache cache = new PrincipalCache(60_000, 100, new SimpleMeterRegistry());
+        cache.get("a@fpt.edu.vn", loader);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.evict("a@fpt.edu.vn");
+            cache.get("a@fpt.edu.vn", loader);
+            assertEquals(1, loads.get());
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+            TransactionSynchronizationManager.clearSynchronization();
+            cache.get("a@fpt.edu.vn", loader);
+            assertEquals(1, loads.get());
+
+            TransactionSynchronizationManager.initSynchronization();
+            cache.evict("a@fpt.edu.vn");
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            TransactionSynchronizationManager.clearSynchronization();
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+            cache.get("a@fpt.edu.vn", loader);
+            assertEquals(2, loads.get());
+        } finally {
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package sep490g65.fvcapi.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import sep490g65.fvcapi.entity.ApplicationFormConfig;
+import sep490g65.fvcapi.entity.ApplicationFormField;
+import sep490g65.fvcapi.exception.custom.ValidationException;
+import sep490g65.fvcapi.repository.ApplicationFormConfigRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FormDataValidationService Unit Tests")
+class FormDataValidationServiceTest {
+
+    private static final String VALID = "{\"ho_ten\":\" Nguyen Van A \",\"email\":\"a@fpt.edu.vn\","
+            + "\"sdt\":\"0912345678\",\"mssv\":\"HE123456\",\"lydo\":\"  \",\"size\":42,\"tags\":[\"x\",\"y\"]}";
+
+    @Mock
+    private ApplicationFormConfigRepository applicationFormConfigRepository;
+
+    private FormDataValidationService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new FormDataValidationService(new ObjectMapper(), applicationFormConfigRepository);
+    }
+
+    private ApplicationFormConfig form(ApplicationFormField... fields) {
+        ApplicationFormConfig config = new ApplicationFormConfig();
+        config.setId("form-1");
+        config.setFields(new ArrayList<>(List.of(fields)));
+        return config;
+    }
+
+    @Test
+    @DisplayName("validateFormData - aliases are merged and unknown fields kept as text")
+    void validateFormData_CleansAliases() throws Exception {
+        Map<String, Object> cleaned = service.validateFormData(VALID, false);
+
+        assertEquals("Nguyen Van A", cleaned.get("name"));
+        assertEquals("0912345678", cleaned.get("phone"));
+        assertEquals("HE123456", cleaned.get("studentCode"));
+        assertEquals("42", cleaned.get("size"));
+        assertEquals("[x, y]", cleaned.get("tags"));
+        assertFalse(cleaned.containsKey("lydo"));
+    }
+
+    @Test
+    @DisplayName("validateFormData - constraint and business rule errors")
+    void validateFormData_Errors() {
+        ValidationException invalid = assertThrows(ValidationException.class,
+                () -> service.validateFormData("{\"phone\":\"123\",\"email\":\"not-an-email\"}", true));
+        assertEquals(Map.of(
+                "phone", "Số điện thoại không đúng định dạng (VD: 0123456789 hoặc +84123456789)",
+                "email", "Email không đúng định dạng"), invalid.getErrors());
+
+        ValidationException missing = assertThrows(ValidationException.class,
+                () -> service.validateFormData("{\"email\":\"a@fpt.edu.vn\"}", false));
+        assertEquals(List.of("name", "phone", "studentCode"),
+                missing.getErrors().keySet().stream().sorted().toList());
+
+        assertThrows(ValidationException.class, () -> service.validateFormData("{\"email\":", true));
+    }
+
+    @Test
+    @DisplayName("validateFormData(form) - form fields are compiled once until the form is invalidated")
+    void validateFormData_FormFieldsCached() throws Exception {
+        ApplicationFormField club = ApplicationFormField.builder()
+                .name("favoriteClub").label("CLB yêu thích").fieldType("TEXT").required(true).build();
+        when(applicationFormConfigRepository.findByIdWithFields("form-1")).thenReturn(Optional.of(form(club)));
+
+        ValidationException missing = assertThrows(ValidationException.class,
+                () -> service.validateFormData("form-1", VALID, false));
+        assertEquals("CLB yêu thích là bắt buộc", missing.getErrors().get("favoriteClub"));
+        String withClub = VALID.replace("}", ",\"FavoriteClub\":\"Vovinam\"}");
+        assertEquals("Vovinam", service.validateFormData("form-1", withClub, false).get("FavoriteClub"));
+        verify(applicationFormConfigRepository, times(1)).findByIdWithFields("form-1");
+
+        service.invalidate("form-1");
+        service.validateFormData("form-1", withClub, false);
+        verify(applicationFormConfigRepository, times(2)).findByIdWithFields("form-1");
+    }
+
+    @Test
+    @DisplayName("validateFormFields - form fields and formats only, no identity or phone requirements")
+    void validateFormFields_NoBusinessRules() {
+        ApplicationFormField weight = ApplicationFormField.builder()
+                .name("weight").label("Cân nặng").fieldType("NUMBER").required(true).build();
+        when(applicationFormConfigRepository.findByIdWithFields("form-1")).thenReturn(Optional.of(form(weight)));
+
+        assertEquals("60", service.validateFormFields("form-1", "{\"competitionType\":\"fighting\",\"weight\":60}").get("weight"));
+
+        ValidationException invalid = assertThrows(ValidationException.class,
+                () -> service.validateFormFields("form-1", "{\"weight\":\"abc\",\"email\":\"x\"}"));
+        assertEquals(Map.of("weight", "Cân nặng phải là số", "email", "Email không đúng định dạng"), invalid.getErrors());
+    }
+}
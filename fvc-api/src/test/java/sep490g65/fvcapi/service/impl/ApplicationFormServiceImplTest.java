@@ -19,6 +19,7 @@ import sep490g65.fvcapi.enums.FormStatus;
 import sep490g65.fvcapi.exception.BusinessException;
 import sep490g65.fvcapi.exception.custom.ResourceNotFoundException;
 import sep490g65.fvcapi.repository.ApplicationFormConfigRepository;
+import sep490g65.fvcapi.service.FormDataValidationService;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -34,6 +35,9 @@ class ApplicationFormServiceImplTest {
     @Mock
     private ApplicationFormConfigRepository applicationFormConfigRepository;
 
+    @Mock
+    private FormDataValidationService formDataValidationService;
+
     @InjectMocks
     private ApplicationFormServiceImpl applicationFormService;
 
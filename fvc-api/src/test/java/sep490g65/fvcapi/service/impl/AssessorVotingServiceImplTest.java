@@ -0,0 +1,133 @@
+package sep490g65.fvcapi.service.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import sep490g65.fvcapi.dto.request.AssessorVoteRequest;
+import sep490g65.fvcapi.dto.response.AssessorVoteResponse;
+import sep490g65.fvcapi.entity.MatchAssessor;
+import sep490g65.fvcapi.enums.Corner;
+import sep490g65.fvcapi.exception.custom.BusinessException;
+import sep490g65.fvcapi.repository.MatchAssessorRepository;
+import sep490g65.fvcapi.repository.MatchRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AssessorVotingServiceImpl Unit Tests")
+class AssessorVotingServiceImplTest {
+
+    @Mock
+    private MatchRepository matchRepository;
+
+    @Mock
+    private MatchAssessorRepository matchAssessorRepository;
+
+    @InjectMocks
+    private AssessorVotingServiceImpl assessorVotingService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(assessorVotingService, "voteWindowMs", 60_000L);
+        List<MatchAssessor> roster = new ArrayList<>();
+        for (int position = 1; position <= 6; position++) {
+            roster.add(MatchAssessor.builder().id("a" + position).position(position).build());
+        }
+        lenient().when(matchAssessorRepository.findByMatchIdOrderByPositionAsc("m1")).thenReturn(roster);
+    }
+
+    private AssessorVoteRequest vote(String assessorId, Corner corner, int score) {
+        return AssessorVoteRequest.builder()
+                .matchId("m1")
+                .assessorId(assessorId)
+                .corner(corner)
+                .score(score)
+                .build();
+    }
+
+    @Test
+    @DisplayName("processVote - accepts score at 3 matching votes and loads roster once")
+    void processVote_ConsensusAtThreeVotes() {
+        assertFalse(assessorVotingService.processVote(vote("a1", Corner.RED, 1)).isScoreAccepted());
+        assertFalse(assessorVotingService.processVote(vote("a2", Corner.BLUE, 1)).isScoreAccepted());
+        assertFalse(assessorVotingService.processVote(vote("a3", Corner.RED, 1)).isScoreAccepted());
+        AssessorVoteResponse response = assessorVotingService.processVote(vote("a4", Corner.RED, 1));
+
+        assertTrue(response.isScoreAccepted());
+        assertEquals(3, response.getVoteCount());
+        assertEquals(6, response.getTotalAssessors());
+        assertEquals(List.of("a1", "a3", "a4"), response.getVotes().keySet().stream().sorted().toList());
+        verify(matchAssessorRepository, times(1)).findByMatchIdOrderByPositionAsc("m1");
+    }
+
+    @Test
+    @DisplayName("processVote - a new vote from the same assessor replaces the previous one")
+    void processVote_RevoteReplacesPrevious() {
+        assessorVotingService.processVote(vote("a1", Corner.RED, 2));
+        assessorVotingService.processVote(vote("a1", Corner.RED, 2));
+        AssessorVoteResponse response = assessorVotingService.processVote(vote("a1", Corner.BLUE, 2));
+
+        assertEquals(1, response.getVoteCount());
+        assertEquals(Corner.BLUE, assessorVotingService.getVotingStatus("m1").getCorner());
+    }
+
+    @Test
+    @DisplayName("processVote - votes outside the window are not counted")
+    void processVote_ExpiredVotesIgnored() {
+        ReflectionTestUtils.setField(assessorVotingService, "voteWindowMs", -1L);
+        assessorVotingService.processVote(vote("a1", Corner.RED, 1));
+        assessorVotingService.processVote(vote("a2", Corner.RED, 1));
+        AssessorVoteResponse response = assessorVotingService.processVote(vote("a3", Corner.RED, 1));
+
+        assertEquals(1, response.getVoteCount());
+        assertFalse(response.isScoreAccepted());
+    }
+
+    @Test
+    @DisplayName("claim - a consensus window is accepted exactly once")
+    void claim_WindowAcceptedOnce() {
+        MatchVoteBoard board = new MatchVoteBoard();
+        long epoch = board.epoch();
+        int code = MatchVoteBoard.pack(Corner.BLUE, 2);
+        board.vote(1, code, 0L);
+        board.vote(2, code, 0L);
+        board.vote(3, code, 0L);
+        board.vote(4, code, 0L);
+
+        assertTrue(board.claim(epoch));
+        assertFalse(board.claim(epoch));
+        assertEquals(0, board.count(code));
+        assertNotEquals(epoch, board.epoch());
+    }
+
+    @Test
+    @DisplayName("processVote - a vote after consensus starts a new window")
+    void processVote_VoteAfterConsensusStartsNewWindow() {
+        assessorVotingService.processVote(vote("a1", Corner.RED, 1));
+        assessorVotingService.processVote(vote("a2", Corner.RED, 1));
+        AssessorVoteResponse accepted = assessorVotingService.processVote(vote("a3", Corner.RED, 1));
+        AssessorVoteResponse late = assessorVotingService.processVote(vote("a4", Corner.RED, 1));
+
+        assertTrue(accepted.isScoreAccepted());
+        assertEquals(1, late.getVoteCount());
+        assertFalse(late.isScoreAccepted());
+        assertNotEquals(accepted.getConsensusEpoch(), late.getConsensusEpoch());
+    }
+
+    @Test
+    @DisplayName("processVote - rejects assessor of another match")
+    void processVote_AssessorNotInRoster() {
+        when(matchAssessorRepository.existsById("x9")).thenReturn(true);
+
+        assertThrows(BusinessException.class, () -> assessorVotingService.processVote(vote("x9", Corner.RED, 1)));
+    }
+}
@@ -0,0 +1,100 @@
+package sep490g65.fvcapi.service.impl;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import sep490g65.fvcapi.entity.Athlete;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AthleteBulkUpdater Unit Tests")
+class AthleteBulkUpdaterTest {
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private Query query;
+
+    private AthleteBulkUpdater updater;
+
+    @BeforeEach
+    void setUp() {
+        updater = new AthleteBulkUpdater(entityManager);
+    }
+
+    @Test
+    @DisplayName("updateSql - one VALUES row per athlete, typed by the column")
+    void updateSql() {
+        assertEquals("UPDATE athletes a SET draw_seed_number = v.value, updated_at = :now FROM (VALUES "
+                        + "(CAST(:id0 AS uuid), CAST(:v0 AS integer)), (CAST(:id1 AS uuid), CAST(:v1 AS integer))"
+                        + ") AS v(id, value) WHERE a.id = v.id RETURNING a.id",
+                AthleteBulkUpdater.updateSql(AthleteBulkUpdater.Column.DRAW_SEED_NUMBER, 2));
+    }
+
+    @Test
+    @DisplayName("apply - single statement, ids not returned and malformed ids are not found")
+    void apply_ReportsNotFound() {
+        UUID found = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        Map<String, Integer> seeds = new LinkedHashMap<>();
+        seeds.put(found.toString(), 1);
+        seeds.put("not-a-uuid", 2);
+        seeds.put(missing.toString(), 3);
+        when(entityManager.createNativeQuery(anyString())).thenReturn(query);
+        when(query.getResultList()).thenReturn(List.of(found));
+
+        AthleteBulkUpdater.Result result = updater.apply(AthleteBulkUpdater.Column.DRAW_SEED_NUMBER, seeds);
+
+        assertEquals(1, result.updated());
+        assertEquals(List.of("not-a-uuid", missing.toString()), result.notFound());
+        verify(entityManager).createNativeQuery(AthleteBulkUpdater.updateSql(AthleteBulkUpdater.Column.DRAW_SEED_NUMBER, 2));
+        verify(query).setParameter("id0", found);
+        verify(query).setParameter("v0", 1);
+        verify(query).setParameter("id1", missing);
+        verify(query).setParameter("v1", 3);
+    }
+
+    @Test
+    @DisplayName("apply - same value for all, enums bound by name, chunked past CHUNK_SIZE")
+    void apply_Chunks() {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < AthleteBulkUpdater.CHUNK_SIZE + 1; i++) {
+            ids.add(UUID.randomUUID().toString());
+        }
+        when(entityManager.createNativeQuery(anyString())).thenReturn(query);
+        when(query.getResultList()).thenReturn(List.of());
+
+        AthleteBulkUpdater.Result result = updater.apply(AthleteBulkUpdater.Column.STATUS, ids, Athlete.AthleteStatus.DONE);
+
+        assertEquals(0, result.updated());
+        assertEquals(ids, result.notFound());
+        verify(entityManager, times(2)).createNativeQuery(anyString());
+        verify(query, times(AthleteBulkUpdater.CHUNK_SIZE + 1)).setParameter(startsWith("v"), eq("DONE"));
+        verifyNoMoreInteractions(entityManager);
+    }
+
+    @Test
+    @DisplayName("apply - nothing to update runs no statement")
+    void apply_Empty() {
+        AthleteBulkUpdater.Result result = updater.apply(AthleteBulkUpdater.Column.STATUS, List.of("bad"), Athlete.AthleteStatus.DONE);
+
+        assertEquals(0, result.updated());
+        assertEquals(List.of("bad"), result.notFound());
+        verifyNoInteractions(entityManager);
+    }
+}
@@ -8,15 +8,18 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
 import sep490g65.fvcapi.dto.request.LoginRequest;
 import sep490g65.fvcapi.dto.response.LoginResponse;
 import sep490g65.fvcapi.entity.User;
 import sep490g65.fvcapi.enums.SystemRole;
 import sep490g65.fvcapi.repository.UserRepository;
+import sep490g65.fvcapi.security.LoginAttemptThrottle;
+import sep490g65.fvcapi.security.OffloadingPasswordEncoder;
 import sep490g65.fvcapi.service.impl.AuthServiceImpl;
 import sep490g65.fvcapi.utils.JwtUtils;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -34,7 +37,10 @@ class AuthServiceImplTest {
     private JwtUtils jwtUtils;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private OffloadingPasswordEncoder passwordEncoder;
+
+    @Mock
+    private LoginAttemptThrottle loginAttemptThrottle;
 
     @InjectMocks
     private AuthServiceImpl authService;
@@ -650,5 +656,36 @@ class AuthServiceImplTest {
         assertNotNull(response);
         verify(passwordEncoder, times(1)).matches("P@ssw0rd!#$%", hashedPassword);
     }
+
+    @Test
+    @DisplayName("Should keep the stored hash unless password upgrade is enabled")
+    void testLogin_UpgradeDisabled_ShouldNotRehash() {
+        when(userRepository.findAllByPersonalMailIgnoreCase("john.doe@example.com"))
+                .thenReturn(List.of(testUser));
+        when(passwordEncoder.matches("correctPassword123", hashedPassword))
+                .thenReturn(true);
+
+        authService.login(validLoginRequest);
+
+        verify(passwordEncoder, never()).upgradeEncoding(anyString());
+        verify(userRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should re-encode an outdated hash on login when password upgrade is enabled")
+    void testLogin_UpgradeEnabled_ShouldRehash() {
+        ReflectionTestUtils.setField(authService, "passwordUpgradeEnabled", true);
+        when(userRepository.findAllByPersonalMailIgnoreCase("john.doe@example.com"))
+                .thenReturn(List.of(testUser));
+        when(passwordEncoder.matches("correctPassword123", hashedPassword))
+                .thenReturn(true);
+        when(passwordEncoder.upgradeEncoding(hashedPassword)).thenReturn(true);
+        when(passwordEncoder.encode("correctPassword123")).thenReturn("$2a$12$upgradedHash");
+
+        authService.login(validLoginRequest);
+
+        assertEquals("$2a$12$upgradedHash", testUser.getHashPassword());
+        verify(userRepository).save(testUser);
+    }
 }
 
@@ -0,0 +1,96 @@
+package sep490g65.fvcapi.service.impl;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sep490g65.fvcapi.enums.BracketSeeding;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BracketPlanner Unit Tests")
+class BracketPlannerTest {
+
+    private static List<BracketPlanner.Entry> athletes(int count, int clubs) {
+        List<BracketPlanner.Entry> entries = new ArrayList<>();
+        for (int seed = 1; seed <= count; seed++) {
+            entries.add(new BracketPlanner.Entry("a" + seed, "Athlete " + seed, "Club " + (seed - 1) / clubs, seed));
+        }
+        return entries;
+    }
+
+    private static int firstRoundClubMeetings(BracketPlanner.Plan plan) {
+        int meetings = 0;
+        BracketPlanner.Entry[] slots = plan.slots();
+        for (int i = 0; i < slots.length; i += 2) {
+            if (slots[i] != null && slots[i + 1] != null && slots[i].athleteClub().equals(slots[i + 1].athleteClub())) {
+                meetings++;
+            }
+        }
+        return meetings;
+    }
+
+    @Test
+    @DisplayName("standard order - 1 vs 8, seeds 1 and 2 in opposite halves")
+    void standardOrder() {
+        assertArrayEquals(new int[]{1, 8, 4, 5, 2, 7, 3, 6}, BracketPlanner.standardOrder(8));
+        assertEquals(1, BracketPlanner.meetingRound(0, 1));
+        assertEquals(3, BracketPlanner.meetingRound(0, 7));
+    }
+
+    @Test
+    @DisplayName("5 athletes - 8 positions, byes to seeds 1-3, every pair has an athlete")
+    void byes() {
+        BracketPlanner.Plan plan = BracketPlanner.plan(athletes(5, 1), BracketSeeding.STANDARD, false);
+
+        assertEquals(8, plan.size());
+        assertEquals(3, plan.rounds());
+        Set<String> withBye = new HashSet<>();
+        for (int i = 0; i < plan.size(); i += 2) {
+            BracketPlanner.Entry red = plan.slots()[i];
+            BracketPlanner.Entry blue = plan.slots()[i + 1];
+            assertFalse(red == null && blue == null);
+            if (red == null || blue == null) {
+                withBye.add((red != null ? red : blue).athleteId());
+            }
+        }
+        assertEquals(Set.of("a1", "a2", "a3"), withBye);
+    }
+
+    @Test
+    @DisplayName("club separation - clubmates drawn next to each other no longer meet in round 1")
+    void separateClubs() {
+        // Sequential seeding: draw numbers 1-2, 3-4, ... are clubmates and would meet first
+        List<BracketPlanner.Entry> entries = athletes(16, 2);
+
+        assertEquals(8, firstRoundClubMeetings(BracketPlanner.plan(entries, BracketSeeding.SEQUENTIAL, false)));
+        BracketPlanner.Plan separated = BracketPlanner.plan(entries, BracketSeeding.SEQUENTIAL, true);
+        assertEquals(0, firstRoundClubMeetings(separated));
+        assertEquals(16, new HashSet<>(List.of(separated.slots())).size());
+    }
+
+    @Test
+    @DisplayName("2,000 athletes in 40 weight classes planned well under a second")
+    void largeCompetition() {
+        Random random = new Random(7);
+        List<List<BracketPlanner.Entry>> weightClasses = new ArrayList<>();
+        for (int weightClass = 0; weightClass < 40; weightClass++) {
+            List<BracketPlanner.Entry> entries = new ArrayList<>();
+            for (int seed = 1; seed <= 50; seed++) {
+                entries.add(new BracketPlanner.Entry(weightClass + "-" + seed, "Athlete", "Club " + random.nextInt(12), seed));
+            }
+            weightClasses.add(entries);
+        }
+
+        assertTimeout(Duration.ofSeconds(1), () -> {
+            for (List<BracketPlanner.Entry> entries : weightClasses) {
+                assertEquals(64, BracketPlanner.plan(entries, BracketSeeding.STANDARD, true).size());
+            }
+        });
+    }
+}
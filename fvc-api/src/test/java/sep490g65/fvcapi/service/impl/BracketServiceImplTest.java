@@ -0,0 +1,171 @@
+package sep490g65.fvcapi.service.impl;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import sep490g65.fvcapi.dto.request.GenerateBracketRequest;
+import sep490g65.fvcapi.dto.response.BracketResponse;
+import sep490g65.fvcapi.entity.Athlete;
+import sep490g65.fvcapi.entity.DrawResult;
+import sep490g65.fvcapi.entity.DrawSession;
+import sep490g65.fvcapi.entity.Match;
+import sep490g65.fvcapi.enums.Corner;
+import sep490g65.fvcapi.enums.ErrorCode;
+import sep490g65.fvcapi.enums.MatchStatus;
+import sep490g65.fvcapi.exception.custom.BusinessException;
+import sep490g65.fvcapi.repository.AthleteRepository;
+import sep490g65.fvcapi.repository.DrawResultRepository;
+import sep490g65.fvcapi.repository.DrawSessionRepository;
+import sep490g65.fvcapi.repository.MatchRepository;
+import sep490g65.fvcapi.repository.MatchRoundRepository;
+import sep490g65.fvcapi.repository.MatchScoreboardSnapshotRepository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BracketService Unit Tests")
+class BracketServiceImplTest {
+
+    @Mock
+    private DrawSessionRepository drawSessionRepository;
+
+    @Mock
+    private DrawResultRepository drawResultRepository;
+
+    @Mock
+    private MatchRepository matchRepository;
+
+    @Mock
+    private MatchRoundRepository matchRoundRepository;
+
+    @Mock
+    private MatchScoreboardSnapshotRepository scoreboardSnapshotRepository;
+
+    @Mock
+    private AthleteRepository athleteRepository;
+
+    @Mock
+    private MatchScoreboardCache scoreboardCache;
+
+    @InjectMocks
+    private BracketServiceImpl bracketService;
+
+    private static DrawResult result(int seed, String club) {
+        DrawResult result = new DrawResult();
+        result.setDrawSessionId("draw-1");
+        result.setAthleteId(UUID.randomUUID().toString());
+        result.setAthleteName("Athlete " + seed);
+        result.setAthleteClub(club);
+        result.setSeedNumber(seed);
+        return result;
+    }
+
+    @Test
+    @DisplayName("3 athletes - seed 1 gets a bye into the final, the first-round winner joins as BLUE")
+    void generateBracket_WithBye() {
+        DrawSession session = new DrawSession();
+        session.setId("draw-1");
+        session.setCompetitionId("comp-1");
+        session.setWeightClassId("wc-1");
+        session.setIsFinal(true);
+        List<DrawResult> results = List.of(result(1, "A"), result(2, "B"), result(3, "C"));
+        when(drawSessionRepository.lockById("draw-1")).thenReturn(Optional.of(session));
+        when(matchRepository.existsByDrawSessionIdAndDeletedAtIsNull("draw-1")).thenReturn(false);
+        when(drawResultRepository.findByDrawSessionIdOrderBySeedNumber("draw-1")).thenReturn(results);
+        when(matchRepository.saveAll(anyList())).thenAnswer(inv -> {
+            List<Match> matches = inv.getArgument(0);
+            matches.forEach(match -> match.setId(UUID.randomUUID().toString()));
+            return matches;
+        });
+
+        BracketResponse bracket = bracketService.generateBracket("draw-1", GenerateBracketRequest.builder().build(), "admin");
+
+        assertEquals(4, bracket.getSize());
+        assertEquals(1, bracket.getByes());
+        assertEquals(2, bracket.getMatches().size());
+        BracketResponse.BracketMatch semi = bracket.getMatches().get(0);
+        BracketResponse.BracketMatch fin = bracket.getMatches().get(1);
+        assertEquals("Bán kết", semi.getRoundType());
+        assertEquals(results.get(1).getAthleteId(), semi.getRedAthleteId());
+        assertEquals(results.get(2).getAthleteId(), semi.getBlueAthleteId());
+        assertEquals(fin.getMatchId(), semi.getNextMatchId());
+        assertEquals(Corner.BLUE, semi.getNextMatchCorner());
+        assertEquals("Chung kết", fin.getRoundType());
+        assertEquals(results.get(0).getAthleteId(), fin.getRedAthleteId());
+        assertNull(fin.getBlueAthleteId());
+        assertNull(fin.getNextMatchId());
+        verify(matchRoundRepository).saveAll(argThat(rounds -> rounds.spliterator().getExactSizeIfKnown() == 6));
+        verify(athleteRepository).updateStatusByIdIn(argThat(ids -> ids.size() == 3), eq(Athlete.AthleteStatus.DONE), any());
+    }
+
+    @Test
+    @DisplayName("bracket already generated for the draw - rejected")
+    void generateBracket_AlreadyGenerated() {
+        DrawSession session = new DrawSession();
+        session.setIsFinal(true);
+        when(drawSessionRepository.lockById("draw-1")).thenReturn(Optional.of(session));
+        when(matchRepository.existsByDrawSessionIdAndDeletedAtIsNull("draw-1")).thenReturn(true);
+
+        assertThrows(BusinessException.class, () -> bracketService.generateBracket("draw-1", null, "admin"));
+        verify(matchRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("draw session not final - rejected")
+    void generateBracket_NotFinal() {
+        when(drawSessionRepository.lockById("draw-1")).thenReturn(Optional.of(new DrawSession()));
+
+        BusinessException e = assertThrows(BusinessException.class,
+                () -> bracketService.generateBracket("draw-1", null, "admin"));
+        assertEquals(ErrorCode.BRACKET_DRAW_NOT_FINAL.getCode(), e.getErrorCode());
+        verifyNoInteractions(drawResultRepository);
+        verify(matchRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("ended match - winner copied into its corner of the next match, scoreboard invalidated on commit")
+    void advanceWinner() {
+        Match ended = Match.builder().id("m-1").redAthleteId("red").redAthleteName("Red").redAthleteUnit("Club R")
+                .blueAthleteId("blue").blueAthleteName("Blue").winnerCorner(Corner.BLUE)
+                .nextMatchId("m-final").nextMatchCorner(Corner.RED).createdBy("admin").build();
+        Match next = Match.builder().id("m-final").blueAthleteId("other").createdBy("admin").build();
+        when(matchRepository.findByIdAndDeletedAtIsNull("m-final")).thenReturn(Optional.of(next));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            bracketService.advanceWinner(ended);
+            verifyNoInteractions(scoreboardCache);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals("blue", next.getRedAthleteId());
+        assertEquals("Blue", next.getRedAthleteName());
+        assertEquals("other", next.getBlueAthleteId());
+        assertEquals(MatchStatus.PENDING, next.getStatus());
+        verify(matchRepository).save(next);
+        verify(scoreboardCache).invalidate("m-final");
+    }
+
+    @Test
+    @DisplayName("tie - nothing advanced")
+    void advanceWinner_Tie() {
+        Match ended = Match.builder().id("m-1").nextMatchId("m-final").nextMatchCorner(Corner.RED).createdBy("admin").build();
+
+        bracketService.advanceWinner(ended);
+
+        verifyNoInteractions(matchRepository);
+    }
+}
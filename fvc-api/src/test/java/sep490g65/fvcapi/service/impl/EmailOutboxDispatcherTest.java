@@ -0,0 +1,179 @@
+package sep490g65.fvcapi.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+import sep490g65.fvcapi.entity.EmailOutbox;
+import sep490g65.fvcapi.enums.EmailOutboxStatus;
+import sep490g65.fvcapi.enums.EmailTemplate;
+import sep490g65.fvcapi.repository.EmailOutboxRepository;
+import sep490g65.fvcapi.service.EmailService;
+import sep490g65.fvcapi.utils.SecretCipher;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EmailOutboxDispatcher Tests (GreenMail SMTP)")
+class EmailOutboxDispatcherTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Mock
+    private EmailOutboxRepository outboxRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SecretCipher secretCipher = new SecretCipher("test-secret");
+    private EmailService emailService;
+    private EmailOutboxDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() {
+        if (dispatcher != null) {
+            dispatcher.shutdown();
+        }
+    }
+
+    private EmailOutboxDispatcher dispatcher(int smtpPort) {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(smtpPort);
+
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+        SpringTemplateEngine templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+
+        emailService = new EmailService(mailSender, templateEngine);
+        ReflectionTestUtils.setField(emailService, "from", "noreply@fvc.local");
+        dispatcher = new EmailOutboxDispatcher(outboxRepository, emailService, objectMapper, secretCipher, transactionManager,
+                meterRegistry, 1, 50, 3, 30_000, 3_600_000, 600_000, 604_800_000);
+        return dispatcher;
+    }
+
+    private EmailOutbox email(String id, EmailTemplate template, Map<String, Object> variables, int attempts) throws Exception {
+        return EmailOutbox.builder()
+                .id(id)
+                .template(template)
+                .recipient(id + "@gmail.com")
+                .variables(objectMapper.writeValueAsString(variables))
+                .status(EmailOutboxStatus.SENDING)
+                .attempts(attempts)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("fvc.email.outbox").tag("result", result).counter().count();
+    }
+
+    @Test
+    @DisplayName("send - renders and delivers the batch, then marks it sent")
+    @SuppressWarnings("unchecked")
+    void send_DeliversBatch() throws Exception {
+        EmailOutbox password = email("member1", EmailTemplate.NEW_ACCOUNT_PASSWORD,
+                EmailService.newAccountPasswordVariables("member1@gmail.com", "Member 1", "Secret123!", "https://fvc/login"), 1);
+        EmailOutbox approved = email("member2", EmailTemplate.REGISTRATION_APPROVED,
+                EmailService.registrationApprovedVariables("member2@gmail.com", "Member 2", "SE123456", "FPTU",
+                        "Nam", "Giải Vovinam", "Quyền", "Đơn luyện", false, null), 1);
+
+        dispatcher(greenMail.getSmtp().getPort()).send(List.of(password, approved));
+
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertEquals(2, received.length);
+        assertEquals(java.util.Set.of(EmailTemplate.NEW_ACCOUNT_PASSWORD.getSubject(), EmailTemplate.REGISTRATION_APPROVED.getSubject()),
+                java.util.Set.of(received[0].getSubject(), received[1].getSubject()));
+
+        ArgumentCaptor<Collection<String>> ids = ArgumentCaptor.forClass(Collection.class);
+        verify(outboxRepository).markSent(ids.capture(), eq(EmailOutboxStatus.SENT), eq("{}"), any());
+        assertEquals(List.of("member1", "member2"), List.copyOf(ids.getValue()));
+        verify(outboxRepository, never()).markUnsent(any(), any(), any(), any(), any());
+        assertEquals(2, count("sent"));
+    }
+
+    @Test
+    @DisplayName("enqueue - the temporary password is stored encrypted and decrypted only to render the email")
+    void enqueue_PasswordEncrypted_UntilRendered() throws Exception {
+        EmailOutboxDispatcher d = dispatcher(greenMail.getSmtp().getPort());
+        when(outboxRepository.save(any(EmailOutbox.class))).thenAnswer(inv -> inv.getArgument(0));
+        new EmailOutboxServiceImpl(outboxRepository, emailService, objectMapper, secretCipher)
+                .enqueueNewAccountPassword("member1@gmail.com", "Member 1", "Secret123!", "https://fvc/login");
+
+        ArgumentCaptor<EmailOutbox> queued = ArgumentCaptor.forClass(EmailOutbox.class);
+        verify(outboxRepository).save(queued.capture());
+        EmailOutbox email = queued.getValue();
+        assertFalse(email.getVariables().contains("Secret123!"));
+        assertTrue(email.getVariables().contains("member1@gmail.com"));
+        email.setId("member1");
+
+        d.send(List.of(email));
+
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertEquals(1, received.length);
+        assertTrue(GreenMailUtil.getBody(received[0]).contains("Secret123!"));
+    }
+
+    @Test
+    @DisplayName("send - SMTP unreachable: retried with backoff, given up after max attempts")
+    void send_ServerDown_RetriesThenFails() throws Exception {
+        EmailOutbox first = email("first", EmailTemplate.NEW_ACCOUNT_PASSWORD,
+                EmailService.newAccountPasswordVariables("first@gmail.com", "First", "pw", null), 1);
+        EmailOutbox last = email("last", EmailTemplate.NEW_ACCOUNT_PASSWORD,
+                EmailService.newAccountPasswordVariables("last@gmail.com", "Last", "pw", null), 3);
+        int closedPort = greenMail.getSmtp().getPort() + 1;
+
+        LocalDateTime before = LocalDateTime.now();
+        dispatcher(closedPort).send(List.of(first, last));
+
+        ArgumentCaptor<LocalDateTime> nextAttempt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(outboxRepository).markUnsent(eq("first"), eq(EmailOutboxStatus.PENDING), nextAttempt.capture(), any(), any());
+        assertTrue(nextAttempt.getValue().isAfter(before.plusSeconds(29)));
+        verify(outboxRepository).markFailed(eq("last"), eq(EmailOutboxStatus.FAILED), eq("{}"), any(), any());
+        verify(outboxRepository, never()).markSent(any(), any(), any(), any());
+        assertEquals(1, count("retry"));
+        assertEquals(1, count("failed"));
+    }
+
+    @Test
+    @DisplayName("backoffMs - doubles per attempt up to the maximum")
+    void backoffMs_DoublesUpToMax() {
+        EmailOutboxDispatcher d = dispatcher(greenMail.getSmtp().getPort());
+
+        assertEquals(30_000, d.backoffMs(1));
+        assertEquals(60_000, d.backoffMs(2));
+        assertEquals(240_000, d.backoffMs(4));
+        assertEquals(3_600_000, d.backoffMs(12));
+        assertEquals(3_600_000, d.backoffMs(100));
+    }
+}
@@ -0,0 +1,100 @@
+package sep490g65.fvcapi.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import sep490g65.fvcapi.entity.ApplicationFormConfig;
+import sep490g65.fvcapi.entity.ApplicationFormField;
+import sep490g65.fvcapi.enums.ApplicationFormStatus;
+import sep490g65.fvcapi.repository.ApplicationFormConfigRepository;
+import sep490g65.fvcapi.repository.SubmittedApplicationFormRepository;
+import sep490g65.fvcapi.repository.SubmittedApplicationFormRepository.ExportRow;
+import sep490g65.fvcapi.service.AthleteService;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExportServiceImpl Unit Tests")
+class ExportServiceImplTest {
+
+    @Mock
+    private SubmittedApplicationFormRepository submittedRepository;
+
+    @Mock
+    private ApplicationFormConfigRepository applicationFormConfigRepository;
+
+    @Mock
+    private AthleteService athleteService;
+
+    private ExportServiceImpl exportService;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new ExportServiceImpl(submittedRepository, applicationFormConfigRepository, athleteService,
+                new ObjectMapper());
+    }
+
+    private static ExportRow row(long id, String formData) {
+        ExportRow row = mock(ExportRow.class);
+        when(row.getId()).thenReturn(id);
+        when(row.getFormType()).thenReturn("COMPETITION_REGISTRATION");
+        when(row.getStatus()).thenReturn("APPROVED");
+        when(row.getEmail()).thenReturn("a@fpt.edu.vn");
+        when(row.getCreatedAt()).thenReturn(LocalDateTime.of(2025, 1, 2, 3, 4, 5));
+        when(row.getFormData()).thenReturn(formData);
+        return row;
+    }
+
+    @Test
+    @DisplayName("writeSubmissionsCsv - form fields first, form_data flattened and escaped")
+    void writeSubmissionsCsv_Flattened() throws Exception {
+        ApplicationFormConfig config = new ApplicationFormConfig();
+        config.setFields(new ArrayList<>(List.of(
+                ApplicationFormField.builder().name("fullName").sortOrder(2).build(),
+                ApplicationFormField.builder().name("club").sortOrder(1).build(),
+                ApplicationFormField.builder().name("unused").sortOrder(0).build())));
+        when(applicationFormConfigRepository.findByIdWithFields("form-1")).thenReturn(Optional.of(config));
+        when(submittedRepository.findFormDataKeys("form-1", null, "APPROVED", null, null))
+                .thenReturn(List.of("tags", "fullName", "club"));
+        List<ExportRow> rows = List.of(
+                row(1, "{\"fullName\":\"Nguyễn \\\"A\\\"\",\"club\":\"FPT, HN\",\"tags\":[1,2],\"extra\":{\"x\":1}}"),
+                row(2, "{\"fullName\":\"=cmd\",\"club\":null}"));
+        when(submittedRepository.streamForExport("form-1", null, "APPROVED", null, null)).thenReturn(rows.stream());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.writeSubmissionsCsv("form-1", null, ApplicationFormStatus.APPROVED, out);
+
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertEquals("\uFEFF"
+                + "submissionId,formType,status,submitterEmail,submittedAt,club,fullName,tags\r\n"
+                + "1,COMPETITION_REGISTRATION,APPROVED,a@fpt.edu.vn,2025-01-02T03:04:05,\"FPT, HN\",\"Nguyễn \"\"A\"\"\",\"[1,2]\"\r\n"
+                + "2,COMPETITION_REGISTRATION,APPROVED,a@fpt.edu.vn,2025-01-02T03:04:05,,'=cmd,\r\n", csv);
+    }
+
+    @Test
+    @DisplayName("writeSubmissionsCsv - the row cursor is closed")
+    void writeSubmissionsCsv_ClosesStream() throws Exception {
+        Runnable onClose = mock(Runnable.class);
+        when(submittedRepository.findFormDataKeys(null, null, null, null, null)).thenReturn(List.of());
+        when(submittedRepository.streamForExport(null, null, null, null, null))
+                .thenReturn(Stream.<ExportRow>empty().onClose(onClose));
+
+        exportService.writeSubmissionsCsv(null, null, null, new ByteArrayOutputStream());
+
+        verify(onClose).run();
+        verifyNoInteractions(applicationFormConfigRepository);
+    }
+}
@@ -0,0 +1,175 @@
+package sep490g65.fvcapi.service.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import sep490g65.fvcapi.entity.MatchEvent;
+import sep490g65.fvcapi.entity.MatchScoreboardSnapshot;
+import sep490g65.fvcapi.enums.Corner;
+import sep490g65.fvcapi.enums.MatchEventType;
+import sep490g65.fvcapi.repository.MatchEventRepository;
+import sep490g65.fvcapi.repository.MatchScoreboardSnapshotRepository;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LiveScoreboardRegistry Unit Tests")
+class LiveScoreboardRegistryTest {
+
+    @Mock
+    private MatchEventRepository matchEventRepository;
+
+    @Mock
+    private MatchScoreboardSnapshotRepository scoreboardSnapshotRepository;
+
+    @Mock
+    private ObjectProvider<MatchEventWriteBehindQueue> writeBehindQueueProvider;
+
+    @Mock
+    private MatchEventWriteBehindQueue writeBehindQueue;
+
+    @InjectMocks
+    private LiveScoreboardRegistry registry;
+
+    // Events queued for writing, handed to cold loads
+    private List<MatchEvent> pending = List.of();
+
+    @BeforeEach
+    void setUp() {
+        when(writeBehindQueueProvider.getObject()).thenReturn(writeBehindQueue);
+        when(writeBehindQueue.withPending(eq("m1"), any())).thenAnswer(invocation -> {
+            Function<List<MatchEvent>, ?> action = invocation.getArgument(1);
+            return action.apply(pending);
+        });
+    }
+
+    private MatchEvent event(String id, Corner corner, MatchEventType type) {
+        return MatchEvent.builder()
+                .id(id)
+                .round(1)
+                .timestampInRoundSeconds(0)
+                .corner(corner)
+                .eventType(type)
+                .build();
+    }
+
+    @Test
+    @DisplayName("apply - cold start rebuilds from stored events, then applies deltas without reloading")
+    void apply_ColdStartThenDeltas() {
+        when(matchEventRepository.findByMatchIdOrderByCreatedAtAsc("m1"))
+                .thenReturn(List.of(event("e1", Corner.RED, MatchEventType.SCORE_PLUS_2)));
+
+        registry.apply("m1", event("e2", Corner.BLUE, MatchEventType.SCORE_PLUS_1));
+        LiveScoreboardRegistry.LiveScoreboard live = registry.apply("m1", event("e3", Corner.RED, MatchEventType.SCORE_PLUS_1));
+
+        assertEquals(3, live.getRedScore());
+        assertEquals(1, live.getBlueScore());
+        assertEquals("e3", live.getLastEventId());
+        verify(matchEventRepository, times(1)).findByMatchIdOrderByCreatedAtAsc("m1");
+    }
+
+    @Test
+    @DisplayName("getOrLoad - cold start counts stored and still queued events once each")
+    void getOrLoad_MergesQueuedEvents() {
+        when(matchEventRepository.findByMatchIdOrderByCreatedAtAsc("m1"))
+                .thenReturn(List.of(event("e1", Corner.RED, MatchEventType.SCORE_PLUS_2)));
+        pending = List.of(event(null, Corner.RED, MatchEventType.SCORE_PLUS_1),
+                event(null, Corner.BLUE, MatchEventType.WARNING));
+
+        LiveScoreboardRegistry.LiveScoreboard live = registry.getOrLoad("m1");
+
+        assertEquals(3, live.getRedScore());
+        assertEquals(3, live.getEventCount());
+        assertSame(live, registry.getOrLoad("m1"));
+        verify(writeBehindQueue, times(1)).withPending(eq("m1"), any());
+    }
+
+    @Test
+    @DisplayName("ensureApplied - applies a committed event missing after a rebuild, never twice")
+    void ensureApplied_AppliesMissingEventOnce() {
+        when(matchEventRepository.findByMatchIdOrderByCreatedAtAsc("m1")).thenReturn(Collections.emptyList());
+        MatchEvent applied = event(null, Corner.RED, MatchEventType.SCORE_PLUS_1);
+        MatchEvent missing = event(null, Corner.BLUE, MatchEventType.SCORE_PLUS_2);
+
+        registry.apply("m1", applied);
+        registry.ensureApplied("m1", applied);
+        registry.ensureApplied("m1", missing);
+        registry.ensureApplied("m1", missing);
+
+        LiveScoreboardRegistry.LiveScoreboard live = registry.getOrLoad("m1");
+        assertEquals(1, live.getRedScore());
+        assertEquals(2, live.getBlueScore());
+        assertEquals(2, live.getEventCount());
+    }
+
+    @Test
+    @DisplayName("undo - reverts clamped SCORE_MINUS_1 exactly")
+    void undo_RevertsClampedDelta() {
+        when(matchEventRepository.findByMatchIdOrderByCreatedAtAsc("m1")).thenReturn(Collections.emptyList());
+
+        registry.apply("m1", event("e1", Corner.RED, MatchEventType.SCORE_MINUS_1));
+        registry.apply("m1", event("e2", Corner.RED, MatchEventType.SCORE_PLUS_1));
+
+        Optional<LiveScoreboardRegistry.AppliedEvent> undone = registry.undo("m1");
+        assertTrue(undone.isPresent());
+        assertEquals("e2", undone.get().getEventId());
+        assertEquals(0, registry.getOrLoad("m1").getRedScore());
+
+        undone = registry.undo("m1");
+        assertTrue(undone.isPresent());
+        assertEquals(0, undone.get().getScoreDelta());
+        assertEquals(0, registry.getOrLoad("m1").getRedScore());
+
+        assertTrue(registry.undo("m1").isEmpty());
+    }
+
+    @Test
+    @DisplayName("reserveKey - rejects a recorded key until its event is undone")
+    void reserveKey_RejectsRecordedKey() {
+        MatchEvent stored = event("e1", Corner.RED, MatchEventType.SCORE_PLUS_1);
+        stored.setIdempotencyKey("consensus:1");
+        when(matchEventRepository.findByMatchIdOrderByCreatedAtAsc("m1")).thenReturn(List.of(stored));
+
+        assertFalse(registry.reserveKey("m1", "consensus:1"));
+        assertTrue(registry.reserveKey("m1", "consensus:2"));
+        assertFalse(registry.reserveKey("m1", "consensus:2"));
+        assertTrue(registry.reserveKey("m1", null));
+
+        registry.undo("m1");
+        assertTrue(registry.reserveKey("m1", "consensus:1"));
+    }
+
+    @Test
+    @DisplayName("flush - writes counters of a changed match only once")
+    void flush_WritesDirtySnapshotOnce() {
+        when(matchEventRepository.findByMatchIdOrderByCreatedAtAsc("m1")).thenReturn(Collections.emptyList());
+        MatchScoreboardSnapshot stored = MatchScoreboardSnapshot.builder().matchId("m1").build();
+        when(scoreboardSnapshotRepository.findByMatchId("m1")).thenReturn(Optional.of(stored));
+
+        registry.apply("m1", event("e1", Corner.BLUE, MatchEventType.WARNING));
+        registry.apply("m1", event("e2", Corner.BLUE, MatchEventType.SCORE_PLUS_2));
+
+        assertTrue(registry.isDirty("m1"));
+        registry.flush("m1");
+        registry.flush("m1");
+
+        assertEquals(2, stored.getBlueScore());
+        assertEquals(1, stored.getBlueWarningCount());
+        assertEquals("e2", stored.getLastEventId());
+        assertFalse(registry.isDirty("m1"));
+        verify(scoreboardSnapshotRepository, times(1)).save(any(MatchScoreboardSnapshot.class));
+    }
+}
@@ -0,0 +1,75 @@
+package sep490g65.fvcapi.service.impl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MatchClock Unit Tests")
+class MatchClockTest {
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private MatchClock matchClock;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(matchClock, "autoEndRounds", true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        matchClock.shutdown();
+    }
+
+    @Test
+    @DisplayName("tick - expires a round that used its whole duration exactly once, off the tick thread")
+    void tick_ExpiresRoundOnce() {
+        AtomicReference<Thread> publishedOn = new AtomicReference<>();
+        doAnswer(inv -> {
+            publishedOn.set(Thread.currentThread());
+            return null;
+        }).when(eventPublisher).publishEvent(any(MatchClock.RoundExpiredEvent.class));
+        matchClock.start("m1", 2, 90, 90);
+
+        matchClock.tick();
+        matchClock.tick();
+
+        verify(eventPublisher, timeout(1000).times(1)).publishEvent(any(MatchClock.RoundExpiredEvent.class));
+        assertNotSame(Thread.currentThread(), publishedOn.get());
+        assertEquals(90, matchClock.elapsedSeconds("m1", 2).getAsInt());
+    }
+
+    @Test
+    @DisplayName("tick - a paused round does not expire and keeps its elapsed time")
+    void tick_PausedRoundDoesNotExpire() {
+        matchClock.start("m1", 1, 90, 30);
+        matchClock.pause("m1");
+
+        matchClock.tick();
+
+        verify(eventPublisher, never()).publishEvent(any());
+        assertEquals(30, matchClock.elapsedSeconds("m1", 1).getAsInt());
+        assertTrue(matchClock.elapsedSeconds("m1", 2).isEmpty());
+        assertTrue(matchClock.resume("m1", 1));
+    }
+}
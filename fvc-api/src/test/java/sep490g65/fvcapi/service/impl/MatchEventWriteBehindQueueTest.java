@@ -0,0 +1,142 @@
+package sep490g65.fvcapi.service.impl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import sep490g65.fvcapi.entity.MatchEvent;
+import sep490g65.fvcapi.exception.custom.BusinessException;
+import sep490g65.fvcapi.repository.MatchEventRepository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MatchEventWriteBehindQueue Unit Tests")
+class MatchEventWriteBehindQueueTest {
+
+    @Mock
+    private MatchEventRepository matchEventRepository;
+
+    @Mock
+    private LiveScoreboardRegistry liveScoreboardRegistry;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private MatchEventWriteBehindQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        queue = new MatchEventWriteBehindQueue(matchEventRepository, liveScoreboardRegistry, transactionManager);
+        ReflectionTestUtils.setField(queue, "batchSize", 50);
+        ReflectionTestUtils.setField(queue, "queueCapacity", 500);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    // Ends the simulated request transaction
+    private static void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    @Test
+    @DisplayName("enqueue - event of a rolled-back request is never written")
+    void enqueue_RolledBackIsDropped() {
+        MatchEvent event = MatchEvent.builder().build();
+
+        queue.enqueue("m1", event);
+        assertEquals(List.of(), queue.withPending("m1", pending -> pending));
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        queue.flush("m1");
+        assertEquals(List.of(), queue.withPending("m1", pending -> pending));
+        verify(matchEventRepository, never()).saveAll(any());
+        verify(liveScoreboardRegistry, never()).ensureApplied(any(), any());
+    }
+
+    @Test
+    @DisplayName("enqueue - event is queued on commit and checked against the live state")
+    void enqueue_QueuedOnCommit() {
+        MatchEvent event = MatchEvent.builder().build();
+
+        queue.enqueue("m1", event);
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertEquals(List.of(event), queue.withPending("m1", pending -> pending));
+        verify(liveScoreboardRegistry).ensureApplied("m1", event);
+
+        queue.flush("m1");
+        verify(matchEventRepository).saveAll(List.of(event));
+        assertEquals(List.of(), queue.withPending("m1", pending -> pending));
+    }
+
+    @Test
+    @DisplayName("discard - refused while the event's request is in flight, re-queued when the undo rolls back")
+    void discard_InFlightAndRollback() {
+        MatchEvent event = MatchEvent.builder().build();
+        queue.enqueue("m1", event);
+
+        assertThrows(BusinessException.class, () -> queue.discard("m1", event));
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        TransactionSynchronizationManager.initSynchronization();
+        assertTrue(queue.discard("m1", event));
+        assertEquals(List.of(), queue.withPending("m1", pending -> pending));
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertEquals(List.of(event), queue.withPending("m1", pending -> pending));
+    }
+
+    @Test
+    @DisplayName("flush - a rolled-back flush keeps its events new, the next flush writes all of them")
+    void flush_RetriedAfterFailure() {
+        MatchEvent first = MatchEvent.builder().build();
+        MatchEvent second = MatchEvent.builder().build();
+        queue.enqueue("m1", first);
+        queue.enqueue("m1", second);
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        List<List<String>> idsOnSave = new ArrayList<>();
+        when(matchEventRepository.saveAll(any())).thenAnswer(inv -> {
+            List<MatchEvent> events = inv.getArgument(0);
+            idsOnSave.add(events.stream().map(MatchEvent::getId).toList());
+            events.forEach(event -> event.setId(UUID.randomUUID().toString()));
+            return events;
+        });
+        doThrow(new IllegalStateException("snapshot flush failed")).doNothing()
+                .when(liveScoreboardRegistry).flush("m1");
+
+        assertThrows(IllegalStateException.class, () -> queue.flush("m1"));
+        assertNull(first.getId());
+        assertNull(second.getId());
+        assertEquals(List.of(first, second), queue.withPending("m1", pending -> pending));
+        verify(liveScoreboardRegistry).markDirty("m1");
+
+        queue.flush("m1");
+        assertEquals(Arrays.asList(null, null), idsOnSave.get(1));
+        verify(matchEventRepository, times(2)).saveAll(List.of(first, second));
+        assertEquals(List.of(), queue.withPending("m1", pending -> pending));
+    }
+}
@@ -0,0 +1,154 @@
+package sep490g65.fvcapi.service.impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import sep490g65.fvcapi.dto.response.MatchScoreboardDto;
+import sep490g65.fvcapi.entity.Field;
+import sep490g65.fvcapi.repository.FieldRepository;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MatchScoreboardCache Unit Tests")
+class MatchScoreboardCacheTest {
+
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
+    @Mock
+    private FieldRepository fieldRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MatchScoreboardCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new MatchScoreboardCache(referenceDataCache, fieldRepository, meterRegistry);
+        loads = new AtomicInteger();
+    }
+
+    private Supplier<MatchScoreboardDto> loader(String status) {
+        return () -> {
+            loads.incrementAndGet();
+            return MatchScoreboardDto.builder().matchId("m1").status(status).build();
+        };
+    }
+
+    private double count(String name, String result) {
+        return meterRegistry.get(name).tag("result", result).counter().count();
+    }
+
+    @Test
+    @DisplayName("get - second read is served from the cache")
+    void get_HitAfterLoad() {
+        MatchScoreboardDto first = cache.get("m1", cached -> null, loader("Chờ bắt đầu"));
+        MatchScoreboardDto second = cache.get("m1", cached -> null, loader("Chờ bắt đầu"));
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals(1, count("fvc.scoreboard.cache", "hit"));
+        assertEquals(1, count("fvc.scoreboard.cache", "miss"));
+    }
+
+    @Test
+    @DisplayName("scoresChanged - only the scores are refreshed, the match is not reloaded")
+    void scoresChanged_RefreshesScoresOnly() {
+        cache.get("m1", cached -> null, loader("Đang diễn ra"));
+        cache.scoresChanged("m1");
+
+        MatchScoreboardDto refreshed = cache.get("m1",
+                cached -> cached.toBuilder().matchName("refreshed").build(), loader("Đang diễn ra"));
+
+        assertEquals("refreshed", refreshed.getMatchName());
+        assertEquals(1, loads.get());
+        assertEquals(1, count("fvc.scoreboard.cache", "score_refresh"));
+    }
+
+    @Test
+    @DisplayName("scoresChanged - falls back to a full load when scores cannot be refreshed")
+    void scoresChanged_NoLiveScores_Reloads() {
+        cache.get("m1", cached -> null, loader("Đang diễn ra"));
+        cache.scoresChanged("m1");
+
+        cache.get("m1", cached -> null, loader("Đang diễn ra"));
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("invalidate - next read reloads the match")
+    void invalidate_Reloads() {
+        cache.get("m1", cached -> null, loader("Chờ bắt đầu"));
+        cache.invalidate("m1");
+
+        MatchScoreboardDto reloaded = cache.get("m1",
+                cached -> fail("frame changed, scores must not be refreshed"), loader("Đang diễn ra"));
+
+        assertEquals("Đang diễn ra", reloaded.getStatus());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("fieldLocation - cached until references are invalidated")
+    void fieldLocation_CachedUntilInvalidated() {
+        Field field = new Field();
+        field.setLocation("Sân A");
+        when(fieldRepository.findById("f1")).thenReturn(Optional.of(field));
+
+        assertEquals("Sân A", cache.fieldLocation("f1"));
+        assertEquals("Sân A", cache.fieldLocation("f1"));
+        cache.invalidateReferences();
+        assertEquals("Sân A", cache.fieldLocation("f1"));
+
+        verify(fieldRepository, times(2)).findById("f1");
+        assertEquals(1, count("fvc.reference.cache", "hit"));
+        assertNull(cache.weightClassName(null));
+    }
+
+    @Test
+    @DisplayName("evict - drops the entry and versions of an ended match, a load from before is not served")
+    void evict_DropsMatch() {
+        cache.get("m1", cached -> null, loader("Đang diễn ra"));
+        cache.invalidate("m1");
+        cache.scoresChanged("m1");
+
+        // Loaded before the match ended, cached after the eviction
+        MatchScoreboardDto stale = cache.get("m1", cached -> null, () -> {
+            cache.evict("m1");
+            return MatchScoreboardDto.builder().matchId("m1").status("Đang diễn ra").build();
+        });
+        MatchScoreboardDto ended = cache.get("m1", cached -> null, loader("Kết thúc"));
+
+        assertNotSame(stale, ended);
+        assertEquals("Kết thúc", ended.getStatus());
+        cache.evict("m1");
+        for (String map : new String[]{"entries", "matchVersions", "scoreVersions"}) {
+            assertEquals(0, ((Map<?, ?>) ReflectionTestUtils.getField(cache, map)).size(), map);
+        }
+    }
+
+    @Test
+    @DisplayName("weightClassName - read from ReferenceDataCache")
+    void weightClassName_FromReferenceData() {
+        when(referenceDataCache.weightClass("wc1")).thenReturn(
+                Optional.of(new ReferenceDataCache.WeightClassRef("wc1", "Nam 45-48kg", null, null)));
+        when(referenceDataCache.weightClass("missing")).thenReturn(Optional.empty());
+
+        assertEquals("Nam 45-48kg", cache.weightClassName("wc1"));
+        assertNull(cache.weightClassName("missing"));
+    }
+}
@@ -0,0 +1,188 @@
+package sep490g65.fvcapi.service.impl;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import sep490g65.fvcapi.config.ScoreboardStreamBroadcaster;
+import sep490g65.fvcapi.constants.MessageConstants;
+import sep490g65.fvcapi.dto.request.ControlMatchRequest;
+import sep490g65.fvcapi.dto.request.CreateMatchRequest;
+import sep490g65.fvcapi.dto.response.BulkCreateMatchesResponse;
+import sep490g65.fvcapi.entity.Athlete;
+import sep490g65.fvcapi.entity.Competition;
+import sep490g65.fvcapi.entity.Match;
+import sep490g65.fvcapi.enums.Corner;
+import sep490g65.fvcapi.enums.MatchControlAction;
+import sep490g65.fvcapi.enums.MatchStatus;
+import sep490g65.fvcapi.exception.custom.BusinessException;
+import sep490g65.fvcapi.repository.AthleteRepository;
+import sep490g65.fvcapi.repository.CompetitionRepository;
+import sep490g65.fvcapi.repository.MatchRepository;
+import sep490g65.fvcapi.repository.MatchRoundRepository;
+import sep490g65.fvcapi.repository.MatchScoreboardSnapshotRepository;
+import sep490g65.fvcapi.service.BracketService;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MatchService Unit Tests")
+class MatchServiceImplTest {
+
+    @Mock
+    private MatchRepository matchRepository;
+
+    @Mock
+    private MatchRoundRepository matchRoundRepository;
+
+    @Mock
+    private MatchScoreboardSnapshotRepository scoreboardSnapshotRepository;
+
+    @Mock
+    private AthleteRepository athleteRepository;
+
+    @Mock
+    private CompetitionRepository competitionRepository;
+
+    @Mock
+    private LiveScoreboardRegistry liveScoreboardRegistry;
+
+    @Mock
+    private MatchEventWriteBehindQueue matchEventWriteBehindQueue;
+
+    @Mock
+    private ScoreboardStreamBroadcaster scoreboardStreamBroadcaster;
+
+    @Mock
+    private MatchScoreboardCache scoreboardCache;
+
+    @Mock
+    private BracketService bracketService;
+
+    @InjectMocks
+    private MatchServiceImpl matchService;
+
+    private static Athlete athlete(String name) {
+        Athlete athlete = new Athlete();
+        athlete.setId(UUID.randomUUID());
+        athlete.setFullName(name);
+        athlete.setClub("Club " + name);
+        return athlete;
+    }
+
+    private static CreateMatchRequest row(String competitionId, String redAthleteId, String blueAthleteId) {
+        return CreateMatchRequest.builder()
+                .competitionId(competitionId)
+                .weightClassId("wc-1")
+                .redAthleteId(redAthleteId)
+                .blueAthleteId(blueAthleteId)
+                .build();
+    }
+
+    @Test
+    @DisplayName("bulkCreateMatches - one prefetch per table, missing rows reported, one status update")
+    @SuppressWarnings("unchecked")
+    void bulkCreateMatches_PrefetchAndBatch() {
+        Competition competition = new Competition();
+        competition.setId("comp-1");
+        Athlete red = athlete("Red");
+        Athlete blue = athlete("Blue");
+        Athlete other = athlete("Other");
+        String missingAthleteId = UUID.randomUUID().toString();
+        List<CreateMatchRequest> rows = List.of(
+                row("comp-1", red.getId().toString(), blue.getId().toString()),
+                row("missing-comp", red.getId().toString(), blue.getId().toString()),
+                row("comp-1", missingAthleteId, blue.getId().toString()),
+                row("comp-1", other.getId().toString(), "not-a-uuid"),
+                // Ids are matched case-insensitively
+                row("comp-1", other.getId().toString().toUpperCase(), red.getId().toString()));
+        when(competitionRepository.findAllById(any())).thenReturn(List.of(competition));
+        when(athleteRepository.findAllById(any())).thenReturn(List.of(red, blue, other));
+        when(matchRepository.saveAll(anyList())).thenAnswer(inv -> {
+            List<Match> matches = inv.getArgument(0);
+            matches.forEach(match -> match.setId(UUID.randomUUID().toString()));
+            return matches;
+        });
+
+        BulkCreateMatchesResponse response = matchService.bulkCreateMatches(rows, "admin");
+
+        assertEquals(5, response.getRequestedCount());
+        assertEquals(2, response.getCreatedCount());
+        assertEquals(List.of(0, 4), response.getCreated().stream().map(BulkCreateMatchesResponse.CreatedMatch::getIndex).toList());
+        assertEquals("Red", response.getCreated().get(0).getRedAthleteName());
+        assertEquals(3, response.getFailedCount());
+        assertEquals(List.of(
+                        "Competition not found: missing-comp",
+                        "Red athlete not found: " + missingAthleteId,
+                        "Blue athlete not found: not-a-uuid"),
+                response.getErrors().stream().map(BulkCreateMatchesResponse.FailedMatch::getMessage).toList());
+
+        ArgumentCaptor<Collection<UUID>> prefetched = ArgumentCaptor.forClass(Collection.class);
+        verify(competitionRepository).findAllById(Set.of("comp-1", "missing-comp"));
+        verify(athleteRepository).findAllById(prefetched.capture());
+        assertEquals(Set.of(red.getId(), blue.getId(), other.getId(), UUID.fromString(missingAthleteId)),
+                Set.copyOf(prefetched.getValue()));
+        verify(matchRepository).saveAll(argThat(matches -> ((List<Match>) matches).size() == 2));
+        verify(matchRoundRepository).saveAll(argThat(rounds -> ((List<?>) rounds).size() == 6));
+        verify(scoreboardSnapshotRepository).saveAll(argThat(snapshots -> ((List<?>) snapshots).size() == 2));
+        verify(athleteRepository, times(1)).updateStatusByIdIn(
+                eq(Set.of(red.getId(), blue.getId(), other.getId())), eq(Athlete.AthleteStatus.DONE), any());
+        verifyNoMoreInteractions(athleteRepository, competitionRepository);
+    }
+
+    private Match bracketMatch(MatchStatus status) {
+        Match match = new Match();
+        match.setId("m-1");
+        match.setStatus(status);
+        match.setCurrentRound(3);
+        match.setTotalRounds(3);
+        match.setNextMatchId("m-next");
+        match.setNextMatchCorner(Corner.RED);
+        when(matchRepository.findByIdAndDeletedAtIsNull("m-1")).thenReturn(Optional.of(match));
+        return match;
+    }
+
+    @Test
+    @DisplayName("controlMatch END - a tied bracket match needs the referee's decision, nothing is ended")
+    void controlMatch_End_TiedBracketMatch_RequiresWinner() {
+        Match match = bracketMatch(MatchStatus.IN_PROGRESS);
+        LiveScoreboardRegistry.LiveScoreboard live = mock(LiveScoreboardRegistry.LiveScoreboard.class);
+        when(live.getRedScore()).thenReturn(4);
+        when(live.getBlueScore()).thenReturn(4);
+        when(liveScoreboardRegistry.getOrLoad("m-1")).thenReturn(live);
+
+        BusinessException ex = assertThrows(BusinessException.class, () -> matchService.controlMatch(
+                ControlMatchRequest.builder().matchId("m-1").action(MatchControlAction.END).build()));
+
+        assertEquals(MessageConstants.MATCH_WINNER_REQUIRED, ex.getMessage());
+        assertEquals(MatchStatus.IN_PROGRESS, match.getStatus());
+        verify(matchRepository, never()).save(any());
+        verifyNoInteractions(bracketService, matchRoundRepository);
+    }
+
+    @Test
+    @DisplayName("controlMatch DECIDE_WINNER - a match that ended tied gets its winner and advances it")
+    void controlMatch_DecideWinner_Advances() {
+        Match match = bracketMatch(MatchStatus.ENDED);
+
+        matchService.controlMatch(ControlMatchRequest.builder()
+                .matchId("m-1").action(MatchControlAction.DECIDE_WINNER).winnerCorner(Corner.BLUE).build());
+
+        assertEquals(Corner.BLUE, match.getWinnerCorner());
+        verify(bracketService).advanceWinner(match);
+        assertThrows(BusinessException.class, () -> matchService.controlMatch(ControlMatchRequest.builder()
+                .matchId("m-1").action(MatchControlAction.DECIDE_WINNER).winnerCorner(Corner.RED).build()));
+        verify(bracketService, times(1)).advanceWinner(any());
+    }
+}
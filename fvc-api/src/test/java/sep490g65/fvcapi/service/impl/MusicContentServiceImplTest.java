@@ -35,6 +35,9 @@ class MusicContentServiceImplTest {
     @Mock
     private MusicIntegratedPerformanceRepository repository;
 
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
     @InjectMocks
     private MusicContentServiceImpl service;
 
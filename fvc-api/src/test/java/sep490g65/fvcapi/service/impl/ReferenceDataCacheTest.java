@@ -0,0 +1,111 @@
+package sep490g65.fvcapi.service.impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import sep490g65.fvcapi.entity.VovinamFistConfig;
+import sep490g65.fvcapi.entity.VovinamFistItem;
+import sep490g65.fvcapi.entity.WeightClass;
+import sep490g65.fvcapi.repository.MusicIntegratedPerformanceRepository;
+import sep490g65.fvcapi.repository.VovinamFistConfigRepository;
+import sep490g65.fvcapi.repository.VovinamFistItemRepository;
+import sep490g65.fvcapi.repository.WeightClassRepository;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReferenceDataCache Unit Tests")
+class ReferenceDataCacheTest {
+
+    @Mock
+    private WeightClassRepository weightClassRepository;
+
+    @Mock
+    private VovinamFistConfigRepository fistConfigRepository;
+
+    @Mock
+    private VovinamFistItemRepository fistItemRepository;
+
+    @Mock
+    private MusicIntegratedPerformanceRepository musicRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ReferenceDataCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ReferenceDataCache(weightClassRepository, fistConfigRepository, fistItemRepository,
+                musicRepository, transactionManager, new SimpleMeterRegistry());
+    }
+
+    private static WeightClass weightClass(String id, String min, String max) {
+        WeightClass w = new WeightClass();
+        w.setId(id);
+        w.setMinWeight(new BigDecimal(min));
+        w.setMaxWeight(new BigDecimal(max));
+        return w;
+    }
+
+    @Test
+    @DisplayName("weightClass - catalog is loaded once for any number of lookups")
+    void weightClass_LoadedOnce() {
+        when(weightClassRepository.findAll()).thenReturn(List.of(
+                weightClass("w1", "45", "50"), weightClass("w2", "50", "55")));
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(cache.weightClass("w1").isPresent());
+        }
+        Map<String, ReferenceDataCache.WeightClassRef> batch = cache.weightClasses(Arrays.asList("w1", "w2", "missing", null));
+
+        assertEquals(2, batch.size());
+        assertEquals(new BigDecimal("55"), batch.get("w2").maxWeight());
+        assertTrue(cache.weightClass("missing").isEmpty());
+        verify(weightClassRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("weightClassesChanged - next lookup reloads the catalog")
+    void weightClassesChanged_Reloads() {
+        when(weightClassRepository.findAll())
+                .thenReturn(List.of(weightClass("w1", "45", "50")))
+                .thenReturn(List.of(weightClass("w1", "45", "50"), weightClass("w3", "60", "65")));
+
+        assertTrue(cache.weightClass("w3").isEmpty());
+        cache.weightClassesChanged();
+
+        assertTrue(cache.weightClass("w3").isPresent());
+        verify(weightClassRepository, times(2)).findAll();
+    }
+
+    @Test
+    @DisplayName("fistContentChanged - reloads configs and items, items keep their config id")
+    void fistContentChanged_ReloadsConfigsAndItems() {
+        VovinamFistConfig config = VovinamFistConfig.builder().id("c1").name("Song luyện 1").build();
+        VovinamFistItem item = VovinamFistItem.builder().id("i1").name("Bài 1").vovinamFistConfig(config).build();
+        when(fistConfigRepository.findAll()).thenReturn(List.of(config));
+        when(fistItemRepository.findAll()).thenReturn(List.of(item));
+
+        assertEquals("c1", cache.fistItem("i1").orElseThrow().configId());
+        assertEquals("c1", cache.fistConfigByNamePrefix("song luyện").orElseThrow().id());
+        cache.fistContentChanged();
+        cache.fistItem("i1");
+        cache.fistConfig("c1");
+
+        verify(fistConfigRepository, times(2)).findAll();
+        verify(fistItemRepository, times(2)).findAll();
+        verifyNoInteractions(musicRepository);
+    }
+}
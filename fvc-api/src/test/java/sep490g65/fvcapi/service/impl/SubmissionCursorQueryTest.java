@@ -0,0 +1,109 @@
+package sep490g65.fvcapi.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import sep490g65.fvcapi.dto.request.SubmissionCursorRequest;
+import sep490g65.fvcapi.dto.response.CursorPageResponse;
+import sep490g65.fvcapi.dto.response.SubmissionSummaryResponse;
+import sep490g65.fvcapi.enums.ApplicationFormStatus;
+import sep490g65.fvcapi.enums.ApplicationFormType;
+import sep490g65.fvcapi.enums.SubmissionCountMode;
+import sep490g65.fvcapi.exception.BusinessException;
+import sep490g65.fvcapi.repository.SubmittedApplicationFormRepository;
+import sep490g65.fvcapi.repository.SubmittedApplicationFormRepository.SummaryRow;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SubmissionCursorQuery Unit Tests")
+class SubmissionCursorQueryTest {
+
+    @Mock
+    private SubmittedApplicationFormRepository submittedRepository;
+
+    private SubmissionCursorQuery query;
+
+    @BeforeEach
+    void setUp() {
+        query = new SubmissionCursorQuery(submittedRepository, new ObjectMapper(), 100);
+    }
+
+    private static SummaryRow row(long id) {
+        // lenient: the extra row fetched to detect the next page is never read
+        SummaryRow row = mock(SummaryRow.class);
+        lenient().when(row.getId()).thenReturn(id);
+        lenient().when(row.getFormType()).thenReturn("COMPETITION_REGISTRATION");
+        lenient().when(row.getStatus()).thenReturn("PENDING");
+        return row;
+    }
+
+    @Test
+    @DisplayName("page - newest first, next cursor is the last id of the page")
+    void page_NextCursor() {
+        SubmissionCursorRequest request = SubmissionCursorRequest.builder().size(2).cursor("50").build();
+        List<SummaryRow> rows = List.of(row(40), row(30), row(20));
+        when(submittedRepository.findSummariesBefore("form-1", null, null, null, null, 50L, 3)).thenReturn(rows);
+
+        CursorPageResponse<SubmissionSummaryResponse> page = query.page("form-1", null, request);
+
+        assertEquals(List.of(40L, 30L), page.getContent().stream().map(SubmissionSummaryResponse::getId).toList());
+        assertTrue(page.isHasNext());
+        assertEquals("30", page.getNextCursor());
+        assertEquals(ApplicationFormStatus.PENDING, page.getContent().get(0).getStatus());
+        assertNull(page.getTotal());
+    }
+
+    @Test
+    @DisplayName("page - filters are passed as jsonb containment and a LIKE pattern, counts are capped")
+    void page_FiltersAndEstimate() {
+        SubmissionCursorRequest request = SubmissionCursorRequest.builder()
+                .sortDirection("asc")
+                .status("approved")
+                .search("50%_off")
+                .filter(List.of("club:FPT", "note:a:b"))
+                .count(SubmissionCountMode.ESTIMATE)
+                .build();
+        String filter = "{\"club\":\"FPT\",\"note\":\"a:b\"}";
+        String search = "%50\\%\\_off%";
+        List<SummaryRow> rows = List.of(row(1));
+        when(submittedRepository.findSummariesAfter(null, "CLUB_REGISTRATION", "APPROVED", filter, search, 0L, 51))
+                .thenReturn(rows);
+        when(submittedRepository.countSummaries(null, "CLUB_REGISTRATION", "APPROVED", filter, search, 101L))
+                .thenReturn(101L);
+
+        CursorPageResponse<SubmissionSummaryResponse> page =
+                query.page(null, ApplicationFormType.CLUB_REGISTRATION, request);
+
+        assertFalse(page.isHasNext());
+        assertNull(page.getNextCursor());
+        assertEquals(100L, page.getTotal());
+        assertTrue(page.isTotalIsLowerBound());
+    }
+
+    @Test
+    @DisplayName("page - unknown status is rejected")
+    void page_InvalidStatus() {
+        SubmissionCursorRequest request = SubmissionCursorRequest.builder().status("DONE").build();
+
+        assertThrows(BusinessException.class, () -> query.page("form-1", null, request));
+        verify(submittedRepository, never()).findSummariesBefore(any(), any(), any(), any(), any(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("page - a cursor past Long.MAX_VALUE is a BusinessException (400), not a 500")
+    void page_CursorOverflow() {
+        SubmissionCursorRequest request = SubmissionCursorRequest.builder().cursor("9999999999999999999").build();
+
+        assertThrows(BusinessException.class, () -> query.page("form-1", null, request));
+        verifyNoInteractions(submittedRepository);
+    }
+}
@@ -0,0 +1,131 @@
+package sep490g65.fvcapi.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import sep490g65.fvcapi.constants.MessageConstants;
+import sep490g65.fvcapi.dto.request.CreateSubmissionRequest;
+import sep490g65.fvcapi.dto.response.SubmissionReceiptResponse;
+import sep490g65.fvcapi.entity.SubmissionIntake;
+import sep490g65.fvcapi.enums.SubmissionIntakeStatus;
+import sep490g65.fvcapi.enums.SubmissionIntakeType;
+import sep490g65.fvcapi.exception.custom.ResourceNotFoundException;
+import sep490g65.fvcapi.repository.ApplicationFormConfigRepository;
+import sep490g65.fvcapi.repository.SubmissionIntakeRepository;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SubmissionIntakeServiceImpl Unit Tests")
+class SubmissionIntakeServiceImplTest {
+
+    @Mock
+    private SubmissionIntakeRepository intakeRepository;
+
+    @Mock
+    private ApplicationFormConfigRepository formConfigRepository;
+
+    @Mock
+    private SubmissionIntakeWorker intakeWorker;
+
+    private SubmissionIntakeServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        // Backlog of 10, 1 submission per second per form after a burst of 2
+        service = new SubmissionIntakeServiceImpl(intakeRepository, formConfigRepository, intakeWorker,
+                new ObjectMapper(), 10, 1, 2);
+    }
+
+    private static CreateSubmissionRequest request() {
+        CreateSubmissionRequest request = new CreateSubmissionRequest();
+        request.setEmail("a1@gmail.com");
+        return request;
+    }
+
+    @Test
+    @DisplayName("acceptTournamentSubmission - queued with one insert and counted in the backlog")
+    void accept_Queued() {
+        when(formConfigRepository.existsById("form-1")).thenReturn(true);
+        when(intakeRepository.save(any(SubmissionIntake.class))).thenAnswer(inv -> {
+            SubmissionIntake intake = inv.getArgument(0);
+            intake.setId("i-1");
+            return intake;
+        });
+
+        SubmissionReceiptResponse receipt = service.acceptTournamentSubmission("form-1", request());
+
+        assertEquals("i-1", receipt.getIntakeId());
+        assertEquals(SubmissionIntakeStatus.QUEUED, receipt.getStatus());
+        assertEquals(MessageConstants.SUBMISSION_QUEUED, receipt.getMessage());
+        verify(intakeRepository).save(argThat(intake -> intake.getType() == SubmissionIntakeType.TOURNAMENT
+                && "form-1".equals(intake.getFormId()) && intake.getPayload().contains("a1@gmail.com")));
+        verify(intakeWorker).queued();
+    }
+
+    @Test
+    @DisplayName("acceptTournamentSubmission - 503 while the backlog is full, nothing stored")
+    void accept_BacklogFull_503() {
+        when(intakeWorker.backlog()).thenReturn(10L);
+
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                () -> service.acceptTournamentSubmission("form-1", request()));
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, ex.getStatusCode());
+        verifyNoInteractions(intakeRepository, formConfigRepository);
+    }
+
+    @Test
+    @DisplayName("acceptTournamentSubmission - 429 past the per-form burst, the form is looked up once")
+    void accept_RateLimited_429() {
+        when(formConfigRepository.existsById("form-1")).thenReturn(true);
+        when(intakeRepository.save(any(SubmissionIntake.class))).thenAnswer(inv -> inv.getArgument(0));
+        service.acceptTournamentSubmission("form-1", request());
+        service.acceptTournamentSubmission("form-1", request());
+
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                () -> service.acceptTournamentSubmission("form-1", request()));
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, ex.getStatusCode());
+        verify(intakeRepository, times(2)).save(any());
+        verify(formConfigRepository, times(1)).existsById("form-1");
+    }
+
+    @Test
+    @DisplayName("acceptTournamentSubmission - 404 for an unknown form, no bucket kept")
+    void accept_UnknownForm_404() {
+        when(formConfigRepository.existsById("missing")).thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class, () -> service.acceptTournamentSubmission("missing", request()));
+        assertThrows(ResourceNotFoundException.class, () -> service.acceptTournamentSubmission("missing", request()));
+
+        verify(formConfigRepository, times(2)).existsById("missing");
+        verifyNoInteractions(intakeRepository);
+    }
+
+    @Test
+    @DisplayName("getReceipt - a rejection carries the status and message of the synchronous endpoint")
+    void getReceipt_Rejected() {
+        when(intakeRepository.findById("i-1")).thenReturn(Optional.of(SubmissionIntake.builder()
+                .id("i-1")
+                .status(SubmissionIntakeStatus.REJECTED)
+                .errorStatus(409)
+                .errorMessage("Email này đã được đăng ký cho form này")
+                .build()));
+
+        SubmissionReceiptResponse receipt = service.getReceipt("i-1");
+
+        assertEquals(409, receipt.getErrorStatus());
+        assertEquals("Email này đã được đăng ký cho form này", receipt.getMessage());
+    }
+}
@@ -0,0 +1,168 @@
+package sep490g65.fvcapi.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.server.ResponseStatusException;
+import sep490g65.fvcapi.constants.MessageConstants;
+import sep490g65.fvcapi.entity.SubmissionIntake;
+import sep490g65.fvcapi.enums.SubmissionIntakeStatus;
+import sep490g65.fvcapi.enums.SubmissionIntakeType;
+import sep490g65.fvcapi.exception.custom.ValidationException;
+import sep490g65.fvcapi.repository.SubmissionIntakeRepository;
+import sep490g65.fvcapi.service.SubmittedApplicationFormService;
+import sep490g65.fvcapi.service.TournamentFormService;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SubmissionIntakeWorker Unit Tests")
+class SubmissionIntakeWorkerTest {
+
+    private static final long STALE_MS = 300_000;
+
+    @Mock
+    private SubmissionIntakeRepository intakeRepository;
+
+    @Mock
+    private TournamentFormService tournamentFormService;
+
+    @Mock
+    private SubmittedApplicationFormService submittedApplicationFormService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SubmissionIntakeWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        // 1 worker, batches of 2, 3 attempts
+        worker = new SubmissionIntakeWorker(intakeRepository, tournamentFormService, submittedApplicationFormService,
+                new ObjectMapper(), transactionManager, 1, 2, 3, STALE_MS, 604_800_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        worker.shutdown();
+    }
+
+    private static SubmissionIntake intake(String id, int attempts) {
+        return SubmissionIntake.builder()
+                .id(id)
+                .type(SubmissionIntakeType.TOURNAMENT)
+                .formId("form-1")
+                .payload("{\"email\":\"a1@gmail.com\"}")
+                .status(SubmissionIntakeStatus.QUEUED)
+                .attempts(attempts)
+                .build();
+    }
+
+    @Test
+    @DisplayName("poll - claims queued intakes, rejects those past max attempts, backlog reset when drained")
+    void poll_ClaimAndBacklog() {
+        SubmissionIntake fresh = intake("i-1", 0);
+        SubmissionIntake exhausted = intake("i-2", 3);
+        when(intakeRepository.lockQueued(2)).thenReturn(List.of(fresh, exhausted));
+        when(tournamentFormService.submit(eq("form-1"), any())).thenReturn(10L);
+        when(intakeRepository.finish(eq("i-1"), eq(1), any(), any(), any(), any(), any())).thenReturn(1);
+        worker.queued();
+        worker.queued();
+
+        worker.poll();
+
+        assertEquals(SubmissionIntakeStatus.PROCESSING, fresh.getStatus());
+        assertEquals(1, fresh.getAttempts());
+        assertEquals(SubmissionIntakeStatus.REJECTED, exhausted.getStatus());
+        assertEquals(500, exhausted.getErrorStatus());
+        assertNotNull(exhausted.getProcessedAt());
+        verify(intakeRepository, timeout(1000)).finish(eq("i-1"), eq(1), eq(SubmissionIntakeStatus.COMPLETED), eq(10L),
+                isNull(), isNull(), any());
+        // One of the two claimed rows was given up on, so the queue was drained
+        assertEquals(0, worker.backlog());
+        verify(intakeRepository, never()).countByStatus(any());
+    }
+
+    @Test
+    @DisplayName("poll - a full claim recounts the queued backlog")
+    void poll_FullClaim_Recount() {
+        when(intakeRepository.lockQueued(2)).thenReturn(List.of(intake("i-1", 0), intake("i-2", 0)));
+        when(intakeRepository.countByStatus(SubmissionIntakeStatus.QUEUED)).thenReturn(7L);
+
+        worker.poll();
+
+        assertEquals(7, worker.backlog());
+    }
+
+    @Test
+    @DisplayName("process - failures recorded with the status the synchronous endpoint would answer")
+    void process_RejectStatusMapping() {
+        when(tournamentFormService.submit(eq("form-1"), any())).thenThrow(
+                new ResponseStatusException(HttpStatus.CONFLICT, "Email này đã được đăng ký cho form này"),
+                new ValidationException(Map.of("b", "B sai", "a", "A sai")),
+                new NoSuchElementException("No value present"),
+                new IllegalArgumentException("Missing required fields for submission"),
+                new IllegalStateException("boom"));
+
+        for (int i = 0; i < 5; i++) {
+            worker.process(intake("i-" + i, 1));
+        }
+
+        ArgumentCaptor<Integer> statuses = ArgumentCaptor.forClass(Integer.class);
+        ArgumentCaptor<String> messages = ArgumentCaptor.forClass(String.class);
+        verify(intakeRepository, times(5)).finish(anyString(), eq(1), eq(SubmissionIntakeStatus.REJECTED), isNull(),
+                statuses.capture(), messages.capture(), any());
+        assertEquals(List.of(409, 400, 404, 400, 500), statuses.getAllValues());
+        assertEquals(List.of(
+                "Email này đã được đăng ký cho form này",
+                "A sai; B sai",
+                "No value present",
+                "Missing required fields for submission",
+                MessageConstants.SUBMISSION_PROCESSING_FAILED), messages.getAllValues());
+    }
+
+    @Test
+    @DisplayName("process - intake requeued while processing: submission rolled back, intake left to its new claim")
+    void process_ClaimLost_RolledBack() {
+        when(tournamentFormService.submit(eq("form-1"), any())).thenReturn(10L);
+        when(intakeRepository.finish(eq("i-1"), eq(1), eq(SubmissionIntakeStatus.COMPLETED), eq(10L), any(), any(), any()))
+                .thenReturn(0);
+
+        worker.process(intake("i-1", 1));
+
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+        verify(intakeRepository, never()).finish(any(), anyInt(), eq(SubmissionIntakeStatus.REJECTED), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("maintain - requeues intakes processing for longer than stale-ms, deletes old finished ones")
+    void maintain_RequeueStale() {
+        LocalDateTime before = LocalDateTime.now();
+
+        worker.maintain();
+
+        ArgumentCaptor<LocalDateTime> staleBefore = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(intakeRepository).requeueStale(eq(SubmissionIntakeStatus.QUEUED), eq(SubmissionIntakeStatus.PROCESSING),
+                staleBefore.capture(), any());
+        assertFalse(staleBefore.getValue().isBefore(before.minusNanos(STALE_MS * 1_000_000L)));
+        assertTrue(staleBefore.getValue().isBefore(before.minusNanos(STALE_MS * 1_000_000L).plusSeconds(5)));
+        verify(intakeRepository).deleteProcessedBefore(
+                eq(List.of(SubmissionIntakeStatus.COMPLETED, SubmissionIntakeStatus.REJECTED)), any());
+    }
+}
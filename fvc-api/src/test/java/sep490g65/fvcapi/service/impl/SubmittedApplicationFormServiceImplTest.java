@@ -0,0 +1,154 @@
+package sep490g65.fvcapi.service.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.server.ResponseStatusException;
+import sep490g65.fvcapi.constants.MessageConstants;
+import sep490g65.fvcapi.dto.request.SubmitApplicationFormRequest;
+import sep490g65.fvcapi.dto.request.SubmittedFormData;
+import sep490g65.fvcapi.dto.response.BulkUpdateStatusResponse;
+import sep490g65.fvcapi.entity.ApplicationFormConfig;
+import sep490g65.fvcapi.entity.ClubMember;
+import sep490g65.fvcapi.entity.SubmittedApplicationForm;
+import sep490g65.fvcapi.entity.User;
+import sep490g65.fvcapi.enums.ApplicationFormStatus;
+import sep490g65.fvcapi.repository.ApplicationFormConfigRepository;
+import sep490g65.fvcapi.repository.ClubMemberRepository;
+import sep490g65.fvcapi.repository.SubmittedApplicationFormRepository;
+import sep490g65.fvcapi.repository.UserRepository;
+import sep490g65.fvcapi.security.OffloadingPasswordEncoder;
+import sep490g65.fvcapi.service.EmailOutboxService;
+import sep490g65.fvcapi.service.FormDataValidationService;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SubmittedApplicationFormServiceImpl Unit Tests")
+class SubmittedApplicationFormServiceImplTest {
+
+    @Mock
+    private SubmittedApplicationFormRepository repository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ApplicationFormConfigRepository applicationFormConfigRepository;
+
+    @Mock
+    private ClubMemberRepository clubMemberRepository;
+
+    @Mock
+    private OffloadingPasswordEncoder passwordEncoder;
+
+    @Mock
+    private EmailOutboxService emailOutboxService;
+
+    @Mock
+    private FormDataValidationService formDataValidationService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private SubmittedApplicationFormServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "bulkChunkSize", 200);
+    }
+
+    private static SubmittedApplicationForm form(long id, String email) {
+        SubmittedApplicationForm f = new SubmittedApplicationForm();
+        f.setId(id);
+        f.setStatus(ApplicationFormStatus.PENDING);
+        f.setFormData(email == null ? "{\"fullName\":\"No Mail\"}"
+                : "{\"fullName\":\"Member " + id + "\",\"email\":\"" + email + "\"}");
+        return f;
+    }
+
+    @Test
+    @DisplayName("bulkUpdateStatus - approves a chunk with one lookup and one insert per table")
+    @SuppressWarnings("unchecked")
+    void bulkUpdateStatus_Approve_BatchesLookupsAndInserts() {
+        User existing = new User();
+        existing.setId("u-existing");
+        existing.setEduMail("known@fpt.edu.vn");
+        when(repository.findAllById(any())).thenReturn(List.of(
+                form(1L, "known@fpt.edu.vn"), form(2L, "new1@gmail.com"),
+                form(3L, "new2@gmail.com"), form(4L, null)));
+        when(userRepository.findByEduMailInOrPersonalMailIn(anyCollection(), anyCollection())).thenReturn(List.of(existing));
+        when(passwordEncoder.encodeAll(anyList())).thenAnswer(inv -> ((List<?>) inv.getArgument(0)).stream().map(p -> "hash").toList());
+        when(userRepository.saveAll(anyList())).thenAnswer(inv -> {
+            List<User> users = inv.getArgument(0);
+            for (int i = 0; i < users.size(); i++) {
+                users.get(i).setId("u-new-" + i);
+            }
+            return users;
+        });
+        when(clubMemberRepository.findUserIdsByUserIdIn(anyCollection())).thenReturn(List.of("u-existing"));
+
+        BulkUpdateStatusResponse result = service.bulkUpdateStatus(List.of(1L, 2L, 3L, 4L, 5L), ApplicationFormStatus.APPROVED);
+
+        assertEquals(5, result.getRequestedCount());
+        assertEquals(List.of(1L, 2L, 3L), result.getUpdatedIds());
+        assertEquals(List.of(4L, 5L), result.getErrors().stream().map(BulkUpdateStatusResponse.FailedUpdate::getId).toList());
+
+        ArgumentCaptor<List<User>> users = ArgumentCaptor.forClass(List.class);
+        verify(userRepository, times(1)).saveAll(users.capture());
+        assertEquals(2, users.getValue().size());
+        ArgumentCaptor<List<ClubMember>> members = ArgumentCaptor.forClass(List.class);
+        verify(clubMemberRepository, times(1)).saveAll(members.capture());
+        assertEquals(2, members.getValue().size());
+        verify(userRepository, never()).findByEduMailOrPersonalMail(anyString(), anyString());
+        verify(repository, times(1)).saveAll(anyList());
+        verify(emailOutboxService).enqueueNewAccountPassword(eq("new1@gmail.com"), eq("Member 2"), anyString(), anyString());
+        verify(emailOutboxService).enqueueNewAccountPassword(eq("new2@gmail.com"), eq("Member 3"), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("bulkUpdateStatus - rejection only changes the status")
+    void bulkUpdateStatus_Reject_NoAccounts() {
+        when(repository.findAllById(any())).thenReturn(List.of(form(1L, "a@gmail.com"), form(2L, "b@gmail.com")));
+
+        BulkUpdateStatusResponse result = service.bulkUpdateStatus(List.of(1L, 2L, 2L), ApplicationFormStatus.REJECTED);
+
+        assertEquals(2, result.getUpdatedCount());
+        assertEquals(0, result.getFailedCount());
+        verifyNoInteractions(userRepository, clubMemberRepository, passwordEncoder, emailOutboxService);
+    }
+
+    @Test
+    @DisplayName("submit - a form at max_submissions is refused with 409 under the form row lock")
+    void submit_FullForm_Conflict() {
+        ApplicationFormConfig config = new ApplicationFormConfig();
+        config.setId("form-1");
+        config.setMaxSubmissions(2);
+        when(applicationFormConfigRepository.findById("form-1")).thenReturn(Optional.of(config));
+        when(applicationFormConfigRepository.lockMaxSubmissions("form-1")).thenReturn(2);
+        when(repository.countByFormId("form-1")).thenReturn(2L);
+        SubmitApplicationFormRequest request = new SubmitApplicationFormRequest();
+        request.setApplicationFormConfigId("form-1");
+        request.setFormData(SubmittedFormData.builder().fullName("Member").email("member@gmail.com").build());
+
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class, () -> service.submit(request));
+
+        assertEquals(HttpStatus.CONFLICT, ex.getStatusCode());
+        assertEquals(MessageConstants.SUBMISSION_FORM_FULL, ex.getReason());
+        verify(repository, never()).save(any());
+    }
+}
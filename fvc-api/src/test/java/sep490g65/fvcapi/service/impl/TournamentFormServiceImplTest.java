@@ -0,0 +1,183 @@
+package sep490g65.fvcapi.service.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.server.ResponseStatusException;
+import sep490g65.fvcapi.dto.request.CreateSubmissionRequest;
+import sep490g65.fvcapi.dto.response.BulkUpdateStatusResponse;
+import sep490g65.fvcapi.entity.ApplicationFormConfig;
+import sep490g65.fvcapi.entity.Athlete;
+import sep490g65.fvcapi.entity.Competition;
+import sep490g65.fvcapi.entity.CompetitionRole;
+import sep490g65.fvcapi.entity.SubmittedApplicationForm;
+import sep490g65.fvcapi.entity.User;
+import sep490g65.fvcapi.enums.ApplicationFormStatus;
+import sep490g65.fvcapi.enums.CompetitionRoleType;
+import sep490g65.fvcapi.repository.ApplicationFormConfigRepository;
+import sep490g65.fvcapi.repository.CompetitionRepository;
+import sep490g65.fvcapi.repository.CompetitionRoleRepository;
+import sep490g65.fvcapi.repository.SubmittedApplicationFormRepository;
+import sep490g65.fvcapi.repository.UserRepository;
+import sep490g65.fvcapi.service.AthleteService;
+import sep490g65.fvcapi.service.EmailOutboxService;
+import sep490g65.fvcapi.service.FormDataValidationService;
+import sep490g65.fvcapi.service.PerformanceService;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TournamentFormServiceImpl Unit Tests")
+class TournamentFormServiceImplTest {
+
+    @Mock
+    private CompetitionRepository competitionRepository;
+
+    @Mock
+    private ApplicationFormConfigRepository formConfigRepository;
+
+    @Mock
+    private SubmittedApplicationFormRepository submittedRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private AthleteService athleteService;
+
+    @Mock
+    private CompetitionRoleRepository competitionRoleRepository;
+
+    @Mock
+    private PerformanceService performanceService;
+
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private EmailOutboxService emailOutboxService;
+
+    @Mock
+    private FormDataValidationService formDataValidationService;
+
+    @InjectMocks
+    private TournamentFormServiceImpl service;
+
+    private Competition competition;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "approvalChunkSize", 200);
+        competition = new Competition();
+        competition.setId("comp-1");
+        competition.setName("Giải Vovinam");
+    }
+
+    private SubmittedApplicationForm submission(long id, String email, ApplicationFormStatus status) {
+        ApplicationFormConfig form = new ApplicationFormConfig();
+        form.setCompetition(competition);
+        SubmittedApplicationForm s = new SubmittedApplicationForm();
+        s.setId(id);
+        s.setStatus(status);
+        s.setApplicationFormConfig(form);
+        s.setFormData("{\"fullName\":\"Athlete " + id + "\",\"email\":\"" + email + "\",\"gender\":\"MALE\"," +
+                "\"competitionType\":\"fighting\",\"weightClassId\":\"wc-1\"}");
+        return s;
+    }
+
+    @Test
+    @DisplayName("bulkUpdateSubmissionStatus - approves with one upsert, one role lookup and one role insert")
+    @SuppressWarnings("unchecked")
+    void bulkUpdateSubmissionStatus_Approve_SetBased() {
+        User account = new User();
+        account.setId("u-1");
+        account.setPersonalMail("a1@gmail.com");
+        when(submittedRepository.findWithFormByIdIn(anyCollection())).thenReturn(List.of(
+                submission(1L, "a1@gmail.com", ApplicationFormStatus.PENDING),
+                submission(2L, "a2@gmail.com", ApplicationFormStatus.PENDING),
+                submission(3L, "a3@gmail.com", ApplicationFormStatus.PENDING),
+                submission(4L, "a4@gmail.com", ApplicationFormStatus.APPROVED)));
+        when(userRepository.findByPersonalMailIn(anyCollection())).thenReturn(List.of(account));
+        // a2 already has its role
+        when(competitionRoleRepository.findKeysByCompetitionIdInAndRole(anyCollection(), eq(CompetitionRoleType.ATHLETE)))
+                .thenReturn(List.<Object[]>of(new Object[]{"comp-1", null, "a2@gmail.com"}));
+
+        BulkUpdateStatusResponse result = service.bulkUpdateSubmissionStatus(
+                List.of(1L, 2L, 3L, 4L, 5L), ApplicationFormStatus.APPROVED);
+
+        assertEquals(List.of(1L, 2L, 3L, 4L), result.getUpdatedIds());
+        assertEquals(List.of(5L), result.getErrors().stream().map(BulkUpdateStatusResponse.FailedUpdate::getId).toList());
+
+        ArgumentCaptor<Collection<Athlete>> athletes = ArgumentCaptor.forClass(Collection.class);
+        verify(athleteService, times(1)).upsertAll(athletes.capture());
+        assertEquals(3, athletes.getValue().size());
+        verify(athleteService, never()).upsert(any());
+
+        ArgumentCaptor<List<CompetitionRole>> roles = ArgumentCaptor.forClass(List.class);
+        verify(competitionRoleRepository, times(1)).saveAll(roles.capture());
+        assertEquals(List.of("a1@gmail.com", "a3@gmail.com"), roles.getValue().stream().map(CompetitionRole::getEmail).toList());
+        assertSame(account, roles.getValue().get(0).getUser());
+        verify(competitionRoleRepository, never()).existsByCompetitionIdAndEmailAndRole(any(), any(), any());
+        verify(competitionRepository, never()).findById(any());
+
+        // Already approved submission 4 is not mailed again
+        verify(emailOutboxService, times(3)).enqueueRegistrationApproved(anyString(), anyString(), any(), any(),
+                eq("Nam"), eq("Giải Vovinam"), eq("Đối kháng"), any(), eq(false), any());
+        verify(submittedRepository, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("bulkUpdateSubmissionStatus - rejection has no side effects")
+    void bulkUpdateSubmissionStatus_Reject_NoSideEffects() {
+        when(submittedRepository.findWithFormByIdIn(anyCollection())).thenReturn(List.of(
+                submission(1L, "a1@gmail.com", ApplicationFormStatus.PENDING)));
+
+        BulkUpdateStatusResponse result = service.bulkUpdateSubmissionStatus(List.of(1L), ApplicationFormStatus.REJECTED);
+
+        assertEquals(1, result.getUpdatedCount());
+        verifyNoInteractions(athleteService, competitionRoleRepository, emailOutboxService, transactionManager);
+    }
+
+    @Test
+    @DisplayName("submit - a concurrent submission winning the unique index maps to 409")
+    void submit_UniqueIndexRace_Conflict() {
+        ApplicationFormConfig form = new ApplicationFormConfig();
+        form.setId("form-1");
+        when(formConfigRepository.findById("form-1")).thenReturn(Optional.of(form));
+        when(userRepository.findByPersonalMail("A1@gmail.com")).thenReturn(Optional.empty());
+        // Both probes pass, the other insert commits first
+        when(submittedRepository.saveAndFlush(any(SubmittedApplicationForm.class)))
+                .thenThrow(new DataIntegrityViolationException("uk_submitted_forms_form_registration_email"));
+        CreateSubmissionRequest request = new CreateSubmissionRequest();
+        request.setFullName("Athlete 1");
+        request.setEmail("A1@gmail.com");
+        request.setStudentId("SE001");
+        request.setGender("MALE");
+        request.setFormDataJson("{\"competitionType\":\"fighting\"}");
+
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class, () -> service.submit("form-1", request));
+
+        assertEquals(HttpStatus.CONFLICT, ex.getStatusCode());
+        verify(submittedRepository).existsByApplicationFormConfig_IdAndRegistrationEmail("form-1", "a1@gmail.com");
+        verify(submittedRepository).existsByApplicationFormConfig_IdAndRegistrationStudentId("form-1", "SE001");
+        verifyNoInteractions(performanceService, emailOutboxService);
+    }
+}
@@ -0,0 +1,166 @@
+package sep490g65.fvcapi.service.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import sep490g65.fvcapi.dto.response.WaitlistPromotionResponse;
+import sep490g65.fvcapi.entity.WaitlistEntry;
+import sep490g65.fvcapi.enums.ApplicationFormType;
+import sep490g65.fvcapi.enums.WaitlistPromotionState;
+import sep490g65.fvcapi.exception.custom.ValidationException;
+import sep490g65.fvcapi.repository.ApplicationFormConfigRepository;
+import sep490g65.fvcapi.repository.SubmittedApplicationFormRepository;
+import sep490g65.fvcapi.repository.WaitlistEntryRepository;
+import sep490g65.fvcapi.service.FormDataValidationService;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WaitlistPromotionEngine Unit Tests")
+class WaitlistPromotionEngineTest {
+
+    private static final String FORM_ID = "form-1";
+
+    @Mock
+    private WaitlistEntryRepository waitlistEntryRepository;
+
+    @Mock
+    private SubmittedApplicationFormRepository submittedRepository;
+
+    @Mock
+    private ApplicationFormConfigRepository formConfigRepository;
+
+    @Mock
+    private FormDataValidationService formDataValidationService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private WaitlistPromotionEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new WaitlistPromotionEngine(waitlistEntryRepository, submittedRepository, formConfigRepository,
+                formDataValidationService, objectMapper, transactionManager, 2, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.shutdown();
+    }
+
+    private static WaitlistEntry entry(long id, String email, String formData) {
+        return WaitlistEntry.builder()
+                .id(id)
+                .formType(ApplicationFormType.CLUB_REGISTRATION)
+                .email(email)
+                .formData(formData)
+                .build();
+    }
+
+    @Test
+    @DisplayName("promoteNow - pages in id order, skips submitted emails and keeps unreadable entries")
+    void promoteNow_PagesAndDeduplicates() throws Exception {
+        // No max_submissions: pages are not capped (a mocked Integer would otherwise be 0)
+        when(formConfigRepository.lockMaxSubmissions(FORM_ID)).thenReturn(null);
+        when(waitlistEntryRepository.lockPendingPage(FORM_ID, 0L, 2)).thenReturn(List.of(
+                entry(1L, "a@fpt.edu.vn", "{\"email\":\"a@fpt.edu.vn\",\"fullName\":\"An\"}"),
+                entry(2L, "b@fpt.edu.vn", "{\"email\":\"B@fpt.edu.vn\"}")));
+        when(waitlistEntryRepository.lockPendingPage(FORM_ID, 2L, 2)).thenReturn(List.of(
+                entry(3L, "c@fpt.edu.vn", "not json")));
+        when(waitlistEntryRepository.lockPendingPage(FORM_ID, 3L, 2)).thenReturn(List.of());
+        when(submittedRepository.findSubmittedEmails(eq(FORM_ID), anyCollection())).thenReturn(List.of("b@fpt.edu.vn"));
+
+        int promoted = engine.promoteNow(FORM_ID);
+
+        assertEquals(1, promoted);
+        ArgumentCaptor<String> rows = ArgumentCaptor.forClass(String.class);
+        verify(submittedRepository).insertPendingAll(eq(FORM_ID), rows.capture());
+        JsonNode inserted = objectMapper.readTree(rows.getValue());
+        assertEquals(1, inserted.size());
+        assertEquals("a@fpt.edu.vn", inserted.get(0).get("email").asText());
+        assertEquals("An", inserted.get(0).get("form_data").get("fullName").asText());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<Long>> processed = ArgumentCaptor.forClass(Collection.class);
+        verify(waitlistEntryRepository).markProcessed(processed.capture(), any());
+        assertEquals(List.of(1L, 2L), List.copyOf(processed.getValue()));
+
+        WaitlistPromotionResponse progress = engine.progress(FORM_ID).orElseThrow();
+        assertEquals(WaitlistPromotionState.COMPLETED, progress.getState());
+        assertEquals(1, progress.getDuplicates());
+        assertEquals(1, progress.getFailed());
+    }
+
+    @Test
+    @DisplayName("promoteNow - stops at the form capacity")
+    void promoteNow_StopsAtCapacity() {
+        when(formConfigRepository.lockMaxSubmissions(FORM_ID)).thenReturn(5);
+        when(submittedRepository.countByFormId(FORM_ID)).thenReturn(4L, 5L);
+        when(waitlistEntryRepository.lockPendingPage(FORM_ID, 0L, 1)).thenReturn(List.of(
+                entry(1L, "a@fpt.edu.vn", "{\"email\":\"a@fpt.edu.vn\"}")));
+        when(waitlistEntryRepository.countByApplicationFormConfig_IdAndIsProcessedFalse(FORM_ID)).thenReturn(3L);
+
+        int promoted = engine.promoteNow(FORM_ID);
+
+        assertEquals(1, promoted);
+        verify(waitlistEntryRepository, never()).lockPendingPage(eq(FORM_ID), eq(1L), anyInt());
+        assertTrue(engine.progress(FORM_ID).orElseThrow().isCapacityReached());
+    }
+
+    @Test
+    @DisplayName("promoteNow - full form promotes nothing and reports the capacity")
+    void promoteNow_FullForm() {
+        when(formConfigRepository.lockMaxSubmissions(FORM_ID)).thenReturn(3);
+        when(submittedRepository.countByFormId(FORM_ID)).thenReturn(3L);
+        when(waitlistEntryRepository.countByApplicationFormConfig_IdAndIsProcessedFalse(FORM_ID)).thenReturn(2L);
+
+        int promoted = engine.promoteNow(FORM_ID);
+
+        assertEquals(0, promoted);
+        verify(waitlistEntryRepository, never()).lockPendingPage(any(), anyLong(), anyInt());
+        verify(submittedRepository, never()).insertPendingAll(any(), any());
+        WaitlistPromotionResponse progress = engine.progress(FORM_ID).orElseThrow();
+        assertEquals(WaitlistPromotionState.COMPLETED, progress.getState());
+        assertTrue(progress.isCapacityReached());
+    }
+
+    @Test
+    @DisplayName("promoteNow - entries failing the submit validation stay on the waitlist as failed")
+    void promoteNow_InvalidFormData() throws Exception {
+        String invalid = "{\"email\":\"b@fpt.edu.vn\",\"phone\":\"123\"}";
+        when(formConfigRepository.lockMaxSubmissions(FORM_ID)).thenReturn(null);
+        when(waitlistEntryRepository.lockPendingPage(FORM_ID, 0L, 2)).thenReturn(List.of(
+                entry(1L, "a@fpt.edu.vn", "{\"email\":\"a@fpt.edu.vn\"}"),
+                entry(2L, "b@fpt.edu.vn", invalid)));
+        when(waitlistEntryRepository.lockPendingPage(FORM_ID, 2L, 2)).thenReturn(List.of());
+        when(formDataValidationService.validateFormData(anyString(), eq(false))).thenAnswer(inv -> {
+            if (invalid.equals(inv.getArgument(0))) {
+                throw new ValidationException("phone", "Số điện thoại không đúng định dạng");
+            }
+            return Map.of();
+        });
+        when(submittedRepository.findSubmittedEmails(eq(FORM_ID), anyCollection())).thenReturn(List.of());
+
+        int promoted = engine.promoteNow(FORM_ID);
+
+        assertEquals(1, promoted);
+        verify(waitlistEntryRepository).markProcessed(eq(List.of(1L)), any());
+        assertEquals(1, engine.progress(FORM_ID).orElseThrow().getFailed());
+    }
+}
@@ -163,6 +163,7 @@ apiClient.interceptors.response.use(
       url.includes(API_ENDPOINTS?.AUTH?.ME || "/v1/auth/me") ||
       url.includes("/application-forms/public") ||
       url.includes("/tournament-forms/public") ||
+      url.includes("/submission-intakes/") ||
       (url.includes("/tournament-forms/") && url.includes("/submissions"));
 
     const isGuest = !useAuthStore.getState().isAuthenticated;
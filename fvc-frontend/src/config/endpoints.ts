@@ -57,6 +57,11 @@ export const API_ENDPOINTS = {
     EXPORT: (id: string) => `/v1/submitted-forms/${id}/export`,
   },
 
+  // Receipts of queued public submissions
+  SUBMISSION_INTAKES: {
+    BY_ID: (id: string) => `/v1/submission-intakes/${id}`,
+  },
+
   // Application Form Configs
   APPLICATION_FORMS: {
     BASE: "/v1/application-forms",
@@ -80,8 +85,11 @@ export const API_ENDPOINTS = {
     PUBLIC_BY_ID: (id: string) => `/v1/tournament-forms/public/${id}`,
     STATUS: (id: string) => `/v1/tournament-forms/${id}/status`,
     SUBMISSIONS: (id: string) => `/v1/tournament-forms/${id}/submissions`,
+    SUBMISSIONS_EXPORT: (id: string) =>
+      `/v1/tournament-forms/${id}/submissions/export`,
     SUBMISSION_STATUS: (submissionId: string) =>
       `/v1/tournament-forms/submissions/${submissionId}/status`,
+    SUBMISSIONS_BULK_STATUS: "/v1/tournament-forms/submissions/bulk-status",
     COMPETITIONS: "/v1/tournament-forms/competitions",
   },
 
@@ -117,6 +125,7 @@ export const API_ENDPOINTS = {
     ARRANGE_ORDER: "/v1/athletes/arrange-order",
     SEED_NUMBERS: "/v1/athletes/seed-numbers",
     STATUS: "/v1/athletes/status",
+    EXPORT: "/v1/athletes/export",
   },
 
   // Performance matches (quyền/võ nhạc)
@@ -147,6 +156,8 @@ export const API_ENDPOINTS = {
     HISTORY: "/v1/draws/history/{competitionId}/{weightClassId}",
     FINAL: "/v1/draws/final/{competitionId}/{weightClassId}",
     FINALIZE: "/v1/draws/finalize/{drawSessionId}",
+    BRACKET: "/v1/draws/{drawSessionId}/bracket",
+    COMPETITION_BRACKETS: "/v1/draws/brackets/{competitionId}",
   },
 
   // Match/Scoring management
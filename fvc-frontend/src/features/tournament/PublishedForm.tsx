@@ -1,6 +1,7 @@
 import { useEffect, useState } from "react";
 import { useParams, useNavigate } from "react-router-dom";
 import api from "../../services/api";
+import { submitAndAwait } from "../../services/submissionIntake";
 import { API_ENDPOINTS } from "../../config/endpoints";
 import { useToast } from "../../components/common/ToastContext";
 import { useAuth } from "@/stores/authStore";
@@ -753,7 +754,7 @@ export default function PublishedForm() {
       console.log("Weight class ID:", weightClassId);
       console.log("Form data parsed:", JSON.parse(formDataJson));
 
-      await api.post(
+      await submitAndAwait(
         API_ENDPOINTS.TOURNAMENT_FORMS.SUBMISSIONS(id as string),
         submissionData
       );
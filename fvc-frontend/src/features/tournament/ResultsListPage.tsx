@@ -935,25 +935,30 @@ export default function ResultsListPage() {
     try {
       setActionLoading(true);
 
-      const statusMap: Record<"APPROVED" | "REJECTED", string> = {
-        APPROVED: "APPROVED",
-        REJECTED: "REJECTED",
-      };
-
-      // Update each submission
-      await Promise.all(
-        ids.map((id) =>
-          api.patch(`/v1/tournament-forms/submissions/${id}/status`, {
-            status: statusMap[newStatus],
-          })
-        )
-      );
+      // One request for the whole selection; the server applies approvals set-based
+      const res = await api.patch<{
+        updatedCount: number;
+        failedCount: number;
+        errors: { id: number; message: string }[];
+      }>(API_ENDPOINTS.TOURNAMENT_FORMS.SUBMISSIONS_BULK_STATUS, {
+        ids: ids.map((id) => Number(id)),
+        status: newStatus,
+      });
+      const result = res.data;
+      const updatedCount = result?.updatedCount ?? ids.length;
 
       toast.success(
-        `${newStatus === "APPROVED" ? "Đã duyệt" : "Đã từ chối"} ${
-          ids.length
-        } đăng ký`
+        `${newStatus === "APPROVED" ? "Đã duyệt" : "Đã từ chối"} ${updatedCount} đăng ký`
       );
+      if (result?.failedCount) {
+        toast.error(
+          `${result.failedCount} đăng ký không thể cập nhật: ` +
+            result.errors
+              .slice(0, 3)
+              .map((e) => `#${e.id} ${e.message}`)
+              .join("; ")
+        );
+      }
       setSelectedIds(new Set());
       setConfirmDialog({ isOpen: false, action: null, count: 0 });
       // Notify athlete list to refetch after approval
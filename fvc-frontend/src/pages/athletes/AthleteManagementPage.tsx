@@ -1462,66 +1462,28 @@ export default function AthleteManagementPage({
   // rows, total are driven by API fetch; no local recompute
 
   const handleExportExcel = async () => {
+    if (!selectedTournament) return;
     try {
-      // TODO: Uncomment when backend is ready
-      // const filters: AthleteFilters = {
-      //   page: 0,
-      //   size: 1000, // Export all
-      //   search: searchTerm,
-      //   tournament: selectedTournament,
-      //   competitionType: activeTab,
-      // };
-      // const blob = await athleteService.exportAthletes(filters);
-      // const url = URL.createObjectURL(blob);
-      // const a = document.createElement("a");
-      // a.href = url;
-      // a.download = `danh-sach-vdv-${new Date().toISOString().slice(0, 10)}.xlsx`;
-      // document.body.appendChild(a);
-      // a.click();
-      // document.body.removeChild(a);
-      // URL.revokeObjectURL(url);
-
-      // Mock export for now
-      const headers: string[] = [
-        "STT",
-        "Tên",
-        "Email",
-        "Giới tính",
-        "Loại thi đấu",
-        "MSSV",
-        "CLB",
-        "Giải đấu",
-        "Trạng thái",
-      ];
-
-      const csvRows = rows.map((athlete: AthleteRow) => [
-        athlete.stt,
-        athlete.name,
-        athlete.email,
-        athlete.gender,
-        athlete.competitionType,
-        athlete.studentId,
-        athlete.club,
-        athlete.tournament,
-        athlete.status,
-      ]);
-
-      const csv = [
-        headers.join(","),
-        ...csvRows.map((line) => line.join(",")),
-      ].join("\r\n");
-
-      // Add BOM for UTF-8 to display Vietnamese correctly in Excel
-      const BOM = "\uFEFF";
-      const blob = new Blob([BOM + csv], { type: "text/csv;charset=utf-8;" });
-      const url = URL.createObjectURL(blob);
-      const a = document.createElement("a");
-      a.href = url;
-      a.download = `danh-sach-vdv-${new Date().toISOString().slice(0, 10)}.csv`;
-      document.body.appendChild(a);
-      a.click();
-      document.body.removeChild(a);
-      URL.revokeObjectURL(url);
+      // Same filters as the list; the backend streams every matching athlete as CSV
+      const qs = new URLSearchParams();
+      qs.set("competitionId", selectedTournament);
+      qs.set("competitionType", activeTab);
+      if (debouncedName) qs.set("name", debouncedName);
+      if (genderFilter) qs.set("gender", genderFilter);
+      if (statusFilter) qs.set("status", statusFilter);
+      if (activeTab === "music") {
+        if (subCompetitionFilter)
+          qs.set("detailSubCompetitionType", subCompetitionFilter);
+      } else if (activeTab === "quyen") {
+        if (subCompetitionFilter)
+          qs.set("subCompetitionType", subCompetitionFilter);
+        if (detailCompetitionFilter)
+          qs.set("detailSubCompetitionType", detailCompetitionFilter);
+      }
+      await api.downloadFile(
+        `${API_ENDPOINTS.ATHLETES.EXPORT}?${qs.toString()}`,
+        `danh-sach-vdv-${new Date().toISOString().slice(0, 10)}.csv`
+      );
     } catch (error) {
       console.error("Export failed:", error);
     }
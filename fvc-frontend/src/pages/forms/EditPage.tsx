@@ -27,6 +27,7 @@ export default function FormEditPage() {
   const [title, setTitle] = useState("");
   const [description, setDescription] = useState("");
   const [endDate, setEndDate] = useState("");
+  const [maxSubmissions, setMaxSubmissions] = useState("");
   const [fields, setFields] = useState<FormField[]>([]);
   const [answers, setAnswers] = useState<Record<string, any>>({});
   const [showAddMenu, setShowAddMenu] = useState(false);
@@ -154,6 +155,7 @@ export default function FormEditPage() {
           setFormStatus(response.data.status || "DRAFT");
           setTitle(response.data.name || "");
           setDescription(response.data.description || "");
+          setMaxSubmissions(response.data.maxSubmissions ? String(response.data.maxSubmissions) : "");
           
           // Parse endDate correctly for datetime-local input
           if (response.data.endDate) {
@@ -219,6 +221,7 @@ export default function FormEditPage() {
         if (response.success && response.data) {
           setTitle(response.data.name || "");
           setDescription(response.data.description || "");
+          setMaxSubmissions(response.data.maxSubmissions ? String(response.data.maxSubmissions) : "");
           
           // Parse endDate correctly for datetime-local input
           if (response.data.endDate) {
@@ -299,6 +302,7 @@ export default function FormEditPage() {
     setTitle("Form đăng ký câu lạc bộ");
     setDescription("Điền thông tin để đăng ký tham gia câu lạc bộ");
     setEndDate("");
+    setMaxSubmissions("");
     
     const defaultFields = [
       makeField("Họ và tên", "ho_ten", "", "TEXT", true, 1, ""),
@@ -472,6 +476,7 @@ export default function FormEditPage() {
         formType: "CLUB_REGISTRATION",
         status: targetStatus,
         endDate: endDate ? new Date(endDate).toISOString() : null,
+        maxSubmissions: maxSubmissions ? Number(maxSubmissions) : null,
         fields: fields.map(field => ({
           id: field.id,
           label: field.label,
@@ -914,6 +919,22 @@ export default function FormEditPage() {
                     )}
                   </div>
                 </div>
+                <div>
+                  <div className="mb-1 text-[13px] font-semibold text-gray-800">
+                    Số lượng đăng ký tối đa
+                  </div>
+                  <input
+                    type="number"
+                    min={1}
+                    className="w-full rounded-md border border-gray-300 bg-white px-3 py-2 shadow-sm focus:border-[#2563eb] focus:outline-none focus:ring-2 focus:ring-blue-100 transition-all duration-200"
+                    value={maxSubmissions}
+                    onChange={(e) => setMaxSubmissions(e.target.value)}
+                    placeholder="Để trống nếu không giới hạn"
+                  />
+                  <div className="mt-1 text-xs text-gray-500">
+                    Danh sách chờ chỉ được chuyển thành đăng ký cho đến khi đạt số lượng này
+                  </div>
+                </div>
               </div>
 
           {/* Fields */}
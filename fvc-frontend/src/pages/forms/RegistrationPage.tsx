@@ -2,6 +2,7 @@ import { useState, useEffect } from "react";
 import { useNavigate, useParams } from "react-router-dom";
 import { useToast } from "../../components/common/ToastContext";
 import apiService from "../../services/api";
+import { submitAndAwait } from "../../services/submissionIntake";
 import { API_ENDPOINTS } from "../../config/endpoints";
 import {
   validateEmail,
@@ -364,7 +365,7 @@ export default function FormRegistrationPage() {
         }
       });
 
-      const response = await apiService.post<any>(
+      const response = await submitAndAwait(
         API_ENDPOINTS.SUBMITTED_FORMS.BASE,
         {
           formType: formConfig.formType,
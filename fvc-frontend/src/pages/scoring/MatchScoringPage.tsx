@@ -79,6 +79,11 @@ export default function MatchScoringPage() {
     scoreboard?.status === "ENDED" ||
     scoreboard?.status === "FINISHED";
 
+  // A match that ended tied can still get the referee's decision (DECIDE_WINNER)
+  const isEndedTie =
+    isMatchEnded &&
+    (scoreboard?.redAthlete.score || 0) === (scoreboard?.blueAthlete.score || 0);
+
   // Check if match hasn't started yet
   const isMatchPending =
     scoreboard?.status === "CHỜ BẮT ĐẦU" || scoreboard?.status === "PENDING";
@@ -175,8 +180,10 @@ export default function MatchScoringPage() {
 
     try {
       setActionLoading(true);
+      // Round number lets the server ignore this if its clock already ended the round
       await matchScoringService.controlMatch(matchId, {
         action: "NEXT_ROUND",
+        currentRound: scoreboard.currentRound,
       });
 
       const updatedScoreboard = await matchScoringService.getScoreboard(
@@ -282,6 +289,18 @@ export default function MatchScoringPage() {
           `/topic/match/${matchId}/assessor-connections`
         );
 
+        // Server clock is authoritative: align the local countdown with its ticks
+        stompClient.subscribe(`/topic/match/${matchId}/clock`, (message) => {
+          try {
+            const tick = JSON.parse(message.body);
+            if (typeof tick.remainingSeconds === "number") {
+              setLocalTimeRemaining(tick.remainingSeconds);
+            }
+          } catch (e) {
+            console.error("❌ Error parsing clock tick:", e, message.body);
+          }
+        });
+
         // Request initial connection status after a delay
         setTimeout(() => {
           if (stompClient.connected) {
@@ -487,8 +506,10 @@ export default function MatchScoringPage() {
 
     try {
       setActionLoading(true);
+      // The chosen corner decides a tie (required to advance a bracket match)
       await matchScoringService.controlMatch(matchId, {
-        action: "END",
+        action: isMatchEnded ? "DECIDE_WINNER" : "END",
+        winnerCorner: corner,
       });
 
       toast.success(`Vận động viên ${corner === "RED" ? "Đỏ" : "Xanh"} thắng!`);
@@ -988,7 +1009,7 @@ export default function MatchScoringPage() {
             </button>
             <button
               onClick={() => handleWinner("RED")}
-              disabled={actionLoading || isMatchEnded}
+              disabled={actionLoading || (isMatchEnded && !isEndedTie)}
               className="px-6 py-3 bg-red-700 text-white rounded-lg font-semibold hover:bg-red-800 disabled:opacity-50"
             >
               ĐỎ THẮNG
@@ -997,7 +1018,7 @@ export default function MatchScoringPage() {
           <div className="flex gap-3">
             <button
               onClick={() => handleWinner("BLUE")}
-              disabled={actionLoading || isMatchEnded}
+              disabled={actionLoading || (isMatchEnded && !isEndedTie)}
               className="px-6 py-3 bg-blue-700 text-white rounded-lg font-semibold hover:bg-blue-800 disabled:opacity-50"
             >
               XANH THẮNG
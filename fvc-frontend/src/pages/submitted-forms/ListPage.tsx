@@ -382,12 +382,24 @@ export default function SubmittedFormsPage() {
       setActionLoading(true);
       
       // Use new bulk API endpoint
-      await api.patch("/v1/submitted-forms/bulk-status", {
+      const res = await api.patch<{
+        updatedCount: number;
+        failedCount: number;
+        errors: { id: number; message: string }[];
+      }>("/v1/submitted-forms/bulk-status", {
         ids: ids.map(id => parseInt(id)),
         status: newStatus
       });
+      const result = res.data;
+      const updatedCount = result?.updatedCount ?? ids.length;
       
-      toast.success(`${newStatus === "APPROVED" ? "Đã duyệt" : "Đã từ chối"} ${ids.length} form`);
+      toast.success(`${newStatus === "APPROVED" ? "Đã duyệt" : "Đã từ chối"} ${updatedCount} form`);
+      if (result?.failedCount) {
+        toast.error(
+          `${result.failedCount} form không thể cập nhật: ` +
+            result.errors.slice(0, 3).map((e) => `#${e.id} ${e.message}`).join("; ")
+        );
+      }
       setSelectedIds(new Set());
       setConfirmDialog({ isOpen: false, action: null, count: 0 });
       await fetchData();
@@ -76,8 +76,10 @@ export interface RecordScoreEventRequest {
 
 export interface ControlMatchRequest {
   matchId: string;
-  action: "START" | "PAUSE" | "RESUME" | "NEXT_ROUND" | "END";
+  action: "START" | "PAUSE" | "RESUME" | "NEXT_ROUND" | "END" | "DECIDE_WINNER";
   currentRound?: number;
+  // Referee decision for a tied match
+  winnerCorner?: Corner;
 }
 
 export interface MatchListItem {
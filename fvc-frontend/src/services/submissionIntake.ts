@@ -0,0 +1,65 @@
+import apiClient from '../config/axios';
+import { API_ENDPOINTS } from '../config/endpoints';
+import type { BaseResponse } from '../types/api';
+
+export type SubmissionIntakeStatus = 'QUEUED' | 'PROCESSING' | 'COMPLETED' | 'REJECTED';
+
+export interface SubmissionReceipt {
+  intakeId: string;
+  status: SubmissionIntakeStatus;
+  submissionId?: number;
+  errorStatus?: number;
+  message?: string;
+  createdAt?: string;
+  processedAt?: string;
+}
+
+const POLL_INTERVAL_MS = 1000;
+const POLL_TIMEOUT_MS = 120000;
+
+const sleep = (ms: number) => new Promise((resolve) => setTimeout(resolve, ms));
+
+/**
+ * Post a public form submission and wait for its outcome.
+ * The API queues submissions (202 + receipt); the receipt is polled until the submission is
+ * processed. A rejection is thrown in the same shape as a synchronous error
+ * (response.status / response.data.message), so existing error handling keeps working.
+ */
+export async function submitAndAwait<T = unknown>(endpoint: string, payload: unknown): Promise<BaseResponse<T>> {
+  const response = await apiClient.post<BaseResponse<T>>(endpoint, payload);
+  if (response.status !== 202) {
+    return response.data;
+  }
+
+  const receipt = response.data.data as unknown as SubmissionReceipt;
+  const deadline = Date.now() + POLL_TIMEOUT_MS;
+  while (Date.now() < deadline) {
+    await sleep(POLL_INTERVAL_MS);
+    const res = await apiClient.get<BaseResponse<SubmissionReceipt>>(
+      API_ENDPOINTS.SUBMISSION_INTAKES.BY_ID(receipt.intakeId)
+    );
+    const current = res.data.data;
+    if (current.status === 'COMPLETED') {
+      return { ...res.data, data: current as unknown as T };
+    }
+    if (current.status === 'REJECTED') {
+      const message = current.message || 'Đăng ký không thành công';
+      throw {
+        success: false,
+        message,
+        error: 'SUBMISSION_REJECTED',
+        timestamp: new Date().toISOString(),
+        path: endpoint,
+        response: { status: current.errorStatus, data: { message } },
+      };
+    }
+  }
+
+  throw {
+    success: false,
+    message: 'Đăng ký đang được xử lý, vui lòng kiểm tra lại sau',
+    error: 'SUBMISSION_PENDING',
+    timestamp: new Date().toISOString(),
+    path: endpoint,
+  };
+}